@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -48,4 +49,10 @@ public class CoreEventsProperties implements Serializable {
      * configuration files and reloading context conditionally if there are any changes.
      */
     private boolean trackConfigurationModifications;
+
+    /**
+     * Control how recorded events are persisted.
+     */
+    @NestedConfigurationProperty
+    private EventsPersistenceProperties persistence = new EventsPersistenceProperties();
 }
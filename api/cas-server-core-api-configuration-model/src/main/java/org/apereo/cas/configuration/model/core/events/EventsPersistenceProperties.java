@@ -0,0 +1,55 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties that control how authentication events are handed off to the event repository.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-events", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("EventsPersistenceProperties")
+public class EventsPersistenceProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3318405124935474629L;
+
+    /**
+     * Whether recorded events should be placed into a bounded queue
+     * and persisted in batches by a background worker, instead of being
+     * written to the event repository by the thread that records the event.
+     */
+    private boolean asynchronous = true;
+
+    /**
+     * Maximum number of events that may be waiting in the queue to be persisted.
+     * Once the queue is full, new events are subject to {@link #getQueueTimeout()}.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of events that are handed off to the event repository at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Amount of time a thread that records an event may wait for space in the queue
+     * when the queue is full. Events that cannot be queued in time are dropped and counted.
+     * A zero value drops events immediately, so that recording events never blocks.
+     */
+    @DurationCapable
+    private String queueTimeout = "PT0S";
+}
@@ -1,10 +1,12 @@
 package org.apereo.cas.configuration.model.core.ticket.registry;
 
+import org.apereo.cas.configuration.model.support.quartz.SchedulingProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -42,4 +44,16 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * Scheduler settings to reconcile ticket registry statistics.
+     * Ticket counts are maintained incrementally as tickets are added and removed,
+     * and are periodically reconciled with the actual contents of the registry
+     * to account for tickets that expire or are evicted by the storage itself.
+     * Reconciliation scans the entire registry, so the interval should be
+     * chosen with the size of the registry in mind. Statistics are kept in memory
+     * by each CAS node, and between reconciliations only reflect the changes made by that node.
+     */
+    @NestedConfigurationProperty
+    private SchedulingProperties statistics = new SchedulingProperties().setStartDelay("PT1M").setRepeatInterval("PT10M");
 }
@@ -0,0 +1,20 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+/**
+ * This is {@link TicketSerializationFormats}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public enum TicketSerializationFormats {
+    /**
+     * Serialize tickets as JSON.
+     */
+    JSON,
+    /**
+     * Serialize tickets using a compact binary codec.
+     * Tickets are stored as base-64 encoded strings
+     * in registries that only accept strings.
+     */
+    BINARY
+}
@@ -0,0 +1,81 @@
+package org.apereo.cas.configuration.model.core.util;
+
+import org.apereo.cas.configuration.model.support.quartz.SchedulingProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link JsonJournalProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-core-util", automated = true)
+@JsonFilter("JsonJournalProperties")
+public class JsonJournalProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3519327716462513446L;
+
+    /**
+     * Whether changes should be recorded in an append-only journal
+     * that is kept next to the JSON resource, instead of rewriting the
+     * entire JSON resource on every change. Records are served from memory
+     * and the journal is periodically compacted back into the JSON resource,
+     * which keeps its existing format for import and export operations.
+     */
+    private boolean enabled;
+
+    /**
+     * Control how journal writes are synchronized with the underlying storage device.
+     */
+    private JournalSyncPolicies syncPolicy = JournalSyncPolicies.ALWAYS;
+
+    /**
+     * Interval at which the journal is synchronized with the underlying storage device,
+     * when the sync policy is set to {@link JournalSyncPolicies#PERIODIC}.
+     */
+    @DurationCapable
+    private String syncInterval = "PT1S";
+
+    /**
+     * Maximum number of journal entries that may accumulate before
+     * the journal is compacted into the JSON resource, regardless of the schedule.
+     * Zero or negative values disable size-based compaction.
+     */
+    private long compactionThreshold = 10_000;
+
+    /**
+     * Scheduler settings to indicate how often the journal is compacted into the JSON resource.
+     */
+    @NestedConfigurationProperty
+    private SchedulingProperties compaction = new SchedulingProperties().setStartDelay("PT1M").setRepeatInterval("PT5M");
+
+    /**
+     * Journal sync policies.
+     */
+    public enum JournalSyncPolicies {
+        /**
+         * Force every journal write to the storage device before
+         * the change is acknowledged.
+         */
+        ALWAYS,
+        /**
+         * Force journal writes to the storage device periodically.
+         */
+        PERIODIC,
+        /**
+         * Leave it to the operating system to flush journal writes to the storage device.
+         */
+        NONE
+    }
+}
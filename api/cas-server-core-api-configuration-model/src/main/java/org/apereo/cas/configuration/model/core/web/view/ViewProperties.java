@@ -64,6 +64,15 @@ public class ViewProperties implements Serializable {
      */
     private List<String> templatePrefixes = new ArrayList<>(1);
 
+    /**
+     * Whether successful CAS protocol validation responses should be written
+     * directly to the response without rendering the validation view templates.
+     * Template rendering is always used when the CAS2/CAS3 success view locations are changed,
+     * or when the default templates are overridden on the classpath.
+     * Deployments that customize the default templates in other ways should turn this off.
+     */
+    private boolean streamValidationResponses = true;
+
     /**
      * How to search for theme resource bundles and how to deal with multiple property files found for a given theme.
      * The {@link ThemeSourceTypes#DEFAULT} type uses the first theme resource bundle found across the template prefixes.
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.cookie;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RegularExpressionCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -51,4 +52,20 @@ public class PinnableCookieProperties extends CookieProperties {
      * The resulting session is either pinned to the client geolocation, or the default client address.
      */
     private boolean geoLocateClientSession;
+
+    /**
+     * Decoded cookie values that pass verification and session-pinning checks are cached
+     * for this long, keyed by the cookie value along with the client address and user-agent
+     * of the request. Repeated requests that carry the same cookie from the same client
+     * are then able to skip decryption, signature verification and session-pinning checks.
+     * Cached values are removed once the single sign-on session they belong to is destroyed.
+     * A zero or negative duration disables the cache.
+     */
+    @DurationCapable
+    private String cacheExpiration = "PT30S";
+
+    /**
+     * Maximum number of decoded cookie values to keep in the cache.
+     */
+    private long cacheMaximumSize = 10_000;
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.dynamodb;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -50,6 +51,28 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
      */
     private String transientSessionTicketsTableName = "transientSessionTicketsTable";
 
+    /**
+     * The table name used and created by CAS to hold the number of tickets
+     * stored in DynamoDb per ticket type. Counters are updated as tickets are
+     * added and removed, so that counting tickets does not require reading ticket tables.
+     */
+    private String ticketCountersTableName = "ticketCountersTable";
+
+    /**
+     * Tickets that expire are removed by DynamoDb through its native time-to-live feature,
+     * which does not update ticket counters. Counters are recalculated from the ticket tables
+     * once they are older than this interval, when they are next read.
+     */
+    @DurationCapable
+    private String ticketCountersReconciliationInterval = "PT5M";
+
+    /**
+     * The table name used and created by CAS to index ticket granting tickets
+     * by their (digested) attribute names and values, so that sessions
+     * with given attributes can be located without scanning the ticket granting tickets table.
+     */
+    private String ticketAttributesTableName = "ticketAttributesTable";
+
     /**
      * Crypto settings for the registry.
      */
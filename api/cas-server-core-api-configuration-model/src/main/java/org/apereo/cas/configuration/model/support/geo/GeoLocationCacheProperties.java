@@ -0,0 +1,41 @@
+package org.apereo.cas.configuration.model.support.geo;
+
+import org.apereo.cas.configuration.model.core.cache.ExpiringSimpleCacheProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link GeoLocationCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-support-geolocation")
+@JsonFilter("GeoLocationCacheProperties")
+public class GeoLocationCacheProperties extends ExpiringSimpleCacheProperties {
+    @Serial
+    private static final long serialVersionUID = 3271862529413612286L;
+
+    /**
+     * Number of leading bits of an IPv4 address that are used as the cache key.
+     * The default value of {@code 32} caches each address individually, while a value
+     * such as {@code 24} lets all addresses in the same {@code /24} network share the same cached location.
+     */
+    private int ipv4PrefixLength = 32;
+
+    /**
+     * Number of leading bits of an IPv6 address that are used as the cache key.
+     * The default value of {@code 128} caches each address individually, while a value
+     * such as {@code 48} lets all addresses in the same {@code /48} network share the same cached location.
+     */
+    private int ipv6PrefixLength = 128;
+}
@@ -53,6 +53,13 @@ public class GeoLocationProperties implements Serializable {
     @NestedConfigurationProperty
     private GoogleMapsProperties googleMaps = new GoogleMapsProperties();
 
+    /**
+     * Settings that control how geolocation results are cached, regardless
+     * of the geolocation provider. Set the cache size to {@code 0} to disable caching.
+     */
+    @NestedConfigurationProperty
+    private GeoLocationCacheProperties cache = new GeoLocationCacheProperties();
+
     /**
      * Groovy settings.
      */
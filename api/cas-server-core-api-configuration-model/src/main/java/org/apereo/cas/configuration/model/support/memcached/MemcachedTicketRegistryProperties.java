@@ -33,6 +33,15 @@ public class MemcachedTicketRegistryProperties extends BaseMemcachedProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * When enabled, the registry shares a single memcached client for all operations
+     * instead of borrowing clients from a pool, issues writes asynchronously and fetches
+     * multiple tickets using multi-get requests. Ticket-granting tickets are also tracked
+     * in a per-principal index stored in memcached, so that sessions for a given
+     * user can be listed and counted.
+     */
+    private boolean pipelined;
+
     public MemcachedTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
@@ -1,11 +1,13 @@
 package org.apereo.cas.configuration.model.support.mfa.gauth;
 
 import org.apereo.cas.configuration.model.SpringResourceProperties;
+import org.apereo.cas.configuration.model.core.util.JsonJournalProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 
@@ -22,4 +24,11 @@ import java.io.Serial;
 public class JsonGoogleAuthenticatorMultifactorProperties extends SpringResourceProperties {
     @Serial
     private static final long serialVersionUID = 4303355159388663888L;
+
+    /**
+     * Journal settings to record changes in an append-only log
+     * that is periodically compacted into the JSON resource.
+     */
+    @NestedConfigurationProperty
+    private JsonJournalProperties journal = new JsonJournalProperties();
 }
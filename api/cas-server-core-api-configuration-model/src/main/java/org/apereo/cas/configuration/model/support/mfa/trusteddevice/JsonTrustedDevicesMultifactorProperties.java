@@ -1,12 +1,14 @@
 package org.apereo.cas.configuration.model.support.mfa.trusteddevice;
 
 import org.apereo.cas.configuration.model.SpringResourceProperties;
+import org.apereo.cas.configuration.model.core.util.JsonJournalProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 
@@ -24,4 +26,11 @@ import java.io.Serial;
 public class JsonTrustedDevicesMultifactorProperties extends SpringResourceProperties {
     @Serial
     private static final long serialVersionUID = -8690563713141571620L;
+
+    /**
+     * Journal settings to record changes in an append-only log
+     * that is periodically compacted into the JSON resource.
+     */
+    @NestedConfigurationProperty
+    private JsonJournalProperties journal = new JsonJournalProperties();
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.mongo.ticketregistry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketSerializationFormats;
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
 import org.apereo.cas.configuration.model.support.mongo.BaseMongoDbProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
@@ -57,6 +58,13 @@ public class MongoDbTicketRegistryProperties extends BaseMongoDbProperties {
      *</ul>
      */
     private List<String> indexes = new ArrayList<>();
+
+    /**
+     * Format used by this registry to serialize tickets before they are stored.
+     * Payloads in either format can always be read, regardless of this setting,
+     * which allows nodes to be upgraded before they begin writing the binary format.
+     */
+    private TicketSerializationFormats serializationFormat = TicketSerializationFormats.JSON;
     
     /**
      * Crypto settings for the registry.
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.oauth;
 
+import org.apereo.cas.configuration.model.core.cache.ExpiringSimpleCacheProperties;
 import org.apereo.cas.configuration.model.core.util.EncryptionJwtCryptoProperties;
 import org.apereo.cas.configuration.model.core.util.EncryptionOptionalSigningOptionalJwtCryptographyProperties;
 import org.apereo.cas.configuration.model.core.util.SigningJwtCryptoProperties;
@@ -66,6 +67,16 @@ public class OAuthAccessTokenProperties implements Serializable {
     @NestedConfigurationProperty
     private EncryptionOptionalSigningOptionalJwtCryptographyProperties crypto = new EncryptionOptionalSigningOptionalJwtCryptographyProperties();
 
+    /**
+     * Cache settings for access tokens issued as JWTs whose signatures
+     * have been verified and whose contents have been decrypted. Repeated presentations
+     * of the same JWT are served from this cache without verifying or decrypting it again.
+     * Cached entries never outlive the expiration time of the JWT itself,
+     * and the duration setting here controls the maximum amount of time an entry may remain cached.
+     */
+    @NestedConfigurationProperty
+    private ExpiringSimpleCacheProperties verifiedTokenCache = new ExpiringSimpleCacheProperties().setDuration("PT5M");
+
     public OAuthAccessTokenProperties() {
         crypto.getEncryption().setKeySize(EncryptionJwtCryptoProperties.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
         crypto.getSigning().setKeySize(SigningJwtCryptoProperties.DEFAULT_STRINGABLE_SIGNING_KEY_SIZE);
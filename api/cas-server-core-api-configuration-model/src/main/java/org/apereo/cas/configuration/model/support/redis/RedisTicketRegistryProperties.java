@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.redis;
 
 import org.apereo.cas.configuration.model.core.cache.SimpleCacheProperties;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketSerializationFormats;
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -58,6 +59,13 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
      */
     private boolean enableRedisSearch = true;
 
+    /**
+     * Format used by this registry to serialize tickets before they are stored.
+     * Payloads in either format can always be read, regardless of this setting,
+     * which allows nodes to be upgraded before they begin writing the binary format.
+     */
+    private TicketSerializationFormats serializationFormat = TicketSerializationFormats.JSON;
+
     public RedisTicketRegistryProperties() {
         crypto.setEnabled(false);
     }
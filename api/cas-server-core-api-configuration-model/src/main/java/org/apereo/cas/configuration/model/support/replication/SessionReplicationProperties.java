@@ -37,6 +37,16 @@ public class SessionReplicationProperties implements Serializable {
      */
     private boolean replicateSessions = true;
 
+    /**
+     * Indicates whether changes to replicated session data should be
+     * coalesced per request. When enabled, the session ticket is loaded
+     * from the ticket registry at most once per request and all changes are
+     * buffered and written back using a single operation at the end
+     * of the request, or right before a redirect is sent back.
+     * This option only applies when sessions are replicated.
+     */
+    private boolean coalesceWrites;
+
     /**
      * Cookie setting for session replication.
      */
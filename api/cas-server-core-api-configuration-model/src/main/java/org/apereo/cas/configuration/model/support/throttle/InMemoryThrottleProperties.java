@@ -0,0 +1,78 @@
+package org.apereo.cas.configuration.model.support.throttle;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties class for in-memory throttling stores.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-throttle")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("InMemoryThrottleProperties")
+public class InMemoryThrottleProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2318127352419165326L;
+
+    /**
+     * The type of in-memory store that should track throttled submissions.
+     */
+    private ThrottleStoreTypes storeType = ThrottleStoreTypes.MAP;
+
+    /**
+     * Number of counters in each row of the count-min sketch.
+     * Larger values reduce over-estimation caused by hash collisions
+     * at the cost of additional memory. Only applicable to {@link ThrottleStoreTypes#SKETCH}.
+     */
+    private int sketchWidth = 2048;
+
+    /**
+     * Number of rows (independent hash functions) in the count-min sketch.
+     * Larger values reduce the probability of over-estimation.
+     * Only applicable to {@link ThrottleStoreTypes#SKETCH}.
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * Number of slices the failure range is split into, in order to
+     * estimate failure rates over a sliding window. Each slice holds its own sketch;
+     * slices that fall out of the window are reset and reused.
+     * Only applicable to {@link ThrottleStoreTypes#SKETCH}.
+     */
+    private int windowSlices = 10;
+
+    /**
+     * Maximum number of submissions tracked exactly, typically the heaviest offenders
+     * and locked entries that must be reported and released individually.
+     * Only applicable to {@link ThrottleStoreTypes#SKETCH}.
+     */
+    private int heavyHitterCapacity = 1024;
+
+    /**
+     * Throttle store types.
+     */
+    public enum ThrottleStoreTypes {
+        /**
+         * Keep one record per throttling key in a concurrent map.
+         * This is the default option.
+         */
+        MAP,
+        /**
+         * Keep approximate per-key failure counts in a time-decayed count-min sketch
+         * with fixed memory, along with a small exact table of heavy hitters.
+         */
+        SKETCH
+    }
+}
@@ -58,6 +58,12 @@ public class ThrottleProperties implements Serializable {
     @NestedConfigurationProperty
     private LdapThrottleProperties ldap = new LdapThrottleProperties();
 
+    /**
+     * Settings related to throttling requests using in-memory stores.
+     */
+    @NestedConfigurationProperty
+    private InMemoryThrottleProperties inMemory = new InMemoryThrottleProperties();
+
     /**
      * Core throttling settings.
      */
@@ -0,0 +1,89 @@
+package org.apereo.cas.configuration.model.support.x509;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link X509OcspProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-support-x509-webflow")
+public class X509OcspProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3471828263910262512L;
+
+    /**
+     * The URL of the OCSP responder. If left undefined, the responder
+     * is located via the authority information access extension field on the certificate.
+     */
+    private String responderUrl;
+
+    /**
+     * Locations of the certificates of issuers whose certificates are checked via OCSP.
+     * Responses must be signed by the issuer certificate, or by a responder
+     * certificate issued by it for OCSP signing.
+     */
+    private List<String> issuerCertificates = new ArrayList<>(0);
+
+    /**
+     * Control the use of nonces in OCSP requests.
+     * Accepted values are:
+     * <ul>
+     * <li>{@code NONE}: Do not send a nonce.</li>
+     * <li>{@code OPTIONAL}: Send a nonce, and verify it if the response contains one.</li>
+     * <li>{@code REQUIRED}: Send a nonce, and reject responses that do not contain it.</li>
+     * </ul>
+     */
+    private String noncePolicy = "OPTIONAL";
+
+    /**
+     * Whether revocation checking should fall back to CRLs found
+     * in the certificate cRLDistributionPoints extension field when
+     * the OCSP status of a certificate cannot be determined.
+     * When the fallback is turned off, {@link #unavailablePolicy} is activated instead.
+     */
+    private boolean fallbackToCrl = true;
+
+    /**
+     * If the OCSP status is unavailable and the CRL fallback is turned off, activate this policy.
+     * Accepted values are:
+     * <ul>
+     * <li>{@code ALLOW}: Allow authentication to proceed.</li>
+     * <li>{@code DENY}: Deny authentication and block.</li>
+     * </ul>
+     */
+    private String unavailablePolicy = "DENY";
+
+    /**
+     * Maximum amount of time to wait for the OCSP responder.
+     */
+    @DurationCapable
+    private String timeout = "PT5S";
+
+    /**
+     * Responses are cached until their next update. Responses
+     * that do not specify a next update are cached for this long.
+     */
+    @DurationCapable
+    private String cacheTimeToLive = "PT1H";
+
+    /**
+     * Maximum number of responses kept in memory.
+     */
+    private long cacheMaxElementsInMemory = 10_000;
+}
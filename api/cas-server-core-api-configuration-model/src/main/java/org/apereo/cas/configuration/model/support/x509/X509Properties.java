@@ -101,6 +101,8 @@ public class X509Properties implements CasFeatureModule, Serializable {
      * Caches are available to prevent excessive IO against CRL endpoints. CRL data
      * is fetched if does not exist in the cache or if it is expired.</li>
      * <li>{@code RESOURCE}: A CRL hosted at a fixed location. The CRL is fetched at periodic intervals and cached.</li>
+     * <li>{@code OCSP}: The OCSP responder of the certificate issuer is consulted, and responses are cached
+     * until their next update. See {@link #ocsp} for details.</li>
      * </ul>
      */
     private String revocationChecker = "NONE";
@@ -142,6 +144,22 @@ public class X509Properties implements CasFeatureModule, Serializable {
     @DurationCapable
     private String cacheTimeToLiveSeconds = "PT4H";
 
+    /**
+     * When CRLs are fetched from distribution points, indicate the maximum amount of time
+     * a revocation check should wait for a CRL that is not yet cached. If the CRL cannot be
+     * fetched in time, fetching continues in the background and the CRL unavailable policy is applied.
+     */
+    @DurationCapable
+    private String crlFetchTimeout = "PT5S";
+
+    /**
+     * When CRLs are fetched from distribution points, indicate how long ahead of the CRL
+     * next update (or the expiration of the cache item) the CRL should be fetched again
+     * in the background, while the cached CRL continues to be used.
+     */
+    @DurationCapable
+    private String crlRefreshAhead = "PT15M";
+
     /**
      * If the CRL resource is unavailable, activate the this policy.
      * Activated if {@link #revocationChecker} is {@code RESOURCE}.
@@ -200,6 +218,12 @@ public class X509Properties implements CasFeatureModule, Serializable {
     @NestedConfigurationProperty
     private PersonDirectoryPrincipalResolverProperties principal = new PersonDirectoryPrincipalResolverProperties();
 
+    /**
+     * OCSP revocation checking settings.
+     */
+    @NestedConfigurationProperty
+    private X509OcspProperties ocsp = new X509OcspProperties();
+
     /**
      * LDAP settings when fetching CRLs from LDAP.
      */
@@ -60,6 +60,15 @@ public interface CookieValueManager extends Serializable {
      */
     String obtainCookieValue(String cookie, HttpServletRequest request);
 
+    /**
+     * Invalidate any state kept for the given cookie value,
+     * typically once the session it refers to is destroyed.
+     *
+     * @param cookieValue the decoded cookie value
+     */
+    default void invalidateCookieValue(final String cookieValue) {
+    }
+
     /**
      * Gets cookie same site policy.
      *
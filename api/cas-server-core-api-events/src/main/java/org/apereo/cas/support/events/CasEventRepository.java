@@ -3,6 +3,7 @@ package org.apereo.cas.support.events;
 import org.apereo.cas.support.events.dao.CasEvent;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +41,20 @@ public interface CasEventRepository {
      */
     CasEvent save(CasEvent event) throws Throwable;
 
+    /**
+     * Save all events at once.
+     * Repositories that are able to persist multiple events
+     * in a single operation should override this method.
+     *
+     * @param events the events
+     * @throws Throwable the throwable
+     */
+    default void saveAll(final Collection<? extends CasEvent> events) throws Throwable {
+        for (final CasEvent event : events) {
+            save(event);
+        }
+    }
+
     /**
      * Load collection.
      *
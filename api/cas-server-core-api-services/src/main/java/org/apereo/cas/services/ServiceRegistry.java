@@ -5,6 +5,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -96,6 +97,20 @@ public interface ServiceRegistry {
         return load().stream();
     }
 
+    /**
+     * Load the changes recorded by this registry since the given watermark.
+     * Registries that are unable to track changes should return an empty result,
+     * which signals the caller to fall back onto a full {@link #load()}.
+     * Implementations are allowed to report services that did not change, so applying
+     * the same changes more than once must be harmless.
+     *
+     * @param since the watermark, as epoch milliseconds, after which changes should be reported
+     * @return the changes, or empty if changes cannot be tracked
+     */
+    default Optional<ServiceRegistryChanges> loadChanges(final long since) {
+        return Optional.empty();
+    }
+
     /**
      * Find service by the numeric id.
      *
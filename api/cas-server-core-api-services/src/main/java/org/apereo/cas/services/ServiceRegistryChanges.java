@@ -0,0 +1,18 @@
+package org.apereo.cas.services;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * This is {@link ServiceRegistryChanges}. It describes the changes that a service registry
+ * has observed since a given watermark, which allows callers to apply inserts, updates and
+ * deletes to previously loaded services without rebuilding everything from scratch.
+ *
+ * @param savedServices      services that were inserted or updated since the watermark
+ * @param serviceIdentifiers identifiers of all services that currently exist in the registry;
+ *                           previously loaded services whose identifier is absent are considered deleted
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public record ServiceRegistryChanges(Collection<RegisteredService> savedServices, Set<Long> serviceIdentifiers) {
+}
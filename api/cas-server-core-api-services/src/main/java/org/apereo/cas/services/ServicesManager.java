@@ -208,6 +208,17 @@ public interface ServicesManager extends Ordered {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Inform the ServicesManager to apply changes that have occurred in the service registry
+     * since the last load, rather than reloading all services. Implementations
+     * that are unable to apply changes incrementally should perform a full {@link #load()}.
+     *
+     * @return the collection
+     */
+    default Collection<RegisteredService> loadChanges() {
+        return load();
+    }
+
     /**
      * Return a count of loaded services by this manager.
      *
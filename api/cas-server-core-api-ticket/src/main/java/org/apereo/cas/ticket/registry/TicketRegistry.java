@@ -5,11 +5,14 @@ import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,6 +56,32 @@ public interface TicketRegistry {
         return toSave.map(Unchecked.function(this::addTicket)).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
+    /**
+     * Save a batch of related ticket writes together. Registries that are able to
+     * should override this operation to apply the batch in a single transaction
+     * or round trip. The default implementation applies each operation in order.
+     *
+     * @param batch the batch
+     * @return the tickets that were added
+     * @throws Exception the exception
+     */
+    default List<? extends Ticket> save(final TicketRegistryBatch batch) throws Exception {
+        val added = new ArrayList<Ticket>();
+        for (val operation : batch.getOperations()) {
+            switch (operation.type()) {
+                case ADD -> {
+                    val ticket = addTicket(operation.ticket());
+                    if (ticket != null) {
+                        added.add(ticket);
+                    }
+                }
+                case UPDATE -> updateTicket(operation.ticket());
+                case DELETE -> deleteTicket(operation.ticket());
+            }
+        }
+        return added;
+    }
+
     /**
      * Retrieve a ticket from the registry. If the ticket retrieved does not
      * match the expected class, an InvalidTicketException is thrown.
@@ -189,6 +218,38 @@ public interface TicketRegistry {
                                     && ((AuthenticationAwareTicket) ticket).getAuthentication().getPrincipal().getId().equals(principalId));
     }
 
+    /**
+     * Gets a page of single sign-on sessions, ordered by a stable key
+     * that is specific to the registry implementation, starting right after
+     * the cursor found in the request. Registries that are able to seek
+     * natively should override this operation, so that the cost of fetching
+     * a page remains proportional to the page size. The default implementation
+     * scans all sessions and orders them by ticket id.
+     * Expired sessions never count towards the page, and the cursor for the next page
+     * is only handed out when at least one more session is available.
+     *
+     * @param request the request
+     * @return the page
+     */
+    default TicketRegistryPage getSessions(final TicketRegistryPageRequest request) {
+        val cursor = request.getCursor();
+        val count = request.getCount() > 0 ? request.getCount() : Integer.MAX_VALUE;
+        try (val sessions = StringUtils.isBlank(request.getPrincipal())
+            ? getTickets(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired())
+            : getSessionsFor(request.getPrincipal())) {
+            val tickets = sessions
+                .filter(ticket -> StringUtils.isBlank(cursor) || ticket.getId().compareTo(cursor) > 0)
+                .sorted(Comparator.comparing(Ticket::getId))
+                .limit(count + 1)
+                .collect(Collectors.toList());
+            if (tickets.size() > count) {
+                val page = tickets.subList(0, (int) count);
+                return new TicketRegistryPage(page, page.getLast().getId());
+            }
+            return new TicketRegistryPage(tickets, null);
+        }
+    }
+
     /**
      * Gets tickets with authentication attributes.
      *
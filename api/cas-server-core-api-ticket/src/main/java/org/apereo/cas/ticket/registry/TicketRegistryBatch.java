@@ -0,0 +1,137 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.ToString;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link TicketRegistryBatch}. It collects a group of related ticket writes
+ * that should be saved together, such as the tickets created and updated during a single
+ * token grant, so that registries are able to apply them in one transaction or round trip.
+ * Operations are recorded in order and keyed by ticket id, so that repeated updates to the
+ * same ticket collapse into a single write of its latest state, and a ticket that is both
+ * added and updated in the same batch is only added.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@ToString
+public class TicketRegistryBatch {
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
+
+    /**
+     * Add ticket to the batch.
+     *
+     * @param ticket the ticket
+     * @return this batch
+     */
+    public TicketRegistryBatch add(final Ticket ticket) {
+        if (ticket != null) {
+            operations.put(ticket.getId(), new Operation(OperationType.ADD, ticket));
+        }
+        return this;
+    }
+
+    /**
+     * Update ticket in the batch.
+     *
+     * @param ticket the ticket
+     * @return this batch
+     */
+    public TicketRegistryBatch update(final Ticket ticket) {
+        if (ticket != null) {
+            val existing = operations.get(ticket.getId());
+            if (existing == null || existing.type() == OperationType.UPDATE) {
+                operations.put(ticket.getId(), new Operation(OperationType.UPDATE, ticket));
+            } else if (existing.type() == OperationType.ADD) {
+                operations.put(ticket.getId(), new Operation(OperationType.ADD, ticket));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Delete ticket in the batch.
+     *
+     * @param ticket the ticket
+     * @return this batch
+     */
+    public TicketRegistryBatch delete(final Ticket ticket) {
+        if (ticket != null) {
+            val existing = operations.remove(ticket.getId());
+            if (existing == null || existing.type() != OperationType.ADD) {
+                operations.put(ticket.getId(), new Operation(OperationType.DELETE, ticket));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Gets operations in the order they should be applied.
+     *
+     * @return the operations
+     */
+    public List<Operation> getOperations() {
+        return new ArrayList<>(operations.values());
+    }
+
+    /**
+     * Gets tickets for the given operation type.
+     *
+     * @param type the type
+     * @return the tickets
+     */
+    public List<Ticket> getTickets(final OperationType type) {
+        return operations.values()
+            .stream()
+            .filter(operation -> operation.type() == type)
+            .map(Operation::ticket)
+            .toList();
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Create a new empty batch.
+     *
+     * @return the batch
+     */
+    public static TicketRegistryBatch newInstance() {
+        return new TicketRegistryBatch();
+    }
+
+    /**
+     * The operation types.
+     */
+    public enum OperationType {
+        /**
+         * Add ticket.
+         */
+        ADD,
+        /**
+         * Update ticket.
+         */
+        UPDATE,
+        /**
+         * Delete ticket.
+         */
+        DELETE
+    }
+
+    /**
+     * A single write operation in the batch.
+     *
+     * @param type   the type
+     * @param ticket the ticket
+     */
+    public record Operation(OperationType type, Ticket ticket) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This is {@link TicketRegistryPage}. It carries a page of single sign-on sessions
+ * along with the cursor that points to the next page, if any.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class TicketRegistryPage {
+    private final List<? extends Ticket> tickets;
+
+    private final String nextCursor;
+
+    /**
+     * Build an empty page.
+     *
+     * @return the page
+     */
+    public static TicketRegistryPage empty() {
+        return new TicketRegistryPage(List.of(), null);
+    }
+
+    /**
+     * Cursor to fetch the next page, if more sessions are available.
+     *
+     * @return the cursor
+     */
+    public Optional<String> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,51 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.With;
+import lombok.experimental.Accessors;
+import lombok.experimental.SuperBuilder;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link TicketRegistryPageRequest}. It describes a single page of
+ * single sign-on sessions to fetch from the registry. Pages are addressed via an opaque
+ * cursor that is handed out by the previous page, rather than by offset, so that
+ * registries are able to seek directly to the requested page.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@With
+@SuperBuilder
+@ToString
+@Accessors(chain = true)
+public class TicketRegistryPageRequest implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 5198434720478127313L;
+
+    /**
+     * Optional principal id to limit sessions.
+     */
+    private String principal;
+
+    /**
+     * Cursor returned by the previous page, or blank for the first page.
+     */
+    private String cursor;
+
+    /**
+     * Maximum number of sessions to return.
+     */
+    @Builder.Default
+    private long count = 1000L;
+}
@@ -0,0 +1,98 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import java.util.Map;
+
+/**
+ * This is {@link TicketRegistryStatistics}. It keeps track of ticket counts
+ * per ticket type and state as tickets are added to and removed from the registry,
+ * so that reporting does not have to scan the entire registry on every request.
+ * Counters are periodically reconciled with the actual contents of the registry
+ * to correct any drift, such as tickets that are evicted or expired by the
+ * underlying storage without going through the registry.
+ * <p>
+ * Statistics are kept in memory and are local to each CAS node. In a cluster, every node only
+ * observes the tickets that it adds and removes itself. Reconciliation resets the valid and expired
+ * counts to the contents of the shared registry, whereas the number of created and removed tickets
+ * and the creation rates always describe the activity of the node that reports them.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface TicketRegistryStatistics {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "ticketRegistryStatistics";
+
+    /**
+     * No op ticket registry statistics that records nothing.
+     *
+     * @return the ticket registry statistics
+     */
+    static TicketRegistryStatistics noOp() {
+        return new TicketRegistryStatistics() {
+        };
+    }
+
+    /**
+     * Record a ticket that is added to the registry.
+     *
+     * @param ticket the ticket
+     */
+    default void recordAdded(final Ticket ticket) {
+    }
+
+    /**
+     * Record a ticket that is removed from the registry.
+     *
+     * @param ticket the ticket
+     */
+    default void recordRemoved(final Ticket ticket) {
+    }
+
+    /**
+     * Reset the valid and expired ticket counts,
+     * typically once all tickets are removed from the registry.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Reconcile counters with the actual contents of the registry.
+     *
+     * @param ticketRegistry the ticket registry
+     */
+    default void reconcile(final TicketRegistry ticketRegistry) {
+    }
+
+    /**
+     * Total number of tickets that are considered valid.
+     *
+     * @return the count
+     */
+    default long getValidTickets() {
+        return 0;
+    }
+
+    /**
+     * Total number of tickets that were found expired
+     * as of the last reconciliation.
+     *
+     * @return the count
+     */
+    default long getExpiredTickets() {
+        return 0;
+    }
+
+    /**
+     * Statistics collected for each ticket type,
+     * keyed by ticket prefix.
+     *
+     * @return the map
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
+}
@@ -9,6 +9,7 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -45,6 +46,16 @@ public interface StringSerializer<T> extends Serializable {
      */
     T from(String data);
 
+    /**
+     * Create the object type from the given UTF-8 encoded bytes.
+     *
+     * @param data the bytes
+     * @return the object instance constructed from
+     */
+    default T from(final byte[] data) {
+        return from(new String(data, StandardCharsets.UTF_8));
+    }
+
     /**
      * Create the object type from the given  reader.
      *
@@ -109,6 +120,16 @@ public interface StringSerializer<T> extends Serializable {
      */
     String toString(T object);
 
+    /**
+     * Return the object as UTF-8 encoded bytes.
+     *
+     * @param object the object
+     * @return the bytes
+     */
+    default byte[] toBytes(final T object) {
+        return toString(object).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Load a collection of specified objects from the stream.
      *
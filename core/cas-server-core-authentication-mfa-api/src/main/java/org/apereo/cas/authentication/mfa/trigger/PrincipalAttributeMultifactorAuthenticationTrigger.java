@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 import static org.springframework.util.StringUtils.*;
 
 /**
@@ -130,14 +131,19 @@ public class PrincipalAttributeMultifactorAuthenticationTrigger implements Multi
             new PatternedAttributeValuePredicate(globalPrincipalAttributeValueRegex, properties.isReverseMatch()));
     }
 
-    @RequiredArgsConstructor
     private static final class PatternedAttributeValuePredicate implements BiPredicate<String, MultifactorAuthenticationProvider> {
-        private final String pattern;
+        private final Pattern pattern;
         private final boolean reverseMatch;
 
+        PatternedAttributeValuePredicate(final String pattern, final boolean reverseMatch) {
+            this.pattern = RegexUtils.createPattern(pattern);
+            this.reverseMatch = reverseMatch;
+        }
+
         @Override
         public boolean test(final String attributeValue, final MultifactorAuthenticationProvider multifactorAuthenticationProvider) {
-            return attributeValue != null && reverseMatch != RegexUtils.find(pattern, attributeValue);
+            return attributeValue != null
+                && reverseMatch != (StringUtils.isNotBlank(attributeValue) && RegexUtils.find(pattern, attributeValue));
         }
     }
 }
@@ -84,11 +84,12 @@ public class RegisteredServicePrincipalAttributeMultifactorAuthenticationTrigger
             providers.add(resolvedProvider);
         }
         LOGGER.debug("Resolved multifactor providers are [{}]", providers);
+        val attributeValuePattern = RegexUtils.createPattern(policy.getPrincipalAttributeValueToMatch());
         val result = multifactorAuthenticationProviderResolver.resolveEventViaPrincipalAttribute(principal,
             org.springframework.util.StringUtils.commaDelimitedListToSet(policy.getPrincipalAttributeNameTrigger()),
             registeredService, service, Optional.empty(), providers,
             (attributeValue, mfaProvider) ->
-                attributeValue != null && RegexUtils.find(policy.getPrincipalAttributeValueToMatch(), attributeValue));
+                StringUtils.isNotBlank(attributeValue) && RegexUtils.find(attributeValuePattern, attributeValue));
 
         if (result != null && !result.isEmpty()) {
             return CollectionUtils.firstElement(result)
@@ -0,0 +1,328 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.web.support.ThrottledSubmission;
+import org.apereo.cas.web.support.ThrottledSubmissionsStore;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.digest.MurmurHash3;
+import org.apache.commons.lang3.BooleanUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link SketchThrottledSubmissionsStore}. It estimates failure counts per throttling key
+ * using a time-decayed count-min sketch that is split into window slices. Each slice covers a fraction of the
+ * configured failure range; slices that fall out of the window are reset and reused, which gives sliding-window
+ * rate estimates with a fixed memory footprint regardless of the number of distinct keys.
+ * <p>
+ * Since a sketch cannot enumerate or release individual keys, a small bounded table tracks exact submissions
+ * for the heaviest offenders and for locked submissions. Sketch estimates never under-count, so
+ * hash collisions can only make throttling stricter, never more lenient. Tracked submissions are also
+ * kept ordered by estimate and by expiration, so picking an eviction candidate is logarithmic in the table size.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class SketchThrottledSubmissionsStore implements ThrottledSubmissionsStore<ThrottledSubmission> {
+    private static final double MILLISECONDS_IN_SECOND = 1000.0;
+
+    private static final Comparator<TrackedSubmission> BY_ESTIMATE = Comparator
+        .comparingLong(TrackedSubmission::estimate)
+        .thenComparing(TrackedSubmission::key);
+
+    private static final Comparator<TrackedSubmission> BY_EXPIRATION = Comparator
+        .comparing((TrackedSubmission tracked) -> tracked.submission().getExpiration())
+        .thenComparing(TrackedSubmission::key);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<String, TrackedSubmission> trackedSubmissions = new ConcurrentHashMap<>();
+
+    private final NavigableSet<TrackedSubmission> unlockedByEstimate = new TreeSet<>(BY_ESTIMATE);
+
+    private final NavigableSet<TrackedSubmission> lockedByExpiration = new TreeSet<>(BY_EXPIRATION);
+
+    private final int seed = RandomUtils.nextInt();
+
+    private final int width;
+
+    private final int depth;
+
+    private final int slices;
+
+    private final long sliceMillis;
+
+    private final int heavyHitterCapacity;
+
+    private final int[][] counters;
+
+    private final long[] sliceEpochs;
+
+    @Getter
+    @Setter
+    private Clock clock = Clock.systemUTC();
+
+    public SketchThrottledSubmissionsStore(final CasConfigurationProperties casProperties) {
+        val throttle = casProperties.getAuthn().getThrottle();
+        val inMemory = throttle.getInMemory();
+        this.width = Math.max(1, inMemory.getSketchWidth());
+        this.depth = Math.max(1, inMemory.getSketchDepth());
+        this.slices = Math.max(1, inMemory.getWindowSlices());
+        this.heavyHitterCapacity = Math.max(1, inMemory.getHeavyHitterCapacity());
+        val windowMillis = TimeUnit.SECONDS.toMillis(Math.max(1, throttle.getFailure().getRangeSeconds()));
+        this.sliceMillis = Math.max(1, windowMillis / slices);
+        this.counters = new int[slices][width * depth];
+        this.sliceEpochs = new long[slices];
+        Arrays.fill(sliceEpochs, Long.MIN_VALUE);
+        LOGGER.debug("Created throttling sketch with [{}] slices of [{}]x[{}] counters, each covering [{}] ms",
+            slices, depth, width, sliceMillis);
+    }
+
+    @Override
+    public void removeIf(final Predicate<ThrottledSubmission> condition) {
+        lock.lock();
+        try {
+            trackedSubmissions.values()
+                .stream()
+                .filter(tracked -> condition.test(tracked.submission()))
+                .map(TrackedSubmission::key)
+                .toList()
+                .forEach(this::untrack);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the exact record tracked for this key, if any.
+     * Approximate counts kept in the sketch cannot be removed per key,
+     * and will decay naturally once they fall out of the sliding window.
+     *
+     * @param key the key
+     */
+    @Override
+    public void remove(final String key) {
+        lock.lock();
+        try {
+            untrack(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(final ThrottledSubmission submission) {
+        lock.lock();
+        try {
+            val key = submission.getKey();
+            if (submission.getExpiration() == null) {
+                increment(key);
+            }
+            track(submission, estimate(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(final String key) {
+        return trackedSubmissions.containsKey(key);
+    }
+
+    @Override
+    public ThrottledSubmission get(final String key) {
+        val tracked = trackedSubmissions.get(key);
+        return tracked != null ? tracked.submission() : null;
+    }
+
+    @Override
+    public Stream<ThrottledSubmission> entries() {
+        return trackedSubmissions.values().stream().map(TrackedSubmission::submission);
+    }
+
+    @Override
+    public boolean exceedsThreshold(final String key, final double thresholdRate) {
+        val submissionRate = submissionRate(key);
+        val result = submissionRate >= thresholdRate;
+        LOGGER.debug("Estimated submission rate for [{}] over the sliding window is [{}] and your threshold rate is [{}]. "
+                + "The submission rate is [{}] than the threshold rate, so the request [{}] be throttled.",
+            key, submissionRate, thresholdRate,
+            BooleanUtils.toString(result, "greater", "less"),
+            BooleanUtils.toString(result, "may", "may not"));
+        return result;
+    }
+
+    @Override
+    public void release(final double thresholdRate) {
+        lock.lock();
+        try {
+            val epoch = currentEpoch();
+            for (var slice = 0; slice < slices; slice++) {
+                if (sliceEpochs[slice] != Long.MIN_VALUE && !isWithinWindow(sliceEpochs[slice], epoch)) {
+                    Arrays.fill(counters[slice], 0);
+                    sliceEpochs[slice] = Long.MIN_VALUE;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        removeIf(entry -> {
+            if (entry.hasExpiredAlready()) {
+                LOGGER.debug("Throttled submission [{}] has expired and will be removed", entry.getKey());
+                return true;
+            }
+            LOGGER.debug("Throttled submission [{}] has not expired and can only be released at [{}]",
+                entry.getKey(), entry.getExpiration());
+            return false;
+        });
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            for (var slice = 0; slice < slices; slice++) {
+                Arrays.fill(counters[slice], 0);
+            }
+            Arrays.fill(sliceEpochs, Long.MIN_VALUE);
+            trackedSubmissions.clear();
+            unlockedByEstimate.clear();
+            lockedByExpiration.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Estimate the number of submissions recorded for the given key
+     * within the sliding window.
+     *
+     * @param key the key
+     * @return the estimated count
+     */
+    public long estimate(final String key) {
+        lock.lock();
+        try {
+            val epoch = currentEpoch();
+            val indexes = indexesOf(key);
+            var estimate = Long.MAX_VALUE;
+            for (val index : indexes) {
+                var sum = 0L;
+                for (var slice = 0; slice < slices; slice++) {
+                    if (isWithinWindow(sliceEpochs[slice], epoch)) {
+                        sum += counters[slice][index];
+                    }
+                }
+                estimate = Math.min(estimate, sum);
+            }
+            return estimate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double submissionRate(final String key) {
+        return estimate(key) / (sliceMillis * slices / MILLISECONDS_IN_SECOND);
+    }
+
+    private void increment(final String key) {
+        val slice = rotate(currentEpoch());
+        val indexes = indexesOf(key);
+        var minimum = Integer.MAX_VALUE;
+        for (val index : indexes) {
+            minimum = Math.min(minimum, counters[slice][index]);
+        }
+        for (val index : indexes) {
+            if (counters[slice][index] == minimum && minimum < Integer.MAX_VALUE) {
+                counters[slice][index]++;
+            }
+        }
+    }
+
+    private void track(final ThrottledSubmission submission, final long estimate) {
+        val key = submission.getKey();
+        val tracked = new TrackedSubmission(submission, estimate, submission.isStillInExpirationWindow());
+        if (trackedSubmissions.containsKey(key) || trackedSubmissions.size() < heavyHitterCapacity) {
+            untrack(key);
+            track(tracked);
+            return;
+        }
+        unlockExpiredSubmissions();
+        val candidate = Optional.ofNullable(unlockedByEstimate.isEmpty() ? null : unlockedByEstimate.first())
+            .filter(entry -> tracked.locked() || entry.estimate() < estimate)
+            .or(() -> Optional.ofNullable(tracked.locked() && !lockedByExpiration.isEmpty() ? lockedByExpiration.first() : null));
+        candidate.ifPresent(entry -> {
+            LOGGER.trace("Evicting tracked submission [{}] in favor of [{}]", entry.key(), key);
+            untrack(entry.key());
+            track(tracked);
+        });
+    }
+
+    private void track(final TrackedSubmission tracked) {
+        trackedSubmissions.put(tracked.key(), tracked);
+        (tracked.locked() ? lockedByExpiration : unlockedByEstimate).add(tracked);
+    }
+
+    private void untrack(final String key) {
+        val tracked = trackedSubmissions.remove(key);
+        if (tracked != null) {
+            (tracked.locked() ? lockedByExpiration : unlockedByEstimate).remove(tracked);
+        }
+    }
+
+    private void unlockExpiredSubmissions() {
+        while (!lockedByExpiration.isEmpty() && !lockedByExpiration.first().submission().isStillInExpirationWindow()) {
+            val expired = lockedByExpiration.pollFirst();
+            track(new TrackedSubmission(expired.submission(), expired.estimate(), false));
+        }
+    }
+
+    private int rotate(final long epoch) {
+        val slice = (int) Math.floorMod(epoch, (long) slices);
+        if (sliceEpochs[slice] != epoch) {
+            Arrays.fill(counters[slice], 0);
+            sliceEpochs[slice] = epoch;
+        }
+        return slice;
+    }
+
+    private boolean isWithinWindow(final long sliceEpoch, final long currentEpoch) {
+        return sliceEpoch != Long.MIN_VALUE && sliceEpoch <= currentEpoch && sliceEpoch > currentEpoch - slices;
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / sliceMillis;
+    }
+
+    private int[] indexesOf(final String key) {
+        val bytes = key.getBytes(StandardCharsets.UTF_8);
+        val hash = MurmurHash3.hash128x64(bytes, 0, bytes.length, seed);
+        val indexes = new int[depth];
+        for (var row = 0; row < depth; row++) {
+            indexes[row] = row * width + Math.floorMod(hash[0] + row * hash[1], width);
+        }
+        return indexes;
+    }
+
+    private record TrackedSubmission(ThrottledSubmission submission, long estimate, boolean locked) {
+        String key() {
+            return submission.getKey();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.web.support.ThrottledSubmission;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SketchThrottledSubmissionsStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("AuthenticationThrottling")
+class SketchThrottledSubmissionsStoreTests {
+    private static final double THRESHOLD_RATE = 3 / 10.0;
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private SketchThrottledSubmissionsStore store;
+
+    @BeforeEach
+    void setup() {
+        val casProperties = new CasConfigurationProperties();
+        val throttle = casProperties.getAuthn().getThrottle();
+        throttle.getInMemory().setHeavyHitterCapacity(2);
+        throttle.getFailure().setRangeSeconds(10);
+        throttle.getFailure().setThreshold(3);
+        store = new SketchThrottledSubmissionsStore(casProperties);
+        store.setClock(CLOCK);
+    }
+
+    @Test
+    void verifyOperation() throws Throwable {
+        val key = UUID.randomUUID().toString();
+        store.put(ThrottledSubmission.builder().key(key).build());
+        assertNotNull(store.get(key));
+        assertTrue(store.contains(key));
+        assertEquals(1, store.entries().count());
+        store.removeIf(entry -> entry.getKey().equals(key));
+        store.remove(key);
+        assertEquals(0, store.entries().count());
+        store.put(ThrottledSubmission.builder().key(key).build());
+        store.clear();
+        assertEquals(0, store.entries().count());
+        assertEquals(0, store.estimate(key));
+    }
+
+    @Test
+    void verifyThreshold() throws Throwable {
+        val key = UUID.randomUUID().toString();
+        IntStream.range(0, 2).forEach(i -> store.put(ThrottledSubmission.builder().key(key).build()));
+        assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+        store.put(ThrottledSubmission.builder().key(key).build());
+        assertTrue(store.exceedsThreshold(key, THRESHOLD_RATE));
+        assertFalse(store.exceedsThreshold(UUID.randomUUID().toString(), THRESHOLD_RATE));
+    }
+
+    @Test
+    void verifySlidingWindow() throws Throwable {
+        val key = UUID.randomUUID().toString();
+        IntStream.range(0, 3).forEach(i -> store.put(ThrottledSubmission.builder().key(key).build()));
+        assertEquals(3, store.estimate(key));
+
+        store.setClock(Clock.offset(CLOCK, Duration.ofSeconds(5)));
+        store.put(ThrottledSubmission.builder().key(key).build());
+        assertEquals(4, store.estimate(key));
+
+        store.setClock(Clock.offset(CLOCK, Duration.ofSeconds(12)));
+        assertEquals(1, store.estimate(key));
+        assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+
+        store.setClock(Clock.offset(CLOCK, Duration.ofSeconds(30)));
+        store.release(THRESHOLD_RATE);
+        assertEquals(0, store.estimate(key));
+    }
+
+    @Test
+    void verifyHeavyHittersAreBounded() throws Throwable {
+        val heavy = UUID.randomUUID().toString();
+        IntStream.range(0, 5).forEach(i -> store.put(ThrottledSubmission.builder().key(heavy).build()));
+        IntStream.range(0, 100).forEach(i -> store.put(ThrottledSubmission.builder().key(UUID.randomUUID().toString()).build()));
+        assertEquals(2, store.entries().count());
+        assertTrue(store.contains(heavy));
+    }
+
+    @Test
+    void verifyLockedSubmissionsAreTracked() throws Throwable {
+        IntStream.range(0, 2).forEach(i -> store.put(ThrottledSubmission.builder().key(UUID.randomUUID().toString()).build()));
+        val submission = lockedSubmission(25);
+        store.put(submission);
+        store.release(THRESHOLD_RATE);
+        assertNotNull(store.get(submission.getKey()));
+        assertEquals(1, store.entries().count());
+    }
+
+    @Test
+    void verifyLockedSubmissionEvictsEarliestExpiration() throws Throwable {
+        val first = lockedSubmission(10);
+        val second = lockedSubmission(20);
+        store.put(second);
+        store.put(first);
+        val third = lockedSubmission(30);
+        store.put(third);
+        assertEquals(2, store.entries().count());
+        assertFalse(store.contains(first.getKey()));
+        assertTrue(store.contains(second.getKey()));
+        assertTrue(store.contains(third.getKey()));
+
+        store.remove(second.getKey());
+        assertFalse(store.contains(second.getKey()));
+        val fourth = lockedSubmission(40);
+        store.put(fourth);
+        assertEquals(2, store.entries().count());
+        assertTrue(store.contains(third.getKey()));
+        assertTrue(store.contains(fourth.getKey()));
+    }
+
+    private static ThrottledSubmission lockedSubmission(final long seconds) {
+        return ThrottledSubmission
+            .builder()
+            .key(UUID.randomUUID().toString())
+            .expiration(ZonedDateTime.now(Clock.systemUTC()).plusSeconds(seconds))
+            .build();
+    }
+}
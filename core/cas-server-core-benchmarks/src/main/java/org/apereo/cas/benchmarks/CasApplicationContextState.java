@@ -0,0 +1,61 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.BaseCasCoreTests;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+/**
+ * This is {@link CasApplicationContextState}. It bootstraps the core CAS application context
+ * once per benchmark trial, backed by the in-memory service and ticket registries,
+ * so that benchmarks can exercise the same beans that are wired in a running server.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+public class CasApplicationContextState {
+    private ConfigurableApplicationContext applicationContext;
+
+    /**
+     * Start the application context.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = new SpringApplicationBuilder(BaseCasCoreTests.SharedTestConfiguration.class)
+            .contextFactory(type -> new GenericWebApplicationContext(new MockServletContext()))
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .properties("cas.authn.policy.any.try-all=true",
+                "cas.service-registry.schedule.enabled=false")
+            .run();
+    }
+
+    /**
+     * Close the application context.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Gets bean from the application context.
+     *
+     * @param <T>   the type parameter
+     * @param name  the name
+     * @param clazz the clazz
+     * @return the bean
+     */
+    public <T> T getBean(final String name, final Class<T> clazz) {
+        return applicationContext.getBean(name, clazz);
+    }
+}
@@ -0,0 +1,105 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.authentication.AuthenticationResult;
+import org.apereo.cas.authentication.AuthenticationSystemSupport;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CentralAuthenticationServiceBenchmarks}. It measures issuing
+ * service tickets for an existing single sign-on session, which covers service
+ * lookup, access strategy enforcement, ticket creation and the ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CentralAuthenticationServiceBenchmarks {
+    private CentralAuthenticationService centralAuthenticationService;
+
+    private TicketRegistry ticketRegistry;
+
+    private Service service;
+
+    private AuthenticationResult authenticationResult;
+
+    private String ticketGrantingTicketId;
+
+    /**
+     * Register the service definition.
+     *
+     * @param state the application context state
+     */
+    @Setup(Level.Trial)
+    public void setup(final CasApplicationContextState state) {
+        centralAuthenticationService = state.getBean(CentralAuthenticationService.BEAN_NAME, CentralAuthenticationService.class);
+        ticketRegistry = state.getBean(TicketRegistry.BEAN_NAME, TicketRegistry.class);
+
+        val registeredService = new CasRegisteredService();
+        registeredService.setId(1);
+        registeredService.setName("Benchmarks");
+        registeredService.setServiceId(".*");
+        val servicesManager = state.getBean(ServicesManager.BEAN_NAME, ServicesManager.class);
+        servicesManager.save(registeredService);
+
+        service = RegisteredServiceTestUtils.getService();
+        val authenticationSystemSupport = state.getBean(AuthenticationSystemSupport.BEAN_NAME, AuthenticationSystemSupport.class);
+        authenticationResult = CoreAuthenticationTestUtils.getAuthenticationResult(authenticationSystemSupport, service);
+    }
+
+    /**
+     * Create the ticket-granting ticket for the iteration.
+     *
+     * @throws Throwable the throwable
+     */
+    @Setup(Level.Iteration)
+    public void setupIteration() throws Throwable {
+        ticketGrantingTicketId = centralAuthenticationService.createTicketGrantingTicket(authenticationResult).getId();
+    }
+
+    /**
+     * Remove tickets issued during the iteration.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        ticketRegistry.deleteAll();
+    }
+
+    /**
+     * Grant service ticket.
+     *
+     * @return the ticket
+     * @throws Throwable the throwable
+     */
+    @Benchmark
+    public Ticket grantServiceTicket() throws Throwable {
+        return centralAuthenticationService.grantServiceTicket(ticketGrantingTicketId, service, authenticationResult);
+    }
+}
@@ -0,0 +1,102 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CipherExecutorBenchmarks}. It measures signing and encryption
+ * of ticket-granting cookies and of ticket payloads, as done by ticket registries
+ * that are configured to encrypt tickets.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CipherExecutorBenchmarks {
+    private static final String TICKET_GRANTING_TICKET_ID = "TGT-1-Ql2yTZ9hK6kUDMkAFDH3I5mN4vLqyBxxeYdFGwA7F3Qb7rCpQ5-cas-01";
+
+    private CipherExecutor<Serializable, String> cookieCipherExecutor;
+
+    private CipherExecutor<byte[], byte[]> ticketCipherExecutor;
+
+    private String encodedCookieValue;
+
+    private byte[] ticketPayload;
+
+    private byte[] encodedTicketPayload;
+
+    /**
+     * Initialize cipher executors with generated keys.
+     */
+    @Setup
+    public void setup() {
+        cookieCipherExecutor = new TicketGrantingCookieCipherExecutor();
+        encodedCookieValue = cookieCipherExecutor.encode(TICKET_GRANTING_TICKET_ID);
+
+        ticketCipherExecutor = new DefaultTicketCipherExecutor(null, null, "AES", 512, 16, "Ticket-registry");
+        ticketPayload = "{\"@class\":\"org.apereo.cas.ticket.ServiceTicketImpl\",\"id\":\"ST-1-Ql2yTZ9hK6kUDMkAFDH3I5mN4vLqyBx\"}"
+            .getBytes(StandardCharsets.UTF_8);
+        encodedTicketPayload = ticketCipherExecutor.encode(ticketPayload);
+    }
+
+    /**
+     * Encode ticket-granting cookie.
+     *
+     * @return the encoded value
+     */
+    @Benchmark
+    public String encodeTicketGrantingCookie() {
+        return cookieCipherExecutor.encode(TICKET_GRANTING_TICKET_ID);
+    }
+
+    /**
+     * Decode ticket-granting cookie.
+     *
+     * @return the decoded value
+     */
+    @Benchmark
+    public Serializable decodeTicketGrantingCookie() {
+        return cookieCipherExecutor.decode(encodedCookieValue);
+    }
+
+    /**
+     * Encode ticket payload.
+     *
+     * @return the encoded value
+     */
+    @Benchmark
+    public byte[] encodeTicket() {
+        return ticketCipherExecutor.encode(ticketPayload);
+    }
+
+    /**
+     * Decode ticket payload.
+     *
+     * @return the decoded value
+     */
+    @Benchmark
+    public byte[] decodeTicket() {
+        return ticketCipherExecutor.decode(encodedTicketPayload);
+    }
+}
@@ -0,0 +1,89 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.services.ServicesManager;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link ServicesManagerBenchmarks}. It measures matching of requested
+ * services against a registry of regular-expression-based service definitions,
+ * both for services that are found and for services that match no definition.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServicesManagerBenchmarks {
+    @Param({"100", "1000"})
+    protected int serviceCount;
+
+    private ServicesManager servicesManager;
+
+    private Service matchingService;
+
+    private Service unknownService;
+
+    /**
+     * Register service definitions.
+     *
+     * @param state the application context state
+     */
+    @Setup
+    public void setup(final CasApplicationContextState state) {
+        servicesManager = state.getBean(ServicesManager.BEAN_NAME, ServicesManager.class);
+        servicesManager.deleteAll();
+        for (var i = 1; i <= serviceCount; i++) {
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(i);
+            registeredService.setName("Application-" + i);
+            registeredService.setServiceId("https://app-" + i + "\\.example\\.org/.*");
+            registeredService.setEvaluationOrder(i);
+            servicesManager.save(registeredService, false);
+        }
+        servicesManager.load();
+        matchingService = RegisteredServiceTestUtils.getService("https://app-" + serviceCount / 2 + ".example.org/login");
+        unknownService = RegisteredServiceTestUtils.getService("https://unknown.example.net/login");
+    }
+
+    /**
+     * Find service that matches a registered service definition.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findMatchingService() {
+        return servicesManager.findServiceBy(matchingService);
+    }
+
+    /**
+     * Find service that matches no registered service definition.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findUnknownService() {
+        return servicesManager.findServiceBy(unknownService);
+    }
+}
@@ -0,0 +1,77 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.apereo.cas.util.HostNameBasedUniqueTicketIdGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketIdGeneratorBenchmarks}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketIdGeneratorBenchmarks {
+    private UniqueTicketIdGenerator defaultTicketIdGenerator;
+
+    private UniqueTicketIdGenerator hostNameBasedTicketIdGenerator;
+
+    /**
+     * Initialize the ticket id generators.
+     */
+    @Setup
+    public void setup() {
+        defaultTicketIdGenerator = new DefaultUniqueTicketIdGenerator();
+        hostNameBasedTicketIdGenerator = new HostNameBasedUniqueTicketIdGenerator(UniqueTicketIdGenerator.TICKET_SIZE, null);
+    }
+
+    /**
+     * Generate service ticket id.
+     *
+     * @return the ticket id
+     */
+    @Benchmark
+    public String generateServiceTicketId() {
+        return defaultTicketIdGenerator.getNewTicketId(ServiceTicket.PREFIX);
+    }
+
+    /**
+     * Generate ticket granting ticket id.
+     *
+     * @return the ticket id
+     */
+    @Benchmark
+    public String generateTicketGrantingTicketId() {
+        return defaultTicketIdGenerator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+
+    /**
+     * Generate service ticket id using the host name as suffix.
+     *
+     * @return the ticket id
+     */
+    @Benchmark
+    public String generateHostNameBasedServiceTicketId() {
+        return hostNameBasedTicketIdGenerator.getNewTicketId(ServiceTicket.PREFIX);
+    }
+}
@@ -0,0 +1,79 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketSerializationBenchmarks}. It measures serialization of
+ * ticket-granting tickets using the serialization manager that is configured
+ * for distributed ticket registries.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketSerializationBenchmarks {
+    private TicketSerializationManager ticketSerializationManager;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    private String serializedTicket;
+
+    /**
+     * Create and serialize the ticket-granting ticket.
+     *
+     * @param state the application context state
+     * @throws Throwable the throwable
+     */
+    @Setup
+    public void setup(final CasApplicationContextState state) throws Throwable {
+        ticketSerializationManager = state.getBean(TicketSerializationManager.BEAN_NAME, TicketSerializationManager.class);
+        val ticketFactory = state.getBean(TicketFactory.BEAN_NAME, TicketFactory.class);
+        val factory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        ticketGrantingTicket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        serializedTicket = ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+    }
+
+    /**
+     * Serialize ticket.
+     *
+     * @return the serialized ticket
+     */
+    @Benchmark
+    public String serializeTicket() {
+        return ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+    }
+
+    /**
+     * Deserialize ticket.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public TicketGrantingTicket deserializeTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedTicket, TicketGrantingTicket.class);
+    }
+}
@@ -0,0 +1,34 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.web.cookie.CookieValueManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link CookieValueInvalidationEventListener}. It invalidates state that is kept
+ * by the cookie value manager for the ticket-granting cookie once the single sign-on session
+ * is destroyed, such as on logout.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CookieValueInvalidationEventListener {
+    private final ObjectProvider<CookieValueManager> cookieValueManager;
+
+    /**
+     * Handle ticket-granting ticket destroyed event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasTicketGrantingTicketDestroyedEvent(final CasTicketGrantingTicketDestroyedEvent event) {
+        LOGGER.trace("Invalidating cookie value for ticket-granting ticket [{}]", event.getId());
+        cookieValueManager.ifAvailable(manager -> manager.invalidateCookieValue(event.getId()));
+    }
+}
@@ -2,11 +2,14 @@ package org.apereo.cas.web.support.mgmr;
 
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.model.support.cookie.PinnableCookieProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.http.HttpRequestUtils;
 import org.apereo.cas.web.cookie.CookieSameSitePolicy;
 import org.apereo.cas.web.support.InvalidCookieException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -27,6 +30,10 @@ import java.util.stream.Stream;
  * This class by default ({@code CookieProperties.isPinToSession=true}) ensures the cookie is used on a
  * request from same IP and with the same user-agent as when cookie was created.
  * The client info (with original client ip) may be null if cluster failover occurs and session replication not working.
+ * <p>
+ * Decoded cookie values that pass all checks are cached for a short period, keyed by the cookie
+ * value along with the client address and user-agent of the request, so that repeated requests from
+ * the same client skip decryption and session-pinning checks.
  *
  * @author Misagh Moayyed
  * @since 4.1
@@ -44,6 +51,8 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
 
     private final ObjectProvider<GeoLocationService> geoLocationService;
 
+    private final transient Cache<CookieValueCacheKey, String> cookieValueCache;
+
     public DefaultCasCookieValueManager(final CipherExecutor<Serializable, Serializable> cipherExecutor,
                                         final ObjectProvider<GeoLocationService> geoLocationService,
                                         final CookieSameSitePolicy cookieSameSitePolicy,
@@ -51,6 +60,33 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
         super(cipherExecutor, cookieSameSitePolicy);
         this.geoLocationService = geoLocationService;
         this.cookieProperties = cookieProperties;
+        this.cookieValueCache = buildCookieValueCache(cookieProperties);
+    }
+
+    @Override
+    public String obtainCookieValue(final String cookie, final HttpServletRequest request) {
+        if (cookieValueCache == null) {
+            return super.obtainCookieValue(cookie, request);
+        }
+        val cacheKey = buildCookieValueCacheKey(cookie, request);
+        val cachedValue = cookieValueCache.getIfPresent(cacheKey);
+        if (cachedValue != null) {
+            LOGGER.trace("Found decoded cookie value [{}] in cache", cachedValue);
+            return cachedValue;
+        }
+        val cookieValue = super.obtainCookieValue(cookie, request);
+        if (StringUtils.isNotBlank(cookieValue)) {
+            cookieValueCache.put(cacheKey, cookieValue);
+        }
+        return cookieValue;
+    }
+
+    @Override
+    public void invalidateCookieValue(final String cookieValue) {
+        if (cookieValueCache != null && StringUtils.isNotBlank(cookieValue)) {
+            LOGGER.trace("Removing decoded cookie value [{}] from cache", cookieValue);
+            cookieValueCache.asMap().values().removeIf(cookieValue::equals);
+        }
     }
 
     @Override
@@ -77,6 +113,27 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
         return builder.toString();
     }
 
+    private static Cache<CookieValueCacheKey, String> buildCookieValueCache(final PinnableCookieProperties cookieProperties) {
+        val expiration = StringUtils.isBlank(cookieProperties.getCacheExpiration())
+            ? null
+            : Beans.newDuration(cookieProperties.getCacheExpiration());
+        if (expiration == null || expiration.isZero() || expiration.isNegative() || cookieProperties.getCacheMaximumSize() <= 0) {
+            LOGGER.trace("Caching decoded cookie values is disabled");
+            return null;
+        }
+        return Caffeine.newBuilder()
+            .expireAfterWrite(expiration)
+            .maximumSize(cookieProperties.getCacheMaximumSize())
+            .build();
+    }
+
+    private static CookieValueCacheKey buildCookieValueCacheKey(final String cookie, final HttpServletRequest request) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        return new CookieValueCacheKey(cookie,
+            clientInfo != null ? clientInfo.getClientIpAddress() : null,
+            HttpRequestUtils.getHttpServletRequestUserAgent(request));
+    }
+
     private String getClientGeoLocation(final ClientInfo clientInfo) {
         return geoLocationService
             .stream()
@@ -148,4 +205,7 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
         }
         return cookieValue;
     }
+
+    private record CookieValueCacheKey(String cookie, String clientIpAddress, String userAgent) {
+    }
 }
@@ -153,6 +153,39 @@ class DefaultCasCookieValueManagerTests {
         assertEquals(VALUE, decoded);
     }
 
+    @Test
+    void verifyDecodedValueCached() throws Throwable {
+        val cipher = mock(CipherExecutor.class);
+        when(cipher.decode(any(), any())).thenReturn(String.join("@", VALUE, CLIENT_IP, USER_AGENT));
+        val mgr = new DefaultCasCookieValueManager(cipher, new DirectObjectProvider<>(mock(GeoLocationService.class)),
+            DefaultCookieSameSitePolicy.INSTANCE, new TicketGrantingCookieProperties());
+        assertEquals(VALUE, mgr.obtainCookieValue("encoded", httpServletRequest));
+        assertEquals(VALUE, mgr.obtainCookieValue("encoded", httpServletRequest));
+        verify(cipher, times(1)).decode(any(), any());
+
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr(CLIENT_IP);
+        request.addHeader(HttpRequestUtils.USER_AGENT_HEADER, "Other-Client/1.0.0");
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue("encoded", request));
+
+        mgr.invalidateCookieValue(VALUE);
+        assertEquals(VALUE, mgr.obtainCookieValue("encoded", httpServletRequest));
+        verify(cipher, times(3)).decode(any(), any());
+    }
+
+    @Test
+    void verifyCacheDisabled() throws Throwable {
+        val cipher = mock(CipherExecutor.class);
+        when(cipher.decode(any(), any())).thenReturn(String.join("@", VALUE, CLIENT_IP, USER_AGENT));
+        val props = new TicketGrantingCookieProperties();
+        props.setCacheExpiration("PT0S");
+        val mgr = new DefaultCasCookieValueManager(cipher, new DirectObjectProvider<>(mock(GeoLocationService.class)),
+            DefaultCookieSameSitePolicy.INSTANCE, props);
+        assertEquals(VALUE, mgr.obtainCookieValue("encoded", httpServletRequest));
+        assertEquals(VALUE, mgr.obtainCookieValue("encoded", httpServletRequest));
+        verify(cipher, times(2)).decode(any(), any());
+    }
+
     private static CookieValueManager getCookieValueManager(final PinnableCookieProperties props) {
         return getCookieValueManager(mock(GeoLocationService.class), props);
     }
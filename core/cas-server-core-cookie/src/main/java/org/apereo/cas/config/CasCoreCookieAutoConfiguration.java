@@ -11,6 +11,7 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
 import org.apereo.cas.web.cookie.CookieValueManager;
 import org.apereo.cas.web.support.CookieUtils;
+import org.apereo.cas.web.support.CookieValueInvalidationEventListener;
 import org.apereo.cas.web.support.gen.CookieRetrievingCookieGenerator;
 import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
@@ -56,6 +57,14 @@ public class CasCoreCookieAutoConfiguration {
                 CookieValueManager::noOp).get();
         }
 
+        @ConditionalOnMissingBean(name = "cookieValueInvalidationEventListener")
+        @Bean
+        public CookieValueInvalidationEventListener cookieValueInvalidationEventListener(
+            @Qualifier(CookieValueManager.BEAN_NAME)
+            final ObjectProvider<CookieValueManager> cookieValueManager) {
+            return new CookieValueInvalidationEventListener(cookieValueManager);
+        }
+
         @ConditionalOnMissingBean(name = "cookieCipherExecutor")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
@@ -16,6 +16,9 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import jakarta.annotation.Nonnull;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -57,15 +60,26 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     public CasEvent save(final CasEvent event) throws Throwable {
         if (getEventRepositoryFilter().shouldSaveEvent(event)) {
             val result = saveInternal(event);
-            Optional.ofNullable(applicationEventPublisher).ifPresent(publisher -> {
-                val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
-                publisher.publishEvent(new AuditApplicationEvent(auditEvent));
-            });
+            publishAuditEvent(event);
             return result;
         }
         return event;
     }
 
+    @Override
+    public void saveAll(final Collection<? extends CasEvent> events) throws Throwable {
+        val eventsToSave = new ArrayList<CasEvent>(events.size());
+        for (val event : events) {
+            if (getEventRepositoryFilter().shouldSaveEvent(event)) {
+                eventsToSave.add(event);
+            }
+        }
+        if (!eventsToSave.isEmpty()) {
+            saveAllInternal(eventsToSave);
+            eventsToSave.forEach(this::publishAuditEvent);
+        }
+    }
+
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
         return load()
@@ -134,4 +148,24 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
      * @throws Exception the exception
      */
     public abstract CasEvent saveInternal(CasEvent event) throws Exception;
+
+    /**
+     * Save all events. Repositories that are able to persist
+     * multiple events in a single operation should override this method.
+     *
+     * @param events the events
+     * @throws Exception the exception
+     */
+    protected void saveAllInternal(final List<CasEvent> events) throws Exception {
+        for (val event : events) {
+            saveInternal(event);
+        }
+    }
+
+    private void publishAuditEvent(final CasEvent event) {
+        Optional.ofNullable(applicationEventPublisher).ifPresent(publisher -> {
+            val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
+            publisher.publishEvent(new AuditApplicationEvent(auditEvent));
+        });
+    }
 }
@@ -0,0 +1,228 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.util.LoggingUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AsynchronousCasEventRepository}. It places events into a bounded queue
+ * and hands them off to the underlying event repository in batches using a background worker,
+ * so that threads recording events do not wait on the event repository.
+ * <p>
+ * When the queue is full, the recording thread waits for space for up to the configured timeout
+ * after which the event is dropped. The number of submitted, persisted, dropped and failed
+ * events along with the queue size are tracked and published as metrics.
+ * If a {@link GeoLocationService} is provided, events that carry a client IP address
+ * but no geolocation are located by the background worker before they are persisted,
+ * so that recording threads do not wait on geolocation lookups either.
+ * All read operations are passed through to the underlying event repository.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class AsynchronousCasEventRepository implements CasEventRepository, MeterBinder, DisposableBean {
+    private static final long POLL_INTERVAL_MILLIS = 500;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = Duration.ofSeconds(10).toMillis();
+
+    private static final int DROPPED_EVENTS_LOG_FREQUENCY = 1_000;
+
+    @Getter
+    private final CasEventRepository delegate;
+
+    private final BlockingQueue<CasEvent> queue;
+
+    private final int batchSize;
+
+    private final Duration queueTimeout;
+
+    private final GeoLocationService geoLocationService;
+
+    @Getter
+    private final AtomicLong submittedEvents = new AtomicLong();
+
+    @Getter
+    private final AtomicLong persistedEvents = new AtomicLong();
+
+    @Getter
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    @Getter
+    private final AtomicLong failedEvents = new AtomicLong();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public AsynchronousCasEventRepository(final CasEventRepository delegate, final int queueCapacity,
+                                          final int batchSize, final Duration queueTimeout) {
+        this(delegate, queueCapacity, batchSize, queueTimeout, null);
+    }
+
+    public AsynchronousCasEventRepository(final CasEventRepository delegate, final int queueCapacity,
+                                          final int batchSize, final Duration queueTimeout,
+                                          final GeoLocationService geoLocationService) {
+        this.delegate = delegate;
+        this.geoLocationService = geoLocationService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.queueTimeout = queueTimeout;
+        this.worker = Thread.ofPlatform()
+            .name(getClass().getSimpleName())
+            .daemon(true)
+            .start(this::persistQueuedEvents);
+    }
+
+    @Override
+    public CasEventRepositoryFilter getEventRepositoryFilter() {
+        return delegate.getEventRepositoryFilter();
+    }
+
+    @Override
+    public CasEvent save(final CasEvent event) throws Throwable {
+        submittedEvents.incrementAndGet();
+        val queued = queueTimeout.isZero() || queueTimeout.isNegative()
+            ? queue.offer(event)
+            : queue.offer(event, queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        if (!queued) {
+            val dropped = droppedEvents.incrementAndGet();
+            if (dropped % DROPPED_EVENTS_LOG_FREQUENCY == 1) {
+                LOGGER.warn("Event queue is full with [{}] pending event(s); [{}] event(s) have been dropped so far",
+                    queue.size(), dropped);
+            }
+        }
+        return event;
+    }
+
+    @Override
+    public void removeAll() {
+        queue.clear();
+        delegate.removeAll();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load() {
+        return delegate.load();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return delegate.load(dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return delegate.getEventsOfTypeForPrincipal(type, principal);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return delegate.getEventsOfTypeForPrincipal(type, principal, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return delegate.getEventsOfType(type);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return delegate.getEventsOfType(type, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
+        return delegate.getEventsForPrincipal(id);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return delegate.getEventsForPrincipal(id, dateTime);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("cas.events.persistence.queue.size", queue, BlockingQueue::size).register(registry);
+        FunctionCounter.builder("cas.events.persistence.submitted", submittedEvents, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cas.events.persistence.persisted", persistedEvents, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cas.events.persistence.dropped", droppedEvents, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cas.events.persistence.failed", failedEvents, AtomicLong::get).register(registry);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (!queue.isEmpty()) {
+            LOGGER.warn("Unable to persist [{}] pending event(s) before shutdown", queue.size());
+        }
+    }
+
+    private void persistQueuedEvents() {
+        val batch = new ArrayList<CasEvent>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                val event = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    batch.add(event);
+                    queue.drainTo(batch, batchSize - 1);
+                    persist(batch);
+                    batch.clear();
+                }
+            } catch (final InterruptedException e) {
+                LOGGER.debug("Event persistence worker is interrupted");
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void persist(final List<CasEvent> batch) {
+        try {
+            batch.forEach(this::determineGeoLocationFor);
+            LOGGER.trace("Persisting [{}] event(s) with [{}]", batch.size(), delegate.getClass().getSimpleName());
+            delegate.saveAll(batch);
+            persistedEvents.addAndGet(batch.size());
+        } catch (final Throwable e) {
+            failedEvents.addAndGet(batch.size());
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private void determineGeoLocationFor(final CasEvent event) {
+        if (geoLocationService != null && StringUtils.isNotBlank(event.getClientIpAddress()) && !event.getGeoLocation().isValid()) {
+            try {
+                val geoResponse = geoLocationService.locate(event.getClientIpAddress());
+                if (geoResponse != null) {
+                    event.putGeoLocation(new GeoLocationRequest(geoResponse.getLatitude(), geoResponse.getLongitude()));
+                }
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        }
+    }
+}
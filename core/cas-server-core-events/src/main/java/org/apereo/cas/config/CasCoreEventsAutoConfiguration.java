@@ -3,7 +3,9 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
 import org.apereo.cas.support.events.dao.NoOpCasEventRepository;
 import org.apereo.cas.support.events.listener.CasAuthenticationAuthenticationEventListener;
 import org.apereo.cas.support.events.listener.CasAuthenticationEventListener;
@@ -13,6 +15,8 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.text.MessageSanitizer;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
@@ -49,14 +53,46 @@ public class CasCoreEventsAutoConfiguration {
             @Qualifier(GeoLocationService.BEAN_NAME) final ObjectProvider<GeoLocationService> geoLocationService,
             @Qualifier(MessageSanitizer.BEAN_NAME) final MessageSanitizer messageSanitizer,
             final ConfigurableApplicationContext applicationContext,
-            @Qualifier(CasEventRepository.BEAN_NAME) final CasEventRepository casEventRepository) {
+            @Qualifier("asynchronousCasEventRepository") final CasEventRepository casEventRepository) {
             return BeanSupplier.of(CasAuthenticationEventListener.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
-                .supply(() -> new CasAuthenticationAuthenticationEventListener(casEventRepository,
-                    messageSanitizer, geoLocationService.getIfAvailable()))
+                .supply(() -> new CasAuthenticationAuthenticationEventListener(casEventRepository, messageSanitizer,
+                    casEventRepository instanceof AsynchronousCasEventRepository ? null : geoLocationService.getIfAvailable()))
                 .otherwiseProxy()
                 .get();
         }
+
+        @ConditionalOnMissingBean(name = "asynchronousCasEventRepository")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public CasEventRepository asynchronousCasEventRepository(
+            @Qualifier(GeoLocationService.BEAN_NAME) final ObjectProvider<GeoLocationService> geoLocationService,
+            final CasConfigurationProperties casProperties,
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(CasEventRepository.BEAN_NAME) final CasEventRepository casEventRepository) {
+            return BeanSupplier.of(CasEventRepository.class)
+                .when(BeanCondition.on("cas.events.core.persistence.asynchronous").isTrue().evenIfMissing()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val persistence = casProperties.getEvents().getCore().getPersistence();
+                    return new AsynchronousCasEventRepository(casEventRepository, persistence.getQueueCapacity(),
+                        persistence.getBatchSize(), Beans.newDuration(persistence.getQueueTimeout()),
+                        geoLocationService.getIfAvailable());
+                })
+                .otherwise(() -> casEventRepository)
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = "asynchronousCasEventRepositoryMeterBinder")
+        @Bean
+        public MeterBinder asynchronousCasEventRepositoryMeterBinder(
+            @Qualifier("asynchronousCasEventRepository") final ObjectProvider<CasEventRepository> casEventRepository) {
+            return registry -> casEventRepository.ifAvailable(repository -> {
+                if (repository instanceof final AsynchronousCasEventRepository asynchronousRepository) {
+                    asynchronousRepository.bindTo(registry);
+                }
+            });
+        }
     }
 
     @Configuration(value = "CasCoreEventsWebConfiguration", proxyBeanMethods = false)
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +45,13 @@ public abstract class AbstractCasEventRepositoryTests {
         assertFalse(eventRepository.getEventsForPrincipal(dto1.getPrincipalId(), dt).findAny().isEmpty());
     }
 
+    @Test
+    protected void verifySaveAll() throws Throwable {
+        getEventRepository().removeAll();
+        getEventRepository().saveAll(List.of(getCasEvent("casuser1"), getCasEvent("casuser2")));
+        assertEquals(2, getEventRepository().load().count());
+    }
+
     @Test
     protected void verifySave() throws Throwable {
         getEventRepository().removeAll();
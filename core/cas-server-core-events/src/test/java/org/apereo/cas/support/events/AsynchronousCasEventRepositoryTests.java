@@ -0,0 +1,91 @@
+package org.apereo.cas.support.events;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link AsynchronousCasEventRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Events")
+class AsynchronousCasEventRepositoryTests {
+
+    @Test
+    void verifyEventsArePersistedInBatches() throws Throwable {
+        val delegate = mock(CasEventRepository.class);
+        val repository = new AsynchronousCasEventRepository(delegate, 100, 10, Duration.ZERO);
+        for (var i = 0; i < 25; i++) {
+            repository.save(new CasEvent());
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> repository.getPersistedEvents().get() == 25);
+        verify(delegate, atLeast(3)).saveAll(anyCollection());
+        verify(delegate, never()).save(any());
+        assertEquals(25, repository.getSubmittedEvents().get());
+        assertEquals(0, repository.getDroppedEvents().get());
+
+        val registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+        assertEquals(25, registry.get("cas.events.persistence.persisted").functionCounter().count());
+        repository.destroy();
+    }
+
+    @Test
+    void verifyGeoLocationIsDeterminedByWorker() throws Throwable {
+        val delegate = mock(CasEventRepository.class);
+        val geoLocationService = mock(GeoLocationService.class);
+        when(geoLocationService.locate(anyString())).thenReturn(new GeoLocationResponse().setLatitude(156).setLongitude(34));
+        val repository = new AsynchronousCasEventRepository(delegate, 10, 10, Duration.ZERO, geoLocationService);
+        val event = new CasEvent().putClientIpAddress("185.86.151.11");
+        repository.save(event);
+        await().atMost(Duration.ofSeconds(5)).until(() -> repository.getPersistedEvents().get() == 1);
+        assertTrue(event.getGeoLocation().isValid());
+        verify(geoLocationService).locate("185.86.151.11");
+        repository.destroy();
+    }
+
+    @Test
+    void verifyEventsAreDroppedWhenQueueIsFull() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val delegate = mock(CasEventRepository.class);
+        doAnswer(invocation -> {
+            latch.await();
+            return null;
+        }).when(delegate).saveAll(anyCollection());
+
+        val repository = new AsynchronousCasEventRepository(delegate, 1, 10, Duration.ofMillis(10));
+        IntStream.range(0, 3).forEach(__ -> assertDoesNotThrow(() -> repository.save(new CasEvent())));
+        assertTrue(repository.getDroppedEvents().get() >= 1);
+        latch.countDown();
+        repository.destroy();
+        assertEquals(3, repository.getPersistedEvents().get() + repository.getDroppedEvents().get());
+    }
+
+    @Test
+    void verifyFailuresAreCounted() throws Throwable {
+        val delegate = mock(CasEventRepository.class);
+        doThrow(new IllegalArgumentException("failed")).when(delegate).saveAll(any(Collection.class));
+        val repository = new AsynchronousCasEventRepository(delegate, 10, 10, Duration.ZERO);
+        repository.save(new CasEvent());
+        await().atMost(Duration.ofSeconds(5)).until(() -> repository.getFailedEvents().get() == 1);
+        repository.destroy();
+    }
+}
@@ -15,6 +15,8 @@ import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.http.HttpRequestUtils;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfo;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
@@ -76,6 +78,10 @@ class CasAuthenticationEventListenerTests {
     @Qualifier(CasEventRepository.BEAN_NAME)
     private CasEventRepository casEventRepository;
 
+    @Autowired
+    @Qualifier("asynchronousCasEventRepositoryMeterBinder")
+    private MeterBinder asynchronousCasEventRepositoryMeterBinder;
+
     private MockHttpServletRequest request;
 
     @BeforeEach
@@ -225,6 +231,20 @@ class CasAuthenticationEventListenerTests {
         assertEquals(expectedNumOfIp1, numOfIp1s);
     }
 
+    @Test
+    void verifyGeoLocationDeterminedBeforePersistence() throws Throwable {
+        assertRepositoryIsEmpty();
+        val event = new CasTicketGrantingTicketDestroyedEvent(this,
+            new MockTicketGrantingTicket("casuser"), ClientInfoHolder.getClientInfo());
+        publishEventAndWaitToProcess(event);
+        val savedEvent = casEventRepository.load().findFirst().orElseThrow();
+        assertTrue(savedEvent.getGeoLocation().isValid());
+
+        val registry = new SimpleMeterRegistry();
+        asynchronousCasEventRepositoryMeterBinder.bindTo(registry);
+        assertTrue(registry.get("cas.events.persistence.persisted").functionCounter().count() >= 1);
+    }
+
     private boolean shouldUseIp1(final int x) {
         return x % NUM_TO_USE_IP1 == 0;
     }
@@ -3,7 +3,9 @@ package org.apereo.cas.services;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.util.RegisteredServiceAccessStrategyEvaluator;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -95,6 +97,12 @@ public class DefaultRegisteredServiceAccessStrategy extends BaseRegisteredServic
 
     protected RegisteredServiceAccessStrategyActivationCriteria activationCriteria;
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient RegisteredServiceAccessStrategyEvaluator accessStrategyEvaluator;
+
     public DefaultRegisteredServiceAccessStrategy() {
         this(true, true);
     }
@@ -149,16 +157,35 @@ public class DefaultRegisteredServiceAccessStrategy extends BaseRegisteredServic
     public boolean authorizeRequest(final RegisteredServiceAccessStrategyRequest request) throws Throwable {
         val proceed = activationCriteria == null || activationCriteria.shouldActivate(request);
         if (proceed) {
-            return RegisteredServiceAccessStrategyEvaluator
+            return resolveAccessStrategyEvaluator().apply(request);
+        }
+        return activationCriteria.isAllowIfInactive();
+    }
+
+    /**
+     * Resolve the access strategy evaluator that holds the compiled
+     * attribute rules of this strategy. The evaluator is built once
+     * and is only rebuilt if the attribute rules are replaced.
+     *
+     * @return the access strategy evaluator
+     */
+    protected RegisteredServiceAccessStrategyEvaluator resolveAccessStrategyEvaluator() {
+        var evaluator = this.accessStrategyEvaluator;
+        if (evaluator == null
+            || evaluator.getRequiredAttributes() != this.requiredAttributes
+            || evaluator.getRejectedAttributes() != this.rejectedAttributes
+            || evaluator.isCaseInsensitive() != this.caseInsensitive
+            || evaluator.isRequireAllAttributes() != this.requireAllAttributes) {
+            evaluator = RegisteredServiceAccessStrategyEvaluator
                 .builder()
                 .caseInsensitive(this.caseInsensitive)
                 .requireAllAttributes(this.requireAllAttributes)
                 .requiredAttributes(this.requiredAttributes)
                 .rejectedAttributes(this.rejectedAttributes)
-                .build()
-                .apply(request);
+                .build();
+            this.accessStrategyEvaluator = evaluator;
         }
-        return activationCriteria.isAllowIfInactive();
+        return evaluator;
     }
 
     /**
@@ -4,9 +4,13 @@ import org.apereo.cas.services.RegisteredServiceAccessStrategyRequest;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
+import org.apereo.cas.util.scripting.ExecutableCompiledGroovyScript;
 import org.apereo.cas.util.scripting.GroovyShellScript;
 import org.apereo.cas.util.scripting.ScriptingUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -16,6 +20,7 @@ import org.jooq.lambda.Unchecked;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +38,8 @@ import java.util.stream.Collectors;
 @Getter
 @Slf4j
 public class RegisteredServiceAccessStrategyEvaluator implements Function<RegisteredServiceAccessStrategyRequest, Boolean> {
+    private static final int ATTRIBUTE_VALUE_RULES_CACHE_MAXIMUM_SIZE = 1_000;
+
     /**
      * Collection of required attributes
      * for this service to proceed.
@@ -61,6 +68,11 @@ public class RegisteredServiceAccessStrategyEvaluator implements Function<Regist
     @Builder.Default
     private boolean requireAllAttributes = true;
 
+    @Getter(AccessLevel.NONE)
+    private final Cache<Set<String>, List<AttributeValueRule>> compiledAttributeValueRules = Caffeine.newBuilder()
+        .maximumSize(ATTRIBUTE_VALUE_RULES_CACHE_MAXIMUM_SIZE)
+        .build();
+
     @Override
     public Boolean apply(final RegisteredServiceAccessStrategyRequest request) {
         if ((this.rejectedAttributes == null || this.rejectedAttributes.isEmpty())
@@ -161,29 +173,66 @@ public class RegisteredServiceAccessStrategyEvaluator implements Function<Regist
         val availableValues = CollectionUtils.toCollection(request.getAttributes().get(attributeName));
 
         val results = new ArrayList<>();
-        for (val requiredValue : requiredValues) {
-            val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(requiredValue);
-            if (matcherInline.find() && CasRuntimeHintsRegistrar.notInNativeImage()) {
-                try (val executableScript = new GroovyShellScript(matcherInline.group(1))) {
-                    val args = CollectionUtils.<String, Object>wrap(
-                        "principalId", request.getPrincipalId(),
-                        "currentValues", availableValues,
-                        "attributes", request.getAttributes(),
-                        "logger", LOGGER);
-                    executableScript.setBinding(args);
-                    results.add(executableScript.execute(args.values().toArray(), Boolean.class));
-                }
+        for (val rule : getAttributeValueRules(requiredValues)) {
+            if (rule.script() != null) {
+                val args = CollectionUtils.<String, Object>wrap(
+                    "principalId", request.getPrincipalId(),
+                    "currentValues", availableValues,
+                    "attributes", request.getAttributes(),
+                    "logger", LOGGER);
+                rule.script().setBinding(args);
+                results.add(rule.script().execute(args.values().toArray(), Boolean.class));
             } else {
-                val pattern = RegexUtils.createPattern(requiredValue, caseInsensitive ? Pattern.CASE_INSENSITIVE : 0);
                 LOGGER.debug("Checking [{}] against [{}] with pattern [{}] for attribute [{}]",
-                    requiredValues, availableValues, pattern, attributeName);
-                if (pattern.equals(RegexUtils.MATCH_NOTHING_PATTERN)) {
+                    requiredValues, availableValues, rule.pattern(), attributeName);
+                if (rule.pattern().equals(RegexUtils.MATCH_NOTHING_PATTERN)) {
                     results.add(availableValues.stream().anyMatch(requiredValues::contains));
                 } else {
-                    results.add(availableValues.stream().map(Object::toString).anyMatch(pattern.asPredicate()));
+                    results.add(availableValues.stream().map(Object::toString).anyMatch(rule.pattern().asPredicate()));
                 }
             }
         }
         return results.contains(true);
     }
+
+    /**
+     * Gets the compiled matching rules for the given required attribute values.
+     * Rules are built once per distinct set of values and kept in a bounded cache.
+     * Patterns are compiled when the rule is built. Inline groovy scripts keep a single
+     * script object whose class is compiled and cached by {@link ScriptingUtils};
+     * each check still creates a new script instance with its own binding.
+     *
+     * @param requiredValues the required values
+     * @return the attribute value rules
+     */
+    protected List<AttributeValueRule> getAttributeValueRules(final Set<String> requiredValues) {
+        val rules = compiledAttributeValueRules.getIfPresent(requiredValues);
+        if (rules != null) {
+            return rules;
+        }
+        val compiledRules = requiredValues
+            .stream()
+            .map(this::compileAttributeValueRule)
+            .toList();
+        compiledAttributeValueRules.put(new HashSet<>(requiredValues), compiledRules);
+        return compiledRules;
+    }
+
+    private AttributeValueRule compileAttributeValueRule(final String requiredValue) {
+        val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(requiredValue);
+        if (matcherInline.find() && CasRuntimeHintsRegistrar.notInNativeImage()) {
+            return new AttributeValueRule(new GroovyShellScript(matcherInline.group(1)), null);
+        }
+        return new AttributeValueRule(null, RegexUtils.createPattern(requiredValue, caseInsensitive ? Pattern.CASE_INSENSITIVE : 0));
+    }
+
+    /**
+     * Compiled rule that matches attribute values,
+     * either via an inline groovy script or a regular expression pattern.
+     *
+     * @param script  the inline groovy script
+     * @param pattern the pattern
+     */
+    protected record AttributeValueRule(ExecutableCompiledGroovyScript script, Pattern pattern) {
+    }
 }
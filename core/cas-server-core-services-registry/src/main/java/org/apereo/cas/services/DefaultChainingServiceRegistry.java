@@ -9,6 +9,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -64,6 +65,22 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final long since) {
+        val savedServices = new ArrayList<RegisteredService>();
+        val serviceIdentifiers = new HashSet<Long>();
+        for (val serviceRegistry : serviceRegistries) {
+            val changes = serviceRegistry.loadChanges(since);
+            if (changes.isEmpty()) {
+                LOGGER.trace("Service registry [{}] cannot report changes", serviceRegistry.getName());
+                return Optional.empty();
+            }
+            savedServices.addAll(changes.get().savedServices());
+            serviceIdentifiers.addAll(changes.get().serviceIdentifiers());
+        }
+        return Optional.of(new ServiceRegistryChanges(savedServices, serviceIdentifiers));
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
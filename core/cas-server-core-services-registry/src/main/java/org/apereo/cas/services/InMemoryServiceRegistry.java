@@ -12,6 +12,8 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -75,6 +77,13 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
         return services;
     }
 
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final long since) {
+        val services = load();
+        val serviceIdentifiers = services.stream().map(RegisteredService::getId).collect(Collectors.toSet());
+        return Optional.of(new ServiceRegistryChanges(services, serviceIdentifiers));
+    }
+
     @Override
     public Stream<? extends RegisteredService> getServicesStream() {
         return this.registeredServices.stream();
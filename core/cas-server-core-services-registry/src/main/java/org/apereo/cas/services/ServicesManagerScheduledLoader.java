@@ -5,6 +5,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 
 /**
  * This is {@link ServicesManagerScheduledLoader}.
+ * Each run asks the services manager to apply changes that have occurred in the service registry
+ * since the previous run, which falls back onto a full load when the registry cannot track changes.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -29,6 +31,6 @@ public class ServicesManagerScheduledLoader implements Runnable {
     )
     @Override
     public void run() {
-        servicesManager.load();
+        servicesManager.loadChanges();
     }
 }
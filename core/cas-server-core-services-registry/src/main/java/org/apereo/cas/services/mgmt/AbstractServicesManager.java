@@ -3,6 +3,7 @@ package org.apereo.cas.services.mgmt;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.ServiceRegistryChanges;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
@@ -20,12 +21,15 @@ import com.googlecode.cqengine.ConcurrentIndexedCollection;
 import com.googlecode.cqengine.IndexedCollection;
 import com.googlecode.cqengine.index.AttributeIndex;
 import com.googlecode.cqengine.query.QueryFactory;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ApplicationEvent;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,6 +37,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -49,10 +56,27 @@ import java.util.stream.Stream;
 @Slf4j
 @Getter
 public abstract class AbstractServicesManager implements ServicesManager {
+    /**
+     * Changes are requested from the registry with this much overlap with the previous load,
+     * to account for clock skew between nodes and for transactions that commit late.
+     * Re-applying unchanged services is harmless.
+     */
+    private static final long LOAD_CHANGES_OVERLAP_MILLIS = Duration.ofMinutes(1).toMillis();
+
     protected final ServicesManagerConfigurationContext configurationContext;
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong lastLoadTimestamp = new AtomicLong();
+
+    /**
+     * Identifiers of services loaded by this manager, tracked independently of the services cache
+     * whose entries may expire, so that deletes can always be derived from registry changes.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Set<Long> loadedServiceIdentifiers = ConcurrentHashMap.newKeySet();
+
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
@@ -124,6 +148,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         lock.tryLock(__ -> {
             configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
             configurationContext.getServicesCache().invalidateAll();
+            loadedServiceIdentifiers.clear();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
         });
@@ -145,6 +170,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
                 publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
                 configurationContext.getServiceRegistry().delete(service);
                 configurationContext.getServicesCache().invalidate(service.getId());
+                loadedServiceIdentifiers.remove(service.getId());
                 deleteInternal(service);
                 publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
             }
@@ -320,6 +346,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
+            val startedAt = System.currentTimeMillis();
             LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
             val servicesMap = configurationContext.getServiceRegistry()
                 .load()
@@ -344,14 +371,121 @@ public abstract class AbstractServicesManager implements ServicesManager {
             val results = configurationContext.getServicesCache().asMap();
             LOGGER.info("Loaded [{}] service(s) from [{}].", results.size(),
                 configurationContext.getServiceRegistry().getName());
+            lastLoadTimestamp.set(startedAt);
+            return results.values();
+        });
+    }
+
+    /**
+     * Changes reported by the registry are applied to the cache in place, so lookups
+     * continue to see all other services while inserts, updates and deletes are processed.
+     * If this manager has not yet loaded services or the registry is unable to report changes,
+     * this falls back onto a full {@link #load()}.
+     */
+    @Override
+    public Collection<RegisteredService> loadChanges() {
+        return lock.tryLock(() -> {
+            val since = lastLoadTimestamp.get();
+            val serviceRegistry = configurationContext.getServiceRegistry();
+            if (since <= 0) {
+                return load();
+            }
+            val startedAt = System.currentTimeMillis();
+            val changes = serviceRegistry.loadChanges(since - LOAD_CHANGES_OVERLAP_MILLIS);
+            if (changes.isEmpty()) {
+                LOGGER.trace("[{}] is unable to report changes; loading all services", serviceRegistry.getName());
+                return load();
+            }
+            if (!applyServiceRegistryChanges(changes.get())) {
+                return load();
+            }
+            lastLoadTimestamp.set(startedAt);
+            val results = configurationContext.getServicesCache().asMap();
+            LOGGER.debug("Applied changes from [{}]; [{}] service(s) are loaded", serviceRegistry.getName(), results.size());
             return results.values();
         });
     }
 
+    private boolean applyServiceRegistryChanges(final ServiceRegistryChanges changes) {
+        val servicesCache = configurationContext.getServicesCache().asMap();
+        val indexServices = configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices();
+
+        val savedIdentifiers = changes.savedServices().stream().map(RegisteredService::getId).collect(Collectors.toSet());
+        val survivingServices = changes.serviceIdentifiers()
+            .stream()
+            .filter(id -> !savedIdentifiers.contains(id))
+            .filter(loadedServiceIdentifiers::contains)
+            .map(id -> Pair.of(id, servicesCache.get(id)))
+            .toList();
+        if (survivingServices.stream().anyMatch(entry -> entry.getValue() == null)) {
+            LOGGER.debug("Previously loaded services have expired from the cache; changes cannot be applied incrementally");
+            return false;
+        }
+        survivingServices.forEach(entry -> servicesCache.put(entry.getKey(), entry.getValue()));
+
+        val deletedIdentifiers = Stream.concat(loadedServiceIdentifiers.stream(), servicesCache.keySet().stream())
+            .filter(id -> !changes.serviceIdentifiers().contains(id))
+            .collect(Collectors.toSet());
+        deletedIdentifiers.forEach(id -> evictService(id, servicesCache, indexServices));
+
+        val savedServices = changes.savedServices()
+            .stream()
+            .filter(this::supports)
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .peek(this::loadInternal)
+            .map(this::applyTemplate)
+            .filter(Objects::nonNull)
+            .toList();
+        val acceptedIdentifiers = savedServices.stream().map(RegisteredService::getId).collect(Collectors.toSet());
+        val rejectedIdentifiers = savedIdentifiers
+            .stream()
+            .filter(id -> !acceptedIdentifiers.contains(id))
+            .collect(Collectors.toSet());
+        rejectedIdentifiers.forEach(id -> {
+            LOGGER.trace("Registered service with identifier [{}] is no longer supported or active and will be removed", id);
+            evictService(id, servicesCache, indexServices);
+        });
+        savedServices.forEach(service -> {
+            LOGGER.trace("Updating registered service [{}] with name [{}] and internal identifier [{}]",
+                service.getServiceId(), service.getName(), service.getId());
+            val previous = servicesCache.put(service.getId(), service);
+            loadedServiceIdentifiers.add(service.getId());
+            if (indexServices) {
+                if (previous != null) {
+                    indexedRegisteredServices.remove(previous);
+                }
+                indexedRegisteredServices.add(service);
+            }
+        });
+        loadInternal();
+
+        if (!deletedIdentifiers.isEmpty() || !rejectedIdentifiers.isEmpty() || !savedServices.isEmpty()) {
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+        }
+        evaluateExpiredServiceDefinitions();
+        return true;
+    }
+
+    private void evictService(final long id, final Map<Long, RegisteredService> servicesCache, final boolean indexServices) {
+        val cachedService = Optional.ofNullable(servicesCache.remove(id));
+        val indexedServices = indexedRegisteredServices.stream().filter(service -> service.getId() == id).toList();
+        if (indexServices) {
+            indexedRegisteredServices.removeAll(indexedServices);
+        }
+        loadedServiceIdentifiers.remove(id);
+        cachedService.or(() -> indexedServices.stream().findFirst()).ifPresent(service -> {
+            LOGGER.trace("Removing registered service [{}] with identifier [{}]", service.getName(), service.getId());
+            deleteInternal(service);
+        });
+    }
+
     private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
         servicesCache.invalidateAll();
         servicesCache.putAll(servicesMap);
+        loadedServiceIdentifiers.clear();
+        loadedServiceIdentifiers.addAll(servicesMap.keySet());
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
             indexedRegisteredServices.addAll(servicesMap.values());
         }
@@ -414,6 +548,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     }
 
     private void cacheRegisteredService(final RegisteredService service) {
+        loadedServiceIdentifiers.add(service.getId());
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
             if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
@@ -176,6 +176,13 @@ public class DefaultChainingServicesManager implements ChainingServicesManager {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<RegisteredService> loadChanges() {
+        return serviceManagers.stream()
+            .flatMap(manager -> manager.loadChanges().stream())
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long count() {
         return serviceManagers.stream()
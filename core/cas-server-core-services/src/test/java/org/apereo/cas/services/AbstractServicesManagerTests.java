@@ -174,6 +174,28 @@ public abstract class AbstractServicesManagerTests{
         loadingThread.join();
     }
 
+    @Test
+    void verifyLoadChanges() throws Throwable {
+        val deletedService = new CasRegisteredService();
+        deletedService.setId(RandomUtils.nextLong());
+        deletedService.setName(UUID.randomUUID().toString());
+        deletedService.setServiceId(deletedService.getName());
+        servicesManager.save(deletedService);
+        assertTrue(isServiceInCache(null, deletedService.getId()));
+
+        val savedService = new CasRegisteredService();
+        savedService.setId(RandomUtils.nextLong());
+        savedService.setName(UUID.randomUUID().toString());
+        savedService.setServiceId(savedService.getName());
+        serviceRegistry.save(savedService);
+        serviceRegistry.delete(deletedService);
+        assertFalse(isServiceInCache(null, savedService.getId()));
+
+        servicesManager.loadChanges();
+        assertTrue(isServiceInCache(null, savedService.getId()));
+        assertFalse(isServiceInCache(null, deletedService.getId()));
+    }
+
     protected boolean isServiceInCache(final String serviceId, final long id) {
         return servicesManager.getAllServices()
             .stream()
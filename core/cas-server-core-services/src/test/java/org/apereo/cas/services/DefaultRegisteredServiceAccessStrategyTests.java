@@ -352,4 +352,22 @@ class DefaultRegisteredServiceAccessStrategyTests {
             .principalId(TEST).attributes(Map.of(CN, List.of(CAS))).build();
         assertFalse(authz.authorizeRequest(request));
     }
+
+    @Test
+    void verifyCompiledAttributeRulesFollowChanges() throws Throwable {
+        val authz = new DefaultRegisteredServiceAccessStrategy();
+        authz.setRequiredAttributes(new HashMap<>(Map.of(CN, Set.of("^ca.+"))));
+        val request = RegisteredServiceAccessStrategyRequest.builder()
+            .principalId(TEST).attributes(Map.of(CN, List.of(CAS))).build();
+        assertTrue(authz.authorizeRequest(request));
+        assertTrue(authz.authorizeRequest(request));
+
+        authz.getRequiredAttributes().put(CN, Set.of("^kaz.+"));
+        assertFalse(authz.authorizeRequest(request));
+
+        authz.setRequiredAttributes(Map.of(CN, Set.of("^CA.+")));
+        assertFalse(authz.authorizeRequest(request));
+        authz.setCaseInsensitive(true);
+        assertTrue(authz.authorizeRequest(request));
+    }
 }
@@ -32,4 +32,23 @@ class DefaultServicesManagerByEnvironmentTests extends AbstractServicesManagerTe
         servicesManager.save(registeredService);
         assertNotNull(servicesManager.findServiceBy(registeredService.getId()));
     }
+
+    @Test
+    void verifyServiceMovedOutOfEnvironmentIsRemovedOnLoadChanges() throws Throwable {
+        val registeredService = new CasRegisteredService();
+        registeredService.setId(RandomUtils.nextLong());
+        registeredService.setName("MovedOutOfEnvironment");
+        registeredService.setServiceId("https://moved.example.org/.*");
+        registeredService.setEnvironments(CollectionUtils.wrapHashSet("prod1"));
+        servicesManager.save(registeredService);
+        val service = RegisteredServiceTestUtils.getService("https://moved.example.org/app");
+        assertNotNull(servicesManager.findServiceBy(service));
+
+        registeredService.setEnvironments(CollectionUtils.wrapHashSet("dev1"));
+        serviceRegistry.save(registeredService);
+        servicesManager.loadChanges();
+        assertNull(servicesManager.findServiceBy(service));
+        assertNull(servicesManager.findServiceBy(registeredService.getId()));
+        assertTrue(servicesManager.getAllServices().stream().noneMatch(r -> r.getId() == registeredService.getId()));
+    }
 }
@@ -66,7 +66,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         val result = deleteAllFromQueue();
         if (ticketPublisher.isEnabled()) {
             ticketPublisher.publishMessageToQueue(new DeleteTicketsMessageQueueCommand(publisherIdentifier));
@@ -19,15 +19,16 @@ import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.SerializationUtils;
 
 import com.google.common.io.ByteSource;
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.lambda.Unchecked;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -37,6 +38,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,7 +50,6 @@ import java.util.stream.Stream;
  * @since 3.0.0
  */
 @Slf4j
-@AllArgsConstructor
 public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     private static final String MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
@@ -60,6 +61,17 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected final TicketCatalog ticketCatalog;
 
+    @Setter
+    protected TicketRegistryStatistics statistics = TicketRegistryStatistics.noOp();
+
+    protected AbstractTicketRegistry(final CipherExecutor cipherExecutor,
+                                     final TicketSerializationManager ticketSerializationManager,
+                                     final TicketCatalog ticketCatalog) {
+        this.cipherExecutor = cipherExecutor;
+        this.ticketSerializationManager = ticketSerializationManager;
+        this.ticketCatalog = ticketCatalog;
+    }
+
     protected static String getPrincipalIdFrom(final Ticket ticket) {
         return ticket instanceof AuthenticationAwareTicket
             ? Optional.ofNullable(((AuthenticationAwareTicket) ticket).getAuthentication())
@@ -91,7 +103,44 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public Ticket addTicket(final Ticket ticket) throws Exception {
-        return ticket != null && !ticket.isExpired() ? addSingleTicket(ticket) : null;
+        if (ticket != null && !ticket.isExpired()) {
+            val addedTicket = addSingleTicket(ticket);
+            if (addedTicket != null) {
+                statistics.recordAdded(ticket);
+            }
+            return addedTicket;
+        }
+        return null;
+    }
+
+    /**
+     * Add tickets and record every ticket that is added in the registry statistics.
+     * Registries that store tickets in bulk should override {@link #addTickets(Stream)};
+     * overriding this method directly skips the statistics until they are next reconciled.
+     *
+     * @param toSave the tickets to save
+     * @return the tickets that were added
+     * @throws Exception the exception
+     */
+    @Override
+    public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) throws Exception {
+        val addedTickets = addTickets(toSave);
+        addedTickets.forEach(statistics::recordAdded);
+        return addedTickets;
+    }
+
+    /**
+     * Delete all tickets and reset the registry statistics.
+     * Registries should override {@link #deleteAllTickets()};
+     * overriding this method directly skips the statistics until they are next reconciled.
+     *
+     * @return the number of tickets deleted
+     */
+    @Override
+    public long deleteAll() {
+        val count = deleteAllTickets();
+        statistics.reset();
+        return count;
     }
 
     @Override
@@ -101,7 +150,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
                 val ticketAgeSeconds = getTicketAgeSeconds(ticket);
                 LOGGER.debug("Ticket [{}] has expired according to policy [{}] after [{}] seconds and [{}] uses and will be removed from the ticket registry",
                     ticketId, ticket.getExpirationPolicy().getName(), ticketAgeSeconds, ticket.getCountOfUses());
-                deleteSingleTicket(ticket);
+                deleteSingleTicketAndRecord(ticket);
                 return false;
             }
             return true;
@@ -156,7 +205,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             }
         }
         LOGGER.debug("Removing ticket [{}] from the registry.", ticket);
-        count.getAndAdd(deleteSingleTicket(ticket));
+        count.getAndAdd(deleteSingleTicketAndRecord(ticket));
         return count.intValue();
     }
 
@@ -260,8 +309,73 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return 0;
     }
 
+    private long deleteSingleTicketAndRecord(final Ticket ticket) {
+        val count = deleteSingleTicket(ticket);
+        if (count > 0) {
+            statistics.recordRemoved(ticket);
+        }
+        return count;
+    }
+
     protected abstract Ticket addSingleTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Add the given tickets to the registry, one at a time unless overridden.
+     *
+     * @param toSave the tickets to save
+     * @return the tickets that were added
+     * @throws Exception the exception
+     */
+    protected List<? extends Ticket> addTickets(final Stream<? extends Ticket> toSave) throws Exception {
+        return toSave
+            .filter(ticket -> ticket != null && !ticket.isExpired())
+            .map(Unchecked.function(this::addSingleTicket))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Delete all tickets from the registry.
+     *
+     * @return the number of tickets deleted
+     */
+    protected long deleteAllTickets() {
+        return 0;
+    }
+
+    /**
+     * Collect a page of single sign-on sessions by seeking past the cursor in the order maintained by the registry.
+     * Sessions are fetched in batches of one more than the page size, and expired or unreadable sessions
+     * are skipped before the page is cut. A page is therefore only short when there are no more sessions,
+     * and the cursor for the next page is handed out only when the lookahead finds another session.
+     *
+     * @param request the request
+     * @param seeker  fetches up to the given number of entries after the given cursor, ordered by storage key.
+     *                Each entry carries the storage key and the ticket, which may be null if it cannot be read.
+     * @return the page
+     */
+    protected TicketRegistryPage seekSessions(final TicketRegistryPageRequest request,
+                                              final BiFunction<String, Integer, List<Pair<String, Ticket>>> seeker) {
+        val count = request.getCount() > 0 ? (int) Math.min(request.getCount(), Integer.MAX_VALUE - 1) : Integer.MAX_VALUE - 1;
+        val sessions = new ArrayList<Pair<String, Ticket>>();
+        var cursor = request.getCursor();
+        while (sessions.size() <= count) {
+            val batch = seeker.apply(cursor, count + 1);
+            batch.stream()
+                .filter(entry -> entry.getValue() != null && !entry.getValue().isExpired())
+                .forEach(sessions::add);
+            if (batch.size() <= count) {
+                break;
+            }
+            cursor = batch.getLast().getKey();
+        }
+        if (sessions.size() > count) {
+            val page = sessions.subList(0, count);
+            return new TicketRegistryPage(page.stream().map(Pair::getValue).toList(), page.getLast().getKey());
+        }
+        return new TicketRegistryPage(sessions.stream().map(Pair::getValue).toList(), null);
+    }
+
     protected int deleteTickets(final Set<String> tickets) {
         return deleteTickets(tickets.stream());
     }
@@ -285,7 +399,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
                 .map(this::getTicket)
                 .filter(Objects::nonNull)
                 .forEach(serviceTicket -> {
-                    val deleteCount = deleteSingleTicket(serviceTicket);
+                    val deleteCount = deleteSingleTicketAndRecord(serviceTicket);
                     if (deleteCount > 0) {
                         LOGGER.debug("Removed ticket [{}]", serviceTicket.getId());
                         count.getAndAdd(deleteCount);
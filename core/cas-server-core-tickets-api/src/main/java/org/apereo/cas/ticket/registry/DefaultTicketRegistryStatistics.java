@@ -0,0 +1,184 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is {@link DefaultTicketRegistryStatistics}. It maintains counters per ticket prefix
+ * for valid and expired tickets, along with the number of tickets created and removed, and a
+ * per-minute histogram of ticket creation over the last hour. Counters are updated as the registry
+ * adds and removes tickets; expiration is only observed during reconciliation, which scans the
+ * registry once and resets the counters to the observed values. All counters are held in memory
+ * and describe the node that maintains them.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class DefaultTicketRegistryStatistics implements TicketRegistryStatistics {
+    private static final int HISTOGRAM_SIZE_MINUTES = 60;
+
+    private static final int[] CREATION_RATE_WINDOWS_MINUTES = {1, 5, 15, 60};
+
+    private final Map<String, TicketTypeStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicReference<Instant> lastReconciliation = new AtomicReference<>();
+
+    @Override
+    public void recordAdded(final Ticket ticket) {
+        val typeStatistics = getTypeStatistics(ticket);
+        typeStatistics.valid().incrementAndGet();
+        typeStatistics.created().increment();
+        typeStatistics.recordCreation(currentMinute());
+    }
+
+    @Override
+    public void recordRemoved(final Ticket ticket) {
+        val typeStatistics = getTypeStatistics(ticket);
+        typeStatistics.removed().increment();
+        if (!ticket.isExpired() || !decrementIfPositive(typeStatistics.expired())) {
+            decrementIfPositive(typeStatistics.valid());
+        }
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            statistics.values().forEach(typeStatistics -> {
+                typeStatistics.valid().set(0);
+                typeStatistics.expired().set(0);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reconcile(final TicketRegistry ticketRegistry) {
+        lock.lock();
+        try (val tickets = ticketRegistry.stream()) {
+            val valid = new HashMap<String, Long>();
+            val expired = new HashMap<String, Long>();
+            tickets.forEach(ticket -> {
+                val counts = ticket.isExpired() ? expired : valid;
+                counts.merge(ticket.getPrefix(), 1L, Long::sum);
+            });
+            statistics.forEach((prefix, typeStatistics) -> {
+                typeStatistics.valid().set(valid.getOrDefault(prefix, 0L));
+                typeStatistics.expired().set(expired.getOrDefault(prefix, 0L));
+            });
+            valid.forEach((prefix, count) -> getTypeStatistics(prefix).valid().set(count));
+            expired.forEach((prefix, count) -> getTypeStatistics(prefix).expired().set(count));
+            lastReconciliation.set(Instant.now());
+            LOGGER.debug("Reconciled ticket registry statistics with [{}] valid and [{}] expired ticket(s)",
+                getValidTickets(), getExpiredTickets());
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getValidTickets() {
+        return statistics.values().stream().mapToLong(typeStatistics -> typeStatistics.valid().get()).sum();
+    }
+
+    @Override
+    public long getExpiredTickets() {
+        return statistics.values().stream().mapToLong(typeStatistics -> typeStatistics.expired().get()).sum();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        val minute = currentMinute();
+        val results = new TreeMap<String, Object>();
+        statistics.forEach((prefix, typeStatistics) -> {
+            val details = new LinkedHashMap<String, Object>();
+            details.put("validTickets", typeStatistics.valid().get());
+            details.put("expiredTickets", typeStatistics.expired().get());
+            details.put("createdTickets", typeStatistics.created().sum());
+            details.put("removedTickets", typeStatistics.removed().sum());
+            val creationRate = new LinkedHashMap<String, Object>();
+            for (val window : CREATION_RATE_WINDOWS_MINUTES) {
+                creationRate.put("last" + window + "Minutes", typeStatistics.countCreations(minute, window));
+            }
+            details.put("creationRate", creationRate);
+            results.put(prefix, details);
+        });
+        return results;
+    }
+
+    /**
+     * Time of the last successful reconciliation, if any.
+     *
+     * @return the instant
+     */
+    public Optional<Instant> getLastReconciliation() {
+        return Optional.ofNullable(lastReconciliation.get());
+    }
+
+    private TicketTypeStatistics getTypeStatistics(final Ticket ticket) {
+        return getTypeStatistics(ticket.getPrefix());
+    }
+
+    private TicketTypeStatistics getTypeStatistics(final String prefix) {
+        return statistics.computeIfAbsent(prefix, __ -> new TicketTypeStatistics());
+    }
+
+    private static boolean decrementIfPositive(final AtomicLong counter) {
+        return counter.getAndUpdate(value -> value > 0 ? value - 1 : value) > 0;
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    private record TicketTypeStatistics(AtomicLong valid, AtomicLong expired, LongAdder created, LongAdder removed,
+                                        AtomicLongArray creationsPerMinute, AtomicLongArray minutes) {
+        TicketTypeStatistics() {
+            this(new AtomicLong(), new AtomicLong(), new LongAdder(), new LongAdder(),
+                new AtomicLongArray(HISTOGRAM_SIZE_MINUTES), new AtomicLongArray(HISTOGRAM_SIZE_MINUTES));
+        }
+
+        void recordCreation(final long minute) {
+            val index = (int) (minute % HISTOGRAM_SIZE_MINUTES);
+            val bucketMinute = minutes.get(index);
+            if (bucketMinute != minute && minutes.compareAndSet(index, bucketMinute, minute)) {
+                creationsPerMinute.set(index, 0);
+            }
+            creationsPerMinute.incrementAndGet(index);
+        }
+
+        long countCreations(final long minute, final int window) {
+            var total = 0L;
+            for (var i = 0; i < HISTOGRAM_SIZE_MINUTES; i++) {
+                val bucketMinute = minutes.get(i);
+                if (bucketMinute > minute - window && bucketMinute <= minute) {
+                    total += creationsPerMinute.get(i);
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
+import org.apereo.cas.util.serialization.StringSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link CompactBinaryTicketSerializationManager}. It encodes tickets using a compact binary codec
+ * instead of textual JSON. Tickets are encoded with Smile, a binary equivalent of JSON, that is driven by the same
+ * Jackson mappings (and polymorphic type information) of each ticket serializer, so that every ticket type
+ * registered with the {@link TicketSerializationExecutionPlan} is supported without additional schema definitions.
+ * Property names and repeated string values such as type names are interned and written once per payload,
+ * and are referenced by short back-references afterward.
+ * <p>
+ * Every payload starts with a header that carries the codec schema version, allowing nodes to recognize and
+ * reject payloads written with a schema they do not support. Payloads that do not carry the header
+ * are handed off to the delegate serialization manager, which allows tickets that were previously stored as
+ * JSON to remain readable during rolling upgrades. Likewise, binary encoding may be turned off while
+ * binary payloads remain readable, so that nodes can be upgraded first and switched to the binary
+ * codec later. Since textual registries can only store strings,
+ * the {@link #serializeTicket(Ticket)} variant encodes the binary payload using base-64.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CompactBinaryTicketSerializationManager implements TicketSerializationManager {
+    /**
+     * Current codec schema version.
+     */
+    public static final byte SCHEMA_VERSION = 1;
+
+    /**
+     * Prefix of textual, base-64 encoded payloads.
+     */
+    public static final String TEXT_PREFIX = "cbt:";
+
+    private static final byte[] MAGIC = "CBT".getBytes(StandardCharsets.US_ASCII);
+
+    private static final SmileFactory SMILE_FACTORY = SmileFactory.builder()
+        .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+        .build();
+
+    private final Map<Class, ObjectMapper> mappers = new ConcurrentHashMap<>();
+
+    private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    private final TicketSerializationManager delegate;
+
+    @Getter
+    private final boolean binaryEncodingEnabled;
+
+    @Override
+    public String serializeTicket(final Ticket ticket) {
+        return encode(ticket)
+            .map(bytes -> TEXT_PREFIX + Base64.getEncoder().encodeToString(bytes))
+            .orElseGet(() -> delegate.serializeTicket(ticket));
+    }
+
+    @Override
+    public byte[] serializeTicketToBytes(final Ticket ticket) {
+        return encode(ticket).orElseGet(() -> delegate.serializeTicketToBytes(ticket));
+    }
+
+    @Override
+    public Ticket deserializeTicket(final String ticketContent, final String type) {
+        if (StringUtils.isBlank(type)) {
+            throw new InvalidTicketException("Invalid ticket type [blank] specified");
+        }
+        if (isEncodedText(ticketContent)) {
+            val clazz = Unchecked.supplier(() -> Class.forName(type)).get();
+            return deserializeTicket(ticketContent, (Class<Ticket>) clazz);
+        }
+        return delegate.deserializeTicket(ticketContent, type);
+    }
+
+    @Override
+    public <T extends Ticket> T deserializeTicket(final String ticketContent, final Class<T> clazz) {
+        if (isEncodedText(ticketContent)) {
+            val bytes = Base64.getDecoder().decode(ticketContent.substring(TEXT_PREFIX.length()));
+            if (!isEncoded(bytes)) {
+                throw new InvalidTicketException(clazz.getName());
+            }
+            return decode(bytes, clazz);
+        }
+        return delegate.deserializeTicket(ticketContent, clazz);
+    }
+
+    @Override
+    public <T extends Ticket> T deserializeTicket(final byte[] ticketContent, final Class<T> clazz) {
+        if (isEncoded(ticketContent)) {
+            return decode(ticketContent, clazz);
+        }
+        return delegate.deserializeTicket(ticketContent, clazz);
+    }
+
+    private Optional<byte[]> encode(final Ticket ticket) {
+        if (!binaryEncodingEnabled) {
+            return Optional.empty();
+        }
+        val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(ticket),
+            () -> "Unable to find ticket serializer for " + ticket.getId());
+        return getBinaryObjectMapper(serializer).map(Unchecked.function(mapper -> {
+            try (val output = new ByteArrayOutputStream()) {
+                output.write(MAGIC);
+                output.write(SCHEMA_VERSION);
+                mapper.writeValue(output, ticket);
+                return output.toByteArray();
+            }
+        }));
+    }
+
+    private <T extends Ticket> T decode(final byte[] ticketContent, final Class<T> clazz) {
+        val version = ticketContent[MAGIC.length];
+        if (version != SCHEMA_VERSION) {
+            throw new InvalidTicketException("Unsupported ticket codec schema version " + version + " for " + clazz.getName());
+        }
+        val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
+            () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
+        val mapper = getBinaryObjectMapper(serializer)
+            .orElseThrow(() -> new InvalidTicketException("Ticket type " + clazz.getName() + " does not support binary encoding"));
+        val offset = MAGIC.length + 1;
+        try {
+            val ticket = mapper.readValue(ticketContent, offset, ticketContent.length - offset, serializer.getTypeToSerialize());
+            if (ticket == null) {
+                throw new InvalidTicketException(clazz.getName());
+            }
+            if (!clazz.isAssignableFrom(ticket.getClass())) {
+                throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass()
+                                             + " when we were expecting " + clazz);
+            }
+            return clazz.cast(ticket);
+        } catch (final InvalidTicketException | ClassCastException e) {
+            throw e;
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new InvalidTicketException(clazz.getName());
+        }
+    }
+
+    private Optional<ObjectMapper> getBinaryObjectMapper(final StringSerializer<Ticket> serializer) {
+        if (serializer instanceof final AbstractJacksonBackedStringSerializer jacksonSerializer) {
+            return Optional.of(mappers.computeIfAbsent(serializer.getTypeToSerialize(),
+                __ -> jacksonSerializer.getObjectMapper().copyWith(SMILE_FACTORY)));
+        }
+        LOGGER.trace("Ticket serializer [{}] is not backed by Jackson and cannot produce binary payloads", serializer);
+        return Optional.empty();
+    }
+
+    private static boolean isEncodedText(final String ticketContent) {
+        return ticketContent != null && ticketContent.startsWith(TEXT_PREFIX);
+    }
+
+    private static boolean isEncoded(final byte[] ticketContent) {
+        return ticketContent != null && ticketContent.length > MAGIC.length
+               && Arrays.equals(ticketContent, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+}
@@ -35,6 +35,18 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         }
     }
 
+    @Override
+    public byte[] serializeTicketToBytes(final Ticket ticket) {
+        try {
+            val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(ticket),
+                () -> "Unable to find ticket serializer for " + ticket.getId());
+            return serializer.toBytes(ticket);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw e;
+        }
+    }
+
     @Override
     public Ticket deserializeTicket(final String ticketContent, final String type) {
         if (StringUtils.isBlank(type)) {
@@ -55,7 +67,18 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
             () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
         LOGGER.trace("Unmarshalling ticket content from [{}]", ticketContent);
-        val ticket = serializer.from(ticketContent);
+        return verifyDeserializedTicket(serializer.from(ticketContent), clazz);
+    }
+
+    @Override
+    public <T extends Ticket> T deserializeTicket(final byte[] ticketContent, final Class<T> clazz) {
+        val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
+            () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
+        LOGGER.trace("Unmarshalling ticket content from [{}] byte(s)", ticketContent.length);
+        return verifyDeserializedTicket(serializer.from(ticketContent), clazz);
+    }
+
+    private static <T extends Ticket> T verifyDeserializedTicket(final Ticket ticket, final Class<T> clazz) {
         if (ticket == null) {
             throw new InvalidTicketException(clazz.getName());
         }
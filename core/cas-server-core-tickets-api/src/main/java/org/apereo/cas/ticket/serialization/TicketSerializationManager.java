@@ -2,6 +2,8 @@ package org.apereo.cas.ticket.serialization;
 
 import org.apereo.cas.ticket.Ticket;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * This is {@link TicketSerializationManager}.
  *
@@ -40,4 +42,26 @@ public interface TicketSerializationManager {
      * @return the ticket instance
      */
     <T extends Ticket> T deserializeTicket(String ticketContent, Class<T> clazz);
+
+    /**
+     * Serialize ticket into UTF-8 encoded bytes.
+     *
+     * @param ticket the ticket
+     * @return the bytes
+     */
+    default byte[] serializeTicketToBytes(final Ticket ticket) {
+        return serializeTicket(ticket).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deserialize ticket from UTF-8 encoded bytes.
+     *
+     * @param <T>           the type parameter
+     * @param ticketContent the ticket content
+     * @param clazz         the clazz
+     * @return the ticket instance
+     */
+    default <T extends Ticket> T deserializeTicket(final byte[] ticketContent, final Class<T> clazz) {
+        return deserializeTicket(new String(ticketContent, StandardCharsets.UTF_8), clazz);
+    }
 }
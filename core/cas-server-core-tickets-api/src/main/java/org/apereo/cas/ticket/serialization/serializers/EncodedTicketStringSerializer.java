@@ -16,7 +16,7 @@ public class EncodedTicketStringSerializer extends AbstractJacksonBackedStringSe
     private static final long serialVersionUID = 8959835299162115085L;
 
     public EncodedTicketStringSerializer() {
-        super(MINIMAL_PRETTY_PRINTER);
+        super(MINIMAL_PRETTY_PRINTER, true);
     }
 
     @Override
@@ -16,7 +16,7 @@ public class ProxyGrantingTicketStringSerializer extends AbstractJacksonBackedSt
     private static final long serialVersionUID = 7089208351327601379L;
 
     public ProxyGrantingTicketStringSerializer() {
-        super(MINIMAL_PRETTY_PRINTER);
+        super(MINIMAL_PRETTY_PRINTER, true);
     }
 
     @Override
@@ -16,7 +16,7 @@ public class ProxyTicketStringSerializer extends AbstractJacksonBackedStringSeri
     private static final long serialVersionUID = -6343596853082798477L;
 
     public ProxyTicketStringSerializer() {
-        super(MINIMAL_PRETTY_PRINTER);
+        super(MINIMAL_PRETTY_PRINTER, true);
     }
 
     @Override
@@ -16,7 +16,7 @@ public class ServiceTicketStringSerializer extends AbstractJacksonBackedStringSe
     private static final long serialVersionUID = 8959617299162115085L;
 
     public ServiceTicketStringSerializer() {
-        super(MINIMAL_PRETTY_PRINTER);
+        super(MINIMAL_PRETTY_PRINTER, true);
     }
 
     @Override
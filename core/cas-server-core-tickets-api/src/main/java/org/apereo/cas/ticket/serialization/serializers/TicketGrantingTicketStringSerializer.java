@@ -16,7 +16,7 @@ public class TicketGrantingTicketStringSerializer extends AbstractJacksonBackedS
     private static final long serialVersionUID = 1527874389457723545L;
 
     public TicketGrantingTicketStringSerializer() {
-        super(MINIMAL_PRETTY_PRINTER);
+        super(MINIMAL_PRETTY_PRINTER, true);
     }
 
     @Override
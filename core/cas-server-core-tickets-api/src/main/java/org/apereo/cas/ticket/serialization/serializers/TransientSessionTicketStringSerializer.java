@@ -16,7 +16,7 @@ public class TransientSessionTicketStringSerializer extends AbstractJacksonBacke
     private static final long serialVersionUID = 8959617299162115085L;
 
     public TransientSessionTicketStringSerializer() {
-        super(MINIMAL_PRETTY_PRINTER);
+        super(MINIMAL_PRETTY_PRINTER, true);
     }
 
     @Override
@@ -1,6 +1,10 @@
 package org.apereo.cas.util;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketSerializationFormats;
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.ticket.serialization.CompactBinaryTicketSerializationManager;
+import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -74,4 +78,23 @@ public class CoreTicketUtils {
         return CipherExecutor.noOp();
     }
 
+    /**
+     * New ticket serialization manager for a ticket registry,
+     * given the serialization format chosen for that registry.
+     *
+     * @param format                           the format
+     * @param ticketSerializationExecutionPlan the ticket serialization execution plan
+     * @param ticketSerializationManager       the default ticket serialization manager
+     * @return the ticket serialization manager
+     */
+    public static TicketSerializationManager newTicketRegistrySerializationManager(
+        final TicketSerializationFormats format,
+        final TicketSerializationExecutionPlan ticketSerializationExecutionPlan,
+        final TicketSerializationManager ticketSerializationManager) {
+        if (format == TicketSerializationFormats.BINARY) {
+            LOGGER.debug("Ticket registry will store tickets using the compact binary codec");
+            return new CompactBinaryTicketSerializationManager(ticketSerializationExecutionPlan, ticketSerializationManager, true);
+        }
+        return ticketSerializationManager;
+    }
 }
@@ -32,9 +32,12 @@ import org.apereo.cas.ticket.factory.DefaultTicketGrantingTicketFactory;
 import org.apereo.cas.ticket.factory.DefaultTransientSessionTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
+import org.apereo.cas.ticket.registry.AbstractTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryStatistics;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryStatistics;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessageReceiver;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
@@ -64,6 +67,7 @@ import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -197,6 +201,37 @@ class CasCoreTicketsConfiguration {
                 storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
         }
 
+        @ConditionalOnMissingBean(name = TicketRegistryStatistics.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public TicketRegistryStatistics ticketRegistryStatistics() {
+            return new DefaultTicketRegistryStatistics();
+        }
+
+        /**
+         * Attach the ticket registry statistics to the ticket registry as it is created or refreshed.
+         * Note that {@code BeanPostProcessor} beans should be static.
+         *
+         * @param ticketRegistryStatistics the ticket registry statistics
+         * @return the bean post processor
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "ticketRegistryStatisticsPostProcessor")
+        public static BeanPostProcessor ticketRegistryStatisticsPostProcessor(
+            @Qualifier(TicketRegistryStatistics.BEAN_NAME)
+            final ObjectProvider<TicketRegistryStatistics> ticketRegistryStatistics) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    if (TicketRegistry.BEAN_NAME.equals(beanName) && bean instanceof final AbstractTicketRegistry registry) {
+                        ticketRegistryStatistics.ifAvailable(registry::setStatistics);
+                    }
+                    return bean;
+                }
+            };
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = CipherExecutor.BEAN_NAME_TICKET_REGISTRY_CIPHER_EXECUTOR)
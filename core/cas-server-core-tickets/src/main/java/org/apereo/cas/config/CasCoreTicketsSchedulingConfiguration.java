@@ -7,6 +7,7 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryStatistics;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -82,6 +83,21 @@ class CasCoreTicketsSchedulingConfiguration {
             .get();
     }
 
+    @ConditionalOnMissingBean(name = "ticketRegistryStatisticsScheduler")
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Lazy(false)
+    public Runnable ticketRegistryStatisticsScheduler(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
+        @Qualifier(TicketRegistryStatistics.BEAN_NAME) final TicketRegistryStatistics ticketRegistryStatistics) {
+        return BeanSupplier.of(Runnable.class)
+            .when(BeanCondition.on("cas.ticket.registry.core.statistics.enabled").isTrue()
+                .evenIfMissing().given(applicationContext.getEnvironment()))
+            .supply(() -> new TicketRegistryStatisticsScheduler(ticketRegistry, ticketRegistryStatistics))
+            .otherwiseProxy()
+            .get();
+    }
 
     /**
      * The Ticket registry cleaner scheduler. Because the cleaner itself is marked
@@ -101,4 +117,22 @@ class CasCoreTicketsSchedulingConfiguration {
             FunctionUtils.doAndHandle(__ -> ticketRegistryCleaner.clean());
         }
     }
+
+    /**
+     * The ticket registry statistics scheduler that reconciles
+     * ticket counters with the contents of the registry.
+     */
+    @RequiredArgsConstructor
+    static class TicketRegistryStatisticsScheduler implements Runnable {
+        private final TicketRegistry ticketRegistry;
+
+        private final TicketRegistryStatistics ticketRegistryStatistics;
+
+        @Scheduled(initialDelayString = "${cas.ticket.registry.core.statistics.start-delay:PT1M}",
+            fixedDelayString = "${cas.ticket.registry.core.statistics.repeat-interval:PT10M}")
+        @Override
+        public void run() {
+            FunctionUtils.doAndHandle(__ -> ticketRegistryStatistics.reconcile(ticketRegistry));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.ticket.serialization.CompactBinaryTicketSerializationManager;
 import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
@@ -60,7 +61,8 @@ class CasCoreTicketsSerializationConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketSerializationManager ticketSerializationManager(
             @Qualifier("ticketSerializationExecutionPlan") final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
-            return new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+            val manager = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+            return new CompactBinaryTicketSerializationManager(ticketSerializationExecutionPlan, manager, false);
         }
     }
 
@@ -71,6 +71,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import static org.awaitility.Awaitility.*;
@@ -181,6 +182,63 @@ public abstract class BaseTicketRegistryTests {
         assertNotNull(tgt);
     }
 
+    @RepeatedTest(2)
+    void verifySaveBatch() throws Throwable {
+        val existing = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(existing);
+        val first = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val second = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val batch = TicketRegistryBatch.newInstance()
+            .add(first)
+            .add(second)
+            .update(first)
+            .delete(existing);
+        assertEquals(3, batch.getOperations().size());
+        assertEquals(2, ticketRegistry.save(batch).size());
+        assertNotNull(ticketRegistry.getTicket(first.getId(), TicketGrantingTicket.class));
+        assertNotNull(ticketRegistry.getTicket(second.getId(), TicketGrantingTicket.class));
+        assertNull(ticketRegistry.getTicket(existing.getId()));
+    }
+
+    @RepeatedTest(2)
+    @Transactional(transactionManager = "ticketTransactionManager", readOnly = false)
+    void verifySessionsPaging() throws Throwable {
+        assumeTrue(canTicketRegistryIterate());
+        val principal = UUID.randomUUID().toString();
+        val sessions = IntStream.range(0, 4)
+            .mapToObj(i -> new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(principal), NeverExpiresExpirationPolicy.INSTANCE))
+            .toList();
+        for (val ticket : sessions) {
+            ticketRegistry.addTicket(ticket);
+        }
+        val expired = sessions.getFirst();
+        expired.markTicketExpired();
+        ticketRegistry.updateTicket(expired);
+        val activeSessions = sessions.stream().skip(1).map(Ticket::getId).collect(Collectors.toSet());
+
+        for (val principalId : List.of(StringUtils.EMPTY, principal)) {
+            val request = TicketRegistryPageRequest.builder().principal(principalId).count(2).build();
+            val firstPage = ticketRegistry.getSessions(request);
+            assertEquals(2, firstPage.getTickets().size());
+            assertTrue(firstPage.getNextCursor().isPresent());
+            val secondPage = ticketRegistry.getSessions(request.withCursor(firstPage.getNextCursor().orElseThrow()));
+            assertEquals(1, secondPage.getTickets().size());
+            assertTrue(secondPage.getNextCursor().isEmpty());
+            val pagedSessions = Stream.concat(firstPage.getTickets().stream(), secondPage.getTickets().stream())
+                .map(Ticket::getId)
+                .collect(Collectors.toSet());
+            assertEquals(activeSessions, pagedSessions);
+
+            val singlePage = ticketRegistry.getSessions(request.withCount(3));
+            assertEquals(3, singlePage.getTickets().size());
+            assertTrue(singlePage.getNextCursor().isEmpty());
+        }
+    }
+
     @RepeatedTest(2)
     void verifyUnableToAddExpiredTicket() throws Throwable {
         val originalAuthn = CoreAuthenticationTestUtils.getAuthentication();
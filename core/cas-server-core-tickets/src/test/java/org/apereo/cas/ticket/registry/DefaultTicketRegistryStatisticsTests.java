@@ -0,0 +1,91 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultTicketRegistryStatisticsTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+class DefaultTicketRegistryStatisticsTests {
+
+    @Test
+    void verifyCountersTrackRegistry() throws Throwable {
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        val statistics = new DefaultTicketRegistryStatistics();
+        registry.setStatistics(statistics);
+
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val st = new MockServiceTicket("ST-123456", RegisteredServiceTestUtils.getService(), tgt);
+        registry.addTicket(tgt);
+        registry.addTicket(st);
+        assertEquals(2, statistics.getValidTickets());
+        assertEquals(0, statistics.getExpiredTickets());
+
+        val results = statistics.getStatistics();
+        assertTrue(results.containsKey(TicketGrantingTicket.PREFIX));
+        assertTrue(results.containsKey(ServiceTicket.PREFIX));
+        val creationRate = (Map) ((Map) results.get(TicketGrantingTicket.PREFIX)).get("creationRate");
+        assertEquals(1L, creationRate.get("last5Minutes"));
+        assertEquals(1L, creationRate.get("last60Minutes"));
+
+        registry.deleteTicket(st);
+        assertEquals(1, statistics.getValidTickets());
+    }
+
+    @Test
+    void verifyReconciliation() throws Throwable {
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        val tgt = new MockTicketGrantingTicket("casuser");
+        registry.addTicket(tgt);
+        registry.addTicket(new MockTicketGrantingTicket("casuser"));
+
+        val statistics = new DefaultTicketRegistryStatistics();
+        registry.setStatistics(statistics);
+        assertEquals(0, statistics.getValidTickets());
+        assertTrue(statistics.getLastReconciliation().isEmpty());
+
+        tgt.markTicketExpired();
+        statistics.reconcile(registry);
+        assertTrue(statistics.getLastReconciliation().isPresent());
+        assertEquals(1, statistics.getValidTickets());
+        assertEquals(1, statistics.getExpiredTickets());
+
+        registry.deleteTicket(tgt);
+        assertEquals(1, statistics.getValidTickets());
+        assertEquals(0, statistics.getExpiredTickets());
+    }
+
+    @Test
+    void verifyBulkOperations() throws Throwable {
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        val statistics = new DefaultTicketRegistryStatistics();
+        registry.setStatistics(statistics);
+
+        val expired = new MockTicketGrantingTicket("casuser");
+        expired.markTicketExpired();
+        val added = registry.addTicket(Stream.of(new MockTicketGrantingTicket("casuser"),
+            new MockTicketGrantingTicket("casuser"), expired));
+        assertEquals(2, added.size());
+        assertEquals(2, statistics.getValidTickets());
+
+        assertEquals(2, registry.deleteAll());
+        assertEquals(0, statistics.getValidTickets());
+        assertEquals(0, statistics.getExpiredTickets());
+    }
+}
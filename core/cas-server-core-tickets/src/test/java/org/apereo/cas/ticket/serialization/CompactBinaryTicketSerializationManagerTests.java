@@ -0,0 +1,84 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.ServiceTicketFactory;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.factory.BaseTicketFactoryTests;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CompactBinaryTicketSerializationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@SpringBootTest(classes = BaseTicketFactoryTests.SharedTestConfiguration.class)
+@Tag("Tickets")
+class CompactBinaryTicketSerializationManagerTests {
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory defaultTicketFactory;
+
+    @Autowired
+    @Qualifier("ticketSerializationExecutionPlan")
+    private TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    @Test
+    void verifyBinaryPayloads() throws Throwable {
+        val jsonManager = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+        val manager = new CompactBinaryTicketSerializationManager(ticketSerializationExecutionPlan, jsonManager, true);
+
+        val tgt = createTicketGrantingTicket();
+        val encoded = manager.serializeTicket(tgt);
+        assertTrue(encoded.startsWith(CompactBinaryTicketSerializationManager.TEXT_PREFIX));
+        assertEquals(tgt, manager.deserializeTicket(encoded, TicketGrantingTicket.class));
+        assertEquals(tgt, manager.deserializeTicket(encoded, tgt.getClass().getName()));
+
+        val bytes = manager.serializeTicketToBytes(tgt);
+        assertTrue(bytes.length < jsonManager.serializeTicketToBytes(tgt).length);
+        assertEquals(tgt, manager.deserializeTicket(bytes, TicketGrantingTicket.class));
+
+        val factory = (ServiceTicketFactory) defaultTicketFactory.get(ServiceTicket.class);
+        val st = factory.create(tgt, RegisteredServiceTestUtils.getService(), true, ServiceTicket.class);
+        assertEquals(st, manager.deserializeTicket(manager.serializeTicket(st), ServiceTicket.class));
+        assertThrows(InvalidTicketException.class, () -> manager.deserializeTicket(encoded, ServiceTicket.class));
+    }
+
+    @Test
+    void verifyRollingUpgrade() throws Throwable {
+        val jsonManager = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+        val binaryManager = new CompactBinaryTicketSerializationManager(ticketSerializationExecutionPlan, jsonManager, true);
+        val upgradedManager = new CompactBinaryTicketSerializationManager(ticketSerializationExecutionPlan, jsonManager, false);
+
+        val tgt = createTicketGrantingTicket();
+        val json = upgradedManager.serializeTicket(tgt);
+        assertEquals(jsonManager.serializeTicket(tgt), json);
+        assertEquals(tgt, binaryManager.deserializeTicket(json, TicketGrantingTicket.class));
+        assertEquals(tgt, upgradedManager.deserializeTicket(binaryManager.serializeTicket(tgt), TicketGrantingTicket.class));
+    }
+
+    @Test
+    void verifyUnsupportedVersion() throws Throwable {
+        val jsonManager = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+        val manager = new CompactBinaryTicketSerializationManager(ticketSerializationExecutionPlan, jsonManager, true);
+        val bytes = manager.serializeTicketToBytes(createTicketGrantingTicket());
+        bytes[3] = (byte) (CompactBinaryTicketSerializationManager.SCHEMA_VERSION + 1);
+        assertThrows(InvalidTicketException.class, () -> manager.deserializeTicket(bytes, TicketGrantingTicket.class));
+    }
+
+    private TicketGrantingTicket createTicketGrantingTicket() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) defaultTicketFactory.get(TicketGrantingTicket.class);
+        return factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import java.nio.charset.StandardCharsets;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -70,6 +71,18 @@ class DefaultTicketStringSerializationManagerTests {
         assertThrows(InvalidTicketException.class, () -> ticketSerializationManager.deserializeTicket(result, ProxyTicket.class));
     }
 
+    @Test
+    void verifyBytes() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        val result = ticketSerializationManager.serializeTicketToBytes(ticket);
+        assertArrayEquals(ticketSerializationManager.serializeTicket(ticket).getBytes(StandardCharsets.UTF_8), result);
+        val deserializedTicket = ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class);
+        assertEquals(ticket, deserializedTicket);
+        assertThrows(InvalidTicketException.class, () -> ticketSerializationManager.deserializeTicket(result, ProxyTicket.class));
+    }
+
     @Test
     void verifyBadClass() throws Throwable {
         assertThrows(NullPointerException.class, () -> ticketSerializationManager.serializeTicket(mock(Ticket.class)));
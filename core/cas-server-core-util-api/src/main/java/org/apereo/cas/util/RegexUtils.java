@@ -1,5 +1,7 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -27,6 +29,12 @@ public class RegexUtils {
      */
     public static final Pattern MATCH_NOTHING_PATTERN = Pattern.compile("a^");
 
+    private static final int PATTERN_CACHE_MAXIMUM_SIZE = 10_000;
+
+    private static final Cache<PatternDefinition, Pattern> PATTERN_CACHE = Caffeine.newBuilder()
+        .maximumSize(PATTERN_CACHE_MAXIMUM_SIZE)
+        .build();
+
     /**
      * Check to see if the specified pattern is a valid regular expression.
      *
@@ -74,6 +82,9 @@ public class RegexUtils {
 
     /**
      * Creates the pattern with the given flags.
+     * Compiled patterns are immutable and are kept in a bounded cache
+     * that is shared by all callers, so that compiling the same expression
+     * repeatedly only happens once.
      *
      * @param pattern the pattern, may be null.
      * @param flags   the flags
@@ -84,10 +95,14 @@ public class RegexUtils {
             LOGGER.warn("Pattern cannot be null/blank");
             return MATCH_NOTHING_PATTERN;
         }
+        return PATTERN_CACHE.get(new PatternDefinition(pattern, flags), RegexUtils::compilePattern);
+    }
+
+    private static Pattern compilePattern(final PatternDefinition definition) {
         try {
-            return Pattern.compile(pattern, flags);
+            return Pattern.compile(definition.pattern(), definition.flags());
         } catch (final PatternSyntaxException exception) {
-            LOGGER.debug("Pattern [{}] is not a valid regex.", pattern);
+            LOGGER.debug("Pattern [{}] is not a valid regex.", definition.pattern());
             return MATCH_NOTHING_PATTERN;
         }
     }
@@ -191,4 +206,7 @@ public class RegexUtils {
             return find(pattern, remoteAddr);
         }
     }
+
+    private record PatternDefinition(String pattern, int flags) {
+    }
 }
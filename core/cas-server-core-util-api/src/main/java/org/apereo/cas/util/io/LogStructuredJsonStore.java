@@ -0,0 +1,521 @@
+package org.apereo.cas.util.io;
+
+import org.apereo.cas.configuration.model.core.util.JsonJournalProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * This is {@link LogStructuredJsonStore}. It keeps a map of records in memory, backed by a JSON snapshot file
+ * and an append-only journal file that sits next to it. Every change is appended to the journal as a single
+ * JSON line, instead of rewriting the snapshot. The journal is periodically compacted into the snapshot, which
+ * keeps its original format so that it can still be imported, exported or edited by hand.
+ * <p>
+ * On startup, the snapshot is loaded first and the journal is replayed on top of it. Journal operations
+ * are idempotent, so a crash between writing the snapshot and truncating the journal is harmless.
+ * A partially written trailing journal line is ignored.
+ * <p>
+ * Compactions triggered by the size of the journal are handed to a scheduler that is shared by all stores
+ * unless one is provided, so callers that record changes never pay for rewriting the snapshot. Compaction
+ * copies the records and the current journal offset while holding the store lock, writes the snapshot without it,
+ * and then only drops the journal entries that the snapshot covers; changes recorded in the meantime stay in the journal.
+ * The store remembers the snapshot it wrote last, so that file watchers may tell its own compactions apart from
+ * changes made by others.
+ *
+ * @param <V> the record type
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class LogStructuredJsonStore<V> implements AutoCloseable {
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final ScheduledExecutorService SHARED_SCHEDULER =
+        Executors.newScheduledThreadPool(1, Thread.ofVirtual().name("json-journal-", 0).factory());
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ReentrantLock compactionLock = new ReentrantLock();
+
+    private final AtomicLong journalSize = new AtomicLong();
+
+    private final AtomicBoolean compactionRequested = new AtomicBoolean();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final List<ScheduledFuture<?>> scheduledTasks = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    @Getter
+    private final File snapshotFile;
+
+    @Getter
+    private final File journalFile;
+
+    private final ObjectMapper mapper;
+
+    private final JavaType entryType;
+
+    private final Function<File, Map<String, V>> snapshotReader;
+
+    private final SnapshotWriter<V> snapshotWriter;
+
+    private final JsonJournalProperties properties;
+
+    private final Map<String, V> records = new ConcurrentHashMap<>();
+
+    private FileChannel journal;
+
+    private SnapshotFingerprint snapshotFingerprint;
+
+    public LogStructuredJsonStore(final File snapshotFile,
+                                  final ObjectMapper mapper,
+                                  final JavaType valueType,
+                                  final Function<File, Map<String, V>> snapshotReader,
+                                  final SnapshotWriter<V> snapshotWriter,
+                                  final JsonJournalProperties properties) {
+        this(snapshotFile, mapper, valueType, snapshotReader, snapshotWriter, properties, SHARED_SCHEDULER);
+    }
+
+    public LogStructuredJsonStore(final File snapshotFile,
+                                  final ObjectMapper mapper,
+                                  final JavaType valueType,
+                                  final Function<File, Map<String, V>> snapshotReader,
+                                  final SnapshotWriter<V> snapshotWriter,
+                                  final JsonJournalProperties properties,
+                                  final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        this.snapshotFile = snapshotFile;
+        this.journalFile = new File(snapshotFile.getParentFile(), snapshotFile.getName() + JOURNAL_FILE_SUFFIX);
+        this.mapper = mapper;
+        this.entryType = mapper.getTypeFactory().constructParametricType(JournalEntry.class, valueType);
+        this.snapshotReader = snapshotReader;
+        this.snapshotWriter = snapshotWriter;
+        this.properties = properties;
+        reload();
+        schedule();
+    }
+
+    /**
+     * Reload records from the snapshot and replay the journal on top.
+     */
+    public void reload() {
+        compactionLock.lock();
+        lock.lock();
+        try {
+            val loaded = new LinkedHashMap<String, V>();
+            if (snapshotFile.exists() && snapshotFile.length() > 0) {
+                val snapshot = snapshotReader.apply(snapshotFile);
+                if (snapshot != null) {
+                    loaded.putAll(snapshot);
+                }
+            }
+            journalSize.set(replay(loaded));
+            records.clear();
+            records.putAll(loaded);
+            snapshotFingerprint = fingerprintSnapshot();
+            openJournal();
+            LOGGER.debug("Loaded [{}] record(s) from [{}] after replaying [{}] journal entries",
+                loaded.size(), snapshotFile, journalSize.get());
+        } finally {
+            lock.unlock();
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Reload records only if the snapshot was modified by someone other than this store,
+     * such as an edit by hand. Changes to the snapshot caused by compacting the journal are ignored.
+     *
+     * @return true if records were reloaded
+     */
+    public boolean reloadIfModifiedExternally() {
+        compactionLock.lock();
+        try {
+            if (fingerprintSnapshot().equals(snapshotFingerprint)) {
+                LOGGER.trace("Snapshot [{}] was last written by this store; skipping reload", snapshotFile);
+                return false;
+            }
+            LOGGER.debug("Snapshot [{}] was modified externally and will be reloaded", snapshotFile);
+            reload();
+            return true;
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Get record by key.
+     *
+     * @param key the key
+     * @return the record or null
+     */
+    public V get(final String key) {
+        return records.get(key);
+    }
+
+    /**
+     * Read-only view of all records.
+     *
+     * @return the map
+     */
+    public Map<String, V> asMap() {
+        return Collections.unmodifiableMap(records);
+    }
+
+    /**
+     * Read-only view of all record values.
+     *
+     * @return the values
+     */
+    public Collection<V> values() {
+        return asMap().values();
+    }
+
+    /**
+     * Put a record and record the change in the journal.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the value
+     */
+    public V put(final String key, final V value) {
+        return mutate(new JournalEntry<>(JournalOperations.PUT, key, value));
+    }
+
+    /**
+     * Remove a record and record the change in the journal.
+     *
+     * @param key the key
+     */
+    public void remove(final String key) {
+        mutate(new JournalEntry<>(JournalOperations.REMOVE, key, null));
+    }
+
+    /**
+     * Remove all records and record the change in the journal.
+     */
+    public void clear() {
+        mutate(new JournalEntry<>(JournalOperations.CLEAR, null, null));
+    }
+
+    /**
+     * Compact the journal into the snapshot file.
+     * Records are copied along with the current journal offset, and the snapshot is written
+     * to a temporary file and moved into place without holding the store lock. The journal entries
+     * covered by the snapshot are then dropped, keeping any entries that were recorded in the meantime.
+     */
+    public void compact() {
+        compactionLock.lock();
+        try {
+            final Map<String, V> snapshot;
+            final long journalOffset;
+            final long compactedEntries;
+            lock.lock();
+            try {
+                if (journal == null || !journal.isOpen()) {
+                    return;
+                }
+                snapshot = new LinkedHashMap<>(records);
+                journalOffset = journal.size();
+                compactedEntries = journalSize.get();
+            } finally {
+                lock.unlock();
+            }
+
+            writeSnapshot(snapshot);
+
+            lock.lock();
+            try {
+                snapshotFingerprint = fingerprintSnapshot();
+                truncateJournal(journalOffset);
+                journalSize.addAndGet(-compactedEntries);
+            } finally {
+                lock.unlock();
+            }
+            LOGGER.debug("Compacted [{}] journal entries into [{}] with [{}] record(s)", compactedEntries, snapshotFile, snapshot.size());
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Number of entries recorded in the journal since the last compaction.
+     *
+     * @return the size
+     */
+    public long getJournalSize() {
+        return journalSize.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduledTasks.forEach(task -> task.cancel(false));
+        compactionLock.lock();
+        try {
+            compact();
+            lock.lock();
+            try {
+                if (journal != null && journal.isOpen()) {
+                    FunctionUtils.doUnchecked(__ -> journal.close());
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    private V mutate(final JournalEntry<V> entry) {
+        lock.lock();
+        try {
+            val line = mapper.writeValueAsString(entry) + System.lineSeparator();
+            val buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            if (properties.getSyncPolicy() == JsonJournalProperties.JournalSyncPolicies.ALWAYS) {
+                journal.force(false);
+            }
+            apply(records, entry);
+            val size = journalSize.incrementAndGet();
+            if (properties.getCompactionThreshold() > 0 && size >= properties.getCompactionThreshold()
+                && !closed && compactionRequested.compareAndSet(false, true)) {
+                LOGGER.trace("Journal [{}] reached [{}] entries; scheduling compaction", journalFile, size);
+                scheduler.execute(this::compactIfThresholdReached);
+            }
+            return entry.value();
+        } catch (final Exception e) {
+            throw new IllegalStateException("Unable to record journal entry in " + journalFile, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void compactIfThresholdReached() {
+        compactionRequested.set(false);
+        if (!closed && journalSize.get() >= properties.getCompactionThreshold()) {
+            compact();
+        }
+    }
+
+    private void writeSnapshot(final Map<String, V> snapshot) throws Exception {
+        val parent = snapshotFile.getAbsoluteFile().getParentFile();
+        val temp = File.createTempFile(snapshotFile.getName(), ".tmp", parent);
+        try {
+            snapshotWriter.write(temp, snapshot);
+            Files.move(temp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Drop the journal entries up to the given offset, which are covered by the snapshot.
+     * Entries appended after the offset are moved into a new journal file that replaces the current one,
+     * so that they survive a crash at any point.
+     */
+    private void truncateJournal(final long offset) throws Exception {
+        val length = journal.size();
+        if (length <= offset) {
+            journal.truncate(0);
+            journal.force(true);
+            return;
+        }
+        LOGGER.trace("Keeping [{}] byte(s) recorded in journal [{}] during compaction", length - offset, journalFile);
+        val temp = File.createTempFile(journalFile.getName(), ".tmp", journalFile.getAbsoluteFile().getParentFile());
+        try {
+            try (val source = FileChannel.open(journalFile.toPath(), StandardOpenOption.READ);
+                 val target = FileChannel.open(temp.toPath(), StandardOpenOption.WRITE)) {
+                var position = offset;
+                while (position < length) {
+                    position += source.transferTo(position, length - position, target);
+                }
+                target.force(true);
+            }
+            journal.close();
+            Files.move(temp.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+            openJournal();
+        }
+    }
+
+    private SnapshotFingerprint fingerprintSnapshot() {
+        return FunctionUtils.doUnchecked(() -> snapshotFile.exists()
+            ? new SnapshotFingerprint(Files.getLastModifiedTime(snapshotFile.toPath()).toMillis(), snapshotFile.length())
+            : new SnapshotFingerprint(-1, -1));
+    }
+
+    private long replay(final Map<String, V> target) {
+        if (!journalFile.exists()) {
+            return 0;
+        }
+        return FunctionUtils.doUnchecked(() -> {
+            var count = 0L;
+            try (val lines = Files.lines(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                val iterator = lines.filter(StringUtils::isNotBlank).iterator();
+                while (iterator.hasNext()) {
+                    val line = iterator.next();
+                    try {
+                        JournalEntry<V> entry = mapper.readValue(line, entryType);
+                        apply(target, entry);
+                        count++;
+                    } catch (final Exception e) {
+                        LOGGER.warn("Skipping unreadable journal entry in [{}]: [{}]", journalFile, e.getMessage());
+                    }
+                }
+            }
+            return count;
+        });
+    }
+
+    private static <V> void apply(final Map<String, V> target, final JournalEntry<V> entry) {
+        switch (entry.operation()) {
+            case PUT -> {
+                if (entry.value() == null) {
+                    target.remove(entry.key());
+                } else {
+                    target.put(entry.key(), entry.value());
+                }
+            }
+            case REMOVE -> target.remove(entry.key());
+            case CLEAR -> target.clear();
+            default -> LOGGER.warn("Unknown journal operation [{}]", entry.operation());
+        }
+    }
+
+    private void openJournal() {
+        FunctionUtils.doUnchecked(__ -> {
+            if (journal != null && journal.isOpen()) {
+                journal.close();
+            }
+            journal = FileChannel.open(journalFile.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (journal.size() > 0 && !endsWithNewLine()) {
+                LOGGER.debug("Journal [{}] ends with a partial entry; starting a new line", journalFile);
+                journal.write(ByteBuffer.wrap(System.lineSeparator().getBytes(StandardCharsets.UTF_8)));
+            }
+        });
+    }
+
+    private boolean endsWithNewLine() throws Exception {
+        try (val channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.READ)) {
+            val lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, channel.size() - 1);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    private void schedule() {
+        if (properties.getSyncPolicy() == JsonJournalProperties.JournalSyncPolicies.PERIODIC) {
+            val interval = Beans.newDuration(properties.getSyncInterval()).toMillis();
+            scheduledTasks.add(scheduler.scheduleAtFixedRate(this::sync, interval, interval, TimeUnit.MILLISECONDS));
+        }
+        val compaction = properties.getCompaction();
+        if (compaction.isEnabled()) {
+            val startDelay = Beans.newDuration(compaction.getStartDelay()).toMillis();
+            val repeatInterval = Beans.newDuration(compaction.getRepeatInterval()).toMillis();
+            scheduledTasks.add(scheduler.scheduleAtFixedRate(() -> {
+                if (journalSize.get() > 0) {
+                    compact();
+                }
+            }, startDelay, repeatInterval, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private void sync() {
+        lock.lock();
+        try {
+            if (journal.isOpen()) {
+                journal.force(false);
+            }
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Journal operations.
+     */
+    public enum JournalOperations {
+        /**
+         * Put a record.
+         */
+        PUT,
+        /**
+         * Remove a record.
+         */
+        REMOVE,
+        /**
+         * Remove all records.
+         */
+        CLEAR
+    }
+
+    /**
+     * A single journal entry.
+     *
+     * @param operation the operation
+     * @param key       the key
+     * @param value     the value
+     * @param <V>       the value type
+     */
+    public record JournalEntry<V>(JournalOperations operation, String key, V value) {
+    }
+
+    private record SnapshotFingerprint(long lastModified, long length) {
+    }
+
+    /**
+     * Writes records into a snapshot file using the original JSON format.
+     *
+     * @param <V> the record type
+     */
+    @FunctionalInterface
+    public interface SnapshotWriter<V> {
+        /**
+         * Write records to the given file.
+         *
+         * @param file    the file
+         * @param records the records
+         * @throws Exception the exception
+         */
+        void write(File file, Map<String, V> records) throws Exception;
+    }
+}
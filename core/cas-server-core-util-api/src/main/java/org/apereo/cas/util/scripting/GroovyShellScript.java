@@ -1,10 +1,7 @@
 package org.apereo.cas.util.scripting;
 
 import org.apereo.cas.util.LoggingUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
-import groovy.lang.Binding;
 import groovy.lang.GroovyRuntimeException;
-import groovy.lang.Script;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +12,10 @@ import java.util.Map;
 
 /**
  * This is {@link GroovyShellScript}.
+ * <p>
+ * The script body is compiled once into a shared script class,
+ * and every execution runs a new script instance with its own binding,
+ * allowing concurrent callers to execute the same script without waiting on each other.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -25,11 +26,8 @@ import java.util.Map;
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
     private static final ThreadLocal<Map<String, Object>> BINDING_THREAD_LOCAL = new ThreadLocal<>();
 
-    private final CasReentrantLock lock = new CasReentrantLock();
     private final String script;
 
-    private Script groovyScript;
-
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz) throws Throwable {
         return execute(args, clazz, true);
@@ -42,31 +40,19 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) throws Throwable {
-        if (lock.tryLock()) {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                val binding = BINDING_THREAD_LOCAL.get();
-                if (groovyScript == null) {
-                    groovyScript = ScriptingUtils.parseGroovyShellScript(binding, script);
-                }
-                if (binding != null && !binding.isEmpty()) {
-                    LOGGER.trace("Setting binding [{}]", binding);
-                    groovyScript.setBinding(new Binding(binding));
-                }
-                LOGGER.trace("Current binding [{}]", groovyScript.getBinding());
-                val result = ScriptingUtils.executeGroovyShellScript(groovyScript, clazz);
-                LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
-                return result;
-            } catch (final GroovyRuntimeException e) {
-                LoggingUtils.error(LOGGER, e);
-            } finally {
-                BINDING_THREAD_LOCAL.remove();
-                if (groovyScript != null) {
-                    groovyScript.setBinding(new Binding(Map.of()));
-                }
-                LOGGER.trace("Completed script execution [{}]", this);
-                lock.unlock();
-            }
+        try {
+            LOGGER.trace("Beginning to execute script [{}]", this);
+            val binding = BINDING_THREAD_LOCAL.get();
+            val groovyScript = ScriptingUtils.parseGroovyShellScript(binding, script);
+            LOGGER.trace("Current binding [{}]", groovyScript.getBinding());
+            val result = ScriptingUtils.executeGroovyShellScript(groovyScript, clazz);
+            LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
+            return result;
+        } catch (final GroovyRuntimeException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            BINDING_THREAD_LOCAL.remove();
+            LOGGER.trace("Completed script execution [{}]", this);
         }
         return null;
     }
@@ -5,6 +5,8 @@ import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
@@ -22,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 import java.io.BufferedReader;
@@ -50,6 +53,12 @@ public class ScriptingUtils {
 
     private static final CompilerConfiguration GROOVY_COMPILER_CONFIG;
 
+    private static final int GROOVY_SHELL_SCRIPT_CACHE_SIZE = 1_000;
+
+    private static final Cache<String, Class<? extends Script>> GROOVY_SHELL_SCRIPT_CLASSES = Caffeine.newBuilder()
+        .maximumSize(GROOVY_SHELL_SCRIPT_CACHE_SIZE)
+        .build();
+
     static {
         GROOVY_COMPILER_CONFIG = new CompilerConfiguration();
         if (CasRuntimeHintsRegistrar.inNativeImage() || BooleanUtils.toBoolean(System.getProperty(SYSTEM_PROPERTY_GROOVY_COMPILE_STATIC))) {
@@ -383,10 +392,23 @@ public class ScriptingUtils {
     public static Script parseGroovyShellScript(final Map inputVariables, final String script) {
         val variables = inputVariables != null ? new HashMap<>(inputVariables) : new HashMap<>();
         variables.putIfAbsent("logger", LOGGER);
-        val binding = new Binding(variables);
-        val shell = new GroovyShell(binding, GROOVY_COMPILER_CONFIG);
-        LOGGER.debug("Parsing groovy script [{}]", script);
-        return shell.parse(script, binding);
+        return InvokerHelper.createScript(compileGroovyShellScript(script), new Binding(variables));
+    }
+
+    /**
+     * Compile groovy shell script into a script class.
+     * Compiled classes are cached and keyed by the script body, so that
+     * the same script is only parsed once, and each execution can
+     * then create its own script instance with its own binding.
+     *
+     * @param script the script
+     * @return the script class
+     */
+    public static Class<? extends Script> compileGroovyShellScript(final String script) {
+        return GROOVY_SHELL_SCRIPT_CLASSES.get(script, body -> {
+            LOGGER.debug("Parsing groovy script [{}]", body);
+            return new GroovyShell(GROOVY_COMPILER_CONFIG).parse(body).getClass();
+        });
     }
 
     /**
@@ -3,14 +3,14 @@ package org.apereo.cas.util.serialization;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
@@ -39,7 +39,6 @@ import java.util.List;
  */
 @Slf4j
 @Getter
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractJacksonBackedStringSerializer<T> implements StringSerializer<T> {
     protected static final PrettyPrinter MINIMAL_PRETTY_PRINTER = new MinimalPrettyPrinter();
 
@@ -48,22 +47,58 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
 
     private final PrettyPrinter prettyPrinter;
 
+    /**
+     * Whether payloads are always machine-written, strict JSON.
+     * When enabled, payloads are handed to Jackson directly and the
+     * Hjson normalization pass is skipped for both reads and writes.
+     * Only enable this for payloads that are never authored by hand,
+     * such as tickets or cached objects, since comments and other
+     * Hjson-only syntax can no longer be parsed.
+     */
+    private final boolean strictJsonFormat;
+
     private ObjectMapper objectMapper;
 
     protected AbstractJacksonBackedStringSerializer() {
         this(new DefaultPrettyPrinter());
     }
 
+    protected AbstractJacksonBackedStringSerializer(final PrettyPrinter prettyPrinter) {
+        this(prettyPrinter, false);
+    }
+
+    protected AbstractJacksonBackedStringSerializer(final PrettyPrinter prettyPrinter, final boolean strictJsonFormat) {
+        this.prettyPrinter = prettyPrinter;
+        this.strictJsonFormat = strictJsonFormat;
+    }
+
     @Override
     public T from(final String json) {
-        val jsonString = isJsonFormat() ? JsonValue.readHjson(json).toString() : json;
+        val jsonString = isHumanJsonFormat() ? JsonValue.readHjson(json).toString() : json;
         return readObjectFromString(jsonString);
     }
 
+    @Override
+    public T from(final byte[] json) {
+        if (isStrictJsonFormat()) {
+            return FunctionUtils.doAndHandle(() -> getObjectMapper().readValue(json, getTypeToSerialize()), throwable -> {
+                LOGGER.error("Cannot read/parse [{}] byte(s) to deserialize into type [{}]: [{}]",
+                    json.length, getTypeToSerialize(), throwable.getMessage());
+                return null;
+            }).get();
+        }
+        return from(new String(json, StandardCharsets.UTF_8));
+    }
+
     @Override
     public T from(final Reader json) {
         return FunctionUtils.doAndHandle(() -> {
-            val data = isJsonFormat()
+            if (isStrictJsonFormat()) {
+                return getObjectMapper().readerFor(getTypeToSerialize())
+                    .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                    .<T>readValue(json);
+            }
+            val data = isHumanJsonFormat()
                 ? JsonValue.readHjson(json).toString()
                 : String.join("\n", IOUtils.readLines(json));
             return readObjectFromString(data);
@@ -73,6 +108,11 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     @Override
     public T from(final InputStream json) {
         return FunctionUtils.doAndHandle(() -> {
+            if (isStrictJsonFormat()) {
+                return getObjectMapper().readerFor(getTypeToSerialize())
+                    .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                    .<T>readValue(json);
+            }
             val jsonString = readJsonFrom(json);
             return readObjectFromString(jsonString);
         }, throwable -> null).get();
@@ -81,7 +121,10 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     @Override
     public T from(final File json) {
         return FunctionUtils.doAndHandle(() -> {
-            val data = isJsonFormat()
+            if (isStrictJsonFormat()) {
+                return getObjectMapper().readValue(json, getTypeToSerialize());
+            }
+            val data = isHumanJsonFormat()
                 ? JsonValue.readHjson(FileUtils.readFileToString(json, StandardCharsets.UTF_8)).toString()
                 : FileUtils.readFileToString(json, StandardCharsets.UTF_8);
             return readObjectFromString(data);
@@ -96,9 +139,13 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     @Override
     public void to(final OutputStream out, final T object) {
         FunctionUtils.doUnchecked(__ -> {
+            if (isStrictJsonFormat()) {
+                getObjectMapper().writer(prettyPrinter).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, object);
+                return;
+            }
             try (val writer = new StringWriter()) {
                 getObjectMapper().writer(prettyPrinter).writeValue(writer, object);
-                val hjsonString = isJsonFormat()
+                val hjsonString = isHumanJsonFormat()
                     ? JsonValue.readHjson(writer.toString()).toString(getJsonFormattingOptions())
                     : writer.toString();
                 IOUtils.write(hjsonString, out, StandardCharsets.UTF_8);
@@ -109,9 +156,13 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     @Override
     public void to(final Writer out, final T object) {
         FunctionUtils.doUnchecked(__ -> {
+            if (isStrictJsonFormat()) {
+                getObjectMapper().writer(prettyPrinter).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, object);
+                return;
+            }
             try (val writer = new StringWriter()) {
                 getObjectMapper().writer(prettyPrinter).writeValue(writer, object);
-                if (isJsonFormat()) {
+                if (isHumanJsonFormat()) {
                     JsonValue.readHjson(writer.toString()).writeTo(out, getJsonFormattingOptions());
                 } else {
                     IOUtils.write(writer.toString(), out);
@@ -123,10 +174,14 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     @Override
     public void to(final File out, final T object) {
         FunctionUtils.doUnchecked(__ -> {
+            if (isStrictJsonFormat()) {
+                getObjectMapper().writer(prettyPrinter).writeValue(out, object);
+                return;
+            }
             try (val writer = new StringWriter()) {
                 getObjectMapper().writer(prettyPrinter).writeValue(writer, object);
 
-                if (isJsonFormat()) {
+                if (isHumanJsonFormat()) {
                     try (val fileWriter = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8)) {
                         JsonValue.readHjson(writer.toString()).writeTo(fileWriter, getJsonFormattingOptions());
                         fileWriter.flush();
@@ -138,8 +193,19 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         });
     }
 
+    @Override
+    public byte[] toBytes(final T object) {
+        if (isStrictJsonFormat()) {
+            return FunctionUtils.doUnchecked(() -> getObjectMapper().writer(prettyPrinter).writeValueAsBytes(object));
+        }
+        return toString(object).getBytes(StandardCharsets.UTF_8);
+    }
+
     @Override
     public String toString(final T object) {
+        if (isStrictJsonFormat()) {
+            return FunctionUtils.doUnchecked(() -> getObjectMapper().writer(prettyPrinter).writeValueAsString(object));
+        }
         return FunctionUtils.doUnchecked(() -> {
             try (val writer = new StringWriter()) {
                 to(writer, object);
@@ -160,7 +226,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
 
     @Override
     public List<T> fromList(final String json) {
-        val jsonString = isJsonFormat() ? JsonValue.readHjson(json).toString() : json;
+        val jsonString = isHumanJsonFormat() ? JsonValue.readHjson(json).toString() : json;
         return readObjectsFromString(jsonString);
     }
 
@@ -191,7 +257,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     }
 
     protected String readJsonFrom(final InputStream json) throws IOException {
-        return isJsonFormat()
+        return isHumanJsonFormat()
             ? JsonValue.readHjson(IOUtils.toString(json, StandardCharsets.UTF_8)).toString()
             : String.join("\n", IOUtils.readLines(json, StandardCharsets.UTF_8));
     }
@@ -240,6 +306,10 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         return !(getObjectMapper().getFactory() instanceof YAMLFactory);
     }
 
+    private boolean isHumanJsonFormat() {
+        return isJsonFormat() && !isStrictJsonFormat();
+    }
+
     private Stringify getJsonFormattingOptions() {
         return prettyPrinter instanceof MinimalPrettyPrinter ? Stringify.PLAIN : Stringify.FORMATTED;
     }
@@ -0,0 +1,155 @@
+package org.apereo.cas.util.io;
+
+import org.apereo.cas.configuration.model.core.util.JsonJournalProperties;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link LogStructuredJsonStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("FileSystem")
+class LogStructuredJsonStoreTests {
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private static LogStructuredJsonStore<String> createStore(final File file, final JsonJournalProperties properties) {
+        return new LogStructuredJsonStore<>(file, MAPPER, MAPPER.constructType(String.class),
+            f -> {
+                try {
+                    return MAPPER.readValue(f, new TypeReference<Map<String, String>>() {
+                    });
+                } catch (final Exception e) {
+                    throw new IllegalArgumentException(e);
+                }
+            },
+            MAPPER.writerWithDefaultPrettyPrinter()::writeValue, properties);
+    }
+
+    private static JsonJournalProperties getProperties() {
+        val properties = new JsonJournalProperties().setEnabled(true);
+        properties.getCompaction().setEnabled(false);
+        return properties;
+    }
+
+    @Test
+    void verifyJournalReplay() throws Throwable {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        FileUtils.writeStringToFile(file, "{\"key1\":\"value1\"}", StandardCharsets.UTF_8);
+        try (val store = createStore(file, getProperties())) {
+            assertEquals("value1", store.get("key1"));
+            store.put("key2", "value2");
+            store.remove("key1");
+            assertEquals(2, store.getJournalSize());
+            assertEquals(2, Files.readAllLines(store.getJournalFile().toPath()).size());
+            assertTrue(FileUtils.readFileToString(file, StandardCharsets.UTF_8).contains("key1"));
+
+            try (val replayed = createStore(file, getProperties())) {
+                assertNull(replayed.get("key1"));
+                assertEquals("value2", replayed.get("key2"));
+            }
+        }
+    }
+
+    @Test
+    void verifyCompaction() throws Throwable {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        val properties = getProperties().setCompactionThreshold(3);
+        try (val store = createStore(file, properties)) {
+            store.put("key1", "value1");
+            store.put("key2", "value2");
+            assertEquals(2, store.getJournalSize());
+            store.put("key3", "value3");
+            await().atMost(Duration.ofSeconds(5)).until(() -> store.getJournalSize() == 0);
+            assertEquals(0, store.getJournalFile().length());
+            val snapshot = MAPPER.readValue(file, new TypeReference<Map<String, String>>() {
+            });
+            assertEquals(3, snapshot.size());
+            store.clear();
+            assertTrue(store.asMap().isEmpty());
+        }
+        assertEquals("{ }", FileUtils.readFileToString(file, StandardCharsets.UTF_8).trim());
+    }
+
+    @Test
+    void verifyPartialJournalEntryIgnored() throws Throwable {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        val journal = new File(file.getParentFile(), file.getName() + ".journal");
+        FileUtils.writeStringToFile(journal, "{\"operation\":\"PUT\",\"key\":\"key1\",\"value\":\"value1\"}\n{\"operation\":\"PU",
+            StandardCharsets.UTF_8);
+        try (val store = createStore(file, getProperties().setSyncPolicy(JsonJournalProperties.JournalSyncPolicies.PERIODIC))) {
+            assertEquals("value1", store.get("key1"));
+            assertEquals(1, store.asMap().size());
+            store.put("key2", "value2");
+        }
+        try (val store = createStore(file, getProperties())) {
+            assertEquals("value2", store.get("key2"));
+        }
+    }
+
+    @Test
+    void verifySelfWrittenSnapshotIgnored() throws Throwable {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        try (val store = createStore(file, getProperties())) {
+            store.put("key1", "value1");
+            store.compact();
+            assertFalse(store.reloadIfModifiedExternally());
+            assertEquals("value1", store.get("key1"));
+
+            FileUtils.writeStringToFile(file, "{\"key2\":\"value-external\"}", StandardCharsets.UTF_8);
+            assertTrue(store.reloadIfModifiedExternally());
+            assertNull(store.get("key1"));
+            assertEquals("value-external", store.get("key2"));
+        }
+    }
+
+    @Test
+    void verifyChangesDuringCompactionKept() throws Throwable {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        val storeReference = new AtomicReference<LogStructuredJsonStore<String>>();
+        val snapshots = new AtomicInteger();
+        val scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (val store = new LogStructuredJsonStore<String>(file, MAPPER, MAPPER.constructType(String.class),
+            f -> Map.of(),
+            (f, records) -> {
+                if (snapshots.getAndIncrement() == 0) {
+                    storeReference.get().put("key2", "value2");
+                }
+                MAPPER.writeValue(f, records);
+            }, getProperties(), scheduler)) {
+            storeReference.set(store);
+            store.put("key1", "value1");
+            store.compact();
+            assertEquals(1, store.getJournalSize());
+            assertEquals(1, Files.readAllLines(store.getJournalFile().toPath()).size());
+            val snapshot = MAPPER.readValue(file, new TypeReference<Map<String, String>>() {
+            });
+            assertEquals(Map.of("key1", "value1"), snapshot);
+
+            try (val replayed = createStore(file, getProperties())) {
+                assertEquals("value1", replayed.get("key1"));
+                assertEquals("value2", replayed.get("key2"));
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -117,7 +117,6 @@ class GroovyShellScriptTests {
         @Test
         void verifyExec() {
             try (val shell = new GroovyShellScript("println 'test'")) {
-                assertNull(shell.getGroovyScript());
                 assertNotNull(shell.getScript());
 
                 assertDoesNotThrow(() -> shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY));
@@ -125,6 +124,17 @@ class GroovyShellScriptTests {
             }
         }
 
+        @Test
+        void verifyScriptCompiledOnce() throws Throwable {
+            val body = "return name.toUpperCase()";
+            assertSame(ScriptingUtils.compileGroovyShellScript(body), ScriptingUtils.compileGroovyShellScript(body));
+            val shell = new GroovyShellScript(body);
+            shell.setBinding(Map.of("name", "casuser"));
+            assertEquals("CASUSER", shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+            shell.setBinding(Map.of("name", "casadmin"));
+            assertEquals("CASADMIN", shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+        }
+
         @Test
         void verifyUnknownBadScript() {
             try (val shell = new GroovyShellScript("###$$@@@!!!***&&&")) {
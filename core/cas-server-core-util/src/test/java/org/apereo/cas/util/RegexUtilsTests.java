@@ -44,4 +44,13 @@ class RegexUtilsTests {
         val result = RegexUtils.findFirst(patterns, List.of("hello", "world", "911/", "911Z")).get();
         assertEquals("911Z", result);
     }
+
+    @Test
+    void verifyCompiledPatternsAreCached() throws Throwable {
+        val pattern = RegexUtils.createPattern("^cas-\\d+$");
+        assertSame(pattern, RegexUtils.createPattern("^cas-\\d+$"));
+        assertNotSame(pattern, RegexUtils.createPattern("^cas-\\d+$", 0));
+        assertTrue(RegexUtils.find("^CAS-\\d+$", "cas-123"));
+        assertFalse(RegexUtils.find(RegexUtils.createPattern("^CAS-\\d+$", 0), "cas-123"));
+    }
 }
@@ -10,16 +10,14 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
-import com.datastax.oss.driver.api.core.cql.SimpleStatement;
-import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.cassandra.core.cql.BeanPropertyRowMapper;
@@ -29,13 +27,25 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This is {@link CassandraTicketRegistry}.
+ * <p>
+ * All statements are prepared once and cached, and values are bound to typed columns.
+ * Ticket-granting tickets are also recorded in lookup tables that are partitioned by the
+ * (digested) principal id and by each (digested) attribute name and value, so that sessions
+ * for a principal or with given attributes are located by reading single partitions.
+ * Since every statement targets its own partition, writes are issued concurrently as individual
+ * statements rather than as multi-partition logged batches; lookup rows that point to a missing
+ * ticket are ignored when sessions are located. The principal and attributes of a ticket-granting ticket
+ * do not change once it is created, so lookup rows are only written when the ticket is first added.
  *
  * @author Misagh Moayyed
  * @author doomviking
@@ -43,13 +53,22 @@ import java.util.stream.Stream;
  */
 @Slf4j
 public class CassandraTicketRegistry extends AbstractTicketRegistry implements DisposableBean, InitializingBean {
-    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
-        .defaultTypingEnabled(false).build().toObjectMapper();
+    private static final String PRINCIPALS_TABLE_SUFFIX = "_principals";
+
+    private static final String ATTRIBUTES_TABLE_SUFFIX = "_attributes";
+
+    private static final String TICKET_COLUMNS = "id, type, prefix, attributes, data";
+
+    private static final List<String> LEGACY_INDEX_SUFFIXES = List.of("_entries_index", "_values_index", "_keys_index");
 
     private final CassandraSessionFactory cassandraSessionFactory;
 
     private final CassandraTicketRegistryProperties properties;
 
+    private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+
+    private final BeanPropertyRowMapper<CassandraTicketHolder> rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
+
     public CassandraTicketRegistry(final CipherExecutor cipherExecutor,
                                    final TicketSerializationManager ticketSerializationManager,
                                    final TicketCatalog ticketCatalog,
@@ -136,27 +155,28 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         val ticketId = digestIdentifier(ticketToDelete.getId());
         LOGGER.debug("Deleting ticket [{}]", ticketId);
         val definition = ticketCatalog.find(ticketToDelete);
-        val delete = QueryBuilder
-            .deleteFrom(properties.getKeyspace(), definition.getProperties().getStorageName())
-            .whereColumn("id").isEqualTo(QueryBuilder.literal(ticketId))
-            .build()
-            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-            .setTimeout(Beans.newDuration(properties.getTimeout()));
-        cassandraSessionFactory.getCqlTemplate().execute(delete);
+        val statements = new ArrayList<BoundStatement>();
+        statements.add(prepare("DELETE FROM %s WHERE id = ?", definition.getProperties().getStorageName()).bind(ticketId));
+        if (isSessionLookupEnabled(definition)) {
+            val storageName = definition.getProperties().getStorageName();
+            getDigestedPrincipalId(ticketToDelete).ifPresent(principal -> statements.add(deletePrincipalLookup(storageName, principal, ticketId)));
+            getDigestedAttributes(ticketToDelete).forEach((name, values) -> values.forEach(value ->
+                statements.add(deleteAttributeLookup(storageName, name, value, ticketId))));
+        }
+        execute(statements);
         return 1;
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         ticketCatalog.findAll()
             .stream()
-            .map(definition -> QueryBuilder
-                .truncate(properties.getKeyspace(), definition.getProperties().getStorageName())
-                .build()
-                .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-                .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-                .setTimeout(Beans.newDuration(properties.getTimeout())))
+            .flatMap(definition -> isSessionLookupEnabled(definition)
+                ? Stream.of(definition.getProperties().getStorageName(),
+                    definition.getProperties().getStorageName() + PRINCIPALS_TABLE_SUFFIX,
+                    definition.getProperties().getStorageName() + ATTRIBUTES_TABLE_SUFFIX)
+                : Stream.of(definition.getProperties().getStorageName()))
+            .map(tableName -> "TRUNCATE %s.%s;".formatted(properties.getKeyspace(), tableName))
             .forEach(delete -> {
                 LOGGER.trace("Attempting to delete all via query [{}]", delete);
                 cassandraSessionFactory.getCqlTemplate().execute(delete);
@@ -175,26 +195,33 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
             });
     }
 
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        val definition = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
+        val principal = digestIdentifier(principalId);
+        if (StringUtils.isBlank(principal)) {
+            return Stream.empty();
+        }
+        val select = prepare("SELECT id FROM %s WHERE principal = ?",
+            definition.getProperties().getStorageName() + PRINCIPALS_TABLE_SUFFIX).bind(principal);
+        val ticketIds = cassandraSessionFactory.getCqlTemplate().queryForList(withQueryOptions(select), String.class);
+        return findTicketsBy(definition, ticketIds);
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
-        val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
-        val queryList = new ArrayList<String>();
-        queryAttributes.forEach((key, values) ->
-            values.forEach(queryValue -> {
-                var cql = "SELECT * FROM %s.%s WHERE prefix='%s' AND ".formatted(properties.getKeyspace(), metadata.getProperties().getStorageName(), metadata.getPrefix());
-                cql += "attributes CONTAINS KEY '%s' AND attributes CONTAINS '%s' ALLOW FILTERING;".formatted(digestIdentifier(key), digestIdentifier(queryValue.toString()));
-                queryList.add(cql);
-            }));
-        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
-        return queryList
+        val definition = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
+        val tableName = definition.getProperties().getStorageName() + ATTRIBUTES_TABLE_SUFFIX;
+        val ticketIds = queryAttributes.entrySet()
             .stream()
-            .flatMap(query -> cassandraSessionFactory.getCqlTemplate().queryForStream(query, rowMapper))
-            .distinct()
-            .map(holder -> {
-                val result = deserializeTicket(holder.getData(), holder.getType());
-                return decodeTicket(result);
-            })
-            .filter(ticket -> !ticket.isExpired());
+            .flatMap(entry -> entry.getValue().stream().map(value -> {
+                val select = prepare("SELECT id FROM %s WHERE attribute = ? AND value = ?", tableName)
+                    .bind(digestIdentifier(entry.getKey()), digestIdentifier(value.toString()));
+                return cassandraSessionFactory.getCqlTemplate().queryForList(withQueryOptions(select), String.class);
+            }))
+            .flatMap(List::stream)
+            .collect(Collectors.toSet());
+        return findTicketsBy(definition, ticketIds);
     }
 
     @Override
@@ -213,28 +240,101 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     }
 
     private Collection<CassandraTicketHolder> findCassandraTicketBy(final TicketDefinition definition, final String ticketId) {
-        val builder = QueryBuilder.selectFrom(properties.getKeyspace(), definition.getProperties().getStorageName()).all();
-        if (StringUtils.isNotBlank(ticketId)) {
-            builder.whereColumn("id").isEqualTo(QueryBuilder.literal(ticketId)).limit(1);
-        }
-        val select = builder.build()
-            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-            .setTimeout(Beans.newDuration(properties.getTimeout()));
-        LOGGER.trace("Attempting to locate ticket via query [{}]", select);
-        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
-        return cassandraSessionFactory.getCqlTemplate().query(select, rowMapper);
+        val storageName = definition.getProperties().getStorageName();
+        val select = StringUtils.isNotBlank(ticketId)
+            ? prepare("SELECT " + TICKET_COLUMNS + " FROM %s WHERE id = ? LIMIT 1", storageName).bind(ticketId)
+            : prepare("SELECT " + TICKET_COLUMNS + " FROM %s", storageName).bind();
+        LOGGER.trace("Attempting to locate ticket via query [{}]", select.getPreparedStatement().getQuery());
+        return cassandraSessionFactory.getCqlTemplate().query(withQueryOptions(select), rowMapper);
     }
 
     private Stream<CassandraTicketHolder> streamCassandraTicketBy(final TicketDefinition definition) {
-        val builder = QueryBuilder.selectFrom(properties.getKeyspace(), definition.getProperties().getStorageName()).all();
-        val select = builder.build()
+        val select = prepare("SELECT " + TICKET_COLUMNS + " FROM %s", definition.getProperties().getStorageName()).bind();
+        LOGGER.trace("Attempting to locate ticket via query [{}]", select.getPreparedStatement().getQuery());
+        return cassandraSessionFactory.getCqlTemplate().queryForStream(withQueryOptions(select), rowMapper);
+    }
+
+    private Stream<Ticket> findTicketsBy(final TicketDefinition definition, final Collection<String> ticketIds) {
+        return ticketIds
+            .stream()
+            .distinct()
+            .flatMap(ticketId -> findCassandraTicketBy(definition, ticketId).stream())
+            .map(holder -> decodeTicket(deserializeTicket(holder.getData(), holder.getType())))
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
+    private boolean isSessionLookupEnabled(final TicketDefinition definition) {
+        return ticketCatalog.findTicketDefinition(TicketGrantingTicket.class)
+            .map(tgtDefinition -> tgtDefinition.getProperties().getStorageName())
+            .filter(storageName -> storageName.equals(definition.getProperties().getStorageName()))
+            .isPresent();
+    }
+
+    private Optional<String> getDigestedPrincipalId(final Ticket ticket) {
+        return Optional.ofNullable(digestIdentifier(getPrincipalIdFrom(ticket))).filter(StringUtils::isNotBlank);
+    }
+
+    private Map<String, List<String>> getDigestedAttributes(final Ticket ticket) {
+        val attributes = (Map<String, List>) collectAndDigestTicketAttributes(ticket);
+        return attributes
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> ((List<Object>) entry.getValue())
+                .stream()
+                .map(Object::toString)
+                .toList()));
+    }
+
+    private PreparedStatement prepare(final String cql, final String tableName) {
+        val query = cql.formatted(properties.getKeyspace() + '.' + tableName);
+        return preparedStatements.computeIfAbsent(query, statement -> {
+            LOGGER.trace("Preparing statement [{}]", statement);
+            return cassandraSessionFactory.getSession().prepare(statement);
+        });
+    }
+
+    private <T extends Statement<T>> T withQueryOptions(final T statement) {
+        return statement
             .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
             .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
             .setTimeout(Beans.newDuration(properties.getTimeout()));
-        LOGGER.trace("Attempting to locate ticket via query [{}]", select);
-        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
-        return cassandraSessionFactory.getCqlTemplate().queryForStream(select, rowMapper);
+    }
+
+    private void execute(final List<BoundStatement> statements) {
+        if (statements.size() == 1) {
+            cassandraSessionFactory.getCqlTemplate().execute(withQueryOptions(statements.getFirst()));
+        } else {
+            val session = cassandraSessionFactory.getSession();
+            val results = statements
+                .stream()
+                .map(statement -> session.executeAsync(withQueryOptions(statement)).toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(results).join();
+        }
+    }
+
+    private BoundStatement insertPrincipalLookup(final String storageName, final String principal,
+                                                 final String ticketId, final int ttl) {
+        return prepare("INSERT INTO %s (principal, id) VALUES (?, ?) USING TTL ?", storageName + PRINCIPALS_TABLE_SUFFIX)
+            .bind(principal, ticketId, ttl);
+    }
+
+    private BoundStatement insertAttributeLookup(final String storageName, final String name, final String value,
+                                                 final String ticketId, final int ttl) {
+        return prepare("INSERT INTO %s (attribute, value, id) VALUES (?, ?, ?) USING TTL ?", storageName + ATTRIBUTES_TABLE_SUFFIX)
+            .bind(name, value, ticketId, ttl);
+    }
+
+    private BoundStatement deletePrincipalLookup(final String storageName, final String principal, final String ticketId) {
+        return prepare("DELETE FROM %s WHERE principal = ? AND id = ?", storageName + PRINCIPALS_TABLE_SUFFIX)
+            .bind(principal, ticketId);
+    }
+
+    private BoundStatement deleteAttributeLookup(final String storageName, final String name,
+                                                 final String value, final String ticketId) {
+        return prepare("DELETE FROM %s WHERE attribute = ? AND value = ? AND id = ?", storageName + ATTRIBUTES_TABLE_SUFFIX)
+            .bind(name, value, ticketId);
     }
 
     private void createTablesIfNecessary() {
@@ -257,26 +357,73 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                 LOGGER.trace("Creating Cassandra table with query [{}]", createTable);
                 cassandraSessionFactory.getCqlTemplate().execute(createTable);
 
-                cassandraSessionFactory.getCqlTemplate().execute("DROP INDEX IF EXISTS " + metadata.getProperties().getStorageName() + "_entries_index");
-                val createIndexAttributeNames = "CREATE INDEX " + metadata.getProperties().getStorageName() + "_entries_index ON "
-                                                + properties.getKeyspace() + '.' + metadata.getProperties().getStorageName() + " (ENTRIES(attributes));";
-                LOGGER.trace("Creating Cassandra index with query [{}]", createIndexAttributeNames);
-                cassandraSessionFactory.getCqlTemplate().execute(createIndexAttributeNames);
-
-                cassandraSessionFactory.getCqlTemplate().execute("DROP INDEX IF EXISTS " + metadata.getProperties().getStorageName() + "_values_index");
-                val createIndexAttributeValues = "CREATE INDEX " + metadata.getProperties().getStorageName() + "_values_index ON "
-                                                 + properties.getKeyspace() + '.' + metadata.getProperties().getStorageName() + " (VALUES(attributes));";
-                LOGGER.trace("Creating Cassandra index with query [{}]", createIndexAttributeValues);
-                cassandraSessionFactory.getCqlTemplate().execute(createIndexAttributeValues);
-
-                cassandraSessionFactory.getCqlTemplate().execute("DROP INDEX IF EXISTS " + metadata.getProperties().getStorageName() + "_keys_index");
-                val createIndexAttributeNames3 = "CREATE INDEX " + metadata.getProperties().getStorageName() + "_keys_index ON "
-                                                 + properties.getKeyspace() + '.' + metadata.getProperties().getStorageName() + " (KEYS(attributes));";
-                LOGGER.trace("Creating Cassandra index with query [{}]", createIndexAttributeNames3);
-                cassandraSessionFactory.getCqlTemplate().execute(createIndexAttributeNames3);
+                val legacyIndexes = findLegacyIndexes(metadata);
+                if (isSessionLookupEnabled(metadata)) {
+                    createLookupTable(metadata.getProperties().getStorageName() + PRINCIPALS_TABLE_SUFFIX,
+                        "principal text, id text, PRIMARY KEY(principal, id)");
+                    createLookupTable(metadata.getProperties().getStorageName() + ATTRIBUTES_TABLE_SUFFIX,
+                        "attribute text, value text, id text, PRIMARY KEY((attribute, value), id)");
+                    if (!legacyIndexes.isEmpty()) {
+                        backfillLookupTables(metadata);
+                    }
+                }
+
+                legacyIndexes.forEach(index -> {
+                    val dropIndex = "DROP INDEX IF EXISTS %s.%s;".formatted(properties.getKeyspace(), index);
+                    LOGGER.trace("Dropping Cassandra index with query [{}]", dropIndex);
+                    cassandraSessionFactory.getCqlTemplate().execute(dropIndex);
+                });
             });
     }
 
+    private List<String> findLegacyIndexes(final TicketDefinition metadata) {
+        val storageName = metadata.getProperties().getStorageName();
+        val indexes = cassandraSessionFactory.getCqlTemplate().queryForList(
+            "SELECT index_name FROM system_schema.indexes WHERE keyspace_name = ? AND table_name = ?;",
+            String.class, properties.getKeyspace(), storageName);
+        return LEGACY_INDEX_SUFFIXES
+            .stream()
+            .map(suffix -> storageName + suffix)
+            .filter(indexes::contains)
+            .toList();
+    }
+
+    /**
+     * Tickets created before the lookup tables existed were only reachable via the
+     * secondary indexes; record them in the lookup tables before those indexes are dropped.
+     */
+    private void backfillLookupTables(final TicketDefinition metadata) {
+        val storageName = metadata.getProperties().getStorageName();
+        LOGGER.info("Populating session lookup tables for [{}] from existing ticket-granting tickets", storageName);
+        try (val holders = streamCassandraTicketBy(metadata)) {
+            holders.forEach(holder -> {
+                val ticket = decodeTicket(deserializeTicket(holder.getData(), holder.getType()));
+                if (ticket != null && !ticket.isExpired()) {
+                    execute(buildLookupStatements(storageName, ticket, holder.getId(), getTimeToLive(ticket)));
+                }
+            });
+        }
+    }
+
+    private List<BoundStatement> buildLookupStatements(final String storageName, final Ticket ticket,
+                                                       final String ticketId, final int ttl) {
+        val statements = new ArrayList<BoundStatement>();
+        getDigestedPrincipalId(ticket).ifPresent(principal -> statements.add(insertPrincipalLookup(storageName, principal, ticketId, ttl)));
+        getDigestedAttributes(ticket).forEach((name, values) -> values.forEach(value ->
+            statements.add(insertAttributeLookup(storageName, name, value, ticketId, ttl))));
+        return statements;
+    }
+
+    private void createLookupTable(final String tableName, final String columns) {
+        if (properties.isDropTablesOnStartup()) {
+            val drop = "DROP TABLE IF EXISTS %s.%s;".formatted(properties.getKeyspace(), tableName);
+            LOGGER.trace("Dropping Cassandra table with query [{}]", drop);
+            cassandraSessionFactory.getCqlTemplate().execute(drop);
+        }
+        val createTable = "CREATE TABLE IF NOT EXISTS %s.%s(%s);".formatted(properties.getKeyspace(), tableName, columns);
+        LOGGER.trace("Creating Cassandra table with query [{}]", createTable);
+        cassandraSessionFactory.getCqlTemplate().execute(createTable);
+    }
 
     private Ticket addTicketToCassandra(final Ticket ticket, final boolean inserting) throws Exception {
         LOGGER.debug("Adding ticket [{}]", ticket.getId());
@@ -285,47 +432,27 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         val encTicket = encodeTicket(ticket);
         val data = ticketSerializationManager.serializeTicket(encTicket);
         val ttl = getTimeToLive(ticket);
-        var statement = (SimpleStatement) null;
+        val storageName = metadata.getProperties().getStorageName();
 
-        val attributeMap = (Map<String, List>) collectAndDigestTicketAttributes(ticket);
-        val attributesEncoded = attributeMap
+        val attributes = getDigestedAttributes(ticket);
+        val attributesEncoded = attributes
             .entrySet()
             .stream()
-            .map(entry -> {
-                val entryValues = (List) entry.getValue();
-                val valueList = entryValues.stream().map(Object::toString).collect(Collectors.joining(","));
-                return Pair.of(entry.getKey(), valueList);
-            })
-            .collect(Collectors.toMap(Pair::getKey, v -> v.getValue().toString()));
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> String.join(",", entry.getValue())));
 
+        val statements = new ArrayList<BoundStatement>();
         if (inserting) {
-            val document = CassandraTicketHolder.builder()
-                .id(encTicket.getId())
-                .data(data)
-                .prefix(ticket.getPrefix())
-                .type(encTicket.getClass().getName())
-                .attributes(attributesEncoded)
-                .build();
-            val json = MAPPER.writeValueAsString(document);
-            statement = QueryBuilder.insertInto(properties.getKeyspace(), metadata.getProperties().getStorageName())
-                .json(json)
-                .usingTtl(ttl)
-                .build();
+            statements.add(prepare("INSERT INTO %s (" + TICKET_COLUMNS + ") VALUES (?, ?, ?, ?, ?) USING TTL ?", storageName)
+                .bind(encTicket.getId(), encTicket.getClass().getName(), ticket.getPrefix(), attributesEncoded, data, ttl));
         } else {
-            statement = QueryBuilder.update(properties.getKeyspace(), metadata.getProperties().getStorageName())
-                .usingTtl(ttl)
-                .setColumn("data", QueryBuilder.literal(data))
-                .setColumn("attributes", QueryBuilder.literal(attributesEncoded))
-                .whereColumn("id").isEqualTo(QueryBuilder.literal(encTicket.getId()))
-                .whereColumn("type").isEqualTo(QueryBuilder.literal(encTicket.getClass().getName()))
-                .build();
+            statements.add(prepare("UPDATE %s USING TTL ? SET data = ?, attributes = ? WHERE id = ? AND type = ?", storageName)
+                .bind(ttl, data, attributesEncoded, encTicket.getId(), encTicket.getClass().getName()));
         }
-        statement = statement.setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-            .setTimeout(Beans.newDuration(properties.getTimeout()));
-
-        LOGGER.trace("Attempting to locate ticket via query [{}]", statement.getQuery());
-        cassandraSessionFactory.getCqlTemplate().execute(statement);
+        if (inserting && isSessionLookupEnabled(metadata)) {
+            statements.addAll(buildLookupStatements(storageName, ticket, encTicket.getId(), ttl));
+        }
+        LOGGER.trace("Attempting to add ticket via [{}] statement(s)", statements.size());
+        execute(statements);
         LOGGER.debug("Added ticket [{}]", encTicket.getId());
         return ticket;
     }
@@ -1,10 +1,16 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.cassandra.CassandraSessionFactory;
 import org.apereo.cas.config.CassandraTicketRegistryAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +18,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import java.util.List;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -38,9 +47,62 @@ class CassandraTicketRegistryTests extends BaseTicketRegistryTests {
     @Qualifier(TicketRegistry.BEAN_NAME)
     private TicketRegistry newTicketRegistry;
 
+    @Autowired
+    @Qualifier("cassandraTicketRegistrySessionFactory")
+    private CassandraSessionFactory cassandraTicketRegistrySessionFactory;
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
     @RepeatedTest(1)
     void verifyFails() throws Throwable {
         assertDoesNotThrow(() -> newTicketRegistry.addTicket((Ticket) null));
     }
 
+    @RepeatedTest(2)
+    void verifyUpdateKeepsLookups() throws Throwable {
+        val ticketId = TestTicketIdentifiers.generate().ticketGrantingTicketId();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser", Map.of("department", List.of("engineering")));
+        val ticket = new TicketGrantingTicketImpl(ticketId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(ticket);
+        ticket.update();
+        newTicketRegistry.updateTicket(ticket);
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("department", List.of("engineering"))).count());
+        assertEquals(1, newTicketRegistry.getSessionsFor("casuser").count());
+
+        newTicketRegistry.deleteTicket(ticketId);
+        assertEquals(0, newTicketRegistry.getSessionsWithAttributes(Map.of("department", List.of("engineering"))).count());
+        assertEquals(0, newTicketRegistry.getSessionsFor("casuser").count());
+    }
+
+    @RepeatedTest(2)
+    void verifyLookupTablesBackfilledFromLegacyIndexes() throws Throwable {
+        val ticket = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication("casuser", Map.of("department", List.of("engineering"))),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(ticket);
+
+        val cassandra = casProperties.getTicket().getRegistry().getCassandra();
+        val storageName = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow().getProperties().getStorageName();
+        val cqlTemplate = cassandraTicketRegistrySessionFactory.getCqlTemplate();
+        cqlTemplate.execute("TRUNCATE %s.%s_principals;".formatted(cassandra.getKeyspace(), storageName));
+        cqlTemplate.execute("TRUNCATE %s.%s_attributes;".formatted(cassandra.getKeyspace(), storageName));
+        cqlTemplate.execute("CREATE INDEX IF NOT EXISTS %s_entries_index ON %s.%s (ENTRIES(attributes));"
+            .formatted(storageName, cassandra.getKeyspace(), storageName));
+        assertEquals(0, newTicketRegistry.getSessionsFor("casuser").count());
+
+        cassandra.setDropTablesOnStartup(false);
+        try {
+            val registry = (CassandraTicketRegistry) AopTestUtils.getTargetObject(newTicketRegistry);
+            registry.afterPropertiesSet();
+        } finally {
+            cassandra.setDropTablesOnStartup(true);
+        }
+        assertEquals(1, newTicketRegistry.getSessionsFor("casuser").count());
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("department", List.of("engineering"))).count());
+        val indexes = cqlTemplate.queryForList("SELECT index_name FROM system_schema.indexes WHERE keyspace_name = ? AND table_name = ?;",
+            String.class, cassandra.getKeyspace(), storageName);
+        assertFalse(indexes.contains(storageName + "_entries_index"));
+    }
+
 }
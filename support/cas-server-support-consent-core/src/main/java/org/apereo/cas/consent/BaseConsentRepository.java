@@ -6,75 +6,116 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.RandomUtils;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
+import lombok.NoArgsConstructor;
 import lombok.val;
 
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link BaseConsentRepository}.
+ * Decisions are indexed by principal, so that lookups only
+ * need to examine the decisions recorded for the given principal
+ * rather than scanning the entire repository.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
-@Setter
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseConsentRepository implements ConsentRepository {
     @Serial
     private static final long serialVersionUID = 1736846688546785564L;
 
-    private Set<ConsentDecision> consentDecisions = Collections.synchronizedSet(new LinkedHashSet<>(0));
+    private final Map<String, List<ConsentDecision>> consentDecisions = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a snapshot of all consent decisions.
+     *
+     * @return the consent decisions
+     */
+    public Set<ConsentDecision> getConsentDecisions() {
+        return consentDecisions.values()
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Replace all consent decisions and rebuild the index.
+     *
+     * @param decisions the decisions
+     */
+    public void setConsentDecisions(final Set<ConsentDecision> decisions) {
+        val index = Stream.ofNullable(decisions)
+            .flatMap(Set::stream)
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(decision -> getIndexKey(decision.getPrincipal()),
+                Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+        consentDecisions.keySet().retainAll(index.keySet());
+        consentDecisions.putAll(index);
+    }
 
     @Override
     public ConsentDecision findConsentDecision(final Service service, final RegisteredService registeredService,
                                                final Authentication authentication) {
-        return this.consentDecisions.stream()
-            .filter(d -> d.getPrincipal().equals(authentication.getPrincipal().getId())
-                && d.getService().equals(service.getId()))
+        val principal = authentication.getPrincipal().getId();
+        return getDecisionsFor(principal)
+            .stream()
+            .filter(d -> d.getPrincipal().equals(principal) && d.getService().equals(service.getId()))
             .findFirst()
             .orElse(null);
     }
 
     @Override
     public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
-        return this.consentDecisions.stream()
+        return getDecisionsFor(principal)
+            .stream()
             .filter(d -> d.getPrincipal().equals(principal))
             .collect(Collectors.toSet());
     }
 
     @Override
     public Collection<? extends ConsentDecision> findConsentDecisions() {
-        return new ArrayList<>(this.consentDecisions);
+        return new ArrayList<>(getConsentDecisions());
     }
 
     @Override
     public ConsentDecision storeConsentDecision(final ConsentDecision decision) throws Throwable {
-        val consent = getConsentDecisions()
-            .stream()
-            .anyMatch(d -> d.getId() == decision.getId());
-        if (consent) {
-            getConsentDecisions().remove(decision);
-        } else {
-            decision.setId(RandomUtils.nextLong());
-        }
-        getConsentDecisions().add(decision);
+        consentDecisions.compute(getIndexKey(decision.getPrincipal()), (key, decisions) -> {
+            val results = new ArrayList<ConsentDecision>();
+            if (decisions != null) {
+                results.addAll(decisions);
+            }
+            val existing = results.removeIf(d -> d.getId() == decision.getId());
+            if (!existing) {
+                decision.setId(RandomUtils.nextLong());
+            }
+            results.add(decision);
+            return List.copyOf(results);
+        });
         return decision;
     }
 
     @Override
     public boolean deleteConsentDecision(final long decisionId, final String principal) throws Throwable {
-        return this.consentDecisions.removeIf(d -> d.getId() == decisionId && d.getPrincipal().equalsIgnoreCase(principal));
+        val removed = new AtomicBoolean(false);
+        consentDecisions.computeIfPresent(getIndexKey(principal), (key, decisions) -> {
+            val results = new ArrayList<>(decisions);
+            removed.set(results.removeIf(d -> d.getId() == decisionId && d.getPrincipal().equalsIgnoreCase(principal)));
+            return results.isEmpty() ? null : List.copyOf(results);
+        });
+        return removed.get();
     }
 
     @Override
@@ -84,6 +125,14 @@ public abstract class BaseConsentRepository implements ConsentRepository {
 
     @Override
     public boolean deleteConsentDecisions(final String principal) throws Throwable {
-        return consentDecisions.removeIf(consentDecision -> consentDecision.getPrincipal().equalsIgnoreCase(principal));
+        return consentDecisions.remove(getIndexKey(principal)) != null;
+    }
+
+    private List<ConsentDecision> getDecisionsFor(final String principal) {
+        return consentDecisions.getOrDefault(getIndexKey(principal), List.of());
+    }
+
+    private static String getIndexKey(final String principal) {
+        return principal.toLowerCase(Locale.ENGLISH);
     }
 }
@@ -108,6 +108,40 @@ public abstract class BaseConsentRepositoryTests {
             assertNull(repo.findConsentDecision(SVC, REG_SVC, CoreAuthenticationTestUtils.getAuthentication(user))));
     }
 
+    protected void assertConsentDecisionsByPrincipalAndService() {
+        val user = getUser();
+        val repo = getRepository();
+        val service2 = RegisteredServiceTestUtils.getService("https://example.org/app");
+        val registeredService2 = RegisteredServiceTestUtils.getRegisteredService(service2.getId());
+        val decision1 = repo.storeConsentDecision(buildConsentDecision(SVC, REG_SVC, user));
+        val decision2 = repo.storeConsentDecision(buildConsentDecision(service2, registeredService2, user));
+        repo.storeConsentDecision(buildConsentDecision(SVC, REG_SVC, getUser()));
+
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(user);
+        assertEquals(decision1.getId(), repo.findConsentDecision(SVC, REG_SVC, authentication).getId());
+        assertEquals(decision2.getId(), repo.findConsentDecision(service2, registeredService2, authentication).getId());
+        assertEquals(2, repo.findConsentDecisions(user).size());
+
+        decision1.setReminder(30L);
+        repo.storeConsentDecision(decision1);
+        assertEquals(2, repo.findConsentDecisions(user).size());
+        assertEquals(30L, repo.findConsentDecision(SVC, REG_SVC, authentication).getReminder());
+
+        assertTrue(repo.deleteConsentDecision(decision2.getId(), user));
+        assertNull(repo.findConsentDecision(service2, registeredService2, authentication));
+        assertNotNull(repo.findConsentDecision(SVC, REG_SVC, authentication));
+        assertTrue(repo.deleteConsentDecisions(user));
+        assertNull(repo.findConsentDecision(SVC, REG_SVC, authentication));
+    }
+
+    private static ConsentDecision buildConsentDecision(final Service service,
+                                                        final BaseRegisteredService registeredService,
+                                                        final String user) {
+        val decision = BUILDER.build(service, registeredService, user, ATTR);
+        decision.setId(RandomUtils.nextLong());
+        return decision;
+    }
+
     protected String getUser() {
         return RandomUtils.randomAlphanumeric(8);
     }
@@ -1,10 +1,16 @@
 package org.apereo.cas.consent;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This is {@link InMemoryConsentRepositoryTests}.
@@ -20,4 +26,28 @@ class InMemoryConsentRepositoryTests extends BaseConsentRepositoryTests {
     @Autowired
     @Qualifier(ConsentRepository.BEAN_NAME)
     protected ConsentRepository repository;
+
+    @Test
+    void verifyDecisionsIndexedByPrincipalAndService() throws Throwable {
+        val user = getUser();
+        val service2 = RegisteredServiceTestUtils.getService("https://example.org/app");
+        val decision1 = repository.storeConsentDecision(BUILDER.build(SVC, REG_SVC, user, ATTR));
+        val decision2 = repository.storeConsentDecision(BUILDER.build(service2,
+            RegisteredServiceTestUtils.getRegisteredService(service2.getId()), user, ATTR));
+        repository.storeConsentDecision(BUILDER.build(SVC, REG_SVC, getUser(), ATTR));
+
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(user);
+        assertEquals(decision1.getId(), repository.findConsentDecision(SVC, REG_SVC, authentication).getId());
+        assertEquals(decision2.getId(), repository.findConsentDecision(service2, REG_SVC, authentication).getId());
+        assertEquals(2, repository.findConsentDecisions(user).size());
+
+        decision1.setReminder(30L);
+        repository.storeConsentDecision(decision1);
+        assertEquals(2, repository.findConsentDecisions(user).size());
+        assertEquals(30L, repository.findConsentDecision(SVC, REG_SVC, authentication).getReminder());
+
+        assertTrue(repository.deleteConsentDecision(decision2.getId(), user.toUpperCase(Locale.ENGLISH)));
+        assertNull(repository.findConsentDecision(service2, REG_SVC, authentication));
+        assertNotNull(repository.findConsentDecision(SVC, REG_SVC, authentication));
+    }
 }
@@ -11,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.io.Serial;
 
@@ -24,7 +25,7 @@ import java.io.Serial;
 @Getter
 @Setter
 @Entity
-@Table(name = "ConsentDecision")
+@Table(name = "ConsentDecision", indexes = @Index(name = "IDX_CONSENT_PRINCIPAL_SERVICE", columnList = "principal,service"))
 @AllArgsConstructor
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
 public class JpaConsentDecision extends ConsentDecision {
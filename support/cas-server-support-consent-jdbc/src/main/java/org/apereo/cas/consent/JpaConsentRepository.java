@@ -43,15 +43,14 @@ public class JpaConsentRepository implements ConsentRepository {
     public ConsentDecision findConsentDecision(final Service service,
                                                final RegisteredService registeredService,
                                                final Authentication authentication) {
-        try {
-            val query = SELECT_QUERY.concat("WHERE r.principal = :principal AND r.service = :service");
-            return this.entityManager.createQuery(query, JpaConsentDecision.class)
-                .setParameter("principal", authentication.getPrincipal().getId())
-                .setParameter("service", service.getId()).getSingleResult();
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
-        }
-        return null;
+        val query = SELECT_QUERY.concat("WHERE r.principal = :principal AND r.service = :service");
+        return this.entityManager.createQuery(query, JpaConsentDecision.class)
+            .setParameter("principal", authentication.getPrincipal().getId())
+            .setParameter("service", service.getId())
+            .setMaxResults(1)
+            .getResultStream()
+            .findFirst()
+            .orElse(null);
     }
 
     @Override
@@ -103,17 +102,10 @@ public class JpaConsentRepository implements ConsentRepository {
 
     @Override
     public boolean deleteConsentDecisions(final String principal) {
-        try {
-            val query = SELECT_QUERY.concat("WHERE r.principal = :principal");
-            val decision = entityManager.createQuery(query, JpaConsentDecision.class)
-                .setParameter("principal", principal)
-                .getSingleResult();
-            entityManager.remove(decision);
-            return true;
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
-        }
-        return false;
+        val query = "DELETE FROM " + ENTITY_NAME + " r WHERE r.principal = :principal";
+        return entityManager.createQuery(query)
+            .setParameter("principal", principal)
+            .executeUpdate() > 0;
     }
 
     @Override
@@ -45,6 +45,11 @@ class JpaConsentRepositoryTests extends BaseConsentRepositoryTests {
         assertFalse(repository.deleteConsentDecision(-1, null));
     }
 
+    @Test
+    void verifyDecisionsByPrincipalAndService() throws Throwable {
+        assertConsentDecisionsByPrincipalAndService();
+    }
+
     @Test
     void verifyLargeDataset() throws Throwable {
         val principal = UUID.randomUUID().toString();
@@ -4,6 +4,7 @@ import org.apereo.cas.config.CasConsentMongoDbAutoConfiguration;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import lombok.Getter;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -35,4 +36,9 @@ class MongoDbConsentRepositoryTests extends BaseConsentRepositoryTests {
     @Autowired
     @Qualifier(ConsentRepository.BEAN_NAME)
     protected ConsentRepository repository;
+
+    @Test
+    void verifyDecisionsByPrincipalAndService() throws Throwable {
+        assertConsentDecisionsByPrincipalAndService();
+    }
 }
@@ -12,11 +12,17 @@ import lombok.val;
 
 import java.io.Serial;
 import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link RedisConsentRepository}.
+ * Decisions are indexed per principal in a hash that maps services to decision ids, so that decisions
+ * for a principal are read from the index and fetched together; the keyspace is only scanned
+ * to build the index for principals whose decisions were stored before it existed.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -29,6 +35,16 @@ public class RedisConsentRepository implements ConsentRepository {
      */
     public static final String CAS_CONSENT_DECISION_PREFIX = ConsentDecision.class.getSimpleName() + ':';
 
+    /**
+     * Redis key prefix for the per-principal index that maps services to decision ids.
+     */
+    public static final String CAS_CONSENT_DECISION_INDEX_PREFIX = ConsentDecision.class.getSimpleName() + "Index:";
+
+    /**
+     * Field present in every index, so that principals without decisions are known to be indexed.
+     */
+    private static final String INDEX_MARKER_FIELD = "*";
+
     @Serial
     private static final long serialVersionUID = 1234168609139907616L;
 
@@ -40,10 +56,17 @@ public class RedisConsentRepository implements ConsentRepository {
     public ConsentDecision findConsentDecision(final Service service,
                                                final RegisteredService registeredService,
                                                final Authentication authentication) {
-        val results = findConsentDecisions(authentication.getPrincipal().getId());
-        return results
+        val principal = authentication.getPrincipal().getId();
+        val indexKey = getIndexKey(principal);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(indexKey))) {
+            val decisionId = redisTemplate.opsForHash().get(indexKey, getIndexField(service.getId()));
+            return Optional.ofNullable(decisionId)
+                .map(id -> redisTemplate.boundValueOps(getDecisionKey(principal, id)).get())
+                .filter(d -> d.getService().equalsIgnoreCase(service.getId()))
+                .orElse(null);
+        }
+        return indexConsentDecisions(principal)
             .stream()
-            .map(ConsentDecision.class::cast)
             .filter(d -> d.getService().equalsIgnoreCase(service.getId()))
             .findFirst()
             .orElse(null);
@@ -51,13 +74,22 @@ public class RedisConsentRepository implements ConsentRepository {
 
     @Override
     public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
-        try (val redisKeys = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + principal + ":*", this.scanCount)) {
-            return redisKeys
-                .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
-                .filter(Objects::nonNull)
-                .map(ConsentDecision.class::cast)
-                .collect(Collectors.toList());
+        val index = redisTemplate.opsForHash().entries(getIndexKey(principal));
+        if (index.isEmpty()) {
+            return indexConsentDecisions(principal);
+        }
+        val decisionKeys = index.entrySet()
+            .stream()
+            .filter(entry -> !INDEX_MARKER_FIELD.equals(entry.getKey()))
+            .map(entry -> getDecisionKey(principal, entry.getValue()))
+            .toList();
+        if (decisionKeys.isEmpty()) {
+            return List.of();
         }
+        return Objects.requireNonNull(redisTemplate.opsForValue().multiGet(decisionKeys))
+            .stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
 
     @Override
@@ -74,8 +106,11 @@ public class RedisConsentRepository implements ConsentRepository {
     @Override
     public ConsentDecision storeConsentDecision(final ConsentDecision decision) {
         try {
-            val redisKey = CAS_CONSENT_DECISION_PREFIX + decision.getPrincipal() + ':' + decision.getId();
-            redisTemplate.boundValueOps(redisKey).set(decision);
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(getIndexKey(decision.getPrincipal())))) {
+                indexConsentDecisions(decision.getPrincipal());
+            }
+            redisTemplate.boundValueOps(getDecisionKey(decision.getPrincipal(), decision.getId())).set(decision);
+            indexConsentDecision(decision);
             return decision;
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
@@ -85,10 +120,12 @@ public class RedisConsentRepository implements ConsentRepository {
 
     @Override
     public boolean deleteConsentDecision(final long decisionId, final String principal) {
-        try (val redisKey = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + principal + ':' + decisionId, scanCount)) {
-            val count = redisTemplate.delete(redisKey.collect(Collectors.toSet()));
-            return count != null && count.intValue() > 0;
+        val redisKey = getDecisionKey(principal, decisionId);
+        val decision = redisTemplate.boundValueOps(redisKey).get();
+        if (decision != null) {
+            redisTemplate.opsForHash().delete(getIndexKey(principal), getIndexField(decision.getService()));
         }
+        return Boolean.TRUE.equals(redisTemplate.delete(redisKey));
     }
 
     @Override
@@ -96,13 +133,50 @@ public class RedisConsentRepository implements ConsentRepository {
         try (val redisKey = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + '*', scanCount)) {
             redisTemplate.delete(redisKey.collect(Collectors.toSet()));
         }
+        try (val indexKey = redisTemplate.scan(CAS_CONSENT_DECISION_INDEX_PREFIX + '*', scanCount)) {
+            redisTemplate.delete(indexKey.collect(Collectors.toSet()));
+        }
     }
 
     @Override
     public boolean deleteConsentDecisions(final String principal) {
+        redisTemplate.delete(getIndexKey(principal));
         try (val redisKey = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + principal + ":*", scanCount)) {
             val count = redisTemplate.delete(redisKey.collect(Collectors.toSet()));
             return count != null && count.intValue() > 0;
         }
     }
+
+    private List<ConsentDecision> indexConsentDecisions(final String principal) {
+        val decisions = scanConsentDecisions(principal);
+        redisTemplate.opsForHash().put(getIndexKey(principal), INDEX_MARKER_FIELD, Boolean.TRUE);
+        decisions.forEach(this::indexConsentDecision);
+        return List.copyOf(decisions);
+    }
+
+    private List<ConsentDecision> scanConsentDecisions(final String principal) {
+        try (val redisKeys = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + principal + ":*", this.scanCount)) {
+            return redisKeys
+                .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
+                .filter(Objects::nonNull)
+                .map(ConsentDecision.class::cast)
+                .collect(Collectors.toList());
+        }
+    }
+
+    private void indexConsentDecision(final ConsentDecision decision) {
+        redisTemplate.opsForHash().put(getIndexKey(decision.getPrincipal()), getIndexField(decision.getService()), decision.getId());
+    }
+
+    private static String getIndexField(final String service) {
+        return service.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String getDecisionKey(final String principal, final Object decisionId) {
+        return CAS_CONSENT_DECISION_PREFIX + principal + ':' + decisionId;
+    }
+
+    private static String getIndexKey(final String principal) {
+        return CAS_CONSENT_DECISION_INDEX_PREFIX + principal;
+    }
 }
@@ -1,6 +1,9 @@
 package org.apereo.cas.consent;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasConsentRedisAutoConfiguration;
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import lombok.Getter;
 import lombok.val;
@@ -9,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import java.util.Locale;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,6 +41,10 @@ class RedisConsentRepositoryTests extends BaseConsentRepositoryTests {
     @Qualifier(ConsentRepository.BEAN_NAME)
     protected ConsentRepository repository;
 
+    @Autowired
+    @Qualifier("consentRedisTemplate")
+    private CasRedisTemplate consentRedisTemplate;
+
     @Test
     void storeBadDecision() throws Throwable {
         val repo = getRepository();
@@ -49,5 +57,39 @@ class RedisConsentRepositoryTests extends BaseConsentRepositoryTests {
         assertFalse(repo.deleteConsentDecision(-1, UUID.randomUUID().toString()));
     }
 
+    @Test
+    void verifyDecisionsByPrincipalAndService() throws Throwable {
+        assertConsentDecisionsByPrincipalAndService();
+    }
+
+    @Test
+    void verifyPrincipalWithoutDecisionsIsIndexed() throws Throwable {
+        val user = getUser();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(user);
+        assertNull(repository.findConsentDecision(SVC, REG_SVC, authentication));
+        assertEquals(Boolean.TRUE, consentRedisTemplate.hasKey(RedisConsentRepository.CAS_CONSENT_DECISION_INDEX_PREFIX + user));
 
+        val decision = BUILDER.build(SVC, REG_SVC, user, ATTR);
+        repository.storeConsentDecision(decision);
+        val service = RegisteredServiceTestUtils.getService(SVC.getId().toUpperCase(Locale.ENGLISH));
+        assertEquals(decision.getId(), repository.findConsentDecision(service, REG_SVC, authentication).getId());
+    }
+
+    @Test
+    void verifyDecisionsByPrincipalReadFromIndex() throws Throwable {
+        val user = getUser();
+        val legacyDecision = BUILDER.build(SVC, REG_SVC, user, ATTR);
+        consentRedisTemplate.boundValueOps(RedisConsentRepository.CAS_CONSENT_DECISION_PREFIX + user + ':' + legacyDecision.getId()).set(legacyDecision);
+        val indexKey = RedisConsentRepository.CAS_CONSENT_DECISION_INDEX_PREFIX + user;
+        assertEquals(Boolean.FALSE, consentRedisTemplate.hasKey(indexKey));
+        assertEquals(1, repository.findConsentDecisions(user).size());
+        assertEquals(Boolean.TRUE, consentRedisTemplate.hasKey(indexKey));
+
+        val decision = BUILDER.build(RegisteredServiceTestUtils.getService(UUID.randomUUID().toString()), REG_SVC, user, ATTR);
+        decision.setId(legacyDecision.getId() + 1);
+        repository.storeConsentDecision(decision);
+        assertEquals(2, repository.findConsentDecisions(user).size());
+        assertTrue(repository.deleteConsentDecision(decision.getId(), user));
+        assertEquals(1, repository.findConsentDecisions(user).size());
+    }
 }
@@ -70,7 +70,7 @@ public class CosmosDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         val queryOptions = new CosmosQueryRequestOptions();
         return ticketCatalog.findAll()
             .stream()
@@ -138,9 +138,9 @@ public class CosmosDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) {
+    protected List<? extends Ticket> addTickets(final Stream<? extends Ticket> toSave) {
         val operations = new HashMap<String, List<CosmosItemOperation>>();
-        val results = toSave.peek(ticket -> {
+        val results = toSave.filter(ticket -> ticket != null && !ticket.isExpired()).peek(ticket -> {
             val ticketDefinition = ticketCatalog.find(ticket);
             val holder = getCosmosDbTicketDocument(ticket, ticketDefinition);
             val commands = (List<CosmosItemOperation>) operations.getOrDefault(ticketDefinition.getProperties().getStorageName(), new ArrayList<>());
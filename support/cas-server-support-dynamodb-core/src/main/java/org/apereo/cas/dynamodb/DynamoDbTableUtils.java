@@ -17,11 +17,18 @@ import software.amazon.awssdk.services.dynamodb.model.Condition;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
 import software.amazon.awssdk.services.dynamodb.model.TimeToLiveSpecification;
@@ -129,19 +136,42 @@ public class DynamoDbTableUtils {
                                                final boolean deleteTable,
                                                final List<AttributeDefinition> attributeDefinitions,
                                                final List<KeySchemaElement> keySchemaElements) throws Exception {
+        return createTable(dynamoDbClient, dynamoDbProperties, tableName, deleteTable,
+            attributeDefinitions, keySchemaElements, List.of());
+    }
+
+    /**
+     * Create table along with its global secondary indexes.
+     *
+     * @param dynamoDbClient         the dynamo db client
+     * @param dynamoDbProperties     the dynamo db properties
+     * @param tableName              the table name
+     * @param deleteTable            the delete tables
+     * @param attributeDefinitions   the attribute definitions
+     * @param keySchemaElements      the key schema elements
+     * @param globalSecondaryIndexes the global secondary indexes
+     * @return the table description
+     * @throws Exception the exception
+     */
+    public static TableDescription createTable(final DynamoDbClient dynamoDbClient,
+                                               final AbstractDynamoDbProperties dynamoDbProperties,
+                                               final String tableName,
+                                               final boolean deleteTable,
+                                               final List<AttributeDefinition> attributeDefinitions,
+                                               final List<KeySchemaElement> keySchemaElements,
+                                               final List<GlobalSecondaryIndex> globalSecondaryIndexes) throws Exception {
 
         val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
-        val throughput = billingMode == BillingMode.PROVISIONED ? ProvisionedThroughput.builder()
-            .readCapacityUnits(dynamoDbProperties.getReadCapacity())
-            .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
-            .build() : null;
-        val request = CreateTableRequest.builder()
+        val builder = CreateTableRequest.builder()
             .attributeDefinitions(attributeDefinitions)
             .keySchema(keySchemaElements)
-            .provisionedThroughput(throughput)
+            .provisionedThroughput(buildProvisionedThroughput(dynamoDbProperties))
             .tableName(tableName)
-            .billingMode(billingMode)
-            .build();
+            .billingMode(billingMode);
+        if (!globalSecondaryIndexes.isEmpty()) {
+            builder.globalSecondaryIndexes(globalSecondaryIndexes);
+        }
+        val request = builder.build();
 
         if (deleteTable) {
             val delete = DeleteTableRequest.builder().tableName(tableName).build();
@@ -159,6 +189,26 @@ public class DynamoDbTableUtils {
         return tableDescription;
     }
 
+    /**
+     * Build a global secondary index that is keyed by the given attribute
+     * and projects all attributes of the table.
+     *
+     * @param dynamoDbProperties the dynamo db properties
+     * @param indexName          the index name
+     * @param attributeName      the attribute name
+     * @return the global secondary index
+     */
+    public static GlobalSecondaryIndex buildGlobalSecondaryIndex(final AbstractDynamoDbProperties dynamoDbProperties,
+                                                                 final String indexName,
+                                                                 final String attributeName) {
+        return GlobalSecondaryIndex.builder()
+            .indexName(indexName)
+            .keySchema(KeySchemaElement.builder().attributeName(attributeName).keyType(KeyType.HASH).build())
+            .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+            .provisionedThroughput(buildProvisionedThroughput(dynamoDbProperties))
+            .build();
+    }
+
     /**
      * Enable time to live on table.
      *
@@ -341,6 +391,78 @@ public class DynamoDbTableUtils {
             .filter(Objects::nonNull);
     }
 
+    /**
+     * Query the table or index for items whose key attribute matches the given value,
+     * and stream results using pagination.
+     *
+     * @param <T>            the type parameter
+     * @param dynamoDbClient the dynamo db client
+     * @param tableName      the table name
+     * @param indexName      the index name, if any
+     * @param keyName        the key name
+     * @param keyValue       the key value
+     * @param itemMapper     the item mapper
+     * @return the stream
+     */
+    public static <T> Stream<T> queryPaginator(final DynamoDbClient dynamoDbClient,
+                                               final String tableName,
+                                               final String indexName,
+                                               final String keyName,
+                                               final AttributeValue keyValue,
+                                               final Function<Map<String, AttributeValue>, T> itemMapper) {
+        val queryRequest = buildKeyQueryRequest(tableName, indexName, keyName, keyValue).build();
+        LOGGER.debug("Querying table with query request [{}]", queryRequest);
+        return dynamoDbClient.queryPaginator(queryRequest)
+            .stream()
+            .flatMap(results -> results.items().stream())
+            .map(itemMapper)
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Count items in the table or index whose key attribute matches the given value.
+     * Only the number of matching items is returned by the query, and not the items themselves.
+     *
+     * @param dynamoDbClient the dynamo db client
+     * @param tableName      the table name
+     * @param indexName      the index name, if any
+     * @param keyName        the key name
+     * @param keyValue       the key value
+     * @return the count
+     */
+    public static long count(final DynamoDbClient dynamoDbClient,
+                             final String tableName,
+                             final String indexName,
+                             final String keyName,
+                             final AttributeValue keyValue) {
+        val queryRequest = buildKeyQueryRequest(tableName, indexName, keyName, keyValue)
+            .select(Select.COUNT)
+            .build();
+        LOGGER.debug("Counting items with query request [{}]", queryRequest);
+        return dynamoDbClient.queryPaginator(queryRequest)
+            .stream()
+            .mapToLong(QueryResponse::count)
+            .sum();
+    }
+
+    private static QueryRequest.Builder buildKeyQueryRequest(final String tableName, final String indexName,
+                                                             final String keyName, final AttributeValue keyValue) {
+        return QueryRequest.builder()
+            .tableName(tableName)
+            .indexName(indexName)
+            .keyConditionExpression("#key = :key")
+            .expressionAttributeNames(Map.of("#key", keyName))
+            .expressionAttributeValues(Map.of(":key", keyValue));
+    }
+
+    private static ProvisionedThroughput buildProvisionedThroughput(final AbstractDynamoDbProperties dynamoDbProperties) {
+        val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
+        return billingMode == BillingMode.PROVISIONED ? ProvisionedThroughput.builder()
+            .readCapacityUnits(dynamoDbProperties.getReadCapacity())
+            .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
+            .build() : null;
+    }
+
     static class TableNeverTransitionedToStateException extends SdkClientException {
 
         @Serial
@@ -15,11 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
-import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -54,33 +52,10 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
-        val filterExpressions = new ArrayList<String>();
-        val expressionValues = new HashMap<String, AttributeValue>();
-        val expressionAttrNames = new HashMap<String, String>();
-
-        filterExpressions.add("prefix=:prefix");
-        queryAttributes.forEach((key, queryValues) -> {
-            val expressionParameter = isCipherExecutorEnabled()
-                ? digestIdentifier(key)
-                : key.replace('.', '_').replace('-', '_');
-            val expressionAttrName = '#' + expressionParameter;
-
-            val criteriaValues = new ArrayList<String>();
-            for (var i = 0; i < queryValues.size(); i++) {
-                criteriaValues.add("contains(attributes." + expressionAttrName + ", :" + expressionParameter + i + ')');
-
-                val attributeValue = digestIdentifier(queryValues.get(i).toString());
-                expressionValues.put(':' + expressionParameter + i, AttributeValue.builder().s(attributeValue).build());
-            }
-            filterExpressions.add('(' + String.join(" OR ", criteriaValues) + ')');
-            expressionAttrNames.put(expressionAttrName, digestIdentifier(key));
-        });
-        val expression = String.join(" AND ", filterExpressions);
-        val prefix = dbTableService.getTicketCatalog().findTicketDefinition(TicketGrantingTicket.class)
-            .orElseThrow()
-            .getPrefix();
-        expressionValues.put(":prefix", AttributeValue.builder().s(prefix).build());
-        return dbTableService.getSessionsWithAttributes(expression, expressionAttrNames, expressionValues)
+        val digestedAttributes = new LinkedHashMap<String, List<String>>();
+        queryAttributes.forEach((key, queryValues) -> digestedAttributes.put(digestIdentifier(key),
+            queryValues.stream().map(value -> digestIdentifier(value.toString())).toList()));
+        return dbTableService.getSessionsWithAttributes(digestedAttributes)
             .map(this::decodeTicket)
             .filter(Objects::nonNull);
     }
@@ -95,8 +70,8 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) throws Exception {
-        val initialList = toSave.toList();
+    protected List<? extends Ticket> addTickets(final Stream<? extends Ticket> toSave) throws Exception {
+        val initialList = toSave.filter(ticket -> ticket != null && !ticket.isExpired()).toList();
         val toPut = initialList.stream().map(Unchecked.function(this::toTicketPayload));
         dbTableService.put(toPut);
         return initialList;
@@ -128,7 +103,7 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         return dbTableService.deleteAll();
     }
 
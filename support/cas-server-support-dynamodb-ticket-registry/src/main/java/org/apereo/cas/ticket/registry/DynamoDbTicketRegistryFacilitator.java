@@ -2,14 +2,21 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.model.support.dynamodb.DynamoDbTicketRegistryProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.dynamodb.DynamoDbQueryBuilder;
 import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Streams;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -17,38 +24,60 @@ import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This is {@link DynamoDbTicketRegistryFacilitator}.
+ * <p>
+ * Ticket tables carry global secondary indexes on the ticket prefix, principal and service,
+ * which are used to answer lookups with queries rather than table scans. Ticket granting tickets
+ * are additionally indexed by their (digested) attributes in a separate table when they are first added,
+ * since the authentication attached to a ticket does not change once it is created, and the number of
+ * tickets per type is tracked in a counters table as tickets are added and removed, and is
+ * periodically recounted to account for tickets that are removed by DynamoDb once expired.
+ * Tables that were created without these indexes continue to be scanned.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -59,12 +88,38 @@ import java.util.stream.Stream;
 public class DynamoDbTicketRegistryFacilitator {
     private static final int BATCH_PUT_REQUEST_LIMIT = 25;
 
+    private static final int BATCH_GET_REQUEST_LIMIT = 100;
+
+    private static final String PREFIX_INDEX_NAME = "prefix-index";
+
+    private static final String PRINCIPAL_INDEX_NAME = "principal-index";
+
+    private static final String SERVICE_INDEX_NAME = "service-index";
+
+    private static final Map<String, ColumnNames> GLOBAL_SECONDARY_INDEXES = Map.of(
+        PREFIX_INDEX_NAME, ColumnNames.PREFIX,
+        PRINCIPAL_INDEX_NAME, ColumnNames.PRINCIPAL,
+        SERVICE_INDEX_NAME, ColumnNames.SERVICE);
+
+    private static final String COUNTER_COLUMN_NAME = "count";
+
+    private static final String RECONCILED_COLUMN_NAME = "reconciled";
+
+    private static final String ATTRIBUTE_COLUMN_NAME = "attribute";
+
+    private static final char ATTRIBUTE_VALUE_SEPARATOR = '\u001F';
+
+    private static final int MAX_INDEX_KEY_LENGTH = 2048;
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
 
     private final DynamoDbClient amazonDynamoDBClient;
 
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Optional<Set<String>>> tableIndexes = new ConcurrentHashMap<>();
+
     private static Ticket deserializeTicket(final Map<String, AttributeValue> returnItem) {
         val encoded = returnItem.get(ColumnNames.ENCODED.getColumnName()).b();
         LOGGER.debug("Located binary encoding of ticket item [{}]. Transforming item into ticket object", returnItem);
@@ -87,10 +142,19 @@ public class DynamoDbTicketRegistryFacilitator {
         val metadata = this.ticketCatalog.find(ticketId);
         if (metadata != null) {
             val del = DeleteItemRequest.builder().tableName(metadata.getProperties().getStorageName())
-                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build())).build();
+                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build()))
+                .returnValues(ReturnValue.ALL_OLD)
+                .build();
             LOGGER.debug("Submitting delete request [{}] for ticket [{}]", del, ticketId);
             val res = amazonDynamoDBClient.deleteItem(del);
             LOGGER.debug("Delete request came back with result [{}]", res);
+            if (res != null && res.hasAttributes() && !res.attributes().isEmpty()) {
+                val deletedItem = res.attributes();
+                Optional.ofNullable(deletedItem.get(ColumnNames.PREFIX.getColumnName()))
+                    .map(AttributeValue::s)
+                    .ifPresent(prefix -> updateTicketCounter(prefix, -1));
+                removeTicketAttributes(encodedTicketId, deletedItem);
+            }
             return res != null;
         }
         return false;
@@ -122,16 +186,7 @@ public class DynamoDbTicketRegistryFacilitator {
         val metadata = ticketCatalog.findAll();
         val resultStreams = metadata
             .stream()
-            .map(defn -> {
-                val keys = List.<DynamoDbQueryBuilder>of(
-                    DynamoDbQueryBuilder.builder()
-                        .key(ColumnNames.PREFIX.getColumnName())
-                        .attributeValue(List.of(AttributeValue.builder().s(defn.getPrefix()).build()))
-                        .operator(ComparisonOperator.EQ)
-                        .build());
-                return DynamoDbTableUtils.scanPaginator(amazonDynamoDBClient, defn.getProperties().getStorageName(),
-                    keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
-            })
+            .map(defn -> streamTickets(defn, 0L))
             .toList();
         return Streams.concat(resultStreams.toArray(new Stream[]{}));
     }
@@ -144,15 +199,7 @@ public class DynamoDbTicketRegistryFacilitator {
      */
     public Stream<Ticket> query(final TicketRegistryQueryCriteria criteria) {
         val definition = ticketCatalog.find(criteria.getType());
-        val keys = List.<DynamoDbQueryBuilder>of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PREFIX.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(definition.getPrefix()).build()))
-                .operator(ComparisonOperator.EQ)
-                .build());
-        return DynamoDbTableUtils.scanPaginator(amazonDynamoDBClient,
-            definition.getProperties().getStorageName(), criteria.getCount(),
-            keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
+        return streamTickets(definition, criteria.getCount());
     }
 
     /**
@@ -163,18 +210,9 @@ public class DynamoDbTicketRegistryFacilitator {
     public Collection<Ticket> getAll() {
         val metadata = ticketCatalog.findAll();
         val tickets = new ArrayList<Ticket>(metadata.size());
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Scanning table with request [{}]", scan);
-            val result = this.amazonDynamoDBClient.scan(scan);
-            LOGGER.debug("Scanned table with result [{}]", scan);
-            tickets.addAll(result.items()
-                .stream()
-                .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
-                .filter(Objects::nonNull)
-                .filter(ticket -> !ticket.isExpired())
-                .toList());
-        });
+        metadata.forEach(r -> tickets.addAll(streamTickets(r, 0L)
+            .filter(ticket -> !ticket.isExpired())
+            .toList()));
         return tickets;
     }
 
@@ -214,26 +252,58 @@ public class DynamoDbTicketRegistryFacilitator {
      * @param toSave the to save
      */
     public void put(final Stream<TicketPayload> toSave) {
-        val queue = new HashMap<String, Collection<WriteRequest>>();
-        val count = new AtomicLong(0);
-        toSave.forEach(entry -> {
-            val metadata = ticketCatalog.find(entry.getOriginalTicket());
-            val entries = queue.getOrDefault(metadata.getProperties().getStorageName(), new ArrayList<>());
-            entries.add(WriteRequest.builder().putRequest(buildPutRequest(entry)).build());
-            count.getAndIncrement();
-
-            queue.put(metadata.getProperties().getStorageName(), entries);
-            if (count.get() >= BATCH_PUT_REQUEST_LIMIT) {
-                val batchRequest = BatchWriteItemRequest.builder().requestItems(queue).build();
-                amazonDynamoDBClient.batchWriteItem(batchRequest);
-                queue.clear();
-                count.set(0);
-            }
+        val ticketCounters = new HashMap<String, Long>();
+        val attributeRequests = new ArrayList<WriteRequest>();
+        Iterators.partition(toSave.iterator(), BATCH_PUT_REQUEST_LIMIT).forEachRemaining(batch -> {
+            val existingTickets = findExistingTickets(batch);
+            val queue = new HashMap<String, List<WriteRequest>>();
+            batch.forEach(entry -> {
+                val metadata = ticketCatalog.find(entry.getOriginalTicket());
+                val tableName = metadata.getProperties().getStorageName();
+                queue.computeIfAbsent(tableName, __ -> new ArrayList<>())
+                    .add(WriteRequest.builder().putRequest(buildPutRequest(entry)).build());
+                if (!existingTickets.getOrDefault(tableName, Set.of()).contains(entry.getEncodedTicket().getId())) {
+                    ticketCounters.merge(entry.getOriginalTicket().getPrefix(), 1L, Long::sum);
+                    attributeRequests.addAll(buildTicketAttributeRequests(metadata, entry));
+                }
+            });
+            batchWrite(queue);
+        });
+        ticketCounters.forEach(this::updateTicketCounter);
+        batchWrite(dynamoDbProperties.getTicketAttributesTableName(), attributeRequests);
+    }
+
+    /**
+     * Find the ids of tickets in the batch that are already stored, grouped by table.
+     * Tickets are only looked up when counters are tracked, so that overwriting
+     * an existing ticket does not count it twice or rewrite its attribute items.
+     */
+    private Map<String, Set<String>> findExistingTickets(final List<TicketPayload> batch) {
+        if (getTableIndexes(dynamoDbProperties.getTicketCountersTableName()).isEmpty()) {
+            return Map.of();
+        }
+        val keysByTable = new HashMap<String, List<Map<String, AttributeValue>>>();
+        batch.forEach(entry -> {
+            val tableName = ticketCatalog.find(entry.getOriginalTicket()).getProperties().getStorageName();
+            keysByTable.computeIfAbsent(tableName, __ -> new ArrayList<>())
+                .add(Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(entry.getEncodedTicket().getId()).build()));
         });
-        if (!queue.isEmpty()) {
-            val batchRequest = BatchWriteItemRequest.builder().requestItems(queue).build();
-            amazonDynamoDBClient.batchWriteItem(batchRequest);
+        var requestItems = keysByTable.entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> KeysAndAttributes.builder()
+                .keys(entry.getValue())
+                .projectionExpression("#id")
+                .expressionAttributeNames(Map.of("#id", ColumnNames.ID.getColumnName()))
+                .build()));
+        val existingTickets = new HashMap<String, Set<String>>();
+        while (!requestItems.isEmpty()) {
+            val response = amazonDynamoDBClient.batchGetItem(BatchGetItemRequest.builder().requestItems(requestItems).build());
+            response.responses().forEach((tableName, items) -> items.forEach(item ->
+                existingTickets.computeIfAbsent(tableName, __ -> new HashSet<>())
+                    .add(item.get(ColumnNames.ID.getColumnName()).s())));
+            requestItems = response.unprocessedKeys();
         }
+        return existingTickets;
     }
 
     /**
@@ -246,21 +316,76 @@ public class DynamoDbTicketRegistryFacilitator {
         LOGGER.debug("Submitting put request [{}] for ticket id [{}]", putItemRequest, payload.getEncodedTicket().getId());
         val putItemResult = amazonDynamoDBClient.putItem(putItemRequest);
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
+        if (!putItemResult.hasAttributes() || putItemResult.attributes().isEmpty()) {
+            updateTicketCounter(payload.getOriginalTicket().getPrefix(), 1);
+            val metadata = ticketCatalog.find(payload.getOriginalTicket());
+            batchWrite(dynamoDbProperties.getTicketAttributesTableName(), buildTicketAttributeRequests(metadata, payload));
+        }
     }
 
     /**
-     * Gets sessions with attributes.
+     * Gets sessions with attributes. Sessions must carry at least one of the given values
+     * for every given attribute. When available, the attributes table is queried
+     * for matching ticket ids, otherwise the ticket granting tickets table is scanned.
+     * Expired sessions that are not yet removed by DynamoDb are skipped.
      *
-     * @param filterExpression the filter expression
-     * @param attributeNames   the attribute names
-     * @param attributeValues  the attribute values
+     * @param attributes the (digested) attribute names mapped to their (digested) values
      * @return the sessions with attributes
      */
-    public Stream<? extends Ticket> getSessionsWithAttributes(final String filterExpression,
-                                                              final Map<String, String> attributeNames,
-                                                              final Map<String, AttributeValue> attributeValues) {
-        return getEntitiesWithAttributes(dynamoDbProperties.getTicketGrantingTicketsTableName(),
-            filterExpression, attributeNames, attributeValues);
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<String>> attributes) {
+        return findSessionsWithAttributes(attributes).filter(ticket -> !ticket.isExpired());
+    }
+
+    private Stream<? extends Ticket> findSessionsWithAttributes(final Map<String, List<String>> attributes) {
+        if (attributes.values().stream().anyMatch(List::isEmpty)) {
+            return Stream.empty();
+        }
+        val tableName = dynamoDbProperties.getTicketGrantingTicketsTableName();
+        val prefix = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow().getPrefix();
+        if (attributes.isEmpty()) {
+            return queryOrScanTickets(tableName, PREFIX_INDEX_NAME, ColumnNames.PREFIX, prefix);
+        }
+        if (getTableIndexes(dynamoDbProperties.getTicketAttributesTableName()).isPresent()) {
+            Set<String> ticketIds = null;
+            for (val entry : attributes.entrySet()) {
+                val matchingIds = entry.getValue()
+                    .stream()
+                    .flatMap(value -> DynamoDbTableUtils.queryPaginator(amazonDynamoDBClient,
+                        dynamoDbProperties.getTicketAttributesTableName(), null, ATTRIBUTE_COLUMN_NAME,
+                        AttributeValue.builder().s(buildAttributeKey(entry.getKey(), value)).build(),
+                        item -> item.get(ColumnNames.ID.getColumnName()).s()))
+                    .collect(Collectors.toSet());
+                if (ticketIds == null) {
+                    ticketIds = matchingIds;
+                } else {
+                    ticketIds.retainAll(matchingIds);
+                }
+                if (ticketIds.isEmpty()) {
+                    return Stream.empty();
+                }
+            }
+            return getItems(tableName, ticketIds);
+        }
+
+        val filterExpressions = new ArrayList<String>();
+        val expressionValues = new HashMap<String, AttributeValue>();
+        val expressionNames = new HashMap<String, String>();
+        filterExpressions.add("prefix=:prefix");
+        expressionValues.put(":prefix", AttributeValue.builder().s(prefix).build());
+        var index = 0;
+        for (val entry : attributes.entrySet()) {
+            val attributeName = "#attribute" + index;
+            val criteriaValues = new ArrayList<String>();
+            for (var i = 0; i < entry.getValue().size(); i++) {
+                val valueName = ":attribute" + index + '_' + i;
+                criteriaValues.add("contains(attributes." + attributeName + ", " + valueName + ')');
+                expressionValues.put(valueName, AttributeValue.builder().s(entry.getValue().get(i)).build());
+            }
+            filterExpressions.add('(' + String.join(" OR ", criteriaValues) + ')');
+            expressionNames.put(attributeName, entry.getKey());
+            index++;
+        }
+        return getEntitiesWithAttributes(tableName, String.join(" AND ", filterExpressions), expressionNames, expressionValues);
     }
 
     /**
@@ -295,7 +420,11 @@ public class DynamoDbTicketRegistryFacilitator {
         val metadata = this.ticketCatalog.find(payload.getOriginalTicket());
         val values = buildTableAttributeValuesMapFromTicket(payload);
         LOGGER.debug("Adding ticket id [{}] with attribute values [{}]", payload.getEncodedTicket().getId(), values);
-        return PutItemRequest.builder().tableName(metadata.getProperties().getStorageName()).item(values).build();
+        return PutItemRequest.builder()
+            .tableName(metadata.getProperties().getStorageName())
+            .item(values)
+            .returnValues(ReturnValue.ALL_OLD)
+            .build();
     }
 
     /**
@@ -304,25 +433,90 @@ public class DynamoDbTicketRegistryFacilitator {
      * @param deleteTables the delete tables
      */
     public void createTicketTables(final boolean deleteTables) {
+        tableIndexes.clear();
         val metadata = this.ticketCatalog.findAll();
         metadata.forEach(Unchecked.consumer(r -> {
-            val attributeDefns = List.of(
-                AttributeDefinition.builder()
-                    .attributeName(ColumnNames.ID.getColumnName())
+            val attributeDefns = Stream.of(ColumnNames.ID, ColumnNames.PREFIX, ColumnNames.PRINCIPAL, ColumnNames.SERVICE)
+                .map(column -> AttributeDefinition.builder()
+                    .attributeName(column.getColumnName())
                     .attributeType(ScalarAttributeType.S)
-                    .build());
+                    .build())
+                .toList();
             val keySchemaElements = List.of(KeySchemaElement.builder()
                 .attributeName(ColumnNames.ID.getColumnName())
                 .keyType(KeyType.HASH)
                 .build());
+            val indexes = GLOBAL_SECONDARY_INDEXES.entrySet()
+                .stream()
+                .map(entry -> DynamoDbTableUtils.buildGlobalSecondaryIndex(dynamoDbProperties,
+                    entry.getKey(), entry.getValue().getColumnName()))
+                .toList();
             val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
                 r.getProperties().getStorageName(),
                 deleteTables,
                 attributeDefns,
-                keySchemaElements);
+                keySchemaElements,
+                indexes);
             DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
                 tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
         }));
+        createTicketAttributesTable(deleteTables);
+        createTicketCountersTable(deleteTables);
+    }
+
+    private void createTicketAttributesTable(final boolean deleteTables) throws Exception {
+        val attributeDefns = Stream.of(ATTRIBUTE_COLUMN_NAME, ColumnNames.ID.getColumnName())
+            .map(column -> AttributeDefinition.builder()
+                .attributeName(column)
+                .attributeType(ScalarAttributeType.S)
+                .build())
+            .toList();
+        val keySchemaElements = List.of(
+            KeySchemaElement.builder().attributeName(ATTRIBUTE_COLUMN_NAME).keyType(KeyType.HASH).build(),
+            KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.RANGE).build());
+        val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+            dynamoDbProperties.getTicketAttributesTableName(), deleteTables, attributeDefns, keySchemaElements);
+        DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
+            tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
+    }
+
+    private void createTicketCountersTable(final boolean deleteTables) throws Exception {
+        val attributeDefns = List.of(AttributeDefinition.builder()
+            .attributeName(ColumnNames.ID.getColumnName())
+            .attributeType(ScalarAttributeType.S)
+            .build());
+        val keySchemaElements = List.of(KeySchemaElement.builder()
+            .attributeName(ColumnNames.ID.getColumnName())
+            .keyType(KeyType.HASH)
+            .build());
+        DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+            dynamoDbProperties.getTicketCountersTableName(), deleteTables, attributeDefns, keySchemaElements);
+        ticketCatalog.findAll().forEach(this::initializeTicketCounter);
+    }
+
+    /**
+     * Initialize the counter for the ticket definition, if the counter does not exist yet,
+     * using the number of tickets that are present in the table.
+     */
+    private void initializeTicketCounter(final TicketDefinition definition) {
+        FunctionUtils.doAndHandle(__ -> {
+            try {
+                val count = countTicketsInTable(definition.getProperties().getStorageName(), definition.getPrefix());
+                val request = PutItemRequest.builder()
+                    .tableName(dynamoDbProperties.getTicketCountersTableName())
+                    .item(Map.of(
+                        ColumnNames.ID.getColumnName(), AttributeValue.builder().s(definition.getPrefix()).build(),
+                        COUNTER_COLUMN_NAME, AttributeValue.builder().n(String.valueOf(count)).build(),
+                        RECONCILED_COLUMN_NAME, AttributeValue.builder().n(String.valueOf(Instant.now().toEpochMilli())).build()))
+                    .conditionExpression("attribute_not_exists(#id)")
+                    .expressionAttributeNames(Map.of("#id", ColumnNames.ID.getColumnName()))
+                    .build();
+                amazonDynamoDBClient.putItem(request);
+                LOGGER.debug("Initialized ticket counter for [{}] with [{}] ticket(s)", definition.getPrefix(), count);
+            } catch (final ConditionalCheckFailedException e) {
+                LOGGER.trace("Ticket counter for [{}] already exists", definition.getPrefix());
+            }
+        });
     }
 
     /**
@@ -334,10 +528,7 @@ public class DynamoDbTicketRegistryFacilitator {
     public Map<String, AttributeValue> buildTableAttributeValuesMapFromTicket(
         final TicketPayload payload) {
         val values = new HashMap<String, AttributeValue>();
-        val ttl = Optional.ofNullable(payload.getOriginalTicket().getExpirationPolicy().toMaximumExpirationTime(payload.getOriginalTicket()))
-            .or(() -> Optional.ofNullable(NeverExpiresExpirationPolicy.INSTANCE.toMaximumExpirationTime(payload.getEncodedTicket())))
-            .map(ChronoZonedDateTime::toEpochSecond)
-            .orElse(-1L);
+        val ttl = getExpirationTime(payload);
 
         values.put(ColumnNames.ATTRIBUTES.getColumnName(),
             AttributeValue.builder().m(convertAttributes(payload)).build());
@@ -345,10 +536,14 @@ public class DynamoDbTicketRegistryFacilitator {
             AttributeValue.builder().n(String.valueOf(ttl)).build());
         values.put(ColumnNames.ID.getColumnName(),
             AttributeValue.builder().s(payload.getEncodedTicket().getId()).build());
-        values.put(ColumnNames.PRINCIPAL.getColumnName(),
-            AttributeValue.builder().s(payload.getPrincipal()).build());
-        values.put(ColumnNames.SERVICE.getColumnName(),
-            AttributeValue.builder().s(payload.getService()).build());
+        if (isIndexKeyValue(payload.getPrincipal())) {
+            values.put(ColumnNames.PRINCIPAL.getColumnName(),
+                AttributeValue.builder().s(payload.getPrincipal()).build());
+        }
+        if (isIndexKeyValue(payload.getService())) {
+            values.put(ColumnNames.SERVICE.getColumnName(),
+                AttributeValue.builder().s(payload.getService()).build());
+        }
         values.put(ColumnNames.PREFIX.getColumnName(),
             AttributeValue.builder().s(payload.getOriginalTicket().getPrefix()).build());
         values.put(ColumnNames.CREATION_TIME.getColumnName(), AttributeValue.builder().
@@ -365,6 +560,27 @@ public class DynamoDbTicketRegistryFacilitator {
         return values;
     }
 
+    private static long getExpirationTime(final TicketPayload payload) {
+        return Optional.ofNullable(payload.getOriginalTicket().getExpirationPolicy().toMaximumExpirationTime(payload.getOriginalTicket()))
+            .or(() -> Optional.ofNullable(NeverExpiresExpirationPolicy.INSTANCE.toMaximumExpirationTime(payload.getEncodedTicket())))
+            .map(ChronoZonedDateTime::toEpochSecond)
+            .orElse(-1L);
+    }
+
+    /**
+     * Attribute items are only written when the ticket is first added, so they expire
+     * with the maximum lifetime of the ticket rather than with a sliding expiration time.
+     */
+    private static long getMaximumExpirationTime(final TicketPayload payload) {
+        val expirationTime = getExpirationTime(payload);
+        val ticket = payload.getOriginalTicket();
+        val timeToLive = ticket.getExpirationPolicy().getTimeToLive();
+        if (timeToLive == null || timeToLive <= 0 || timeToLive >= Integer.MAX_VALUE || ticket.getCreationTime() == null) {
+            return expirationTime;
+        }
+        return Math.max(expirationTime, ticket.getCreationTime().toEpochSecond() + timeToLive);
+    }
+
     private static Map<String, AttributeValue> convertAttributes(final TicketPayload payload) {
         val attributes = new HashMap<String, AttributeValue>();
         payload.getAttributes().forEach((key, values) -> {
@@ -389,10 +605,14 @@ public class DynamoDbTicketRegistryFacilitator {
                 .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
                 .operator(ComparisonOperator.EQ)
                 .build());
-        return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
-                dynamoDbProperties.getTicketGrantingTicketsTableName(),
-                keys, DynamoDbTicketRegistryFacilitator::deserializeTicket)
-            .filter(ticket -> !ticket.isExpired());
+        val tableName = dynamoDbProperties.getTicketGrantingTicketsTableName();
+        val tickets = isIndexed(tableName)
+            ? DynamoDbTableUtils.queryPaginator(amazonDynamoDBClient, tableName, PRINCIPAL_INDEX_NAME,
+                ColumnNames.PRINCIPAL.getColumnName(), AttributeValue.builder().s(principal).build(),
+                DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            : DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient, tableName,
+                keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
+        return tickets.filter(Objects::nonNull).filter(ticket -> !ticket.isExpired());
     }
 
     /**
@@ -409,29 +629,249 @@ public class DynamoDbTicketRegistryFacilitator {
                 .attributeValue(List.of(AttributeValue.builder().s(service.getId()).build()))
                 .operator(ComparisonOperator.EQ)
                 .build());
-        return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
-                tableName, keys, DynamoDbTicketRegistryFacilitator::deserializeTicket)
+        val tickets = isIndexed(tableName)
+            ? DynamoDbTableUtils.queryPaginator(amazonDynamoDBClient, tableName, SERVICE_INDEX_NAME,
+                ColumnNames.SERVICE.getColumnName(), AttributeValue.builder().s(service.getId()).build(),
+                DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            : DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient, tableName,
+                keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
+        return tickets.filter(Objects::nonNull)
             .filter(ticket -> !ticket.isExpired())
             .count();
     }
 
     /**
-     * Count tickets and return value.
+     * Count tickets and return value. The count is read from the counters table when available,
+     * and is otherwise calculated from the ticket table.
      *
      * @param ticketType the ticket type
      * @param prefix     the prefix
      * @return the long
      */
     public long countTickets(final Class<? extends Ticket> ticketType, final String prefix) {
+        return ticketCatalog.findTicketDefinition(ticketType)
+            .map(def -> getTicketCounter(def)
+                .orElseGet(() -> countTicketsInTable(def.getProperties().getStorageName(), prefix)))
+            .orElse(-1L);
+    }
+
+    private Optional<Long> getTicketCounter(final TicketDefinition definition) {
+        val tableName = dynamoDbProperties.getTicketCountersTableName();
+        if (getTableIndexes(tableName).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(FunctionUtils.doAndHandle(() -> {
+            val request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(definition.getPrefix()).build()))
+                .build();
+            val item = amazonDynamoDBClient.getItem(request).item();
+            if (item == null || !item.containsKey(COUNTER_COLUMN_NAME)) {
+                return null;
+            }
+            val reconciled = Optional.ofNullable(item.get(RECONCILED_COLUMN_NAME)).map(AttributeValue::n).map(Long::parseLong);
+            val interval = Beans.newDuration(dynamoDbProperties.getTicketCountersReconciliationInterval());
+            if (reconciled.isEmpty() || Instant.ofEpochMilli(reconciled.get()).plus(interval).isBefore(Instant.now())) {
+                return reconcileTicketCounter(definition, reconciled.orElse(null));
+            }
+            return Math.max(0L, Long.parseLong(item.get(COUNTER_COLUMN_NAME).n()));
+        }));
+    }
+
+    /**
+     * Tickets removed by DynamoDb once their time-to-live has passed never decrement
+     * the counter, which is why the counter is replaced with the number of tickets found
+     * in the ticket table from time to time. The update is conditional on the previous
+     * reconciliation time, so that only one node recounts tickets at a time.
+     */
+    private Long reconcileTicketCounter(final TicketDefinition definition, final Long reconciled) {
+        val count = countTicketsInTable(definition.getProperties().getStorageName(), definition.getPrefix());
+        val values = new HashMap<String, AttributeValue>();
+        values.put(":count", AttributeValue.builder().n(String.valueOf(count)).build());
+        values.put(":now", AttributeValue.builder().n(String.valueOf(Instant.now().toEpochMilli())).build());
+        if (reconciled != null) {
+            values.put(":reconciled", AttributeValue.builder().n(String.valueOf(reconciled)).build());
+        }
+        val request = UpdateItemRequest.builder()
+            .tableName(dynamoDbProperties.getTicketCountersTableName())
+            .key(Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(definition.getPrefix()).build()))
+            .updateExpression("SET #count = :count, #reconciled = :now")
+            .conditionExpression(reconciled != null ? "#reconciled = :reconciled" : "attribute_not_exists(#reconciled)")
+            .expressionAttributeNames(Map.of("#count", COUNTER_COLUMN_NAME, "#reconciled", RECONCILED_COLUMN_NAME))
+            .expressionAttributeValues(values)
+            .build();
+        try {
+            amazonDynamoDBClient.updateItem(request);
+            LOGGER.debug("Reconciled ticket counter for [{}] with [{}] ticket(s)", definition.getPrefix(), count);
+        } catch (final ConditionalCheckFailedException e) {
+            LOGGER.trace("Ticket counter for [{}] is already reconciled", definition.getPrefix());
+        }
+        return count;
+    }
+
+    private long countTicketsInTable(final String tableName, final String prefix) {
+        if (isIndexed(tableName)) {
+            return DynamoDbTableUtils.count(amazonDynamoDBClient, tableName, PREFIX_INDEX_NAME,
+                ColumnNames.PREFIX.getColumnName(), AttributeValue.builder().s(prefix).build());
+        }
         val keys = List.<DynamoDbQueryBuilder>of(
             DynamoDbQueryBuilder.builder()
                 .key(ColumnNames.PREFIX.getColumnName())
                 .attributeValue(List.of(AttributeValue.builder().s(prefix).build()))
                 .operator(ComparisonOperator.EQ)
                 .build());
-        return ticketCatalog.findTicketDefinition(ticketType)
-            .map(def -> DynamoDbTableUtils.scan(amazonDynamoDBClient, def.getProperties().getStorageName(), keys).count())
-            .orElse(-1);
+        return DynamoDbTableUtils.scan(amazonDynamoDBClient, tableName, keys).count();
+    }
+
+    private void updateTicketCounter(final String prefix, final long delta) {
+        val tableName = dynamoDbProperties.getTicketCountersTableName();
+        if (getTableIndexes(tableName).isPresent()) {
+            FunctionUtils.doAndHandle(__ -> {
+                val request = UpdateItemRequest.builder()
+                    .tableName(tableName)
+                    .key(Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(prefix).build()))
+                    .updateExpression("ADD #count :delta")
+                    .expressionAttributeNames(Map.of("#count", COUNTER_COLUMN_NAME))
+                    .expressionAttributeValues(Map.of(":delta", AttributeValue.builder().n(String.valueOf(delta)).build()))
+                    .build();
+                amazonDynamoDBClient.updateItem(request);
+            });
+        }
+    }
+
+    private Stream<Ticket> streamTickets(final TicketDefinition definition, final long limit) {
+        val tickets = queryOrScanTickets(definition.getProperties().getStorageName(),
+            PREFIX_INDEX_NAME, ColumnNames.PREFIX, definition.getPrefix());
+        return limit > 0 ? tickets.limit(limit) : tickets;
+    }
+
+    private Stream<Ticket> queryOrScanTickets(final String tableName, final String indexName,
+                                              final ColumnNames column, final String value) {
+        if (isIndexed(tableName)) {
+            return DynamoDbTableUtils.queryPaginator(amazonDynamoDBClient, tableName, indexName,
+                column.getColumnName(), AttributeValue.builder().s(value).build(),
+                DynamoDbTicketRegistryFacilitator::deserializeTicket);
+        }
+        val keys = List.<DynamoDbQueryBuilder>of(
+            DynamoDbQueryBuilder.builder()
+                .key(column.getColumnName())
+                .attributeValue(List.of(AttributeValue.builder().s(value).build()))
+                .operator(ComparisonOperator.EQ)
+                .build());
+        return DynamoDbTableUtils.scanPaginator(amazonDynamoDBClient, tableName,
+            keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
+    }
+
+    private Stream<Ticket> getItems(final String tableName, final Collection<String> ticketIds) {
+        val tickets = new ArrayList<Ticket>(ticketIds.size());
+        for (val batch : Iterables.partition(ticketIds, BATCH_GET_REQUEST_LIMIT)) {
+            val keys = batch
+                .stream()
+                .map(id -> Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(id).build()))
+                .toList();
+            var requestItems = Map.of(tableName, KeysAndAttributes.builder().keys(keys).build());
+            while (!requestItems.isEmpty()) {
+                val response = amazonDynamoDBClient.batchGetItem(BatchGetItemRequest.builder().requestItems(requestItems).build());
+                response.responses().getOrDefault(tableName, List.of())
+                    .stream()
+                    .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+                    .filter(Objects::nonNull)
+                    .forEach(tickets::add);
+                requestItems = response.unprocessedKeys();
+            }
+        }
+        return tickets.stream();
+    }
+
+    private List<WriteRequest> buildTicketAttributeRequests(final TicketDefinition definition, final TicketPayload payload) {
+        if (!definition.getProperties().getStorageName().equals(dynamoDbProperties.getTicketGrantingTicketsTableName())
+            || payload.getAttributes().isEmpty()
+            || getTableIndexes(dynamoDbProperties.getTicketAttributesTableName()).isEmpty()) {
+            return List.of();
+        }
+        val expiration = AttributeValue.builder().n(String.valueOf(getMaximumExpirationTime(payload))).build();
+        val ticketId = AttributeValue.builder().s(payload.getEncodedTicket().getId()).build();
+        return payload.getAttributes()
+            .entrySet()
+            .stream()
+            .flatMap(entry -> entry.getValue().stream().map(value -> buildAttributeKey(entry.getKey(), value.toString())))
+            .distinct()
+            .filter(DynamoDbTicketRegistryFacilitator::isIndexKeyValue)
+            .map(key -> WriteRequest.builder().putRequest(PutRequest.builder().item(Map.of(
+                ATTRIBUTE_COLUMN_NAME, AttributeValue.builder().s(key).build(),
+                ColumnNames.ID.getColumnName(), ticketId,
+                ColumnNames.EXPIRATION.getColumnName(), expiration)).build()).build())
+            .toList();
+    }
+
+    private void removeTicketAttributes(final String encodedTicketId, final Map<String, AttributeValue> ticketItem) {
+        val attributes = ticketItem.get(ColumnNames.ATTRIBUTES.getColumnName());
+        if (attributes == null || !attributes.hasM() || attributes.m().isEmpty()
+            || getTableIndexes(dynamoDbProperties.getTicketAttributesTableName()).isEmpty()) {
+            return;
+        }
+        val ticketId = AttributeValue.builder().s(encodedTicketId).build();
+        val requests = attributes.m()
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue().hasSs())
+            .flatMap(entry -> entry.getValue().ss().stream().map(value -> buildAttributeKey(entry.getKey(), value)))
+            .distinct()
+            .map(key -> WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(Map.of(
+                ATTRIBUTE_COLUMN_NAME, AttributeValue.builder().s(key).build(),
+                ColumnNames.ID.getColumnName(), ticketId)).build()).build())
+            .toList();
+        batchWrite(dynamoDbProperties.getTicketAttributesTableName(), requests);
+    }
+
+    private void batchWrite(final String tableName, final List<WriteRequest> requests) {
+        FunctionUtils.doAndHandle(__ -> {
+            for (val batch : Iterables.partition(requests, BATCH_PUT_REQUEST_LIMIT)) {
+                batchWrite(Map.of(tableName, batch));
+            }
+        });
+    }
+
+    private void batchWrite(final Map<String, List<WriteRequest>> requests) {
+        var requestItems = requests;
+        while (!requestItems.isEmpty()) {
+            val response = amazonDynamoDBClient.batchWriteItem(BatchWriteItemRequest.builder().requestItems(requestItems).build());
+            requestItems = response.unprocessedItems();
+        }
+    }
+
+    /**
+     * Values of index keys must not be empty, and are limited in size by DynamoDb.
+     * Values that cannot be indexed are left out of the index.
+     */
+    private static boolean isIndexKeyValue(final String value) {
+        return StringUtils.isNotBlank(value) && value.getBytes(StandardCharsets.UTF_8).length <= MAX_INDEX_KEY_LENGTH;
+    }
+
+    private static String buildAttributeKey(final String name, final String value) {
+        return name + ATTRIBUTE_VALUE_SEPARATOR + value;
+    }
+
+    private boolean isIndexed(final String tableName) {
+        return getTableIndexes(tableName)
+            .map(indexes -> indexes.containsAll(GLOBAL_SECONDARY_INDEXES.keySet()))
+            .orElse(Boolean.FALSE);
+    }
+
+    private Optional<Set<String>> getTableIndexes(final String tableName) {
+        return tableIndexes.computeIfAbsent(tableName, name -> {
+            try {
+                val table = amazonDynamoDBClient.describeTable(DescribeTableRequest.builder().tableName(name).build()).table();
+                val indexes = table.hasGlobalSecondaryIndexes()
+                    ? table.globalSecondaryIndexes().stream().map(GlobalSecondaryIndexDescription::indexName).collect(Collectors.toSet())
+                    : new HashSet<String>();
+                LOGGER.debug("Table [{}] defines global secondary indexes [{}]", name, indexes);
+                return Optional.of(indexes);
+            } catch (final ResourceNotFoundException e) {
+                LOGGER.debug("Table [{}] cannot be found", name);
+                return Optional.empty();
+            }
+        });
     }
 
 
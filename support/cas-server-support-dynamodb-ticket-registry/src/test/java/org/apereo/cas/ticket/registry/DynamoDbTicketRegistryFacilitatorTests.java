@@ -3,6 +3,7 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import lombok.val;
@@ -10,10 +11,15 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.TestPropertySource;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -65,6 +71,69 @@ class DynamoDbTicketRegistryFacilitatorTests {
             assertFalse(dynamoDbTicketRegistryFacilitator.delete("badticket", "badticket"));
             assertTrue(dynamoDbTicketRegistryFacilitator.deleteAll() > 0);
         }
+
+        @Test
+        void verifyIndexedTicketOperations() throws Throwable {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            val client = dynamoDbTicketRegistryFacilitator.getAmazonDynamoDBClient();
+            val tableName = dynamoDbTicketRegistryFacilitator.getDynamoDbProperties().getTicketGrantingTicketsTableName();
+            val table = client.describeTable(DescribeTableRequest.builder().tableName(tableName).build()).table();
+            assertEquals(3, table.globalSecondaryIndexes().size());
+
+            val ticket = new MockTicketGrantingTicket("casuser",
+                CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(),
+                CollectionUtils.wrap("name", "CAS"));
+            val payload = DynamoDbTicketRegistryFacilitator.TicketPayload.builder()
+                .originalTicket(ticket)
+                .encodedTicket(ticket)
+                .principal("casuser")
+                .service(RegisteredServiceTestUtils.CONST_TEST_URL)
+                .attributes(Map.of("name", List.of("CAS")))
+                .build();
+            dynamoDbTicketRegistryFacilitator.put(payload);
+            dynamoDbTicketRegistryFacilitator.put(payload);
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.countTickets(TicketGrantingTicket.class, TicketGrantingTicket.PREFIX));
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.getSessionsFor("casuser").count());
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.query(TicketRegistryQueryCriteria.builder()
+                .type(TicketGrantingTicket.PREFIX).build()).count());
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.getSessionsWithAttributes(Map.of("name", List.of("CAS", "Other"))).count());
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.getSessionsWithAttributes(Map.of("name", List.of("Other"))).count());
+
+            assertTrue(dynamoDbTicketRegistryFacilitator.delete(ticket.getId(), ticket.getId()));
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.countTickets(TicketGrantingTicket.class, TicketGrantingTicket.PREFIX));
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.getSessionsWithAttributes(Map.of("name", List.of("CAS"))).count());
+        }
+
+        @Test
+        void verifyTicketCounters() throws Throwable {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            val ticket = new MockTicketGrantingTicket("casuser",
+                CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(),
+                CollectionUtils.wrap("name", "CAS"));
+            val payload = DynamoDbTicketRegistryFacilitator.TicketPayload.builder()
+                .originalTicket(ticket)
+                .encodedTicket(ticket)
+                .principal("casuser")
+                .attributes(Map.of("name", List.of("CAS")))
+                .build();
+            dynamoDbTicketRegistryFacilitator.put(Stream.of(payload));
+            dynamoDbTicketRegistryFacilitator.put(Stream.of(payload));
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.countTickets(TicketGrantingTicket.class, TicketGrantingTicket.PREFIX));
+
+            val client = dynamoDbTicketRegistryFacilitator.getAmazonDynamoDBClient();
+            client.putItem(PutItemRequest.builder()
+                .tableName(dynamoDbTicketRegistryFacilitator.getDynamoDbProperties().getTicketCountersTableName())
+                .item(Map.of(
+                    "id", AttributeValue.builder().s(TicketGrantingTicket.PREFIX).build(),
+                    "count", AttributeValue.builder().n("10").build(),
+                    "reconciled", AttributeValue.builder().n("0").build()))
+                .build());
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.countTickets(TicketGrantingTicket.class, TicketGrantingTicket.PREFIX));
+
+            ticket.markTicketExpired();
+            dynamoDbTicketRegistryFacilitator.put(payload);
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.getSessionsWithAttributes(Map.of("name", List.of("CAS"))).count());
+        }
     }
 
     @Nested
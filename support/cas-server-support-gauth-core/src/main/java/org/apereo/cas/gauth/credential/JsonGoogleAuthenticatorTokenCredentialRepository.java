@@ -1,16 +1,20 @@
 package org.apereo.cas.gauth.credential;
 
 import org.apereo.cas.authentication.OneTimeTokenAccount;
+import org.apereo.cas.configuration.model.core.util.JsonJournalProperties;
+import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.io.LogStructuredJsonStore;
 import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
 import org.apereo.cas.util.serialization.StringSerializer;
 import com.warrenstrange.googleauth.IGoogleAuthenticator;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 import java.io.Serial;
 import java.util.ArrayList;
@@ -23,28 +27,54 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link JsonGoogleAuthenticatorTokenCredentialRepository}.
+ * When journaling is enabled, accounts are served from memory and changes are appended
+ * to a journal next to the JSON resource, which is periodically compacted.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 @Getter
 @Slf4j
-public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository {
+public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository implements DisposableBean {
     private final CasReentrantLock lock = new CasReentrantLock();
 
     private final Resource location;
 
     private final StringSerializer<Map<String, List<OneTimeTokenAccount>>> serializer = new OneTimeAccountSerializer();
 
+    private final LogStructuredJsonStore<List<OneTimeTokenAccount>> journalStore;
+
     public JsonGoogleAuthenticatorTokenCredentialRepository(final Resource location, final IGoogleAuthenticator googleAuthenticator,
                                                             final CipherExecutor<String, String> tokenCredentialCipher,
                                                             final CipherExecutor<Number, Number> scratchCodesCipher) {
+        this(location, googleAuthenticator, tokenCredentialCipher, scratchCodesCipher, new JsonJournalProperties());
+    }
+
+    public JsonGoogleAuthenticatorTokenCredentialRepository(final Resource location, final IGoogleAuthenticator googleAuthenticator,
+                                                            final CipherExecutor<String, String> tokenCredentialCipher,
+                                                            final CipherExecutor<Number, Number> scratchCodesCipher,
+                                                            final JsonJournalProperties journal) {
         super(tokenCredentialCipher, scratchCodesCipher, googleAuthenticator);
         this.location = location;
+        this.journalStore = journal.isEnabled() && ResourceUtils.isFile(location) ? createJournalStore(journal) : null;
+    }
+
+    @Override
+    public void destroy() {
+        FunctionUtils.doIfNotNull(journalStore, LogStructuredJsonStore::close);
     }
 
     @Override
     public OneTimeTokenAccount get(final long id) {
+        if (journalStore != null) {
+            return journalStore.values()
+                .stream()
+                .flatMap(List::stream)
+                .filter(ac -> ac.getId() == id)
+                .findFirst()
+                .map(OneTimeTokenAccount::clone)
+                .orElse(null);
+        }
         return lock.tryLock(() -> {
             val accounts = readAccountsFromJsonRepository();
             return accounts.values()
@@ -63,6 +93,10 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public Collection<? extends OneTimeTokenAccount> get(final String username) {
+        if (journalStore != null) {
+            val accounts = journalStore.get(normalizeUsername(username));
+            return accounts != null ? decode(accounts) : new ArrayList<>(0);
+        }
         return lock.tryLock(() -> {
             try {
                 if (!location.getFile().exists()) {
@@ -93,6 +127,13 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public Collection<? extends OneTimeTokenAccount> load() {
+        if (journalStore != null) {
+            return journalStore.values()
+                .stream()
+                .flatMap(List::stream)
+                .map(OneTimeTokenAccount::clone)
+                .collect(Collectors.toList());
+        }
         return lock.tryLock(() -> {
             try {
                 return readAccountsFromJsonRepository().values()
@@ -109,6 +150,14 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
         return lock.tryLock(() -> {
             try {
                 LOGGER.debug("Storing google authenticator account for [{}]", account.getUsername());
+                if (journalStore != null) {
+                    val encoded = encode(account);
+                    val key = normalizeUsername(account.getUsername());
+                    val records = new ArrayList<>(journalStore.asMap().getOrDefault(key, List.of()));
+                    records.add(encoded);
+                    journalStore.put(key, records);
+                    return encoded;
+                }
                 val accounts = readAccountsFromJsonRepository();
                 LOGGER.debug("Found [{}] account(s) and added google authenticator account for [{}]",
                     accounts.size(), account.getUsername());
@@ -129,6 +178,9 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     public OneTimeTokenAccount update(final OneTimeTokenAccount account) {
         return lock.tryLock(() -> {
             try {
+                if (journalStore != null) {
+                    return updateJournaledAccount(account);
+                }
                 val accounts = readAccountsFromJsonRepository();
                 if (accounts.containsKey(account.getUsername().trim().toLowerCase(Locale.ENGLISH))) {
                     val records = accounts.get(account.getUsername().trim().toLowerCase(Locale.ENGLISH));
@@ -154,29 +206,51 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public void deleteAll() {
-        lock.tryLock(__ -> writeAccountsToJsonRepository(new HashMap<>(0)));
+        lock.tryLock(__ -> {
+            if (journalStore != null) {
+                journalStore.clear();
+            } else {
+                writeAccountsToJsonRepository(new HashMap<>(0));
+            }
+        });
     }
 
     @Override
     public void delete(final String username) {
         lock.tryLock(__ -> {
-            val accounts = readAccountsFromJsonRepository();
-            accounts.remove(username.trim().toLowerCase(Locale.ENGLISH));
-            writeAccountsToJsonRepository(accounts);
+            if (journalStore != null) {
+                journalStore.remove(normalizeUsername(username));
+            } else {
+                val accounts = readAccountsFromJsonRepository();
+                accounts.remove(username.trim().toLowerCase(Locale.ENGLISH));
+                writeAccountsToJsonRepository(accounts);
+            }
         });
     }
 
     @Override
     public void delete(final long id) {
         lock.tryLock(__ -> {
-            val accounts = readAccountsFromJsonRepository();
-            accounts.forEach((key, value) -> value.removeIf(d -> d.getId() == id));
-            writeAccountsToJsonRepository(accounts);
+            if (journalStore != null) {
+                journalStore.asMap().entrySet()
+                    .stream()
+                    .filter(entry -> entry.getValue().stream().anyMatch(d -> d.getId() == id))
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue().stream().filter(d -> d.getId() != id).toList()))
+                    .toList()
+                    .forEach(entry -> journalStore.put(entry.getKey(), new ArrayList<>(entry.getValue())));
+            } else {
+                val accounts = readAccountsFromJsonRepository();
+                accounts.forEach((key, value) -> value.removeIf(d -> d.getId() == id));
+                writeAccountsToJsonRepository(accounts);
+            }
         });
     }
 
     @Override
     public long count() {
+        if (journalStore != null) {
+            return journalStore.asMap().size();
+        }
         return lock.tryLock(() -> {
             val accounts = readAccountsFromJsonRepository();
             return accounts.size();
@@ -185,6 +259,10 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public long count(final String username) {
+        if (journalStore != null) {
+            val accounts = journalStore.get(normalizeUsername(username));
+            return accounts != null ? accounts.size() : 0;
+        }
         return lock.tryLock(() -> {
             val accounts = readAccountsFromJsonRepository();
             return accounts.containsKey(username.trim().toLowerCase(Locale.ENGLISH)) ? accounts.get(username.trim().toLowerCase(Locale.ENGLISH)).size() : 0;
@@ -201,6 +279,40 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
         }
     }
 
+    private static String normalizeUsername(final String username) {
+        return username.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private OneTimeTokenAccount updateJournaledAccount(final OneTimeTokenAccount account) {
+        val key = normalizeUsername(account.getUsername());
+        val records = journalStore.get(key);
+        if (records == null || records.stream().noneMatch(rec -> rec.getId() == account.getId())) {
+            return null;
+        }
+        val encoded = encode(account);
+        val updated = records.stream()
+            .map(rec -> {
+                if (rec.getId() != account.getId()) {
+                    return rec;
+                }
+                val act = rec.clone();
+                act.setSecretKey(encoded.getSecretKey());
+                act.setScratchCodes(encoded.getScratchCodes());
+                act.setValidationCode(encoded.getValidationCode());
+                return act;
+            })
+            .collect(Collectors.toCollection(ArrayList::new));
+        journalStore.put(key, updated);
+        return encoded;
+    }
+
+    private LogStructuredJsonStore<List<OneTimeTokenAccount>> createJournalStore(final JsonJournalProperties journal) {
+        val mapper = ((OneTimeAccountSerializer) serializer).getObjectMapper();
+        val valueType = mapper.getTypeFactory().constructCollectionType(ArrayList.class, OneTimeTokenAccount.class);
+        return FunctionUtils.doUnchecked(() -> new LogStructuredJsonStore<>(location.getFile(), mapper, valueType,
+            serializer::from, serializer::to, journal));
+    }
+
     private void writeAccountsToJsonRepository(final Map<String, List<OneTimeTokenAccount>> accounts) {
         FunctionUtils.doUnchecked(__ -> {
             if (location.getFile() != null) {
@@ -1,6 +1,7 @@
 package org.apereo.cas.gauth.credential;
 
 import org.apereo.cas.authentication.OneTimeTokenAccount;
+import org.apereo.cas.configuration.model.core.util.JsonJournalProperties;
 import org.apereo.cas.gauth.BaseGoogleAuthenticatorTests;
 import org.apereo.cas.otp.repository.credentials.OneTimeTokenCredentialRepository;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -96,4 +97,57 @@ class JsonGoogleAuthenticatorTokenCredentialRepositoryTests extends BaseOneTimeT
             googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), CipherExecutor.noOpOfNumberToNumber());
         assertTrue(repo.get("casuser").isEmpty());
     }
+
+    @Test
+    void verifyJournalReplayedAfterRestart() throws Throwable {
+        val file = File.createTempFile("account", ".json");
+        val journal = getJournalProperties();
+        val repo = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), CipherExecutor.noOpOfNumberToNumber(), journal);
+        val account = repo.create(UUID.randomUUID().toString());
+        assertNotNull(repo.save(account));
+        val other = repo.create(UUID.randomUUID().toString());
+        assertNotNull(repo.save(other));
+        repo.delete(other.getUsername());
+        assertEquals(0, file.length());
+
+        val restarted = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), CipherExecutor.noOpOfNumberToNumber(), journal);
+        assertEquals(1, restarted.count(account.getUsername()));
+        assertEquals(0, restarted.count(other.getUsername()));
+        restarted.destroy();
+        repo.destroy();
+        assertTrue(FileUtils.readFileToString(file, StandardCharsets.UTF_8).contains(account.getUsername()));
+    }
+
+    @Test
+    void verifyRecoveryFromPartialJournalEntry() throws Throwable {
+        val file = File.createTempFile("account", ".json");
+        val journal = getJournalProperties();
+        val repo = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), CipherExecutor.noOpOfNumberToNumber(), journal);
+        val account = repo.create(UUID.randomUUID().toString());
+        assertNotNull(repo.save(account));
+        val journalFile = repo.getJournalStore().getJournalFile();
+        FileUtils.writeStringToFile(journalFile, "{\"operation\":\"PUT\",\"key\":\"casus", StandardCharsets.UTF_8, true);
+
+        val recovered = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), CipherExecutor.noOpOfNumberToNumber(), journal);
+        assertEquals(1, recovered.load().size());
+        val next = recovered.create(UUID.randomUUID().toString());
+        assertNotNull(recovered.save(next));
+        repo.destroy();
+        recovered.destroy();
+
+        val restarted = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), CipherExecutor.noOpOfNumberToNumber(), journal);
+        assertEquals(2, restarted.load().size());
+        restarted.destroy();
+    }
+
+    private static JsonJournalProperties getJournalProperties() {
+        val journal = new JsonJournalProperties().setEnabled(true);
+        journal.getCompaction().setEnabled(false);
+        return journal;
+    }
 }
@@ -83,7 +83,7 @@ public class GoogleCloudFirestoreTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         return ticketCatalog.findAll()
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.support.geo.CachingGeoLocationService;
 import org.apereo.cas.support.geo.GeoLocationServiceConfigurer;
 import org.apereo.cas.support.geo.GroovyGeoLocationService;
 import org.apereo.cas.util.scripting.WatchableGroovyScriptResource;
@@ -11,7 +12,9 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -37,18 +40,37 @@ import java.util.List;
 public class CasGeoLocationAutoConfiguration {
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-    public GeoLocationService geoLocationService(final List<GeoLocationServiceConfigurer> providers) {
+    public GeoLocationService geoLocationService(
+        final CasConfigurationProperties casProperties,
+        final List<GeoLocationServiceConfigurer> providers) {
         val services = providers.stream()
             .map(GeoLocationServiceConfigurer::configure)
             .filter(BeanSupplier::isNotProxy)
             .sorted(AnnotationAwareOrderComparator.INSTANCE).toList();
         return BeanSupplier.of(GeoLocationService.class)
             .when(!services.isEmpty())
-            .supply(() -> services.getFirst())
+            .supply(() -> {
+                val cache = casProperties.getGeoLocation().getCache();
+                return cache.getCacheSize() > 0
+                    ? new CachingGeoLocationService(services.getFirst(), cache)
+                    : services.getFirst();
+            })
             .otherwiseProxy()
             .get();
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "geoLocationServiceMeterBinder")
+    public MeterBinder geoLocationServiceMeterBinder(
+        @Qualifier("geoLocationService")
+        final ObjectProvider<GeoLocationService> geoLocationService) {
+        return registry -> geoLocationService.ifAvailable(service -> {
+            if (service instanceof final CachingGeoLocationService cachingService) {
+                cachingService.bindTo(registry);
+            }
+        });
+    }
+
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @Configuration(value = "GroovyGeoLocationConfiguration", proxyBeanMethods = false)
     @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.GeoLocation)
@@ -0,0 +1,122 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.support.geo.GeoLocationCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.lang3.StringUtils;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.Optional;
+
+/**
+ * This is {@link CachingGeoLocationService}. It decorates a {@link GeoLocationService}
+ * and caches geolocation results by IP address, or by IP network prefix when configured.
+ * Concurrent lookups for the same key are coalesced so that only one of them reaches the underlying
+ * service, while others wait for its result. Addresses that cannot be located are cached as well,
+ * to avoid hammering remote geolocation services with repeated lookups for unknown addresses;
+ * failed lookups are not cached.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class CachingGeoLocationService implements GeoLocationService, MeterBinder {
+    private static final int BITS_IN_BYTE = 8;
+
+    private final GeoLocationService delegate;
+
+    private final GeoLocationCacheProperties properties;
+
+    private final Cache<String, Optional<GeoLocationResponse>> cache;
+
+    public CachingGeoLocationService(final GeoLocationService delegate,
+                                     final GeoLocationCacheProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+            .initialCapacity(properties.getInitialCapacity())
+            .maximumSize(properties.getCacheSize())
+            .expireAfterWrite(Beans.newDuration(properties.getDuration()))
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public GeoLocationResponse locate(final InetAddress address) {
+        return cache.get(toCacheKey(address), key -> {
+            LOGGER.trace("Geolocation for [{}] cannot be found in the cache under [{}]", address, key);
+            return FunctionUtils.doUnchecked(() -> Optional.ofNullable(delegate.locate(address)));
+        }).orElse(null);
+    }
+
+    @Override
+    public GeoLocationResponse locate(final String ipAddress) {
+        return FunctionUtils.doAndHandle(() -> locate(InetAddress.getByName(ipAddress)), e -> null).get();
+    }
+
+    @Override
+    public GeoLocationResponse locate(final Double latitude, final Double longitude) throws Throwable {
+        return delegate.locate(latitude, longitude);
+    }
+
+    @Override
+    public GeoLocationResponse locate(final String ip, final GeoLocationRequest request) throws Throwable {
+        val location = locate(ip);
+        if (location == null && request != null
+            && StringUtils.isNotBlank(request.getLatitude()) && StringUtils.isNotBlank(request.getLongitude())) {
+            return locate(Double.valueOf(request.getLatitude()), Double.valueOf(request.getLongitude()));
+        }
+        return location;
+    }
+
+    @Override
+    public GeoLocationResponse locate(final GeoLocationRequest request) throws Throwable {
+        return delegate.locate(request);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "geoLocationService");
+    }
+
+    /**
+     * Gets cache statistics, such as hit and miss counts.
+     *
+     * @return the statistics
+     */
+    public CacheStats getStatistics() {
+        val stats = cache.stats();
+        LOGGER.debug("Geolocation cache hit rate is [{}] with [{}] hits and [{}] misses",
+            stats.hitRate(), stats.hitCount(), stats.missCount());
+        return stats;
+    }
+
+    protected String toCacheKey(final InetAddress address) {
+        val bytes = address.getAddress();
+        val requestedLength = address instanceof Inet4Address ? properties.getIpv4PrefixLength() : properties.getIpv6PrefixLength();
+        val prefixLength = Math.max(0, Math.min(requestedLength, bytes.length * BITS_IN_BYTE));
+        for (var i = 0; i < bytes.length; i++) {
+            val remaining = prefixLength - i * BITS_IN_BYTE;
+            if (remaining <= 0) {
+                bytes[i] = 0;
+            } else if (remaining < BITS_IN_BYTE) {
+                bytes[i] &= (byte) (0xFF << (BITS_IN_BYTE - remaining));
+            }
+        }
+        return Hex.encodeHexString(bytes) + '/' + prefixLength;
+    }
+}
@@ -0,0 +1,73 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.support.geo.GeoLocationCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.net.InetAddress;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingGeoLocationServiceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("GeoLocation")
+class CachingGeoLocationServiceTests {
+    @Test
+    void verifyLocationIsCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(new GeoLocationResponse().addAddress("Main Street"));
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate(InetAddress.getByName("1.2.3.4")));
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+        assertNotNull(service.locate("1.2.3.5"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+        assertEquals(3, service.getStatistics().hitCount());
+    }
+
+    @Test
+    void verifyLocationIsCachedByPrefix() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(new GeoLocationResponse().addAddress("Main Street"));
+        val properties = new GeoLocationCacheProperties().setIpv4PrefixLength(24).setIpv6PrefixLength(48);
+        val service = new CachingGeoLocationService(delegate, properties);
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.200"));
+        assertNotNull(service.locate("2001:db8:abcd:12::1"));
+        assertNotNull(service.locate("2001:db8:abcd:ff::2"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+        assertNotNull(service.locate("1.2.4.4"));
+        verify(delegate, times(3)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyUnknownLocationsAreCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(null);
+        when(delegate.locate(anyDouble(), anyDouble())).thenReturn(new GeoLocationResponse());
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        assertNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.4", new GeoLocationRequest(1, 1)));
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyMetrics() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        val registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+        service.locate("1.2.3.4");
+        assertNotNull(registry.find("cache.gets").tag("cache", "geoLocationService").functionCounters());
+    }
+}
@@ -3,6 +3,9 @@ package org.apereo.cas.support.geo;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.config.CasGeoLocationAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +36,10 @@ class GroovyGeoLocationServiceTests {
     @Qualifier(GeoLocationService.BEAN_NAME)
     private GeoLocationService geoLocationService;
 
+    @Autowired
+    @Qualifier("geoLocationServiceMeterBinder")
+    private MeterBinder geoLocationServiceMeterBinder;
+
     @Test
     void verifyOperation() throws Throwable {
         var results = geoLocationService.locate(InetAddress.getByName("www.google.com"));
@@ -40,4 +47,13 @@ class GroovyGeoLocationServiceTests {
         results = geoLocationService.locate(1234D, 1234D);
         assertNotNull(results);
     }
+
+    @Test
+    void verifyCacheMetricsAreBound() throws Throwable {
+        assertInstanceOf(CachingGeoLocationService.class, geoLocationService);
+        val registry = new SimpleMeterRegistry();
+        geoLocationServiceMeterBinder.bindTo(registry);
+        geoLocationService.locate("127.0.0.1");
+        assertFalse(registry.find("cache.gets").tag("cache", "geoLocationService").functionCounters().isEmpty());
+    }
 }
@@ -136,7 +136,7 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         return ticketCatalog.findAll()
             .stream()
             .map(this::getTicketMapInstanceByMetadata)
@@ -7,7 +7,9 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketDefinitionProperties;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.catalog.CasTicketCatalogConfigurationValuesProvider;
+import org.apereo.cas.ticket.registry.IgniteTicketAttributeDocument;
 import org.apereo.cas.ticket.registry.IgniteTicketDocument;
 import org.apereo.cas.ticket.registry.IgniteTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -20,6 +22,8 @@ import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.CacheWriteSynchronizationMode;
 import org.apache.ignite.cache.QueryEntity;
 import org.apache.ignite.cache.QueryIndex;
+import org.apache.ignite.cache.QueryIndexType;
+import org.apache.ignite.cache.affinity.AffinityKey;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
@@ -40,10 +44,10 @@ import javax.cache.expiry.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link CasIgniteTicketRegistryAutoConfiguration}.
@@ -60,35 +64,54 @@ public class CasIgniteTicketRegistryAutoConfiguration {
         val definitions = ticketCatalog.findAll();
         return definitions
             .stream()
-            .map(t -> {
-                val ticketsCache = new CacheConfiguration();
-                ticketsCache.setName(t.getProperties().getStorageName());
-                ticketsCache.setCacheMode(CacheMode.valueOf(ignite.getTicketsCache().getCacheMode()));
-                ticketsCache.setAtomicityMode(CacheAtomicityMode.valueOf(ignite.getTicketsCache().getAtomicityMode()));
-                val writeSync = CacheWriteSynchronizationMode.valueOf(ignite.getTicketsCache().getWriteSynchronizationMode());
-                ticketsCache.setWriteSynchronizationMode(writeSync);
-                val duration = new Duration(TimeUnit.SECONDS, t.getProperties().getStorageTimeout());
-                ticketsCache.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(duration));
+            .flatMap(t -> {
+                val ticketsCache = buildIgniteCacheConfiguration(ignite, t, t.getProperties().getStorageName());
                 ticketsCache.setIndexedTypes(String.class, IgniteTicketDocument.class);
                 
                 val queryEntity = new QueryEntity(String.class, IgniteTicketDocument.class)
                     .setTableName(t.getProperties().getStorageName())
-                    .setKeyFields(Set.of("id", "type", "principal", "prefix", "attributes"))
+                    .setKeyFields(Set.of("id", "type", "principal", "prefix"))
                     .addQueryField("id", String.class.getName(), null)
                     .addQueryField("type", String.class.getName(), null)
                     .addQueryField("principal", String.class.getName(), null)
-                    .addQueryField("attributes", Map.class.getName(), null)
                     .addQueryField("prefix", String.class.getName(), null);
                 queryEntity.setIndexes(Arrays.asList(new QueryIndex("id"), new QueryIndex("type", false),
-                    new QueryIndex("principal", false), new QueryIndex("prefix", false),
-                    new QueryIndex("attributes", false)));
+                    new QueryIndex("principal", false), new QueryIndex("prefix", false)));
                 ticketsCache.setQueryEntities(List.of(queryEntity));
 
-                return ticketsCache;
+                if (TicketGrantingTicket.PREFIX.equals(t.getPrefix())) {
+                    val attributesStorageName = IgniteTicketAttributeDocument.getStorageName(t);
+                    val attributesCache = buildIgniteCacheConfiguration(ignite, t, attributesStorageName);
+                    attributesCache.setIndexedTypes(AffinityKey.class, IgniteTicketAttributeDocument.class);
+                    val attributesEntity = new QueryEntity(AffinityKey.class, IgniteTicketAttributeDocument.class)
+                        .setTableName(attributesStorageName)
+                        .addQueryField("ticketId", String.class.getName(), null)
+                        .addQueryField("attribute", String.class.getName(), null)
+                        .addQueryField("value", String.class.getName(), null);
+                    attributesEntity.setIndexes(Arrays.asList(new QueryIndex("ticketId", false),
+                        new QueryIndex(List.of("attribute", "value"), QueryIndexType.SORTED)));
+                    attributesCache.setQueryEntities(List.of(attributesEntity));
+                    return Stream.of(ticketsCache, attributesCache);
+                }
+                return Stream.of(ticketsCache);
             })
             .collect(Collectors.toSet());
     }
 
+    private static CacheConfiguration buildIgniteCacheConfiguration(final IgniteProperties ignite,
+                                                                    final TicketDefinition definition,
+                                                                    final String cacheName) {
+        val cache = new CacheConfiguration();
+        cache.setName(cacheName);
+        cache.setCacheMode(CacheMode.valueOf(ignite.getTicketsCache().getCacheMode()));
+        cache.setAtomicityMode(CacheAtomicityMode.valueOf(ignite.getTicketsCache().getAtomicityMode()));
+        val writeSync = CacheWriteSynchronizationMode.valueOf(ignite.getTicketsCache().getWriteSynchronizationMode());
+        cache.setWriteSynchronizationMode(writeSync);
+        val duration = new Duration(TimeUnit.SECONDS, definition.getProperties().getStorageTimeout());
+        cache.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(duration));
+        return cache;
+    }
+
     protected static SslContextFactory buildSecureTransportForIgniteConfiguration(final CasConfigurationProperties casProperties) {
         val properties = casProperties.getTicket().getRegistry().getIgnite();
 
@@ -0,0 +1,63 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.TicketDefinition;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.apache.ignite.cache.affinity.AffinityKey;
+import org.apache.ignite.cache.query.annotations.QuerySqlField;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link IgniteTicketAttributeDocument}. Each document records a single
+ * (digested) attribute value of a ticket, and is keyed by an {@link AffinityKey}
+ * on the ticket id so that it is colocated with the ticket document itself.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@SuperBuilder
+@EqualsAndHashCode
+public class IgniteTicketAttributeDocument implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2817526134730985402L;
+
+    private static final String STORAGE_NAME_SUFFIX = "Attributes";
+
+    private static final char KEY_SEPARATOR = '\u001F';
+
+    @QuerySqlField(index = true)
+    private String ticketId;
+
+    @QuerySqlField(orderedGroups = @QuerySqlField.Group(name = "attribute_value_idx", order = 0))
+    private String attribute;
+
+    @QuerySqlField(orderedGroups = @QuerySqlField.Group(name = "attribute_value_idx", order = 1))
+    private String value;
+
+    /**
+     * Build the cache key for this document,
+     * colocated with the ticket it belongs to.
+     *
+     * @return the affinity key
+     */
+    public AffinityKey<String> toKey() {
+        return new AffinityKey<>(attribute + KEY_SEPARATOR + value + KEY_SEPARATOR + ticketId, ticketId);
+    }
+
+    /**
+     * Gets storage name for ticket attributes of the given ticket definition.
+     *
+     * @param definition the definition
+     * @return the storage name
+     */
+    public static String getStorageName(final TicketDefinition definition) {
+        return definition.getProperties().getStorageName() + STORAGE_NAME_SUFFIX;
+    }
+}
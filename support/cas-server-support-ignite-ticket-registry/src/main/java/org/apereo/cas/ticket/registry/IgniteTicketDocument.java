@@ -40,7 +40,4 @@ public class IgniteTicketDocument implements Serializable {
 
     @QuerySqlField(index = true)
     private String prefix;
-
-    @QuerySqlField(index = true)
-    private String attributes;
 }
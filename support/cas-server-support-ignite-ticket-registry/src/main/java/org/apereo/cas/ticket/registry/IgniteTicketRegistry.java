@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
 import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
@@ -17,7 +18,9 @@ import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteState;
 import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.CachePeekMode;
 import org.apache.ignite.cache.QueryEntity;
+import org.apache.ignite.cache.affinity.AffinityKey;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.apache.ignite.cache.query.SqlFieldsQuery;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -33,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -79,31 +83,30 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         LOGGER.debug("Adding ticket [{}] to the cache [{}] with policy [{}]", ticket.getId(), cache.getName(), policy);
         val entries = cache.withExpiryPolicy(policy);
 
-        val attributeMap = (Map<String, List>) collectAndDigestTicketAttributes(ticket);
-        val attributesEncoded = attributeMap
-            .entrySet()
-            .stream()
-            .map(entry -> {
-                val entryValues = (List) entry.getValue();
-                val valueList = entryValues.stream().map(Object::toString).collect(Collectors.joining(","));
-                return String.format("[%s:{%s}]", entry.getKey(), valueList);
-            })
-            .collect(Collectors.joining(","));
-
         val document = IgniteTicketDocument.builder()
             .id(encodedTicket.getId())
             .type(metadata.getImplementationClass().getName())
             .principal(digestIdentifier(getPrincipalIdFrom(ticket)))
             .ticket(encodedTicket)
             .prefix(metadata.getPrefix())
-            .attributes(attributesEncoded)
             .build();
         entries.put(encodedTicket.getId(), document);
+
+        if (TicketGrantingTicket.PREFIX.equals(metadata.getPrefix())) {
+            val attributes = buildAttributeDocuments(ticket, encodedTicket.getId())
+                .collect(Collectors.toMap(IgniteTicketAttributeDocument::toKey, Function.identity(), (first, second) -> first));
+            if (!attributes.isEmpty()) {
+                getIgniteAttributesCacheFromMetadata(metadata).withExpiryPolicy(policy).putAll(attributes);
+            }
+        }
         return ticket;
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
+        ticketCatalog.findTicketDefinition(TicketGrantingTicket.class)
+            .map(this::getIgniteAttributesCacheFromMetadata)
+            .ifPresent(instance -> instance.removeAll());
         return ticketCatalog.findAll()
             .stream()
             .map(this::getIgniteCacheFromMetadata)
@@ -122,6 +125,12 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         val metadata = ticketCatalog.find(ticketId);
         if (metadata != null) {
             val cache = getIgniteCacheFromMetadata(metadata);
+            if (TicketGrantingTicket.PREFIX.equals(metadata.getPrefix())) {
+                val attributeKeys = buildAttributeDocuments(ticketId, encTicketId)
+                    .map(IgniteTicketAttributeDocument::toKey)
+                    .collect(Collectors.toSet());
+                getIgniteAttributesCacheFromMetadata(metadata).removeAll(attributeKeys);
+            }
             return cache.remove(encTicketId) ? 1 : 0;
         }
         return 1;
@@ -184,11 +193,7 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
         val cacheInstance = getIgniteCacheFromMetadata(metadata);
 
-        val queryEntity = (QueryEntity) cacheInstance.getConfiguration(CacheConfiguration.class)
-            .getQueryEntities()
-            .stream()
-            .findFirst()
-            .orElseThrow();
+        val queryEntity = getQueryEntity(cacheInstance);
         val query = new SqlFieldsQuery("SELECT COUNT(id) FROM " + queryEntity.getTableName());
         return (Long) cacheInstance.query(query).getAll().getFirst().getFirst();
     }
@@ -198,11 +203,7 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
         val cacheInstance = getIgniteCacheFromMetadata(metadata);
 
-        val queryEntity = (QueryEntity) cacheInstance.getConfiguration(CacheConfiguration.class)
-            .getQueryEntities()
-            .stream()
-            .findFirst()
-            .orElseThrow();
+        val queryEntity = getQueryEntity(cacheInstance);
         val query = new SqlFieldsQuery("SELECT _val FROM " + queryEntity.getTableName() + " WHERE principal=?;")
             .setArgs(digestIdentifier(principalId));
         return StreamSupport.stream(cacheInstance.query(query).spliterator(), false)
@@ -217,31 +218,44 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
         val cacheInstance = getIgniteCacheFromMetadata(metadata);
 
-        val queryEntity = (QueryEntity) cacheInstance.getConfiguration(CacheConfiguration.class)
-            .getQueryEntities()
+        val attributesCache = getIgniteAttributesCacheFromMetadata(metadata);
+        val sql = "SELECT DISTINCT ticketId FROM " + getQueryEntity(attributesCache).getTableName() + " WHERE attribute=? AND value=?;";
+        val ticketIds = queryAttributes.entrySet()
             .stream()
-            .findFirst()
-            .orElseThrow();
-
-        val sql = new StringBuilder(String.format("SELECT _val FROM %s WHERE prefix='%s' AND (", queryEntity.getTableName(), metadata.getPrefix()));
-        queryAttributes.forEach((key, values) ->
-            values.forEach(queryValue ->
-                sql.append("attributes LIKE '%[")
-                    .append(digestIdentifier(key))
-                    .append(":{%")
-                    .append(digestIdentifier(queryValue.toString()))
-                    .append("%}]%' OR ")
-            ));
-        sql.append("1=2);");
-        LOGGER.debug("Executing SQL query [{}]", sql);
-        val query = new SqlFieldsQuery(sql.toString());
-        return StreamSupport.stream(cacheInstance.query(query).spliterator(), false)
+            .flatMap(entry -> entry.getValue()
+                .stream()
+                .map(queryValue -> new SqlFieldsQuery(sql).setArgs(digestIdentifier(entry.getKey()), digestIdentifier(queryValue.toString()))))
+            .flatMap(query -> {
+                LOGGER.debug("Executing SQL query [{}]", query.getSql());
+                return attributesCache.query(query).getAll().stream();
+            })
             .filter(entries -> !entries.isEmpty())
-            .map(entries -> (IgniteTicketDocument) entries.getFirst())
+            .map(entries -> (String) entries.getFirst())
+            .collect(Collectors.toSet());
+        return cacheInstance.getAll(ticketIds)
+            .values()
+            .stream()
             .map(object -> decodeTicket(object.getTicket()))
             .filter(Objects::nonNull);
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
+        val cacheInstance = getIgniteCacheFromMetadata(metadata);
+        val query = new SqlFieldsQuery("SELECT COUNT(id) FROM " + getQueryEntity(cacheInstance).getTableName() + " WHERE principal=?;")
+            .setArgs(digestIdentifier(principalId));
+        return (Long) cacheInstance.query(query).getAll().getFirst().getFirst();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return ticketCatalog.findTicketDefinition(ServiceTicket.class)
+            .map(this::getIgniteCacheFromMetadata)
+            .map(cache -> cache.sizeLong(CachePeekMode.PRIMARY))
+            .orElse(0L);
+    }
+
     /**
      * Make sure we shutdown Ignite when the context is destroyed.
      */
@@ -288,6 +302,34 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         }
     }
 
+    private static QueryEntity getQueryEntity(final IgniteCache<?, ?> cacheInstance) {
+        return (QueryEntity) cacheInstance.getConfiguration(CacheConfiguration.class)
+            .getQueryEntities()
+            .stream()
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Stream<IgniteTicketAttributeDocument> buildAttributeDocuments(final Ticket ticket, final String ticketId) {
+        val attributeMap = (Map<String, List>) collectAndDigestTicketAttributes(ticket);
+        return attributeMap
+            .entrySet()
+            .stream()
+            .flatMap(entry -> ((List<Object>) entry.getValue())
+                .stream()
+                .map(value -> IgniteTicketAttributeDocument.builder()
+                    .ticketId(ticketId)
+                    .attribute(entry.getKey())
+                    .value(value.toString())
+                    .build()));
+    }
+
+    private IgniteCache<AffinityKey<String>, IgniteTicketAttributeDocument> getIgniteAttributesCacheFromMetadata(final TicketDefinition metadata) {
+        val mapName = IgniteTicketAttributeDocument.getStorageName(metadata);
+        LOGGER.trace("Locating attributes cache name [{}] for ticket definition [{}]", mapName, metadata);
+        return ignite.getOrCreateCache(mapName);
+    }
+
     private IgniteCache<String, IgniteTicketDocument> getIgniteCacheFromMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.trace("Locating cache name [{}] for ticket definition [{}]", mapName, metadata);
@@ -1,14 +1,20 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasIgniteTicketRegistryAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import lombok.Getter;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.Ignition;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.RepeatedTest;
@@ -20,6 +26,8 @@ import org.springframework.test.context.TestPropertySource;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.security.KeyStore;
+import java.util.List;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -80,4 +88,32 @@ class IgniteTicketRegistryTests extends BaseTicketRegistryTests {
         assertTrue(registry.deleteSingleTicket(new MockTicketGrantingTicket(RegisteredServiceTestUtils.getAuthentication())) > 0);
         registry.destroy();
     }
+
+    @RepeatedTest(1)
+    void verifyTicketAttributesRemoved() throws Throwable {
+        newTicketRegistry.deleteAll();
+        val attributesCache = getIgniteAttributesCache();
+        assertEquals(0, attributesCache.size());
+
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(
+            Map.of("cn", List.of("cn1", "cn2"), "givenName", List.of("g1")));
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(tgt);
+        assertTrue(attributesCache.size() > 0);
+        newTicketRegistry.deleteTicket(tgt.getId());
+        assertEquals(0, attributesCache.size());
+
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            authentication, NeverExpiresExpirationPolicy.INSTANCE));
+        assertTrue(attributesCache.size() > 0);
+        newTicketRegistry.deleteAll();
+        assertEquals(0, attributesCache.size());
+    }
+
+    private IgniteCache<?, ?> getIgniteAttributesCache() {
+        val definition = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
+        return Ignition.ignite(igniteConfiguration.getIgniteInstanceName())
+            .getOrCreateCache(IgniteTicketAttributeDocument.getStorageName(definition));
+    }
 }
@@ -14,6 +14,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.io.Serial;
@@ -25,7 +26,7 @@ import java.io.Serializable;
  * @author Misagh Moayyed
  * @since 6.4.0
  */
-@Table(name = "RegisteredServices")
+@Table(name = "RegisteredServices", indexes = @Index(name = "IDX_REGISTERED_SERVICES_LAST_MODIFIED", columnList = "lastModified"))
 @Entity(name = JpaRegisteredServiceEntity.ENTITY_NAME)
 @Getter
 @Setter
@@ -64,4 +65,7 @@ public class JpaRegisteredServiceEntity implements Serializable {
     @Column(nullable = false, length = 8_000)
     private String body;
 
+    @Column
+    private Long lastModified;
+
 }
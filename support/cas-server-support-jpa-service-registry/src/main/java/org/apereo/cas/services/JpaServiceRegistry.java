@@ -17,6 +17,7 @@ import org.springframework.transaction.support.TransactionOperations;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -94,6 +95,29 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
         });
     }
 
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final long since) {
+        return transactionTemplate.execute(status -> {
+            val query = String.format("SELECT r FROM %s r WHERE r.lastModified >= :since", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val list = entityManager.createQuery(query, JpaRegisteredServiceEntity.class)
+                .setParameter("since", since)
+                .getResultList();
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val savedServices = list
+                .stream()
+                .map(this::toRegisteredService)
+                .sorted()
+                .map(this::invokeServiceRegistryListenerPostLoad)
+                .filter(Objects::nonNull)
+                .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+                .collect(Collectors.toList());
+            val identifiersQuery = String.format("SELECT r.id FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val serviceIdentifiers = new HashSet<>(entityManager.createQuery(identifiersQuery, Long.class).getResultList());
+            LOGGER.trace("Found [{}] service(s) modified since [{}] out of [{}]", savedServices.size(), since, serviceIdentifiers.size());
+            return Optional.of(new ServiceRegistryChanges(savedServices, serviceIdentifiers));
+        });
+    }
+
     @Override
     public Long save(final Supplier<RegisteredService> supplier,
                      final Consumer<RegisteredService> andThenConsume,
@@ -212,6 +236,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
             .serviceId(service.getServiceId())
             .evaluationOrder(service.getEvaluationOrder())
             .body(jsonBody)
+            .lastModified(System.currentTimeMillis())
             .build();
     }
 
@@ -69,4 +69,26 @@ class JpaServiceRegistryTests extends AbstractServiceRegistryTests {
         stopwatch.stop();
         assertTrue(stopwatch.getTime(TimeUnit.SECONDS) <= 10);
     }
+
+    @Test
+    void verifyLoadChanges() throws Throwable {
+        val updated = newServiceRegistry.save(RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString(), true));
+        val deleted = newServiceRegistry.save(RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString(), true));
+        val since = System.currentTimeMillis();
+
+        updated.setDescription(UUID.randomUUID().toString());
+        newServiceRegistry.save(updated);
+        assertTrue(newServiceRegistry.delete(deleted));
+
+        val changes = newServiceRegistry.loadChanges(since).orElseThrow();
+        val savedService = changes.savedServices()
+            .stream()
+            .filter(service -> service.getId() == updated.getId())
+            .findFirst()
+            .orElseThrow();
+        assertEquals(updated.getDescription(), savedService.getDescription());
+        assertTrue(changes.savedServices().stream().noneMatch(service -> service.getId() == deleted.getId()));
+        assertTrue(changes.serviceIdentifiers().contains(updated.getId()));
+        assertFalse(changes.serviceIdentifiers().contains(deleted.getId()));
+    }
 }
@@ -19,6 +19,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.lambda.Unchecked;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -87,6 +88,11 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return ticket;
     }
 
+    @Override
+    public List<? extends Ticket> save(final TicketRegistryBatch batch) {
+        return transactionTemplate.execute(status -> FunctionUtils.doUnchecked(() -> super.save(batch)));
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         return transactionTemplate.execute(callback -> {
@@ -116,7 +122,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         return transactionTemplate.execute(status -> {
             val factory = getJpaTicketEntityFactory();
             val query = entityManager.createQuery(String.format("DELETE FROM %s", factory.getEntityName()));
@@ -196,6 +202,36 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             .filter(ticket -> !ticket.isExpired());
     }
 
+    @Override
+    public TicketRegistryPage getSessions(final TicketRegistryPageRequest request) {
+        return transactionTemplate.execute(status -> seekSessions(request, (cursor, limit) -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = new StringBuilder(String.format("SELECT t FROM %s t WHERE t.type=:type", factory.getEntityName()));
+            if (StringUtils.isNotBlank(request.getPrincipal())) {
+                sql.append(" AND t.principalId=:principalId");
+            }
+            if (StringUtils.isNotBlank(cursor)) {
+                sql.append(" AND t.id > :cursor");
+            }
+            sql.append(" ORDER BY t.id");
+            val query = entityManager.createQuery(sql.toString(), factory.getType())
+                .setParameter("type", getTicketTypeName(TicketGrantingTicket.class))
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.NONE);
+            if (StringUtils.isNotBlank(request.getPrincipal())) {
+                query.setParameter("principalId", digestIdentifier(request.getPrincipal()));
+            }
+            if (StringUtils.isNotBlank(cursor)) {
+                query.setParameter("cursor", cursor);
+            }
+            return query.getResultList()
+                .stream()
+                .map(BaseTicketEntity.class::cast)
+                .map(entity -> Pair.of(entity.getId(), decodeTicket(factory.toTicket(entity))))
+                .toList();
+        }));
+    }
+
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
         val factory = getJpaTicketEntityFactory();
@@ -7,6 +7,7 @@ import org.apereo.cas.memcached.MemcachedUtils;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.MemcachedTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.PipelinedMemcachedTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
@@ -14,6 +15,7 @@ import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.serialization.ComponentSerializationPlan;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import lombok.val;
+import net.spy.memcached.DefaultConnectionFactory;
 import net.spy.memcached.transcoders.Transcoder;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -23,6 +25,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
+import java.time.Duration;
 
 /**
  * This is {@link CasMemcachedTicketRegistryAutoConfiguration}.
@@ -77,6 +80,12 @@ public class CasMemcachedTicketRegistryAutoConfiguration {
             .getMemcached();
         val factory = new MemcachedPooledClientConnectionFactory(memcached, memcachedTicketRegistryTranscoder);
         val cipherExecutor = CoreTicketUtils.newTicketRegistryCipherExecutor(memcached.getCrypto(), "memcached");
+        if (memcached.isPipelined()) {
+            val operationTimeout = Duration.ofMillis(memcached.getOpTimeout() > 0
+                ? memcached.getOpTimeout() : DefaultConnectionFactory.DEFAULT_OPERATION_TIMEOUT);
+            return new PipelinedMemcachedTicketRegistry(cipherExecutor, ticketSerializationManager,
+                ticketCatalog, factory.create(), operationTimeout);
+        }
         return new MemcachedTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, factory.getObjectPool());
     }
 
@@ -78,7 +78,7 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         LOGGER.debug("deleteAll() isn't supported");
         return 0;
     }
@@ -0,0 +1,262 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.MemcachedClientIF;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link PipelinedMemcachedTicketRegistry}. It shares a single memcached client
+ * whose connections multiplex concurrent operations, instead of borrowing a client from a pool
+ * for each operation. Writes are issued asynchronously and their futures are awaited together,
+ * and multiple tickets are fetched using a single multi-get.
+ * <p>
+ * Ticket-granting tickets are also recorded in a compact per-principal index, that is a
+ * comma-separated list of ticket ids stored under a key derived from the principal id and
+ * updated using check-and-set operations once the ticket itself is stored. Sessions for a principal
+ * are then listed by reading the index and fetching all its tickets at once; ids of tickets that are no longer found are
+ * pruned from the index as they are discovered, and the index itself is removed once its last ticket is deleted.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class PipelinedMemcachedTicketRegistry extends AbstractTicketRegistry implements DisposableBean {
+    private static final int THIRTY_DAYS_IN_SECONDS = 60 * 60 * 24 * 30;
+
+    private static final String PRINCIPAL_INDEX_KEY_PREFIX = "cas-principal-sessions:";
+
+    private static final String PRINCIPAL_INDEX_SEPARATOR = ",";
+
+    private static final int MAX_PRINCIPAL_INDEX_UPDATE_ATTEMPTS = 10;
+
+    private final MemcachedClientIF memcachedClient;
+
+    private final Duration operationTimeout;
+
+    public PipelinedMemcachedTicketRegistry(final CipherExecutor cipherExecutor,
+                                            final TicketSerializationManager ticketSerializationManager,
+                                            final TicketCatalog ticketCatalog,
+                                            final MemcachedClientIF memcachedClient,
+                                            final Duration operationTimeout) {
+        super(cipherExecutor, ticketSerializationManager, ticketCatalog);
+        this.memcachedClient = memcachedClient;
+        this.operationTimeout = operationTimeout;
+    }
+
+    @Override
+    protected List<? extends Ticket> addTickets(final Stream<? extends Ticket> toSave) throws Exception {
+        val tickets = toSave.filter(Objects::nonNull).filter(ticket -> !ticket.isExpired()).toList();
+        val futures = new ArrayList<Future<Boolean>>(tickets.size());
+        for (val ticket : tickets) {
+            val encoded = encodeTicket(ticket);
+            LOGGER.trace("Adding ticket [{}]", encoded);
+            futures.add(memcachedClient.set(encoded.getId(), getTimeout(ticket), encoded));
+        }
+        val added = new ArrayList<Ticket>(tickets.size());
+        for (var i = 0; i < tickets.size(); i++) {
+            if (await(futures.get(i))) {
+                added.add(tickets.get(i));
+            } else {
+                LOGGER.error("Failed adding [{}]", tickets.get(i).getId());
+            }
+        }
+        added.stream()
+            .filter(TicketGrantingTicket.class::isInstance)
+            .forEach(ticket -> updatePrincipalIndex(ticket, ids -> ids.add(digestIdentifier(ticket.getId()))));
+        return added;
+    }
+
+    @Override
+    public Ticket addSingleTicket(final Ticket ticketToAdd) throws Exception {
+        val ticket = encodeTicket(ticketToAdd);
+        LOGGER.trace("Adding ticket [{}]", ticket);
+        if (!await(memcachedClient.set(ticket.getId(), getTimeout(ticketToAdd), ticket))) {
+            LOGGER.error("Failed adding [{}]", ticketToAdd);
+        } else if (ticketToAdd instanceof TicketGrantingTicket) {
+            updatePrincipalIndex(ticketToAdd, ids -> ids.add(ticket.getId()));
+        }
+        return ticketToAdd;
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticketToUpdate) throws Exception {
+        val ticket = encodeTicket(ticketToUpdate);
+        LOGGER.debug("Updating ticket [{}]", ticket);
+        if (!await(memcachedClient.replace(ticket.getId(), getTimeout(ticketToUpdate), ticket))) {
+            LOGGER.error("Failed updating [{}]", ticket);
+        }
+        return ticket;
+    }
+
+    @Override
+    protected long deleteAllTickets() {
+        LOGGER.debug("deleteAll() isn't supported");
+        return 0;
+    }
+
+    @Override
+    public long deleteSingleTicket(final Ticket ticketToDelete) {
+        val ticketId = digestIdentifier(ticketToDelete.getId());
+        val future = memcachedClient.delete(ticketId);
+        if (ticketToDelete instanceof TicketGrantingTicket) {
+            updatePrincipalIndex(ticketToDelete, ids -> ids.remove(ticketId));
+        }
+        if (!await(future)) {
+            LOGGER.debug("Ticket not found or is already removed. Failed deleting [{}]", ticketId);
+        }
+        return 1;
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketIdToGet, final Predicate<Ticket> predicate) {
+        val ticketId = digestIdentifier(ticketIdToGet);
+        try {
+            val ticketFromCache = (Ticket) memcachedClient.get(ticketId);
+            if (ticketFromCache != null) {
+                val result = decodeTicket(ticketFromCache);
+                return result != null && predicate.test(result) ? result : null;
+            }
+        } catch (final Exception e) {
+            LOGGER.error("Failed fetching [{}] ", ticketId);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<? extends Ticket> getTickets() {
+        LOGGER.debug("getTickets() isn't supported. Returning empty list");
+        return new ArrayList<>(0);
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        val indexKey = getPrincipalIndexKey(principalId);
+        val ticketIds = toTicketIds(memcachedClient.get(indexKey));
+        if (ticketIds.isEmpty()) {
+            return Stream.empty();
+        }
+        val tickets = FunctionUtils.doAndHandle(() -> memcachedClient.asyncGetBulk(ticketIds)
+            .get(operationTimeout.toMillis(), TimeUnit.MILLISECONDS), e -> {
+            LoggingUtils.error(LOGGER, e);
+            return null;
+        }).get();
+        if (tickets == null) {
+            return Stream.empty();
+        }
+        val missingIds = ticketIds.stream().filter(id -> !tickets.containsKey(id)).collect(Collectors.toSet());
+        if (!missingIds.isEmpty()) {
+            LOGGER.trace("Pruning [{}] ticket(s) from sessions index of [{}]", missingIds.size(), principalId);
+            updatePrincipalIndex(indexKey, ids -> ids.removeAll(missingIds));
+        }
+        return tickets.values()
+            .stream()
+            .map(Ticket.class::cast)
+            .map(this::decodeTicket)
+            .filter(TicketGrantingTicket.class::isInstance)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return getSessionsFor(principalId).count();
+    }
+
+    @Override
+    public void destroy() {
+        memcachedClient.shutdown();
+    }
+
+    private static int getTimeout(final Ticket ticket) {
+        val timeToLive = ticket.getExpirationPolicy().getTimeToLive();
+        val ttl = Long.MAX_VALUE == timeToLive ? Long.valueOf(Integer.MAX_VALUE) : timeToLive;
+        if (ttl == 0) {
+            return 1;
+        }
+        if (ttl >= THIRTY_DAYS_IN_SECONDS) {
+            LOGGER.warn("Time-to-live value [{}] is greater than or equal to [{}]", ttl, THIRTY_DAYS_IN_SECONDS);
+            return THIRTY_DAYS_IN_SECONDS;
+        }
+        return ttl.intValue();
+    }
+
+    private static Set<String> toTicketIds(final Object index) {
+        return index instanceof final String value && StringUtils.isNotBlank(value)
+            ? new LinkedHashSet<>(Arrays.asList(StringUtils.split(value, PRINCIPAL_INDEX_SEPARATOR)))
+            : new LinkedHashSet<>();
+    }
+
+    private String getPrincipalIndexKey(final String principalId) {
+        return PRINCIPAL_INDEX_KEY_PREFIX + DigestUtils.sha256(digestIdentifier(principalId));
+    }
+
+    private void updatePrincipalIndex(final Ticket ticket, final Consumer<Set<String>> updater) {
+        val principalId = getPrincipalIdFrom(ticket);
+        if (StringUtils.isNotBlank(principalId)) {
+            updatePrincipalIndex(getPrincipalIndexKey(principalId), updater);
+        }
+    }
+
+    private void updatePrincipalIndex(final String indexKey, final Consumer<Set<String>> updater) {
+        for (var attempt = 1; attempt <= MAX_PRINCIPAL_INDEX_UPDATE_ATTEMPTS; attempt++) {
+            try {
+                val current = memcachedClient.gets(indexKey);
+                val ticketIds = toTicketIds(current == null ? null : current.getValue());
+                updater.accept(ticketIds);
+                val index = String.join(PRINCIPAL_INDEX_SEPARATOR, ticketIds);
+                if (current == null) {
+                    if (ticketIds.isEmpty() || await(memcachedClient.add(indexKey, THIRTY_DAYS_IN_SECONDS, index))) {
+                        return;
+                    }
+                } else if (ticketIds.isEmpty()) {
+                    if (await(memcachedClient.delete(indexKey, current.getCas()))) {
+                        LOGGER.trace("Removed empty sessions index [{}]", indexKey);
+                        return;
+                    }
+                } else if (memcachedClient.cas(indexKey, current.getCas(), THIRTY_DAYS_IN_SECONDS, index) == CASResponse.OK) {
+                    return;
+                }
+                LOGGER.trace("Sessions index [{}] was concurrently modified; attempt [{}]", indexKey, attempt);
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+                return;
+            }
+        }
+        LOGGER.warn("Unable to update sessions index [{}] after [{}] attempts", indexKey, MAX_PRINCIPAL_INDEX_UPDATE_ATTEMPTS);
+    }
+
+    private boolean await(final Future<Boolean> future) {
+        return FunctionUtils.doAndHandle(() -> BooleanUtils.isTrue(future.get(operationTimeout.toMillis(), TimeUnit.MILLISECONDS)), e -> {
+            LoggingUtils.error(LOGGER, e);
+            return Boolean.FALSE;
+        }).get();
+    }
+}
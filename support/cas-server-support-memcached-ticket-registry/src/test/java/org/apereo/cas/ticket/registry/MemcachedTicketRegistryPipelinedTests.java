@@ -0,0 +1,58 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MemcachedTicketRegistryPipelinedTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@EnabledIfListeningOnPort(port = 11211)
+@Tag("Memcached")
+@TestPropertySource(properties = "cas.ticket.registry.memcached.pipelined=true")
+class MemcachedTicketRegistryPipelinedTests extends MemcachedTicketRegistryTests {
+
+    @RepeatedTest(1)
+    void verifySessionsForPrincipal() throws Throwable {
+        assertInstanceOf(PipelinedMemcachedTicketRegistry.class, getNewTicketRegistry());
+        val principalId = UUID.randomUUID().toString();
+        val tickets = IntStream.range(0, 3)
+            .mapToObj(i -> new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE))
+            .toList();
+        assertEquals(3, getNewTicketRegistry().addTicket(tickets.stream()).size());
+        assertEquals(3, getNewTicketRegistry().countSessionsFor(principalId));
+
+        getNewTicketRegistry().deleteTicket(tickets.getFirst().getId());
+        try (val sessions = getNewTicketRegistry().getSessionsFor(principalId)) {
+            assertEquals(2, sessions.count());
+        }
+
+        tickets.stream().skip(1).forEach(ticket -> assertDoesNotThrow(() -> getNewTicketRegistry().deleteTicket(ticket.getId())));
+        assertEquals(0, getNewTicketRegistry().countSessionsFor(principalId));
+        getNewTicketRegistry().addTicket(tickets.getFirst());
+        assertEquals(1, getNewTicketRegistry().countSessionsFor(principalId));
+    }
+
+    @RepeatedTest(1)
+    void verifySessionsIndexedOnceStored() throws Throwable {
+        val principalId = UUID.randomUUID().toString();
+        IntStream.range(0, 5).forEach(i -> {
+            val ticket = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE);
+            assertDoesNotThrow(() -> getNewTicketRegistry().addTicket(ticket));
+            assertEquals(i + 1, getNewTicketRegistry().countSessionsFor(principalId));
+        });
+    }
+}
@@ -7,6 +7,7 @@ import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.MongoDbTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.MongoDbTicketRegistryFacilitator;
@@ -41,13 +42,17 @@ class MongoDbTicketRegistryConfiguration {
         @Qualifier("mongoDbTicketRegistryTemplate")
         final MongoOperations mongoDbTicketRegistryTemplate,
         @Qualifier(TicketSerializationManager.BEAN_NAME)
-        final TicketSerializationManager ticketSerializationManager) {
+        final TicketSerializationManager ticketSerializationManager,
+        @Qualifier("ticketSerializationExecutionPlan")
+        final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
 
         val mongo = casProperties.getTicket().getRegistry().getMongo();
         new MongoDbTicketRegistryFacilitator(ticketCatalog, mongoDbTicketRegistryTemplate, mongo).createTicketCollections();
 
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(mongo.getCrypto(), "mongo");
-        return new MongoDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, mongoDbTicketRegistryTemplate);
+        val serializationManager = CoreTicketUtils.newTicketRegistrySerializationManager(
+            mongo.getSerializationFormat(), ticketSerializationExecutionPlan, ticketSerializationManager);
+        return new MongoDbTicketRegistry(cipher, serializationManager, ticketCatalog, mongoDbTicketRegistryTemplate);
     }
 
     @ConditionalOnMissingBean(name = "mongoDbTicketRegistryTemplate")
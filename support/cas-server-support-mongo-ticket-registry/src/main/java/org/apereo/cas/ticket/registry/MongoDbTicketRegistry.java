@@ -8,6 +8,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.serialization.CompactBinaryTicketSerializationManager;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -17,10 +18,13 @@ import com.mongodb.client.MongoCollection;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -29,8 +33,11 @@ import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.data.mongodb.core.query.Update;
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -95,6 +102,41 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return ticket;
     }
 
+    @Override
+    public List<? extends Ticket> save(final TicketRegistryBatch batch) throws Exception {
+        val bulkOperations = new LinkedHashMap<String, BulkOperations>();
+        val added = new ArrayList<Ticket>();
+        for (val operation : batch.getOperations()) {
+            val ticket = operation.ticket();
+            val metadata = ticketCatalog.find(ticket);
+            if (metadata == null) {
+                LOGGER.error("Could not locate ticket definition in the catalog for ticket [{}]", ticket.getId());
+            } else if (operation.type() == TicketRegistryBatch.OperationType.UPDATE
+                || operation.type() == TicketRegistryBatch.OperationType.ADD && !ticket.isExpired()) {
+                val collectionName = getTicketCollectionInstanceByMetadata(metadata);
+                val bulk = bulkOperations.computeIfAbsent(collectionName,
+                    name -> mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, name));
+                val document = FunctionUtils.doUnchecked(() -> buildTicketAsDocument(ticket));
+                if (operation.type() == TicketRegistryBatch.OperationType.ADD) {
+                    bulk.insert(document);
+                    added.add(ticket);
+                } else {
+                    val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(document.getTicketId()));
+                    bulk.updateOne(query, Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, document.getJson()));
+                }
+            }
+        }
+        bulkOperations.forEach((collectionName, bulk) -> {
+            val result = bulk.execute();
+            LOGGER.debug("Saved tickets in collection [{}] with result [{}]", collectionName, result);
+        });
+        added.forEach(statistics::recordAdded);
+        for (val ticket : batch.getTickets(TicketRegistryBatch.OperationType.DELETE)) {
+            deleteTicket(ticket);
+        }
+        return added;
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         try {
@@ -129,7 +171,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).exists(true));
         return ticketCatalog.findAll()
             .stream()
@@ -206,7 +248,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
             .flatMap(map -> {
-                val query = isCipherExecutorEnabled()
+                val query = isCipherExecutorEnabled() || !isTicketPayloadSearchable()
                     ? new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(principalId)))
                     : TextQuery.queryText(TextCriteria.forDefaultLanguage().matchingAny(principalId)).sortByScore().with(PageRequest.of(0, PAGE_SIZE));
                 return mongoTemplate.stream(query, MongoDbTicketDocument.class, map);
@@ -215,6 +257,30 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .filter(ticket -> !ticket.isExpired());
     }
 
+    @Override
+    public TicketRegistryPage getSessions(final TicketRegistryPageRequest request) {
+        return seekSessions(request, (cursor, limit) -> ticketCatalog.findTicketDefinition(TicketGrantingTicket.class)
+            .stream()
+            .map(this::getTicketCollectionInstanceByMetadata)
+            .flatMap(map -> {
+                val criteria = new ArrayList<Criteria>();
+                if (StringUtils.isNotBlank(request.getPrincipal())) {
+                    criteria.add(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(request.getPrincipal())));
+                }
+                if (StringUtils.isNotBlank(cursor)) {
+                    criteria.add(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).gt(cursor));
+                }
+                val query = (criteria.isEmpty() ? new Query() : new Query(new Criteria().andOperator(criteria)))
+                    .with(Sort.by(Sort.Direction.ASC, MongoDbTicketDocument.FIELD_NAME_ID))
+                    .limit(limit);
+                return mongoTemplate.find(query, MongoDbTicketDocument.class, map).stream();
+            })
+            .sorted(Comparator.comparing(MongoDbTicketDocument::getTicketId))
+            .limit(limit)
+            .map(document -> Pair.of(document.getTicketId(), decodeTicket(deserializeTicket(document.getJson(), document.getType()))))
+            .toList());
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
         val ticketDefinitions = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class);
@@ -315,13 +381,27 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .sum();
     }
 
+    /**
+     * Whether ticket payloads are stored as JSON and can be searched as text.
+     * Payloads produced by the compact binary codec are opaque, and lookups
+     * must rely on the indexed document fields instead.
+     *
+     * @return true/false
+     */
+    protected boolean isTicketPayloadSearchable() {
+        return !(ticketSerializationManager instanceof final CompactBinaryTicketSerializationManager manager
+            && manager.isBinaryEncodingEnabled());
+    }
+
     protected MongoDbTicketDocument buildTicketAsDocument(final Ticket ticket) throws Throwable {
         val encTicket = encodeTicket(ticket);
         val json = serializeTicket(encTicket);
         FunctionUtils.throwIf(StringUtils.isBlank(json),
             () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
-        LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
-            JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        if (LOGGER.isTraceEnabled() && isTicketPayloadSearchable()) {
+            LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
+                JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        }
 
         val expireAt = getExpireAt(ticket);
         LOGGER.trace("Calculated expiration date for ticket ttl as [{}]", expireAt);
@@ -0,0 +1,78 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.CasMongoDbTicketRegistryAutoConfiguration;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.CompactBinaryTicketSerializationManager;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MongoDbTicketRegistryBinaryFormatTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("MongoDb")
+@Import(CasMongoDbTicketRegistryAutoConfiguration.class)
+@TestPropertySource(properties = {
+    "cas.ticket.registry.mongo.database-name=ticket-registry-binary",
+    "cas.ticket.registry.mongo.authentication-database-name=admin",
+    "cas.ticket.registry.mongo.host=localhost",
+    "cas.ticket.registry.mongo.port=27017",
+    "cas.ticket.registry.mongo.drop-collection=true",
+    "cas.ticket.registry.mongo.user-id=root",
+    "cas.ticket.registry.mongo.password=secret",
+    "cas.ticket.registry.mongo.serialization-format=BINARY"
+})
+@EnabledIfListeningOnPort(port = 27017)
+@Getter
+class MongoDbTicketRegistryBinaryFormatTests extends BaseTicketRegistryTests {
+
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry newTicketRegistry;
+
+    @Autowired
+    @Qualifier("mongoDbTicketRegistryTemplate")
+    private MongoOperations mongoDbTicketRegistryTemplate;
+
+    @BeforeEach
+    public void before() {
+        newTicketRegistry.deleteAll();
+    }
+
+    @RepeatedTest(2)
+    void verifyTicketStoredInBinaryFormat() throws Throwable {
+        val principalId = UUID.randomUUID().toString();
+        val tgtId = TestTicketIdentifiers.generate().ticketGrantingTicketId();
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl(tgtId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE));
+
+        val collectionName = ticketCatalog.find(TicketGrantingTicket.PREFIX).getProperties().getStorageName();
+        val document = mongoDbTicketRegistryTemplate.findOne(
+            new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(newTicketRegistry.digestIdentifier(tgtId))),
+            MongoDbTicketDocument.class, collectionName);
+        assertNotNull(document);
+        assertTrue(document.getJson().startsWith(CompactBinaryTicketSerializationManager.TEXT_PREFIX));
+
+        val tgt = newTicketRegistry.getTicket(tgtId, TicketGrantingTicket.class);
+        assertEquals(principalId, tgt.getAuthentication().getPrincipal().getId());
+        assertEquals(1, newTicketRegistry.getSessionsFor(principalId).count());
+    }
+}
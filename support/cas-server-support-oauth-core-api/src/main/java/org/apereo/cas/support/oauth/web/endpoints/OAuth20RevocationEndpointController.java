@@ -6,6 +6,7 @@ import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.ticket.OAuth20Token;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshToken;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -145,6 +146,9 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
     protected void revokeToken(final String token) throws Exception {
         LOGGER.debug("Revoking token [{}]", token);
         getConfigurationContext().getTicketRegistry().deleteTicket(token);
+        if (getConfigurationContext().getAccessTokenJwtBuilder() instanceof final OAuth20JwtBuilder jwtBuilder) {
+            jwtBuilder.invalidate(token);
+        }
     }
 
     protected OAuthRegisteredService getRegisteredServiceByClientId(final String clientId) {
@@ -29,6 +29,7 @@ import org.apereo.cas.ticket.device.OAuth20DeviceUserCodeFactory;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshToken;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshTokenFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryBatch;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -82,7 +83,9 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         if (OAuth20ResponseTypes.DEVICE_CODE == tokenRequestContext.getResponseType()) {
             return generateAccessTokenOAuthDeviceCodeResponseType(tokenRequestContext);
         }
-        val accessAndRefreshTokens = generateAccessTokenOAuthGrantTypes(tokenRequestContext);
+        val batch = TicketRegistryBatch.newInstance();
+        val accessAndRefreshTokens = generateAccessTokenOAuthGrantTypes(tokenRequestContext, batch);
+        ticketRegistry.save(batch);
         return generateAccessTokenResult(tokenRequestContext, accessAndRefreshTokens);
     }
 
@@ -96,7 +99,7 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
 
             if (deviceUserCode.isUserCodeApproved()) {
                 LOGGER.debug("Provided user code [{}] linked to device code [{}] is approved", deviceCodeTicket.getId(), deviceCode);
-                ticketRegistry.deleteTicket(deviceCode);
+                val batch = TicketRegistryBatch.newInstance().delete(deviceCodeTicket);
 
                 val deviceResult = AccessTokenRequestContext
                     .builder()
@@ -110,7 +113,8 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
                     .generateRefreshToken(tokenRequestContext.getRegisteredService() != null && tokenRequestContext.isGenerateRefreshToken())
                     .build();
 
-                val ticketPair = generateAccessTokenOAuthGrantTypes(deviceResult);
+                val ticketPair = generateAccessTokenOAuthGrantTypes(deviceResult, batch);
+                ticketRegistry.save(batch);
                 return generateAccessTokenResult(deviceResult, ticketPair);
             }
 
@@ -161,20 +165,31 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         return authnBuilder.build();
     }
 
+    /**
+     * Generate access and refresh tokens for the requested grant type.
+     * Tickets that are created or modified are not saved directly, and are instead
+     * recorded into the given batch which the caller saves into the registry at once.
+     *
+     * @param tokenRequestContext the token request context
+     * @param batch               the batch that collects ticket registry writes
+     * @return the access and refresh tokens
+     * @throws Throwable the throwable
+     */
     protected AccessAndRefreshTokens generateAccessTokenOAuthGrantTypes(
-        final AccessTokenRequestContext tokenRequestContext) throws Throwable {
+        final AccessTokenRequestContext tokenRequestContext,
+        final TicketRegistryBatch batch) throws Throwable {
         LOGGER.debug("Creating access token for [{}]", tokenRequestContext.getService());
 
         if (tokenRequestContext.getGrantType() == OAuth20GrantTypes.TOKEN_EXCHANGE) {
-            return generateAccessTokenForTokenExchange(tokenRequestContext);
+            return generateAccessTokenForTokenExchange(tokenRequestContext, batch);
         }
 
         val authentication = prepareAuthentication(tokenRequestContext);
         LOGGER.debug("Creating access token for [{}]", tokenRequestContext);
         val accessToken = createAccessToken(tokenRequestContext, authentication);
-        val addedAccessToken = addAccessToken(tokenRequestContext, accessToken);
+        val addedAccessToken = addAccessToken(tokenRequestContext, accessToken, batch);
         val refreshToken = FunctionUtils.doIf(tokenRequestContext.isGenerateRefreshToken(),
-            Unchecked.supplier(() -> generateRefreshToken(tokenRequestContext, accessToken.getId())),
+            Unchecked.supplier(() -> generateRefreshToken(tokenRequestContext, accessToken.getId(), batch)),
             () -> {
                 LOGGER.debug("Service [{}] is not able/allowed to receive refresh tokens", tokenRequestContext.getService());
                 return null;
@@ -182,13 +197,14 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         return new AccessAndRefreshTokens(addedAccessToken, refreshToken);
     }
 
-    protected AccessAndRefreshTokens generateAccessTokenForTokenExchange(final AccessTokenRequestContext tokenRequestContext) throws Throwable {
+    protected AccessAndRefreshTokens generateAccessTokenForTokenExchange(final AccessTokenRequestContext tokenRequestContext,
+                                                                         final TicketRegistryBatch batch) throws Throwable {
         val targetService = Objects.requireNonNullElseGet(tokenRequestContext.getTokenExchangeResource(), tokenRequestContext::getService);
         return switch (tokenRequestContext.getRequestedTokenType()) {
             case ACCESS_TOKEN, JWT -> {
                 val subjectToken = (OAuth20AccessToken) tokenRequestContext.getSubjectToken();
                 val exchangedAccessToken = exchangeTokenForAccessToken(targetService, subjectToken, tokenRequestContext);
-                val addedAccessToken = addAccessToken(tokenRequestContext, exchangedAccessToken);
+                val addedAccessToken = addAccessToken(tokenRequestContext, exchangedAccessToken, batch);
                 yield new AccessAndRefreshTokens(addedAccessToken, null);
             }
             default -> {
@@ -247,58 +263,53 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
     }
 
     protected Ticket addAccessToken(final AccessTokenRequestContext tokenRequestContext,
-                                    final OAuth20AccessToken accessToken) throws Exception {
-        var finalAccessToken = (Ticket) accessToken;
+                                    final OAuth20AccessToken accessToken,
+                                    final TicketRegistryBatch batch) {
         if (tokenRequestContext.getResponseType() != OAuth20ResponseTypes.ID_TOKEN && accessToken.getExpiresIn() > 0) {
             LOGGER.debug("Created access token [{}]", accessToken);
-            finalAccessToken = addTicketToRegistry(accessToken, accessToken.getTicketGrantingTicket());
-            LOGGER.debug("Added access token [{}] to registry", finalAccessToken);
-            updateRefreshToken(tokenRequestContext, finalAccessToken);
+            addTicketToRegistry(accessToken, accessToken.getTicketGrantingTicket(), batch);
+            updateRefreshToken(tokenRequestContext, accessToken, batch);
         }
-        updateOAuthCode(tokenRequestContext);
-        return finalAccessToken;
+        updateOAuthCode(tokenRequestContext, batch);
+        return accessToken;
     }
 
-    private void updateRefreshToken(final AccessTokenRequestContext tokenRequestContext,
-                                    final Ticket accessToken) throws Exception {
+    private static void updateRefreshToken(final AccessTokenRequestContext tokenRequestContext,
+                                           final Ticket accessToken, final TicketRegistryBatch batch) {
         if (tokenRequestContext.isRefreshToken() && !tokenRequestContext.getToken().isStateless()) {
             val refreshToken = (OAuth20RefreshToken) tokenRequestContext.getToken();
             LOGGER.trace("Tracking access token [{}] linked to refresh token [{}]", accessToken.getId(), refreshToken.getId());
             refreshToken.getAccessTokens().add(accessToken.getId());
-            ticketRegistry.updateTicket(refreshToken);
+            batch.update(refreshToken);
         }
     }
 
-    private void updateOAuthCode(final AccessTokenRequestContext tokenRequestContext) throws Exception {
+    private static void updateOAuthCode(final AccessTokenRequestContext tokenRequestContext, final TicketRegistryBatch batch) {
         val token = tokenRequestContext.getToken();
         if (tokenRequestContext.isCodeToken() && !token.isStateless()) {
             token.update();
             LOGGER.trace("Updated OAuth code [{}]", token.getId());
             if (token.isExpired()) {
-                ticketRegistry.deleteTicket(token);
+                batch.delete(token);
             } else {
-                ticketRegistry.updateTicket(token);
+                batch.update(token);
             }
-            ticketRegistry.updateTicket(tokenRequestContext.getTicketGrantingTicket());
+            batch.update(tokenRequestContext.getTicketGrantingTicket());
         }
     }
 
-    protected Ticket addTicketToRegistry(final Ticket ticket, final Ticket ticketGrantingTicket) throws Exception {
+    protected void addTicketToRegistry(final Ticket ticket, final Ticket ticketGrantingTicket, final TicketRegistryBatch batch) {
         LOGGER.debug("Adding ticket [{}] to registry", ticket);
-        val addedToken = ticketRegistry.addTicket(ticket);
+        batch.add(ticket);
         if (ticketGrantingTicket != null) {
             LOGGER.debug("Updating parent ticket-granting ticket [{}]", ticketGrantingTicket);
-            ticketRegistry.updateTicket(ticketGrantingTicket);
+            batch.update(ticketGrantingTicket);
         }
-        return addedToken;
-    }
-
-    protected Ticket addTicketToRegistry(final Ticket ticket) throws Exception {
-        return addTicketToRegistry(ticket, null);
     }
 
     protected Ticket generateRefreshToken(final AccessTokenRequestContext tokenRequestContext,
-                                          final String accessTokenId) throws Throwable {
+                                          final String accessTokenId,
+                                          final TicketRegistryBatch batch) throws Throwable {
         LOGGER.debug("Creating refresh token for [{}]", tokenRequestContext.getService());
 
         val refreshTokenFactory = (OAuth20RefreshTokenFactory) ticketFactory.get(OAuth20RefreshToken.class);
@@ -312,11 +323,11 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
             tokenRequestContext.getResponseType(),
             tokenRequestContext.getGrantType());
         LOGGER.debug("Adding refresh token [{}] to the registry", refreshToken);
-        val addedRefreshToken = addTicketToRegistry(refreshToken, tokenRequestContext.getTicketGrantingTicket());
+        addTicketToRegistry(refreshToken, tokenRequestContext.getTicketGrantingTicket(), batch);
         if (tokenRequestContext.isExpireOldRefreshToken()) {
-            expireOldRefreshToken(tokenRequestContext);
+            expireOldRefreshToken(tokenRequestContext, batch);
         }
-        return addedRefreshToken;
+        return refreshToken;
     }
 
     private OAuth20DeviceUserCode getDeviceUserCodeFromRegistry(final OAuth20DeviceToken deviceCodeTicket) {
@@ -352,22 +363,18 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         val deviceUserCode = deviceUserCodeFactory.createDeviceUserCode(deviceToken.getService());
         LOGGER.debug("Created device user code token [{}]", deviceUserCode.getId());
 
-        val addedDeviceUserCode = addTicketToRegistry(deviceUserCode);
-        LOGGER.debug("Added device user code [{}] to registry", addedDeviceUserCode);
-
-        deviceToken.setUserCode(addedDeviceUserCode.getId());
-        val addedDeviceToken = addTicketToRegistry(deviceToken);
-        LOGGER.debug("Added device token [{}] to registry", addedDeviceToken);
-
-        return new DeviceTokens(addedDeviceToken, addedDeviceUserCode);
+        deviceToken.setUserCode(deviceUserCode.getId());
+        ticketRegistry.save(TicketRegistryBatch.newInstance().add(deviceUserCode).add(deviceToken));
+        LOGGER.debug("Added device user code [{}] and device token [{}] to registry", deviceUserCode.getId(), deviceToken.getId());
+        return new DeviceTokens(deviceToken, deviceUserCode);
     }
 
-    private void expireOldRefreshToken(final AccessTokenRequestContext tokenRequestContext) throws Exception {
+    private static void expireOldRefreshToken(final AccessTokenRequestContext tokenRequestContext, final TicketRegistryBatch batch) {
         val oldRefreshToken = tokenRequestContext.getToken();
         if (!oldRefreshToken.isStateless()) {
             LOGGER.debug("Expiring old refresh token [{}]", oldRefreshToken);
             oldRefreshToken.markTicketExpired();
-            ticketRegistry.deleteTicket(oldRefreshToken);
+            batch.delete(oldRefreshToken);
         }
     }
 
@@ -0,0 +1,50 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jwt.JWTClaimsSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenCacheExpirationPolicy}.
+ * Verified JWTs remain cached for the configured duration,
+ * capped by the expiration time of the JWT itself.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class OAuth20JwtAccessTokenCacheExpirationPolicy implements Expiry<String, JWTClaimsSet> {
+    private final Duration maximumDuration;
+
+    @Override
+    public long expireAfterCreate(final String key, final JWTClaimsSet claims, final long currentTime) {
+        val expirationTime = claims.getExpirationTime();
+        if (expirationTime == null) {
+            return maximumDuration.toNanos();
+        }
+        val remaining = Duration.between(Instant.now(), expirationTime.toInstant());
+        if (remaining.isNegative() || remaining.isZero()) {
+            LOGGER.trace("JWT [{}] has expired and shall be evicted from the cache", claims.getJWTID());
+            return 0;
+        }
+        return remaining.compareTo(maximumDuration) < 0 ? remaining.toNanos() : maximumDuration.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(final String key, final JWTClaimsSet claims,
+                                  final long currentTime, final long currentDuration) {
+        return expireAfterCreate(key, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(final String key, final JWTClaimsSet claims,
+                                final long currentTime, final long currentDuration) {
+        return currentDuration;
+    }
+}
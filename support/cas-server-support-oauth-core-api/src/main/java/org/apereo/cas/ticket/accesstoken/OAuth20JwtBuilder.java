@@ -3,36 +3,146 @@ package org.apereo.cas.ticket.accesstoken;
 import org.apereo.cas.authentication.credential.BasicIdentifiableCredential;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.cache.ExpiringSimpleCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
 import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicyContext;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.nimbusds.jwt.JWTClaimsSet;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jwt.JwtClaims;
 import org.springframework.context.ConfigurableApplicationContext;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link OAuth20JwtBuilder}.
+ * When built with verified token cache settings, claims of verified JWTs are cached
+ * and indexed by their JWT id, so that they may be invalidated once the token is revoked
+ * or the keys used to sign or encrypt tokens are rotated.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
+@Slf4j
 public class OAuth20JwtBuilder extends JwtBuilder {
+    private final Map<String, Set<String>> verifiedTokenCacheKeys = new ConcurrentHashMap<>();
+
+    private final Cache<String, JWTClaimsSet> verifiedTokenCache;
+
     public OAuth20JwtBuilder(final CipherExecutor defaultTokenCipherExecutor,
                              final ConfigurableApplicationContext applicationContext,
                              final ServicesManager servicesManager,
                              final RegisteredServiceCipherExecutor registeredServiceCipherExecutor,
                              final CasConfigurationProperties casProperties,
                              final PrincipalResolver principalResolver) {
+        this(defaultTokenCipherExecutor, applicationContext, servicesManager,
+            registeredServiceCipherExecutor, casProperties, principalResolver, null);
+    }
+
+    public OAuth20JwtBuilder(final CipherExecutor defaultTokenCipherExecutor,
+                             final ConfigurableApplicationContext applicationContext,
+                             final ServicesManager servicesManager,
+                             final RegisteredServiceCipherExecutor registeredServiceCipherExecutor,
+                             final CasConfigurationProperties casProperties,
+                             final PrincipalResolver principalResolver,
+                             final ExpiringSimpleCacheProperties verifiedTokenCacheProperties) {
         super(defaultTokenCipherExecutor, applicationContext, servicesManager, principalResolver,
             registeredServiceCipherExecutor, casProperties);
+        this.verifiedTokenCache = verifiedTokenCacheProperties != null && verifiedTokenCacheProperties.getCacheSize() > 0
+            ? Caffeine.newBuilder()
+                .initialCapacity(verifiedTokenCacheProperties.getInitialCapacity())
+                .maximumSize(verifiedTokenCacheProperties.getCacheSize())
+                .expireAfter(new OAuth20JwtAccessTokenCacheExpirationPolicy(Beans.newDuration(verifiedTokenCacheProperties.getDuration())))
+                .evictionListener(this::unindexVerifiedToken)
+                .build()
+            : null;
+    }
+
+    /**
+     * Unpack the JWT, or return the claims of a previously verified copy of the same JWT.
+     * Service access is always enforced, regardless of whether claims are found in the cache.
+     * Cached claims only save signature verification and decryption; callers are still expected
+     * to look up the token identified by the JWT in the ticket registry, which catches revoked tokens
+     * that might linger in the cache.
+     *
+     * @param service the service
+     * @param jwtJson the jwt json
+     * @return the claims set
+     */
+    @Override
+    public JWTClaimsSet unpack(final Optional<RegisteredService> service, final String jwtJson) {
+        if (verifiedTokenCache == null || StringUtils.isBlank(jwtJson)) {
+            return super.unpack(service, jwtJson);
+        }
+        service.ifPresent(RegisteredServiceAccessStrategyUtils::ensureServiceAccessIsAllowed);
+        val cacheKey = service.map(registeredService -> registeredService.getId() + ":").orElse(StringUtils.EMPTY)
+            + DigestUtils.sha256(jwtJson);
+        return verifiedTokenCache.get(cacheKey, key -> {
+            LOGGER.trace("Verified JWT cannot be found in the cache; unpacking and verifying JWT");
+            val claims = super.unpack(service, jwtJson);
+            indexVerifiedToken(key, claims);
+            return claims;
+        });
+    }
+
+    /**
+     * Invalidate cached claims of verified JWTs linked to the given token identifier.
+     *
+     * @param jwtId the jwt id
+     */
+    public void invalidate(final String jwtId) {
+        val cacheKeys = StringUtils.isBlank(jwtId) ? null : verifiedTokenCacheKeys.remove(jwtId);
+        if (verifiedTokenCache != null && cacheKeys != null) {
+            LOGGER.trace("Invalidating [{}] verified JWT(s) linked to [{}]", cacheKeys.size(), jwtId);
+            verifiedTokenCache.invalidateAll(cacheKeys);
+        }
+    }
+
+    /**
+     * Invalidate cached claims of all verified JWTs,
+     * typically once signing or encryption keys are rotated.
+     */
+    public void invalidateAll() {
+        if (verifiedTokenCache != null) {
+            LOGGER.debug("Invalidating all verified JWTs");
+            verifiedTokenCache.invalidateAll();
+            verifiedTokenCacheKeys.clear();
+        }
+    }
+
+    private void indexVerifiedToken(final String cacheKey, final JWTClaimsSet claims) {
+        if (claims != null && StringUtils.isNotBlank(claims.getJWTID())) {
+            verifiedTokenCacheKeys.compute(claims.getJWTID(), (jwtId, keys) -> {
+                val cacheKeys = keys == null ? ConcurrentHashMap.<String>newKeySet() : keys;
+                cacheKeys.add(cacheKey);
+                return cacheKeys;
+            });
+        }
+    }
+
+    private void unindexVerifiedToken(final String cacheKey, final JWTClaimsSet claims, final RemovalCause cause) {
+        if (claims != null && StringUtils.isNotBlank(claims.getJWTID())) {
+            verifiedTokenCacheKeys.computeIfPresent(claims.getJWTID(), (jwtId, keys) -> {
+                keys.remove(cacheKey);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
     }
 
     @Override
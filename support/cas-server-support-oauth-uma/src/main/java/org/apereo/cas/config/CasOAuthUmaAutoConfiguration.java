@@ -346,7 +346,7 @@ public class CasOAuthUmaAutoConfiguration {
             private static final long serialVersionUID = -2198623586274810263L;
 
             UmaPermissionTicketStringSerializer() {
-                super(MINIMAL_PRETTY_PRINTER);
+                super(MINIMAL_PRETTY_PRINTER, true);
             }
 
             @Override
@@ -21,6 +21,7 @@ import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.support.replication.CookieSessionReplicationProperties;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.pac4j.TicketRegistrySessionStore;
+import org.apereo.cas.pac4j.TicketRegistrySessionStoreFilter;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20ClientIdAwareProfileManager;
@@ -189,6 +190,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -263,7 +265,8 @@ class CasOAuth20Configuration {
             @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager,
             @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER) final PrincipalResolver principalResolver) {
             return new OAuth20JwtBuilder(oauthAccessTokenJwtCipherExecutor, applicationContext, servicesManager,
-                oauthRegisteredServiceJwtAccessTokenCipherExecutor, casProperties, principalResolver);
+                oauthRegisteredServiceJwtAccessTokenCipherExecutor, casProperties, principalResolver,
+                casProperties.getAuthn().getOauth().getAccessToken().getVerifiedTokenCache());
         }
     }
 
@@ -704,12 +707,21 @@ class CasOAuth20Configuration {
             val replicate = casProperties.getAuthn().getOauth().getSessionReplication().isReplicateSessions();
             if (replicate) {
                 return new TicketRegistrySessionStore(ticketRegistry,
-                    ticketFactory, oauthDistributedSessionCookieGenerator);
+                    ticketFactory, oauthDistributedSessionCookieGenerator)
+                    .setCoalesceWrites(casProperties.getAuthn().getOauth().getSessionReplication().isCoalesceWrites());
             }
             val sessionStore = new JEESessionStore();
             sessionStore.setPrefix(OAUTH_OIDC_SERVER_SUPPORT_PREFIX);
             return sessionStore;
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = TicketRegistrySessionStoreFilter.BEAN_NAME)
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public FilterRegistrationBean<TicketRegistrySessionStoreFilter> ticketRegistrySessionStoreFilter(
+            final CasConfigurationProperties casProperties) {
+            return TicketRegistrySessionStoreFilter.newFilterRegistration(casProperties);
+        }
     }
 
     @Configuration(value = "CasOAuth20LogoutConfiguration", proxyBeanMethods = false)
@@ -58,7 +58,7 @@ class CasOAuth20TicketSerializationConfiguration {
         private static final long serialVersionUID = -2198623586274810263L;
 
         OAuthCodeTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
         
         @Override
@@ -72,7 +72,7 @@ class CasOAuth20TicketSerializationConfiguration {
         private static final long serialVersionUID = -2198623586274810263L;
 
         AccessTokenTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
 
         @Override
@@ -86,7 +86,7 @@ class CasOAuth20TicketSerializationConfiguration {
         private static final long serialVersionUID = -2198623586274810263L;
 
         RefreshTokenTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
 
         @Override
@@ -100,7 +100,7 @@ class CasOAuth20TicketSerializationConfiguration {
         private static final long serialVersionUID = -2198623586274810263L;
 
         DeviceTokenTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
 
 
@@ -115,7 +115,7 @@ class CasOAuth20TicketSerializationConfiguration {
         private static final long serialVersionUID = -2198623586274810263L;
 
         DeviceUserCodeTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
 
         @Override
@@ -15,6 +15,7 @@ import org.apereo.cas.support.oauth.validator.token.device.ThrottledOAuth20Devic
 import org.apereo.cas.support.oauth.validator.token.device.UnapprovedOAuth20DeviceUserCodeException;
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRequestContext;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.registry.TicketRegistryBatch;
 import org.apereo.cas.util.EncodingUtils;
 import lombok.val;
 import org.jose4j.jwt.JwtClaims;
@@ -289,7 +290,9 @@ class OAuth20DefaultTokenGeneratorTests extends AbstractOAuth20Tests {
             .claims(oauthRequestParameterResolver.resolveRequestClaims(new JEEContext(mockRequest, mockResponse)))
             .build();
 
-        val generatedToken = ((OAuth20DefaultTokenGenerator) oauthTokenGenerator).generateAccessTokenOAuthGrantTypes(holder);
+        val batch = TicketRegistryBatch.newInstance();
+        val generatedToken = ((OAuth20DefaultTokenGenerator) oauthTokenGenerator).generateAccessTokenOAuthGrantTypes(holder, batch);
         assertNotNull(generatedToken);
+        assertFalse(batch.isEmpty());
     }
 }
@@ -34,6 +34,44 @@ class OAuth20JwtBuilderTests extends AbstractOAuth20Tests {
         assertNotNull(jwt);
     }
 
+    @Test
+    void verifyVerifiedJwtIsCached() throws Throwable {
+        servicesManager.save(getRegisteredService("clientid3-jwt", "secret3-jwt"));
+        val request = JwtBuilder.JwtRequest.builder()
+            .issueDate(new Date())
+            .jwtId("AT-123456")
+            .serviceAudience(Set.of("clientid3-jwt"))
+            .subject("casuser")
+            .validUntilDate(new Date(System.currentTimeMillis() + 60_000))
+            .issuer(casProperties.getServer().getPrefix())
+            .build();
+        val jwt = accessTokenJwtBuilder.build(request);
+        val claims = accessTokenJwtBuilder.unpack(jwt);
+        assertSame(claims, accessTokenJwtBuilder.unpack(jwt));
+        ((OAuth20JwtBuilder) accessTokenJwtBuilder).invalidate("AT-123456");
+        val unpacked = accessTokenJwtBuilder.unpack(jwt);
+        assertNotSame(claims, unpacked);
+        assertEquals("AT-123456", unpacked.getJWTID());
+    }
+
+    @Test
+    void verifyAllVerifiedJwtsInvalidated() throws Throwable {
+        servicesManager.save(getRegisteredService("clientid4-jwt", "secret4-jwt"));
+        val request = JwtBuilder.JwtRequest.builder()
+            .issueDate(new Date())
+            .jwtId("AT-654321")
+            .serviceAudience(Set.of("clientid4-jwt"))
+            .subject("casuser")
+            .validUntilDate(new Date(System.currentTimeMillis() + 60_000))
+            .issuer(casProperties.getServer().getPrefix())
+            .build();
+        val jwt = accessTokenJwtBuilder.build(request);
+        val claims = accessTokenJwtBuilder.unpack(jwt);
+        assertSame(claims, accessTokenJwtBuilder.unpack(jwt));
+        ((OAuth20JwtBuilder) accessTokenJwtBuilder).invalidateAll();
+        assertNotSame(claims, accessTokenJwtBuilder.unpack(jwt));
+    }
+
     @Test
     void verifyBadJwt() throws Throwable {
         assertThrows(IllegalArgumentException.class, () -> JwtBuilder.parse("badly-formatted-jwt"));
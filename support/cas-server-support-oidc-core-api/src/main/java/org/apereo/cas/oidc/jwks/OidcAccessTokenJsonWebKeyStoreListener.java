@@ -0,0 +1,30 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
+import org.apereo.cas.token.JwtBuilder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This is {@link OidcAccessTokenJsonWebKeyStoreListener}.
+ * Invalidates verified access token JWTs kept by the access token JWT builder
+ * once the keystore is modified, for example when keys are rotated or revoked.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class OidcAccessTokenJsonWebKeyStoreListener implements OidcJsonWebKeyStoreListener {
+    private final JwtBuilder accessTokenJwtBuilder;
+
+    @Override
+    public void handleOidcJsonWebKeystoreModifiedEvent(final OidcJsonWebKeystoreModifiedEvent event) {
+        if (accessTokenJwtBuilder instanceof final OAuth20JwtBuilder jwtBuilder) {
+            LOGGER.debug("Detected change in [{}]. Will invalidate verified access token JWTs...", event.getFile());
+            jwtBuilder.invalidateAll();
+        }
+    }
+}
@@ -680,7 +680,8 @@ class OidcConfiguration {
             @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER)
             final PrincipalResolver principalResolver) {
             return new OAuth20JwtBuilder(oidcAccessTokenJwtCipherExecutor, applicationContext, servicesManager,
-                oidcRegisteredServiceJwtAccessTokenCipherExecutor, casProperties, principalResolver);
+                oidcRegisteredServiceJwtAccessTokenCipherExecutor, casProperties, principalResolver,
+                casProperties.getAuthn().getOauth().getAccessToken().getVerifiedTokenCache());
         }
     }
 
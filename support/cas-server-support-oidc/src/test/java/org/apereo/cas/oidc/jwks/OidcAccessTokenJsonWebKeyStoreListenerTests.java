@@ -0,0 +1,52 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.oidc.AbstractOidcTests;
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.token.JwtBuilder;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OidcAccessTokenJsonWebKeyStoreListenerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("OIDC")
+class OidcAccessTokenJsonWebKeyStoreListenerTests extends AbstractOidcTests {
+    @Autowired
+    private ConfigurableApplicationContext realApplicationContext;
+
+    @Test
+    void verifyOperation() throws Throwable {
+        val registeredService = getOidcRegisteredService("clientid-jwks-listener");
+        servicesManager.save(registeredService);
+        val request = JwtBuilder.JwtRequest.builder()
+            .issueDate(new Date())
+            .jwtId("AT-jwks-listener")
+            .serviceAudience(Set.of(registeredService.getClientId()))
+            .subject("casuser")
+            .validUntilDate(new Date(System.currentTimeMillis() + 60_000))
+            .issuer(casProperties.getAuthn().getOidc().getCore().getIssuer())
+            .build();
+        val jwt = oidcAccessTokenJwtBuilder.build(request);
+        val claims = oidcAccessTokenJwtBuilder.unpack(jwt);
+        assertSame(claims, oidcAccessTokenJwtBuilder.unpack(jwt));
+
+        realApplicationContext.publishEvent(new OidcJsonWebKeystoreModifiedEvent(this,
+            File.createTempFile("prefix", "postfix"), null));
+        await().atMost(Duration.ofSeconds(5)).until(() -> oidcAccessTokenJwtBuilder.unpack(jwt) != claims);
+    }
+}
@@ -6,20 +6,32 @@ import org.apereo.cas.ticket.TransientSessionTicketFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.pac4j.core.context.WebContext;
 import org.pac4j.core.context.session.SessionStore;
 import org.pac4j.jee.context.JEEContext;
+import jakarta.servlet.http.HttpServletRequest;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * This is {@link TicketRegistrySessionStore}.
+ * <p>
+ * When write coalescing is turned on, the transient session ticket is loaded from the registry
+ * at most once per request and all changes are buffered in a request attribute. Pending changes
+ * are then written back with a single add or update operation via {@link #flush(HttpServletRequest)},
+ * which is typically invoked by {@link TicketRegistrySessionStoreFilter} before the response is committed.
+ * Switching to another tracked session writes back and discards the changes buffered for the previous one.
  *
  * @author Misagh Moayyed
  * @author Jerome LELEU
@@ -30,12 +42,49 @@ import java.util.UUID;
 public class TicketRegistrySessionStore implements SessionStore {
     private static final String SESSION_ID_IN_REQUEST_ATTRIBUTE = "sessionIdInRequestAttribute";
 
+    private static final String BUFFERED_SESSION_REQUEST_ATTRIBUTE_PREFIX = TicketRegistrySessionStore.class.getName() + ".bufferedSession.";
+
+    private static final String WRITE_THROUGH_REQUEST_ATTRIBUTE = TicketRegistrySessionStore.class.getName() + ".writeThrough";
+
     private final TicketRegistry ticketRegistry;
 
     private final TicketFactory ticketFactory;
 
     private final CasCookieBuilder cookieGenerator;
 
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private boolean coalesceWrites;
+
+    /**
+     * Flush all pending session changes that are buffered for the current request,
+     * regardless of the session store that recorded them.
+     *
+     * @param request the request
+     */
+    public static void flushAll(final HttpServletRequest request) {
+        Collections.list(request.getAttributeNames())
+            .stream()
+            .filter(name -> name.startsWith(BUFFERED_SESSION_REQUEST_ATTRIBUTE_PREFIX))
+            .map(request::getAttribute)
+            .filter(BufferedSession.class::isInstance)
+            .map(BufferedSession.class::cast)
+            .forEach(session -> session.getStore().flush(request));
+    }
+
+    /**
+     * Flush all pending session changes for the current request, and stop buffering
+     * changes for the rest of the request. This is used once the response is about to be committed,
+     * after which buffered changes and session cookies could no longer reach the client in time.
+     *
+     * @param request the request
+     */
+    public static void writeThrough(final HttpServletRequest request) {
+        request.setAttribute(WRITE_THROUGH_REQUEST_ATTRIBUTE, Boolean.TRUE);
+        flushAll(request);
+    }
+
     @Override
     public Optional<String> getSessionId(final WebContext webContext, final boolean create) {
         LOGGER.trace("Fetching session id...");
@@ -69,6 +118,11 @@ public class TicketRegistrySessionStore implements SessionStore {
             LOGGER.warn("Object value [{}] assigned to [{}] is not serializable and may not be part of the ticket [{}]", value, key, sessionId);
         }
         
+        if (coalesceWrites) {
+            bufferSessionChange(context, sessionId, key, value, properties);
+            return;
+        }
+
         val ticket = getTransientSessionTicketForSession(context);
 
         if (value == null && ticket != null) {
@@ -91,6 +145,75 @@ public class TicketRegistrySessionStore implements SessionStore {
         }
     }
 
+    /**
+     * Write back pending session changes buffered for the current request, if any,
+     * using a single add or update operation against the ticket registry.
+     *
+     * @param request the request
+     */
+    public void flush(final HttpServletRequest request) {
+        val attribute = request.getAttribute(getBufferedSessionAttributeName());
+        if (attribute instanceof final BufferedSession session && session.getTicket() != null && session.isDirty()) {
+            FunctionUtils.doUnchecked(__ -> {
+                if (session.isStored()) {
+                    LOGGER.trace("Flushing updated session ticket [{}]", session.getTicket().getId());
+                    ticketRegistry.updateTicket(session.getTicket());
+                } else {
+                    LOGGER.trace("Flushing new session ticket [{}]", session.getTicket().getId());
+                    ticketRegistry.addTicket(session.getTicket());
+                    session.setStored(true);
+                }
+                session.setDirty(false);
+            });
+        }
+    }
+
+    private void bufferSessionChange(final WebContext context, final String sessionId,
+                                     final String key, final Object value,
+                                     final Map<String, Serializable> properties) {
+        val session = getBufferedSession(context);
+        if (session.getTicket() == null) {
+            FunctionUtils.doAndHandle(__ -> {
+                val transientFactory = (TransientSessionTicketFactory) ticketFactory.get(TransientSessionTicket.class);
+                val transientSessionTicket = transientFactory.create(sessionId, properties);
+                session.setTicket(transientSessionTicket);
+                session.setDirty(true);
+
+                val webContext = (JEEContext) context;
+                cookieGenerator.addCookie(webContext.getNativeRequest(), webContext.getNativeResponse(), transientSessionTicket.getId());
+                context.setRequestAttribute(SESSION_ID_IN_REQUEST_ATTRIBUTE, transientSessionTicket.getId());
+            });
+        } else {
+            if (value == null) {
+                session.getTicket().getProperties().remove(key);
+            } else {
+                session.getTicket().getProperties().putAll(properties);
+            }
+            session.setDirty(true);
+        }
+        val request = ((JEEContext) context).getNativeRequest();
+        if (request.getAttribute(WRITE_THROUGH_REQUEST_ATTRIBUTE) != null) {
+            flush(request);
+        }
+    }
+
+    private BufferedSession getBufferedSession(final WebContext context) {
+        val attributeName = getBufferedSessionAttributeName();
+        return context.getRequestAttribute(attributeName)
+            .filter(BufferedSession.class::isInstance)
+            .map(BufferedSession.class::cast)
+            .orElseGet(() -> {
+                val ticket = loadTransientSessionTicketForSession(context);
+                val session = new BufferedSession(this).setTicket(ticket).setStored(ticket != null);
+                context.setRequestAttribute(attributeName, session);
+                return session;
+            });
+    }
+
+    private String getBufferedSessionAttributeName() {
+        return BUFFERED_SESSION_REQUEST_ATTRIBUTE_PREFIX + cookieGenerator.getCookieName();
+    }
+
     private void updateTicket(final WebContext context, final TransientSessionTicket ticket) {
         FunctionUtils.doUnchecked(__ -> {
             val updatedTicket = ticketRegistry.updateTicket(ticket);
@@ -103,6 +226,7 @@ public class TicketRegistrySessionStore implements SessionStore {
         val sessionId = fetchSessionIdFromContext(webContext);
         if (sessionId != null) {
             val ticketId = TransientSessionTicketFactory.normalizeTicketId(sessionId);
+            webContext.setRequestAttribute(getBufferedSessionAttributeName(), new BufferedSession(this));
             FunctionUtils.doUnchecked(__ -> ticketRegistry.deleteTicket(ticketId));
             val context = (JEEContext) webContext;
             cookieGenerator.removeCookie(context.getNativeResponse());
@@ -120,6 +244,11 @@ public class TicketRegistrySessionStore implements SessionStore {
 
     @Override
     public Optional<SessionStore> buildFromTrackableSession(final WebContext context, final Object trackableSession) {
+        if (coalesceWrites) {
+            val request = ((JEEContext) context).getNativeRequest();
+            flush(request);
+            request.removeAttribute(getBufferedSessionAttributeName());
+        }
         context.setRequestAttribute(SESSION_ID_IN_REQUEST_ATTRIBUTE, trackableSession);
         LOGGER.trace("Force session id: [{}]", trackableSession);
         return Optional.of(this);
@@ -143,6 +272,10 @@ public class TicketRegistrySessionStore implements SessionStore {
     }
 
     private TransientSessionTicket getTransientSessionTicketForSession(final WebContext context) {
+        return coalesceWrites ? getBufferedSession(context).getTicket() : loadTransientSessionTicketForSession(context);
+    }
+
+    private TransientSessionTicket loadTransientSessionTicketForSession(final WebContext context) {
         try {
             val sessionId = fetchSessionIdFromContext(context);
             if (sessionId != null) {
@@ -156,4 +289,18 @@ public class TicketRegistrySessionStore implements SessionStore {
         }
         return null;
     }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    @RequiredArgsConstructor
+    private static final class BufferedSession {
+        private final TicketRegistrySessionStore store;
+
+        private TransientSessionTicket ticket;
+
+        private boolean stored;
+
+        private boolean dirty;
+    }
 }
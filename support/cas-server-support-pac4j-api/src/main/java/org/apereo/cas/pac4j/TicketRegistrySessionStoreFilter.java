@@ -0,0 +1,129 @@
+package org.apereo.cas.pac4j;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.web.session.SessionStorageTypes;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.core.Ordered;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * This is {@link TicketRegistrySessionStoreFilter}. It writes back session changes
+ * buffered by {@link TicketRegistrySessionStore} when write coalescing is turned on.
+ * Pending changes are flushed once the request is processed, or earlier if the response
+ * is about to be committed via a redirect, an error, an explicit flush or by writing
+ * the response body, so that the next request in the flow is always able to locate the session ticket.
+ * Once the response is being committed, later changes are written back right away.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class TicketRegistrySessionStoreFilter implements Filter {
+    /**
+     * Bean name of the filter registration shared by all modules that replicate sessions.
+     */
+    public static final String BEAN_NAME = "ticketRegistrySessionStoreFilter";
+
+    /**
+     * Build the filter registration. The filter is enabled when any of the session stores
+     * that replicate sessions via the ticket registry is configured to coalesce writes.
+     * A single registration serves all of them, since the filter flushes every buffered session
+     * regardless of the store that recorded it.
+     *
+     * @param casProperties the cas properties
+     * @return the filter registration bean
+     */
+    public static FilterRegistrationBean<TicketRegistrySessionStoreFilter> newFilterRegistration(
+        final CasConfigurationProperties casProperties) {
+        val oauth = casProperties.getAuthn().getOauth().getSessionReplication();
+        val delegation = casProperties.getAuthn().getPac4j().getCore().getSessionReplication();
+        val samlIdP = casProperties.getAuthn().getSamlIdp().getCore();
+        val enabled = oauth.isReplicateSessions() && oauth.isCoalesceWrites()
+            || delegation.isReplicateSessions() && delegation.isCoalesceWrites()
+            || samlIdP.getSessionStorageType() == SessionStorageTypes.TICKET_REGISTRY && samlIdP.getSessionReplication().isCoalesceWrites();
+
+        val bean = new FilterRegistrationBean<>(new TicketRegistrySessionStoreFilter());
+        bean.setUrlPatterns(List.of("/*"));
+        bean.setName(BEAN_NAME);
+        bean.setAsyncSupported(true);
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        bean.setEnabled(enabled);
+        return bean;
+    }
+
+    @Override
+    public void doFilter(final ServletRequest servletRequest, final ServletResponse servletResponse,
+                         final FilterChain filterChain) throws IOException, ServletException {
+        if (servletRequest instanceof final HttpServletRequest request
+            && servletResponse instanceof final HttpServletResponse response) {
+            try {
+                filterChain.doFilter(request, new FlushingResponseWrapper(request, response));
+            } finally {
+                TicketRegistrySessionStore.flushAll(request);
+            }
+        } else {
+            filterChain.doFilter(servletRequest, servletResponse);
+        }
+    }
+
+    private static final class FlushingResponseWrapper extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+
+        FlushingResponseWrapper(final HttpServletRequest request, final HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            LOGGER.trace("Flushing buffered session changes before redirecting to [{}]", location);
+            TicketRegistrySessionStore.writeThrough(request);
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            TicketRegistrySessionStore.writeThrough(request);
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            TicketRegistrySessionStore.writeThrough(request);
+            super.sendError(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            TicketRegistrySessionStore.writeThrough(request);
+            super.flushBuffer();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            LOGGER.trace("Flushing buffered session changes before the response body is written");
+            TicketRegistrySessionStore.writeThrough(request);
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            LOGGER.trace("Flushing buffered session changes before the response body is written");
+            TicketRegistrySessionStore.writeThrough(request);
+            return super.getWriter();
+        }
+    }
+}
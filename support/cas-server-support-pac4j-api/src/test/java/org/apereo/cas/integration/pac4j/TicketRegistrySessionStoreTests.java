@@ -2,7 +2,9 @@ package org.apereo.cas.integration.pac4j;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.pac4j.TicketRegistrySessionStore;
+import org.apereo.cas.pac4j.TicketRegistrySessionStoreFilter;
 import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TransientSessionTicket;
 import org.apereo.cas.ticket.TransientSessionTicketFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
@@ -20,12 +22,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -134,6 +140,91 @@ class TicketRegistrySessionStoreTests {
         assertTrue(sessionStore.getSessionId(webContext, false).isPresent());
     }
 
+    @Test
+    void verifyCoalescedWrites() throws Throwable {
+        val store = new TicketRegistrySessionStore(ticketRegistry, ticketFactory, cookieGenerator).setCoalesceWrites(true);
+        store.set(webContext, "attribute1", "value1");
+        store.set(webContext, "attribute2", "value2");
+        store.set(webContext, "attribute1", null);
+        val sessionId = store.getSessionId(webContext, false).orElseThrow();
+        val ticketId = TransientSessionTicketFactory.normalizeTicketId(sessionId);
+        assertNull(ticketRegistry.getTicket(ticketId));
+        assertTrue(store.get(webContext, "attribute1").isEmpty());
+        assertEquals("value2", store.get(webContext, "attribute2").orElseThrow());
+
+        val chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                assertNull(ticketRegistry.getTicket(ticketId));
+                resp.sendRedirect("https://github.com");
+                assertNotNull(ticketRegistry.getTicket(ticketId));
+            }
+        });
+        new TicketRegistrySessionStoreFilter().doFilter(request, response, chain);
+        val ticket = ticketRegistry.getTicket(ticketId, TransientSessionTicket.class);
+        assertEquals("value2", ticket.getProperties().get("attribute2"));
+        assertFalse(ticket.getProperties().containsKey("attribute1"));
+
+        val nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(getDistributedSessionCookie());
+        val nextContext = new JEEContext(nextRequest, new MockHttpServletResponse());
+        assertEquals("value2", store.get(nextContext, "attribute2").orElseThrow());
+        store.set(nextContext, "attribute3", "value3");
+        assertFalse(ticketRegistry.getTicket(ticketId, TransientSessionTicket.class).getProperties().containsKey("attribute3"));
+        TicketRegistrySessionStore.flushAll(nextRequest);
+        assertEquals("value3", ticketRegistry.getTicket(ticketId, TransientSessionTicket.class).getProperties().get("attribute3"));
+    }
+
+    @Test
+    void verifyCoalescedWritesFlushedWithResponseBody() throws Throwable {
+        val store = new TicketRegistrySessionStore(ticketRegistry, ticketFactory, cookieGenerator).setCoalesceWrites(true);
+        val chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                val context = new JEEContext(req, resp);
+                store.set(context, "attribute1", "value1");
+                val ticketId = TransientSessionTicketFactory.normalizeTicketId(store.getSessionId(context, false).orElseThrow());
+                assertNull(ticketRegistry.getTicket(ticketId));
+                resp.getWriter().write("response");
+                assertNotNull(ticketRegistry.getTicket(ticketId));
+                store.set(context, "attribute2", "value2");
+                assertEquals("value2", ticketRegistry.getTicket(ticketId, TransientSessionTicket.class).getProperties().get("attribute2"));
+            }
+        });
+        new TicketRegistrySessionStoreFilter().doFilter(request, response, chain);
+        assertNotNull(getDistributedSessionCookie());
+    }
+
+    @Test
+    void verifyCoalescedWritesWithTrackableSession() throws Throwable {
+        val store = new TicketRegistrySessionStore(ticketRegistry, ticketFactory, cookieGenerator).setCoalesceWrites(true);
+        store.set(webContext, "attribute", "value1");
+        val firstSessionId = store.getSessionId(webContext, false).orElseThrow();
+
+        val otherRequest = new MockHttpServletRequest();
+        val otherContext = new JEEContext(otherRequest, new MockHttpServletResponse());
+        store.set(otherContext, "attribute", "value2");
+        val otherSessionId = store.getSessionId(otherContext, false).orElseThrow();
+        TicketRegistrySessionStore.flushAll(otherRequest);
+
+        assertTrue(store.buildFromTrackableSession(webContext, otherSessionId).isPresent());
+        val firstTicketId = TransientSessionTicketFactory.normalizeTicketId(firstSessionId);
+        assertEquals("value1", ticketRegistry.getTicket(firstTicketId, TransientSessionTicket.class).getProperties().get("attribute"));
+        assertEquals("value2", store.get(webContext, "attribute").orElseThrow());
+    }
+
+    @Test
+    void verifyCoalescedWritesWithNonSerializableValue() throws Throwable {
+        val store = new TicketRegistrySessionStore(ticketRegistry, ticketFactory, cookieGenerator).setCoalesceWrites(true);
+        store.set(webContext, "attribute", "value1");
+        assertDoesNotThrow(() -> store.set(webContext, "attribute", new NoSerializable()));
+        assertEquals("value1", store.get(webContext, "attribute").orElseThrow());
+
+        TicketRegistrySessionStore.flushAll(request);
+        val ticketId = TransientSessionTicketFactory.normalizeTicketId(store.getSessionId(webContext, false).orElseThrow());
+        assertEquals("value1", ticketRegistry.getTicket(ticketId, TransientSessionTicket.class).getProperties().get("attribute"));
+    }
+
     private static final class NoSerializable {
     }
 }
@@ -23,6 +23,7 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.discovery.CasServerProfileCustomizer;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.pac4j.TicketRegistrySessionStore;
+import org.apereo.cas.pac4j.TicketRegistrySessionStoreFilter;
 import org.apereo.cas.pac4j.client.DelegatedClientNameExtractor;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviderFactory;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviders;
@@ -64,6 +65,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -108,12 +110,21 @@ class DelegatedAuthenticationEventExecutionPlanConfiguration {
             val replicationProps = casProperties.getAuthn().getPac4j().getCore().getSessionReplication();
             if (replicationProps.isReplicateSessions()) {
                 return new TicketRegistrySessionStore(ticketRegistry,
-                    ticketFactory, delegatedClientDistributedSessionCookieGenerator);
+                    ticketFactory, delegatedClientDistributedSessionCookieGenerator)
+                    .setCoalesceWrites(replicationProps.isCoalesceWrites());
             }
             val sessionStore = new JEESessionStore();
             sessionStore.setPrefix(AUTHENTICATION_DELEGATION_PREFIX);
             return sessionStore;
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = TicketRegistrySessionStoreFilter.BEAN_NAME)
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public FilterRegistrationBean<TicketRegistrySessionStoreFilter> ticketRegistrySessionStoreFilter(
+            final CasConfigurationProperties casProperties) {
+            return TicketRegistrySessionStoreFilter.newFilterRegistration(casProperties);
+        }
     }
 
     @Configuration(value = "DelegatedAuthenticationEventExecutionPlanCoreConfiguration", proxyBeanMethods = false)
@@ -21,6 +21,7 @@ import org.apereo.cas.ticket.registry.key.TicketRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.pub.DefaultRedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.sub.DefaultRedisTicketRegistryMessageListener;
+import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.PublisherIdentifier;
@@ -231,6 +232,8 @@ public class CasRedisTicketRegistryAutoConfiguration {
             final TicketCatalog ticketCatalog,
             @Qualifier(TicketSerializationManager.BEAN_NAME)
             final TicketSerializationManager ticketSerializationManager,
+            @Qualifier("ticketSerializationExecutionPlan")
+            final TicketSerializationExecutionPlan ticketSerializationExecutionPlan,
             @Qualifier("redisTicketRegistryCache")
             final Cache<String, Ticket> redisTicketRegistryCache,
             @Qualifier("redisTicketRegistryMessagePublisher")
@@ -245,7 +248,9 @@ public class CasRedisTicketRegistryAutoConfiguration {
                     val searchCommands = redis.isEnableRedisSearch()
                         ? RedisObjectFactory.newRedisModulesCommands(redis, casSslContext)
                         : Optional.<RedisModulesCommands>empty();
-                    return new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+                    val serializationManager = CoreTicketUtils.newTicketRegistrySerializationManager(
+                        redis.getSerializationFormat(), ticketSerializationExecutionPlan, ticketSerializationManager);
+                    return new RedisTicketRegistry(cipher, serializationManager, ticketCatalog,
                         casRedisTemplates, redisTicketRegistryCache, redisTicketRegistryMessagePublisher,
                         searchCommands, redisKeyGeneratorFactory, casProperties);
                 }))
@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,6 +37,11 @@ public class RedisCompositeKey {
      */
     private static final String CAS_PRINCIPAL_PREFIX = "CAS_PRINCIPAL";
 
+    /**
+     * Sessions prefix.
+     */
+    private static final String CAS_SESSIONS_PREFIX = "CAS_SESSIONS";
+
     @Builder.Default
     private final String query = "*";
 
@@ -60,6 +66,33 @@ public class RedisCompositeKey {
         return RedisCompositeKey.builder().prefix(CAS_PRINCIPAL_PREFIX).build();
     }
 
+    /**
+     * For the index of single sign-on sessions, ordered by ticket id.
+     *
+     * @return the redis composite key
+     */
+    public static RedisCompositeKey forSessions() {
+        return RedisCompositeKey.builder().prefix(CAS_SESSIONS_PREFIX).query(TicketGrantingTicket.PREFIX).build();
+    }
+
+    /**
+     * For the index of single sign-on sessions, scored by the expiration time of each ticket.
+     *
+     * @return the redis composite key
+     */
+    public static RedisCompositeKey forSessionExpirations() {
+        return RedisCompositeKey.builder().prefix(CAS_SESSIONS_PREFIX).query(TicketGrantingTicket.PREFIX + ":EXPIRATIONS").build();
+    }
+
+    /**
+     * For the marker that records the sessions index was built from existing tickets.
+     *
+     * @return the redis composite key
+     */
+    public static RedisCompositeKey forSessionsMigration() {
+        return RedisCompositeKey.builder().prefix(CAS_SESSIONS_PREFIX).query(TicketGrantingTicket.PREFIX + ":INDEXED").build();
+    }
+
     /**
      * To key pattern string.
      *
@@ -14,6 +14,7 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.serialization.CompactBinaryTicketSerializationManager;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -32,8 +33,11 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.ScanOptions;
@@ -72,6 +76,14 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private static final String SEARCH_INDEX_NAME = RedisTicketDocument.class.getSimpleName() + "Index";
 
+    private static final String SESSIONS_INDEX_KEY = RedisCompositeKey.forSessions().toKeyPattern();
+
+    private static final String SESSIONS_EXPIRATIONS_KEY = RedisCompositeKey.forSessionExpirations().toKeyPattern();
+
+    private static final String SESSIONS_MIGRATION_KEY = RedisCompositeKey.forSessionsMigration().toKeyPattern();
+
+    private static final int SESSIONS_PRUNE_BATCH_SIZE = 1_000;
+
     private final CasRedisTemplates casRedisTemplates;
 
     @Getter(AccessLevel.PACKAGE)
@@ -103,10 +115,11 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         this.redisKeyGeneratorFactory = redisKeyGeneratorFactory;
         this.casProperties = casProperties;
         createIndexesIfNecessary();
+        indexSessionsIfNecessary();
     }
 
     @Override
-    public long deleteAll() {
+    protected long deleteAllTickets() {
         val size = new AtomicLong();
         redisKeyGeneratorFactory.getRedisKeyGenerators().forEach(generator -> {
             val keyPattern = generator.forAllEntries();
@@ -123,6 +136,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 });
             }
         });
+        casRedisTemplates.getSessionsRedisTemplate().delete(List.of(SESSIONS_INDEX_KEY, SESSIONS_EXPIRATIONS_KEY));
         clean();
         return size.get();
     }
@@ -141,6 +155,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 val redisPrincipalKey = principalGenerator.forEntry(principal);
                 Stream.of(redisPrincipalKey).forEach(id -> casRedisTemplates.getSessionsRedisTemplate().delete(id));
             });
+        if (ticket instanceof TicketGrantingTicket) {
+            removeFromSessionsIndex(digestIdentifier(ticket.getId()));
+        }
 
         ticketCache.invalidate(redisKeyGenerator.rawKey(redisTicketsKey));
         messagePublisher.delete(ticket);
@@ -148,11 +165,35 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     }
 
     @Override
-    public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) {
-        return (List) casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback) connection -> {
-            toSave.forEach(this::addSingleTicket);
+    protected List<? extends Ticket> addTickets(final Stream<? extends Ticket> toSave) {
+        val tickets = toSave.filter(ticket -> ticket != null && !ticket.isExpired()).toList();
+        casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            tickets.forEach(this::addSingleTicket);
+            return null;
+        });
+        return tickets;
+    }
+
+    @Override
+    public List<? extends Ticket> save(final TicketRegistryBatch batch) throws Exception {
+        val added = new ArrayList<Ticket>();
+        casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            batch.getOperations().forEach(operation -> {
+                val ticket = operation.ticket();
+                if (operation.type() == TicketRegistryBatch.OperationType.ADD && !ticket.isExpired()) {
+                    addSingleTicket(ticket);
+                    statistics.recordAdded(ticket);
+                    added.add(ticket);
+                } else if (operation.type() == TicketRegistryBatch.OperationType.UPDATE) {
+                    updateTicket(ticket);
+                }
+            });
             return null;
         });
+        for (val ticket : batch.getTickets(TicketRegistryBatch.OperationType.DELETE)) {
+            deleteTicket(ticket);
+        }
+        return added;
     }
 
     @Override
@@ -241,6 +282,62 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             .orElseGet(Stream::empty);
     }
 
+    /**
+     * Ticket-granting tickets are tracked in a sorted set whose members all share the same score,
+     * so that sessions are ordered by their (digested) ticket ids and each page is read directly
+     * via a lexicographical range query. Sessions for a principal are paged over the principal's own session index.
+     * A companion sorted set tracks the same ids scored by their expiration time; entries that have expired
+     * are pruned from both sets before pages are read and as tickets are added, and entries whose tickets
+     * are otherwise gone are removed from the sessions index as pages are read.
+     *
+     * @param request the request
+     * @return the page
+     */
+    @Override
+    public TicketRegistryPage getSessions(final TicketRegistryPageRequest request) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        pruneExpiredSessions();
+        return seekSessions(request, (cursor, limit) -> {
+            val ticketIds = StringUtils.isNotBlank(request.getPrincipal())
+                ? fetchSessionIdsForPrincipal(request.getPrincipal(), cursor, limit)
+                : fetchSessionIds(cursor, limit);
+            return ticketIds
+                .stream()
+                .map(ticketId -> {
+                    val redisTicketsKey = redisKeyGenerator.forEntry(TicketGrantingTicket.PREFIX, ticketId);
+                    val ticket = getTicketFromRedisByKey(result -> !result.isExpired(), redisTicketsKey);
+                    if (ticket == null && StringUtils.isBlank(request.getPrincipal())) {
+                        removeFromSessionsIndex(ticketId);
+                    }
+                    return Pair.of(ticketId, ticket);
+                })
+                .toList();
+        });
+    }
+
+    private List<String> fetchSessionIds(final String cursor, final int limit) {
+        val range = StringUtils.isBlank(cursor) ? Range.<String>unbounded() : Range.rightUnbounded(Range.Bound.exclusive(cursor));
+        val ticketIds = casRedisTemplates.getSessionsRedisTemplate().opsForZSet()
+            .rangeByLex(SESSIONS_INDEX_KEY, range, Limit.limit().count(limit));
+        return new ArrayList<>(Objects.requireNonNull(ticketIds));
+    }
+
+    private List<String> fetchSessionIdsForPrincipal(final String principalId, final String cursor, final int limit) {
+        return redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
+            .map(generator -> {
+                val redisPrincipalKey = generator.forEntry(digestIdentifier(principalId));
+                val members = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(redisPrincipalKey).range(0, -1);
+                return Objects.requireNonNull(members)
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .filter(ticketId -> StringUtils.isBlank(cursor) || ticketId.compareTo(cursor) > 0)
+                    .sorted()
+                    .limit(limit)
+                    .toList();
+            })
+            .orElseGet(List::of);
+    }
+
     @Override
     public long countSessionsFor(final String principalId) {
         return getSessionsFor(principalId).count();
@@ -379,7 +476,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             FunctionUtils.throwIf(StringUtils.isBlank(json),
                 () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
 
-            if (LOGGER.isTraceEnabled()) {
+            if (LOGGER.isTraceEnabled() && !json.startsWith(CompactBinaryTicketSerializationManager.TEXT_PREFIX)) {
                 LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
                     JsonValue.readJSON(json).toString(Stringify.FORMATTED));
             }
@@ -451,6 +548,12 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeout, TimeUnit.SECONDS);
         ticketCache.put(redisKeyGenerator.rawKey(redisKeyPattern), ticket);
 
+        if (ticket instanceof TicketGrantingTicket) {
+            val sessionsOps = casRedisTemplates.getSessionsRedisTemplate().opsForZSet();
+            sessionsOps.add(SESSIONS_INDEX_KEY, digestedId, 0);
+            sessionsOps.add(SESSIONS_EXPIRATIONS_KEY, digestedId, Instant.now(Clock.systemUTC()).getEpochSecond() + timeout);
+            pruneExpiredSessions();
+        }
         redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName()).ifPresent(generator -> {
             val onlyTrackMostRecentSession = casProperties.getTicket().getTgt().getCore().isOnlyTrackMostRecentSession();
             val userId = digestIdentifier(getPrincipalIdFrom(ticket));
@@ -488,6 +591,52 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return adapter;
     }
 
+    private void removeFromSessionsIndex(final String... ticketIds) {
+        val sessionsOps = casRedisTemplates.getSessionsRedisTemplate().opsForZSet();
+        sessionsOps.remove(SESSIONS_INDEX_KEY, (Object[]) ticketIds);
+        sessionsOps.remove(SESSIONS_EXPIRATIONS_KEY, (Object[]) ticketIds);
+    }
+
+    /**
+     * Remove ticket-granting tickets whose expiration time has passed from the sessions index.
+     * Redis expires the tickets themselves, but not the members of sorted sets that point to them.
+     */
+    private void pruneExpiredSessions() {
+        val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+        val expired = casRedisTemplates.getSessionsRedisTemplate().opsForZSet()
+            .rangeByScore(SESSIONS_EXPIRATIONS_KEY, 0, now, 0, SESSIONS_PRUNE_BATCH_SIZE);
+        if (expired != null && !expired.isEmpty()) {
+            LOGGER.trace("Removing [{}] expired ticket-granting tickets from the sessions index", expired.size());
+            removeFromSessionsIndex(expired.toArray(String[]::new));
+        }
+    }
+
+    /**
+     * Index existing ticket-granting tickets for session paging, i.e. when upgrading from a version that did not track them.
+     * The migration is guarded by a marker key that is claimed atomically, so that only the first
+     * node to start scans the keyspace, and it runs at most once per deployment.
+     */
+    private void indexSessionsIfNecessary() {
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val claimed = sessionsTemplate.opsForValue().setIfAbsent(SESSIONS_MIGRATION_KEY, Instant.now(Clock.systemUTC()).toString());
+        if (BooleanUtils.toBoolean(claimed)) {
+            LOGGER.debug("Indexing existing ticket-granting tickets for sessions under [{}]", SESSIONS_INDEX_KEY);
+            val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+            val options = ScanOptions.scanOptions().match(redisKeyGenerator.forEntryType(TicketGrantingTicket.PREFIX)).build();
+            val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+            try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
+                result.forEachRemaining(key -> {
+                    val ticketId = StringUtils.substringAfter(redisKeyGenerator.rawKey(key), ':');
+                    val ttl = casRedisTemplates.getTicketsRedisTemplate().getExpire(key, TimeUnit.SECONDS);
+                    if (StringUtils.isNotBlank(ticketId) && ttl != null && ttl != -2) {
+                        sessionsTemplate.opsForZSet().add(SESSIONS_INDEX_KEY, ticketId, 0);
+                        sessionsTemplate.opsForZSet().add(SESSIONS_EXPIRATIONS_KEY, ticketId, ttl < 0 ? Double.MAX_VALUE : now + ttl);
+                    }
+                });
+            }
+        }
+    }
+
     private void createIndexesIfNecessary() {
         redisModuleCommands.ifPresent(command -> {
 
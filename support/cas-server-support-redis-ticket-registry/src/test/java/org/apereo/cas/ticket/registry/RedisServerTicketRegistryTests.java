@@ -137,6 +137,32 @@ class RedisServerTicketRegistryTests {
 
     }
 
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.redis.queue-identifier=cas-node-100",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.cache.cache-size=0",
+        "cas.ticket.registry.redis.serialization-format=BINARY",
+        "cas.ticket.registry.redis.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+        "cas.ticket.registry.redis.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"
+    })
+    class BinarySerializationTests extends BaseRedisSentinelTicketRegistryTests {
+        @RepeatedTest(2)
+        void verifyBinaryRoundTrip() throws Throwable {
+            val principalId = UUID.randomUUID().toString();
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(principalId);
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            getNewTicketRegistry().addTicket(new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE));
+
+            val tgt = getNewTicketRegistry().getTicket(tgtId, TicketGrantingTicket.class);
+            assertNotNull(tgt);
+            assertEquals(principalId, tgt.getAuthentication().getPrincipal().getId());
+            assertEquals(1, getNewTicketRegistry().getSessionsFor(principalId).count());
+            assertEquals(1, getNewTicketRegistry().deleteTicket(tgtId));
+        }
+    }
+
     @Nested
     @TestPropertySource(properties = {
         "cas.ticket.registry.redis.protocol-version=RESP2",
@@ -312,6 +338,10 @@ class RedisServerTicketRegistryTests {
         @Qualifier("ticketRedisTemplate")
         private CasRedisTemplate<String, RedisTicketDocument> ticketRedisTemplate;
 
+        @Autowired
+        @Qualifier("casRedisTemplates")
+        private RedisTicketRegistry.CasRedisTemplates casRedisTemplates;
+
         @Test
         void verifyDifferentLoginSamePrincipal() throws Throwable {
             val principalId = UUID.randomUUID().toString();
@@ -323,6 +353,24 @@ class RedisServerTicketRegistryTests {
             assertEquals(1, ticketRegistry.countSessionsFor(principalId));
         }
 
+        @Test
+        void verifyExpiredSessionsRemovedFromIndex() throws Throwable {
+            val principalId = UUID.randomUUID().toString();
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(principalId);
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            ticketRegistry.addTicket(new TicketGrantingTicketImpl(tgtId, authentication, new HardTimeoutExpirationPolicy(1)));
+            val digestedId = ticketRegistry.digestIdentifier(tgtId);
+            val sessionsKey = RedisCompositeKey.forSessions().toKeyPattern();
+            val expirationsKey = RedisCompositeKey.forSessionExpirations().toKeyPattern();
+            val sessionsOps = casRedisTemplates.getSessionsRedisTemplate().opsForZSet();
+            assertNotNull(sessionsOps.score(expirationsKey, digestedId));
+
+            Thread.sleep(2500);
+            ticketRegistry.getSessions(TicketRegistryPageRequest.builder().count(10).build());
+            assertNull(sessionsOps.score(sessionsKey, digestedId));
+            assertNull(sessionsOps.score(expirationsKey, digestedId));
+        }
+
         private void addTicketAndWait(final String principalId) throws Throwable {
             val authentication = CoreAuthenticationTestUtils.getAuthentication(principalId);
             val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
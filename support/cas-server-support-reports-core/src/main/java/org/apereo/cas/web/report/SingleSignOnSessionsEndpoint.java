@@ -6,6 +6,7 @@ import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryPageRequest;
 import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.ISOStandardDateFormat;
 import org.apereo.cas.util.LoggingUtils;
@@ -38,6 +39,7 @@ import jakarta.validation.Valid;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -126,14 +128,22 @@ public class SingleSignOnSessionsEndpoint extends BaseCasActuatorEndpoint {
             @Parameter(name = "type", in = ParameterIn.QUERY, description = "Type of sessions to retrieve (ALL, DIRECT, PROXIED)"),
             @Parameter(name = "username", in = ParameterIn.QUERY, description = "Username assigned to each session"),
             @Parameter(name = "from", in = ParameterIn.QUERY, description = "Starting position/index of the query"),
-            @Parameter(name = "count", in = ParameterIn.QUERY, description = "Total number of sessions to return")
+            @Parameter(name = "count", in = ParameterIn.QUERY, description = "Total number of sessions to return"),
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Cursor returned by the previous page as nextCursor")
         })
     public Map<String, Object> getSsoSessions(
         @Valid
         @ModelAttribute final SsoSessionsRequest ssoSessionsRequest) {
         val sessionsMap = new HashMap<String, Object>();
 
-        val activeSsoSessions = getActiveSsoSessions(ssoSessionsRequest);
+        val activeSsoSessions = new ArrayList<Map<String, Object>>();
+        if (ssoSessionsRequest.getFrom() > 0) {
+            activeSsoSessions.addAll(getActiveSsoSessions(ssoSessionsRequest));
+        } else {
+            val page = ticketRegistryProvider.getObject().getSessions(toPageRequest(ssoSessionsRequest));
+            activeSsoSessions.addAll(getActiveSsoSessions(ssoSessionsRequest, page.getTickets().stream()));
+            page.getNextCursor().ifPresent(cursor -> sessionsMap.put("nextCursor", cursor));
+        }
         sessionsMap.put("activeSsoSessions", activeSsoSessions);
         val totalTicketGrantingTickets = new AtomicLong();
         val totalProxyGrantingTickets = new AtomicLong();
@@ -208,7 +218,8 @@ public class SingleSignOnSessionsEndpoint extends BaseCasActuatorEndpoint {
             @Parameter(name = "type", in = ParameterIn.QUERY, description = "Type of sessions to retrieve (ALL, DIRECT, PROXIED)"),
             @Parameter(name = "username", in = ParameterIn.QUERY, description = "Username assigned to each session"),
             @Parameter(name = "from", in = ParameterIn.QUERY, description = "Starting position/index of the query"),
-            @Parameter(name = "count", in = ParameterIn.QUERY, description = "Total number of sessions to return")
+            @Parameter(name = "count", in = ParameterIn.QUERY, description = "Total number of sessions to return"),
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Cursor returned by the previous page as nextCursor")
         })
     @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Map<String, Object> destroySsoSessions(
@@ -221,12 +232,15 @@ public class SingleSignOnSessionsEndpoint extends BaseCasActuatorEndpoint {
 
         if (StringUtils.isNotBlank(ssoSessionsRequest.getUsername())) {
             val sessionsMap = new HashMap<String, Object>(1);
-            var tickets = ticketRegistryProvider.getObject().getSessionsFor(ssoSessionsRequest.getUsername());
+            val registry = ticketRegistryProvider.getObject();
+            Stream<? extends Ticket> tickets;
             if (ssoSessionsRequest.getFrom() > 0) {
-                tickets = tickets.skip(ssoSessionsRequest.getFrom());
-            }
-            if (ssoSessionsRequest.getCount() > 0) {
-                tickets = tickets.limit(ssoSessionsRequest.getCount());
+                tickets = registry.getSessionsFor(ssoSessionsRequest.getUsername()).skip(ssoSessionsRequest.getFrom());
+                if (ssoSessionsRequest.getCount() > 0) {
+                    tickets = tickets.limit(ssoSessionsRequest.getCount());
+                }
+            } else {
+                tickets = registry.getSessions(toPageRequest(ssoSessionsRequest)).getTickets().stream();
             }
             tickets.forEach(ticket -> sessionsMap.put(ticket.getId(), destroySsoSession(ticket.getId(), request, response)));
             return sessionsMap;
@@ -302,11 +316,27 @@ public class SingleSignOnSessionsEndpoint extends BaseCasActuatorEndpoint {
         private long from;
 
         private long count = 1000L;
+
+        private String cursor;
+    }
+
+    private static TicketRegistryPageRequest toPageRequest(final SsoSessionsRequest ssoSessionsRequest) {
+        return TicketRegistryPageRequest.builder()
+            .principal(ssoSessionsRequest.getUsername())
+            .cursor(ssoSessionsRequest.getCursor())
+            .count(ssoSessionsRequest.getCount())
+            .build();
     }
 
     private Collection<Map<String, Object>> getActiveSsoSessions(final SsoSessionsRequest ssoSessionsRequest) {
+        return getActiveSsoSessions(ssoSessionsRequest,
+            getNonExpiredTicketGrantingTickets(ssoSessionsRequest.getFrom(), ssoSessionsRequest.getCount()));
+    }
+
+    private static Collection<Map<String, Object>> getActiveSsoSessions(final SsoSessionsRequest ssoSessionsRequest,
+                                                                        final Stream<? extends Ticket> tickets) {
         val option = Optional.ofNullable(ssoSessionsRequest.getType()).map(SsoSessionReportOptions::valueOf).orElse(SsoSessionReportOptions.ALL);
-        return getNonExpiredTicketGrantingTickets(ssoSessionsRequest.getFrom(), ssoSessionsRequest.getCount())
+        return tickets
             .map(TicketGrantingTicket.class::cast)
             .filter(tgt -> !(option == SsoSessionReportOptions.DIRECT && tgt.getProxiedBy() != null))
             .filter(tgt -> StringUtils.isBlank(ssoSessionsRequest.getUsername())
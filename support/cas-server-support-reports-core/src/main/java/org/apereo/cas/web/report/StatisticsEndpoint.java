@@ -1,13 +1,12 @@
 package org.apereo.cas.web.report;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
-import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryStatistics;
 import org.apereo.cas.web.BaseCasActuatorEndpoint;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
-import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -17,10 +16,12 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Statistics endpoint reports back on cas metrics and ticket stats.
+ * Ticket counts are read from the ticket registry statistics that are maintained in memory by this node
+ * and periodically reconciled with the registry; the endpoint does not scan the registry and no longer
+ * removes expired tickets, which is left to the ticket registry cleaner.
  *
  * @author Scott Battaglia
  * @since 3.3.5
@@ -29,12 +30,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class StatisticsEndpoint extends BaseCasActuatorEndpoint {
     private final ZonedDateTime upTimeStartDate = ZonedDateTime.now(ZoneOffset.UTC);
 
-    private final ObjectProvider<TicketRegistry> ticketRegistry;
+    private final ObjectProvider<TicketRegistryStatistics> ticketRegistryStatistics;
 
-    public StatisticsEndpoint(final ObjectProvider<TicketRegistry> ticketRegistry,
+    public StatisticsEndpoint(final ObjectProvider<TicketRegistryStatistics> ticketRegistryStatistics,
                               final CasConfigurationProperties casProperties) {
         super(casProperties);
-        this.ticketRegistry = ticketRegistry;
+        this.ticketRegistryStatistics = ticketRegistryStatistics;
     }
 
     /**
@@ -43,7 +44,7 @@ public class StatisticsEndpoint extends BaseCasActuatorEndpoint {
      * @return the availability
      */
     @ReadOperation
-    @Operation(summary = "Get a report of CAS statistics on tickets. Expired tickets will be removed")
+    @Operation(summary = "Get a report of CAS statistics on tickets, as tracked and periodically reconciled by the ticket registry")
     public Map<String, Object> handle() {
         val model = new HashMap<String, Object>();
 
@@ -55,21 +56,10 @@ public class StatisticsEndpoint extends BaseCasActuatorEndpoint {
         model.put("maxMemory", FileUtils.byteCountToDisplaySize(runtime.maxMemory()));
         model.put("freeMemory", FileUtils.byteCountToDisplaySize(runtime.freeMemory()));
 
-        val validTickets = new AtomicInteger();
-        val expiredTickets = new AtomicInteger();
-        try (val stream = ticketRegistry.getObject().stream()) {
-            stream.forEach(Unchecked.consumer(ticket -> {
-                if (ticket.isExpired()) {
-                    ticketRegistry.getObject().deleteTicket(ticket.getId());
-                    expiredTickets.incrementAndGet();
-                } else {
-                    validTickets.incrementAndGet();
-                }
-            }));
-        }
-        
-        model.put("expiredTickets", expiredTickets);
-        model.put("validTickets", validTickets);
+        val statistics = ticketRegistryStatistics.getObject();
+        model.put("expiredTickets", statistics.getExpiredTickets());
+        model.put("validTickets", statistics.getValidTickets());
+        model.put("tickets", statistics.getStatistics());
         return model;
     }
 }
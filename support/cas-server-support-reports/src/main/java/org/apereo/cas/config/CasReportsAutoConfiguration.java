@@ -18,6 +18,7 @@ import org.apereo.cas.services.util.RegisteredServiceYamlSerializer;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.proxy.ProxyHandler;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryStatistics;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -300,10 +301,10 @@ public class CasReportsAutoConfiguration {
         @ConditionalOnAvailableEndpoint
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public StatisticsEndpoint statisticsReportEndpoint(
-            @Qualifier(TicketRegistry.BEAN_NAME)
-            final ObjectProvider<TicketRegistry> ticketRegistry,
+            @Qualifier(TicketRegistryStatistics.BEAN_NAME)
+            final ObjectProvider<TicketRegistryStatistics> ticketRegistryStatistics,
             final CasConfigurationProperties casProperties) {
-            return new StatisticsEndpoint(ticketRegistry, casProperties);
+            return new StatisticsEndpoint(ticketRegistryStatistics, casProperties);
         }
 
         @Bean
@@ -153,6 +153,24 @@ class SingleSignOnSessionsEndpointTests extends AbstractCasEndpointTests {
         assertFalse(results.isEmpty());
     }
 
+    @Test
+    void verifyPagingWithCursor() throws Throwable {
+        ticketRegistry.addTicket(new MockTicketGrantingTicket("casuser"));
+        var results = singleSignOnSessionsEndpoint.getSsoSessions(new SingleSignOnSessionsEndpoint.SsoSessionsRequest().withCount(1));
+        assertEquals(1, ((List) results.get("activeSsoSessions")).size());
+        assertTrue(results.containsKey("nextCursor"));
+        val firstSession = ((Map) ((List) results.get("activeSsoSessions")).getFirst())
+            .get(SingleSignOnSessionsEndpoint.SsoSessionAttributeKeys.TICKET_GRANTING_TICKET_ID.getAttributeKey());
+
+        results = singleSignOnSessionsEndpoint.getSsoSessions(new SingleSignOnSessionsEndpoint.SsoSessionsRequest()
+            .withCount(1).withCursor(results.get("nextCursor").toString()));
+        assertEquals(1, ((List) results.get("activeSsoSessions")).size());
+        assertFalse(results.containsKey("nextCursor"));
+        val secondSession = ((Map) ((List) results.get("activeSsoSessions")).getFirst())
+            .get(SingleSignOnSessionsEndpoint.SsoSessionAttributeKeys.TICKET_GRANTING_TICKET_ID.getAttributeKey());
+        assertNotEquals(firstSession, secondSession);
+    }
+
     @Test
     void verifyDeleteFails() throws Throwable {
         val registry = mock(TicketRegistry.class);
@@ -50,6 +50,8 @@ class StatisticsEndpointTests extends AbstractCasEndpointTests {
     void verifyOperation() throws Throwable {
         val results = statisticsEndpoint.handle();
         assertFalse(results.isEmpty());
+        assertTrue(results.containsKey("validTickets"));
+        assertTrue(results.containsKey("tickets"));
     }
 }
 
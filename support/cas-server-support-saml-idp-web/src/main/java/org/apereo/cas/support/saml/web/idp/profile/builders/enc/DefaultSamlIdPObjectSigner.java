@@ -2,6 +2,10 @@ package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.saml.idp.SamlIdPResponseProperties;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.SamlIdPUtils;
 import org.apereo.cas.support.saml.SamlUtils;
@@ -9,6 +13,7 @@ import org.apereo.cas.support.saml.idp.metadata.locator.SamlIdPMetadataCredentia
 import org.apereo.cas.support.saml.idp.metadata.locator.SamlIdPMetadataLocator;
 import org.apereo.cas.support.saml.idp.metadata.locator.SamlIdPSamlRegisteredServiceCriterion;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.SamlIdPMetadataDocument;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMetadataAdaptor;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -16,7 +21,10 @@ import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.crypto.CertUtils;
 import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.spring.CasEventListener;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.Sets;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +33,7 @@ import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.lambda.Unchecked;
 import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.messaging.context.MessageContext;
 import org.opensaml.saml.common.SAMLObject;
@@ -53,6 +62,7 @@ import org.opensaml.xmlsec.config.impl.DefaultSecurityConfigurationBootstrap;
 import org.opensaml.xmlsec.context.SecurityParametersContext;
 import org.opensaml.xmlsec.criterion.SignatureSigningConfigurationCriterion;
 import org.opensaml.xmlsec.impl.BasicSignatureSigningConfiguration;
+import org.springframework.context.event.EventListener;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -73,13 +83,22 @@ import java.util.regex.Pattern;
 @Slf4j
 @RequiredArgsConstructor
 @Getter
-public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
+public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner, CasEventListener {
     private final MetadataResolver samlIdPMetadataResolver;
 
     private final CasConfigurationProperties casProperties;
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
-    
+
+    /**
+     * Resolved signing configurations, keyed by the registered service id
+     * and the fingerprint of the IdP metadata (and keys) used for the service.
+     * Entries are invalidated when registered services are saved, deleted or (re)loaded.
+     */
+    private final Cache<SigningConfigurationKey, SignatureSigningConfiguration> signingConfigurationCache;
+
+    private final Cache<SamlIdPMetadataDocument, String> metadataFingerprints = Caffeine.newBuilder().weakKeys().build();
+
     private static boolean doesCredentialFingerprintMatch(final AbstractCredential credential,
                                                           final SamlRegisteredService samlRegisteredService) {
         val fingerprint = samlRegisteredService.getSigningCredentialFingerprint();
@@ -101,6 +120,46 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
         return (AbstractCredential) credential;
     }
 
+    /**
+     * Invalidate the signing configuration cached for a saved service.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        invalidateSigningConfiguration(event.getRegisteredService().getId());
+    }
+
+    /**
+     * Invalidate the signing configuration cached for a deleted service.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        invalidateSigningConfiguration(event.getRegisteredService().getId());
+    }
+
+    /**
+     * Invalidate all cached signing configurations once services are (re)loaded.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        signingConfigurationCache.invalidateAll();
+    }
+
+    /**
+     * Invalidate all cached signing configurations once services are deleted.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicesDeletedEvent(final CasRegisteredServicesDeletedEvent event) {
+        signingConfigurationCache.invalidateAll();
+    }
+
     @Override
     public <T extends SAMLObject> T encode(final T samlObject,
                                            final SamlRegisteredService service,
@@ -243,11 +302,41 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
      * so signing configuration, etc can be fetched for a specific service as an override,
      * if on is in fact defined for the service.
      *
+     * <p>
+     * Resolved configurations are cached per registered service and IdP metadata,
+     * so that signing keys are not parsed and credentials are not resolved for every response.
+     * A change to the IdP metadata and keys leads to a new cache entry, while changes
+     * to the service definition are picked up once the services manager saves or reloads services.
+     *
      * @param service the service
      * @return the signature signing configuration
      * @throws Throwable the throwable
      */
     protected SignatureSigningConfiguration getSignatureSigningConfiguration(final SamlRegisteredService service) throws Throwable {
+        val metadataDocument = samlIdPMetadataLocator.fetch(Optional.of(service));
+        if (metadataDocument == null) {
+            LOGGER.trace("SAML2 IdP metadata document cannot be located for [{}]; signature signing configuration is not cached", service.getName());
+            return buildSignatureSigningConfiguration(service);
+        }
+        val fingerprint = metadataFingerprints.get(metadataDocument, document -> DigestUtils.sha256(
+            StringUtils.defaultString(document.getMetadata())
+            + StringUtils.defaultString(document.getSigningCertificate())
+            + StringUtils.defaultString(document.getSigningKey())));
+        val key = new SigningConfigurationKey(service.getId(), fingerprint);
+        return signingConfigurationCache.get(key, Unchecked.function(__ -> {
+            LOGGER.trace("Building signature signing configuration for [{}] with IdP metadata fingerprint [{}]", service.getName(), fingerprint);
+            return buildSignatureSigningConfiguration(service);
+        }));
+    }
+
+    /**
+     * Build signature signing configuration.
+     *
+     * @param service the service
+     * @return the signature signing configuration
+     * @throws Throwable the throwable
+     */
+    protected SignatureSigningConfiguration buildSignatureSigningConfiguration(final SamlRegisteredService service) throws Throwable {
         val config = configureSignatureSigningSecurityConfiguration(service);
 
         val samlIdp = casProperties.getAuthn().getSamlIdp();
@@ -412,4 +501,17 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
         }
         return null;
     }
+
+    /**
+     * Cache key for signature signing configurations.
+     *
+     * @param serviceId           the registered service id
+     * @param metadataFingerprint the fingerprint of the IdP metadata and keys
+     */
+    private void invalidateSigningConfiguration(final long serviceId) {
+        signingConfigurationCache.asMap().keySet().removeIf(key -> key.serviceId() == serviceId);
+    }
+
+    public record SigningConfigurationKey(long serviceId, String metadataFingerprint) {
+    }
 }
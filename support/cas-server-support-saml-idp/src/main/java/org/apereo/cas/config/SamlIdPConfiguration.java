@@ -13,6 +13,7 @@ import org.apereo.cas.authentication.principal.PersistentIdGenerator;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
 import org.apereo.cas.services.ServicesManager;
@@ -59,6 +60,7 @@ import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.val;
 import org.apache.velocity.app.VelocityEngine;
 import org.apereo.inspektr.audit.spi.AuditActionResolver;
@@ -76,6 +78,7 @@ import org.opensaml.saml.saml2.core.Conditions;
 import org.opensaml.saml.saml2.core.Response;
 import org.opensaml.saml.saml2.core.Subject;
 import org.opensaml.soap.soap11.Envelope;
+import org.opensaml.xmlsec.SignatureSigningConfiguration;
 import org.pac4j.core.context.session.SessionStore;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -493,7 +496,12 @@ class SamlIdPConfiguration {
             final MetadataResolver casSamlIdPMetadataResolver,
             @Qualifier("samlIdPMetadataLocator")
             final SamlIdPMetadataLocator samlIdPMetadataLocator) {
-            return new DefaultSamlIdPObjectSigner(casSamlIdPMetadataResolver, casProperties, samlIdPMetadataLocator);
+            val idp = casProperties.getAuthn().getSamlIdp();
+            val cache = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterAccess(Beans.newDuration(idp.getMetadata().getCore().getCacheExpiration()))
+                .<DefaultSamlIdPObjectSigner.SigningConfigurationKey, SignatureSigningConfiguration>build();
+            return new DefaultSamlIdPObjectSigner(casSamlIdPMetadataResolver, casProperties, samlIdPMetadataLocator, cache);
         }
     }
 
@@ -20,6 +20,7 @@ import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
 import org.apereo.cas.pac4j.BrowserWebStorageSessionStore;
 import org.apereo.cas.pac4j.TicketRegistrySessionStore;
+import org.apereo.cas.pac4j.TicketRegistrySessionStoreFilter;
 import org.apereo.cas.services.CasRegisteredService;
 import org.apereo.cas.services.ServiceRegistryExecutionPlanConfigurer;
 import org.apereo.cas.services.ServicesManager;
@@ -87,6 +88,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -528,7 +530,8 @@ class SamlIdPEndpointsConfiguration {
             val type = casProperties.getAuthn().getSamlIdp().getCore().getSessionStorageType();
             switch (type) {
                 case TICKET_REGISTRY:
-                    return new TicketRegistrySessionStore(ticketRegistry, ticketFactory, samlIdPDistributedSessionCookieGenerator);
+                    return new TicketRegistrySessionStore(ticketRegistry, ticketFactory, samlIdPDistributedSessionCookieGenerator)
+                        .setCoalesceWrites(casProperties.getAuthn().getSamlIdp().getCore().getSessionReplication().isCoalesceWrites());
                 case BROWSER_STORAGE:
                     return new BrowserWebStorageSessionStore(webflowCipherExecutor, "SamlIdPSessionStore");
                 default:
@@ -537,6 +540,14 @@ class SamlIdPEndpointsConfiguration {
                     return jeeSessionStore;
             }
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = TicketRegistrySessionStoreFilter.BEAN_NAME)
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public FilterRegistrationBean<TicketRegistrySessionStoreFilter> ticketRegistrySessionStoreFilter(
+            final CasConfigurationProperties casProperties) {
+            return TicketRegistrySessionStoreFilter.newFilterRegistration(casProperties);
+        }
     }
 
     @Configuration(value = "SamlIdPExecutionContextConfiguration", proxyBeanMethods = false)
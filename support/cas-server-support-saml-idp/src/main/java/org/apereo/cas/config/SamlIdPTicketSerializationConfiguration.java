@@ -46,7 +46,7 @@ class SamlIdPTicketSerializationConfiguration {
         private static final long serialVersionUID = -2198623586274810263L;
 
         SamlArtifactTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
 
         @Override
@@ -60,7 +60,7 @@ class SamlIdPTicketSerializationConfiguration {
         private static final long serialVersionUID = -2198623586274810263L;
 
         SamlAttributeQueryTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
 
         @Override
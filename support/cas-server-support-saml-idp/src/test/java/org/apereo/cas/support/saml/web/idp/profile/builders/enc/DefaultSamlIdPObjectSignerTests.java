@@ -1,10 +1,13 @@
 package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
 
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 import org.apereo.cas.support.saml.BaseSamlIdPConfigurationTests;
 import org.apereo.cas.support.saml.SamlIdPTestUtils;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMetadataAdaptor;
 
 import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.opensaml.messaging.context.MessageContext;
@@ -13,6 +16,8 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -44,4 +49,42 @@ class DefaultSamlIdPObjectSignerTests extends BaseSamlIdPConfigurationTests {
             SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, new MessageContext()));
 
     }
+
+    @Test
+    void cachesSigningConfiguration() throws Exception {
+        val signer = assertInstanceOf(DefaultSamlIdPObjectSigner.class, samlIdPObjectSigner);
+        signer.getSigningConfigurationCache().invalidateAll();
+
+        val samlRegisteredService = getSamlRegisteredServiceFor(true, true, false, "https://cassp.example.org");
+        samlRegisteredService.setId(2000);
+        samlRegisteredService.setName("ObjectSignerCacheTest");
+        val adaptor = SamlRegisteredServiceMetadataAdaptor
+            .get(samlRegisteredServiceCachingMetadataResolver, samlRegisteredService,
+                samlRegisteredService.getServiceId()).get();
+
+        for (var i = 0; i < 3; i++) {
+            val authnRequest = SamlIdPTestUtils.getAuthnRequest(openSamlConfigBean, samlRegisteredService);
+            assertNotNull(samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+                new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, new MessageContext()));
+        }
+        signer.getSigningConfigurationCache().cleanUp();
+        assertEquals(1, signer.getSigningConfigurationCache().estimatedSize());
+
+        samlRegisteredService.setSigningSignatureAlgorithms(List.of("http://www.w3.org/2001/04/xmldsig-more#rsa-sha512"));
+        applicationContext.publishEvent(new CasRegisteredServiceSavedEvent(this, samlRegisteredService, ClientInfoHolder.getClientInfo()));
+        signer.getSigningConfigurationCache().cleanUp();
+        assertEquals(0, signer.getSigningConfigurationCache().estimatedSize());
+
+        val authnRequest = SamlIdPTestUtils.getAuthnRequest(openSamlConfigBean, samlRegisteredService);
+        assertNotNull(samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+            new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, new MessageContext()));
+        signer.getSigningConfigurationCache().cleanUp();
+        assertEquals(1, signer.getSigningConfigurationCache().estimatedSize());
+        assertTrue(signer.getSigningConfigurationCache().asMap().keySet()
+            .stream().allMatch(key -> key.serviceId() == samlRegisteredService.getId()));
+
+        applicationContext.publishEvent(new CasRegisteredServicesLoadedEvent(this, List.of(), ClientInfoHolder.getClientInfo()));
+        signer.getSigningConfigurationCache().cleanUp();
+        assertEquals(0, signer.getSigningConfigurationCache().estimatedSize());
+    }
 }
@@ -262,7 +262,7 @@ class CasSimpleMultifactorAuthenticationConfiguration {
             private static final long serialVersionUID = -2198623586274810263L;
 
             CasSimpleMultifactorAuthenticationTicketStringSerializer() {
-                super(MINIMAL_PRETTY_PRINTER);
+                super(MINIMAL_PRETTY_PRINTER, true);
             }
 
             @Override
@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.audit.AuditTrailExecutionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.support.throttle.InMemoryThrottleProperties;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlanConfigurer;
 import org.apereo.cas.throttle.ConcurrentThrottledSubmissionsStore;
@@ -10,6 +11,7 @@ import org.apereo.cas.throttle.DefaultAuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.throttle.DefaultThrottledRequestResponseHandler;
 import org.apereo.cas.throttle.DefaultThrottledSubmissionHandlerInterceptorAdapter;
 import org.apereo.cas.throttle.InMemoryThrottledSubmissionCleaner;
+import org.apereo.cas.throttle.SketchThrottledSubmissionsStore;
 import org.apereo.cas.throttle.ThrottledRequestExecutor;
 import org.apereo.cas.throttle.ThrottledRequestFilter;
 import org.apereo.cas.throttle.ThrottledRequestResponseHandler;
@@ -119,6 +121,10 @@ public class CasThrottlingAutoConfiguration {
         @ConditionalOnMissingBean(name = ThrottledSubmissionsStore.BEAN_NAME)
         @Bean
         public ThrottledSubmissionsStore throttleSubmissionStore(final CasConfigurationProperties casProperties) {
+            val inMemory = casProperties.getAuthn().getThrottle().getInMemory();
+            if (inMemory.getStoreType() == InMemoryThrottleProperties.ThrottleStoreTypes.SKETCH) {
+                return new SketchThrottledSubmissionsStore(casProperties);
+            }
             return new ConcurrentThrottledSubmissionsStore(casProperties);
         }
 
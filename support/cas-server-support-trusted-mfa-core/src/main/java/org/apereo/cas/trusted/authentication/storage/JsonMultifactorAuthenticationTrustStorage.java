@@ -8,6 +8,7 @@ import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.io.FileWatcherService;
+import org.apereo.cas.util.io.LogStructuredJsonStore;
 import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -22,6 +23,7 @@ import java.io.File;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -32,6 +34,8 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorage}.
+ * When journaling is enabled, changes are appended to a journal next to the JSON resource
+ * and records are served from memory, while the JSON resource is periodically compacted.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -47,6 +51,8 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     private WatcherService watcherService;
 
+    private LogStructuredJsonStore<MultifactorAuthenticationTrustRecord> journalStore;
+
     public JsonMultifactorAuthenticationTrustStorage(
         final TrustedDevicesMultifactorProperties properties,
         final CipherExecutor<Serializable, String> cipherExecutor,
@@ -54,9 +60,23 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
         final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy) {
         super(properties, cipherExecutor, keyGenerationStrategy);
         this.location = location;
-        readTrustedRecordsFromResource();
+        val journal = properties.getJson().getJournal();
+        if (journal.isEnabled() && ResourceUtils.isFile(location)) {
+            this.storage = new LinkedHashMap<>();
+            this.journalStore = new LogStructuredJsonStore<>(Unchecked.supplier(location::getFile).get(), MAPPER,
+                MAPPER.constructType(MultifactorAuthenticationTrustRecord.class),
+                this::readTrustedRecordsFromFile, MAPPER.writerWithDefaultPrettyPrinter()::writeValue, journal);
+        } else {
+            readTrustedRecordsFromResource();
+        }
         if (ResourceUtils.isFile(location)) {
-            val callback = Unchecked.<File>consumer(__ -> readTrustedRecordsFromResource());
+            val callback = Unchecked.<File>consumer(__ -> {
+                if (journalStore != null) {
+                    journalStore.reloadIfModifiedExternally();
+                } else {
+                    readTrustedRecordsFromResource();
+                }
+            });
             this.watcherService = new FileWatcherService(Unchecked.supplier(location::getFile).get(), callback);
             this.watcherService.start(getClass().getSimpleName());
         }
@@ -65,17 +85,26 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     @Override
     public void destroy() {
         FunctionUtils.doIfNotNull(watcherService, WatcherService::close);
+        FunctionUtils.doIfNotNull(journalStore, LogStructuredJsonStore::close);
     }
 
     @Override
     public void remove(final String key) {
+        if (journalStore != null) {
+            journalStore.asMap().keySet()
+                .stream()
+                .filter(k -> k.equalsIgnoreCase(key))
+                .toList()
+                .forEach(journalStore::remove);
+            return;
+        }
         storage.keySet().removeIf(k -> k.equalsIgnoreCase(key));
         writeTrustedRecordsToResource();
     }
 
     @Override
     public void remove(final ZonedDateTime expirationDate) {
-        val results = storage
+        val results = getRecords()
             .values()
             .stream()
             .filter(entry -> entry.getExpirationDate() != null)
@@ -88,22 +117,26 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
         LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.remove(entry.getRecordKey()));
+            if (journalStore != null) {
+                results.forEach(entry -> journalStore.remove(entry.getRecordKey()));
+            } else {
+                results.forEach(entry -> storage.remove(entry.getRecordKey()));
+                writeTrustedRecordsToResource();
+            }
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
-            writeTrustedRecordsToResource();
         }
     }
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> getAll() {
         remove();
-        return new TreeSet<>(storage.values());
+        return new TreeSet<>(getRecords().values());
     }
 
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         remove();
-        return storage
+        return getRecords()
             .values()
             .stream()
             .filter(entry -> entry.getId() == id)
@@ -115,7 +148,7 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final ZonedDateTime onOrAfterDate) {
         remove();
-        return storage
+        return getRecords()
             .values()
             .stream()
             .filter(entry -> entry.getRecordDate().isEqual(onOrAfterDate) || entry.getRecordDate().isAfter(onOrAfterDate))
@@ -126,7 +159,7 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
         remove();
-        return storage
+        return getRecords()
             .values()
             .stream()
             .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
@@ -137,11 +170,28 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     @Override
     public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
+        if (journalStore != null) {
+            return journalStore.put(record.getRecordKey(), record);
+        }
         this.storage.put(record.getRecordKey(), record);
         writeTrustedRecordsToResource();
         return record;
     }
 
+    private Map<String, MultifactorAuthenticationTrustRecord> getRecords() {
+        return journalStore != null ? journalStore.asMap() : storage;
+    }
+
+    private Map<String, MultifactorAuthenticationTrustRecord> readTrustedRecordsFromFile(final File file) {
+        return FunctionUtils.doUnchecked(() -> {
+            try (val reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                val personList = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
+                };
+                return MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+            }
+        });
+    }
+
     private void readTrustedRecordsFromResource() {
         this.storage = new LinkedHashMap<>();
         if (ResourceUtils.doesResourceExist(location)) {
@@ -1,14 +1,21 @@
 package org.apereo.cas.trusted.authentication.storage;
 
+import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.AbstractMultifactorAuthenticationTrustStorageTests;
+import org.apereo.cas.util.crypto.CipherExecutor;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.test.context.TestPropertySource;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorageTests}.
@@ -40,4 +47,54 @@ class JsonMultifactorAuthenticationTrustStorageTests extends AbstractMultifactor
             FileUtils.deleteQuietly(file);
         }
     }
+
+    @Test
+    void verifyJournalReplayedAfterRestart() throws Throwable {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        val properties = getJournaledProperties();
+        val storage = new JsonMultifactorAuthenticationTrustStorage(properties,
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+        val record = storage.save(getMultifactorAuthenticationTrustRecord());
+        val other = storage.save(getMultifactorAuthenticationTrustRecord());
+        storage.remove(other.getRecordKey());
+        assertFalse(file.exists() && file.length() > 0);
+
+        val restarted = new JsonMultifactorAuthenticationTrustStorage(properties,
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+        assertEquals(1, restarted.get(record.getPrincipal()).size());
+        assertTrue(restarted.get(other.getPrincipal()).isEmpty());
+        restarted.destroy();
+        storage.destroy();
+        assertTrue(FileUtils.readFileToString(file, StandardCharsets.UTF_8).contains(record.getPrincipal()));
+    }
+
+    @Test
+    void verifyRecoveryFromPartialJournalEntry() throws Throwable {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        val properties = getJournaledProperties();
+        val storage = new JsonMultifactorAuthenticationTrustStorage(properties,
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+        val record = storage.save(getMultifactorAuthenticationTrustRecord());
+        val journalFile = new File(file.getParentFile(), file.getName() + ".journal");
+        FileUtils.writeStringToFile(journalFile, "{\"operation\":\"REMOVE\",\"ke", StandardCharsets.UTF_8, true);
+
+        val recovered = new JsonMultifactorAuthenticationTrustStorage(properties,
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+        assertEquals(1, recovered.get(record.getPrincipal()).size());
+        val next = recovered.save(getMultifactorAuthenticationTrustRecord());
+        storage.destroy();
+        recovered.destroy();
+
+        val restarted = new JsonMultifactorAuthenticationTrustStorage(properties,
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+        assertEquals(1, restarted.get(record.getPrincipal()).size());
+        assertEquals(1, restarted.get(next.getPrincipal()).size());
+        restarted.destroy();
+    }
+
+    private static TrustedDevicesMultifactorProperties getJournaledProperties() {
+        val properties = new TrustedDevicesMultifactorProperties();
+        properties.getJson().getJournal().setEnabled(true).getCompaction().setEnabled(false);
+        return properties;
+    }
 }
@@ -0,0 +1,168 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.authentication.attribute.AttributeDefinitionStore;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.View;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link CasStreamingResponseView}. It writes successful CAS 2.0/3.0 validation
+ * responses in XML directly to the response output stream using precomputed fragments,
+ * without building and rendering a view template. The output matches the default
+ * {@code casServiceValidationSuccess} templates; the template view is only consulted
+ * for its content type and is otherwise never rendered.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class CasStreamingResponseView extends Cas20ResponseView {
+    private static final byte[] RESPONSE_START = fragment("""
+        <cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>
+            <cas:authenticationSuccess>
+                <cas:user>""");
+
+    private static final byte[] USER_END = fragment("</cas:user>\n");
+
+    private static final byte[] PROXY_GRANTING_TICKET_START = fragment("        <cas:proxyGrantingTicket>");
+
+    private static final byte[] PROXY_GRANTING_TICKET_END = fragment("</cas:proxyGrantingTicket>\n");
+
+    private static final byte[] PROXIES_START = fragment("        <cas:proxies>\n");
+
+    private static final byte[] PROXY_START = fragment("            <cas:proxy>");
+
+    private static final byte[] PROXY_END = fragment("</cas:proxy>\n");
+
+    private static final byte[] PROXIES_END = fragment("        </cas:proxies>\n");
+
+    private static final byte[] ATTRIBUTES_START = fragment("        <cas:attributes>\n");
+
+    private static final byte[] ATTRIBUTE_START = fragment("            ");
+
+    private static final byte[] ATTRIBUTE_END = fragment("\n");
+
+    private static final byte[] ATTRIBUTES_END = fragment("        </cas:attributes>\n");
+
+    private static final byte[] RESPONSE_END = fragment("""
+            </cas:authenticationSuccess>
+        </cas:serviceResponse>
+        """);
+
+    private static final int BUFFER_SIZE = 2048;
+
+    private final boolean releaseAttributes;
+
+    public CasStreamingResponseView(final ProtocolAttributeEncoder protocolAttributeEncoder,
+                                    final ServicesManager servicesManager,
+                                    final View view,
+                                    final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+                                    final AuthenticationServiceSelectionPlan serviceSelectionStrategy,
+                                    final CasProtocolAttributesRenderer attributesRenderer,
+                                    final AttributeDefinitionStore attributeDefinitionStore,
+                                    final boolean releaseAttributes) {
+        super(true, protocolAttributeEncoder, servicesManager, view,
+            authenticationAttributeReleasePolicy, serviceSelectionStrategy, attributesRenderer, attributeDefinitionStore);
+        this.releaseAttributes = releaseAttributes;
+    }
+
+    @Override
+    protected void prepareMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                            final HttpServletResponse response) throws Exception {
+        super.prepareMergedOutputModel(model, request, response);
+        if (releaseAttributes) {
+            prepareCasResponseAttributesForViewModel(model);
+        }
+    }
+
+    @Override
+    protected void renderMergedOutputModel(final Map<String, Object> model,
+                                           @Nonnull final HttpServletRequest request,
+                                           @Nonnull final HttpServletResponse response) {
+        FunctionUtils.doUnchecked(__ -> {
+            prepareMergedOutputModel(model, request, response);
+            response.setContentType(Optional.ofNullable(getView()).map(View::getContentType)
+                .filter(StringUtils::isNotBlank).orElse(MediaType.APPLICATION_XML_VALUE));
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+            if (LoggingUtils.isProtocolMessageLoggerEnabled()) {
+                try (val output = new ByteArrayOutputStream(BUFFER_SIZE)) {
+                    writeResponse(model, output);
+                    LoggingUtils.protocolMessage("CAS Validation Response", Map.of(), output.toString(StandardCharsets.UTF_8));
+                    output.writeTo(response.getOutputStream());
+                }
+            } else {
+                val output = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+                writeResponse(model, output);
+                output.flush();
+            }
+        });
+    }
+
+    protected void writeResponse(final Map<String, Object> model, final OutputStream output) throws IOException {
+        output.write(RESPONSE_START);
+        writeEscaped(output, getPrincipal(model).getId());
+        output.write(USER_END);
+
+        val proxyGrantingTicketIou = getProxyGrantingTicketIou(model);
+        if (StringUtils.isNotBlank(proxyGrantingTicketIou)) {
+            output.write(PROXY_GRANTING_TICKET_START);
+            writeEscaped(output, proxyGrantingTicketIou);
+            output.write(PROXY_GRANTING_TICKET_END);
+        }
+
+        val chainedAuthentications = getChainedAuthentications(model);
+        if (!chainedAuthentications.isEmpty()) {
+            output.write(PROXIES_START);
+            for (val authentication : chainedAuthentications) {
+                output.write(PROXY_START);
+                writeEscaped(output, authentication.getPrincipal().getId());
+                output.write(PROXY_END);
+            }
+            output.write(PROXIES_END);
+        }
+
+        val formattedAttributes = (Collection<?>) model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES);
+        if (formattedAttributes != null && !formattedAttributes.isEmpty()) {
+            output.write(ATTRIBUTES_START);
+            for (val attribute : formattedAttributes) {
+                output.write(ATTRIBUTE_START);
+                output.write(attribute.toString().getBytes(StandardCharsets.UTF_8));
+                output.write(ATTRIBUTE_END);
+            }
+            output.write(ATTRIBUTES_END);
+        }
+        output.write(RESPONSE_END);
+    }
+
+    private static void writeEscaped(final OutputStream output, final String value) throws IOException {
+        output.write(StringEscapeUtils.escapeXml10(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] fragment(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
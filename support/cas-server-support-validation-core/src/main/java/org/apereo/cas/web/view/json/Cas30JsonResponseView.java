@@ -9,6 +9,8 @@ import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 import org.apereo.cas.validation.CasProtocolAttributesRenderer;
 import org.apereo.cas.web.view.Cas30ResponseView;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.Getter;
 import lombok.Setter;
@@ -43,6 +45,11 @@ public class Cas30JsonResponseView extends Cas30ResponseView {
      */
     public static final String ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE = "serviceResponse";
 
+    /**
+     * Writer for the final service response, configured to match the JSON view.
+     */
+    protected static final ObjectWriter JSON_WRITER;
+
     private static final MappingJackson2JsonView JSON_VIEW;
 
     static {
@@ -52,6 +59,7 @@ public class Cas30JsonResponseView extends Cas30ResponseView {
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .setSerializationInclusion(JsonInclude.Include.NON_NULL)
             .findAndRegisterModules();
+        JSON_WRITER = JSON_VIEW.getObjectMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     public Cas30JsonResponseView(final boolean successResponse,
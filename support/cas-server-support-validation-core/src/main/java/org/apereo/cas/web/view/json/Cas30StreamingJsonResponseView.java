@@ -0,0 +1,55 @@
+package org.apereo.cas.web.view.json;
+
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.authentication.attribute.AttributeDefinitionStore;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+
+import lombok.val;
+import org.springframework.http.MediaType;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * This is {@link Cas30StreamingJsonResponseView}. It prepares the same service response
+ * as {@link Cas30JsonResponseView}, and serializes it directly to the response output stream
+ * instead of handing the model off to a delegate view that buffers the response body.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class Cas30StreamingJsonResponseView extends Cas30JsonResponseView {
+
+    public Cas30StreamingJsonResponseView(final boolean successResponse,
+                                          final ProtocolAttributeEncoder protocolAttributeEncoder,
+                                          final ServicesManager servicesManager,
+                                          final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+                                          final AuthenticationServiceSelectionPlan serviceSelectionStrategy,
+                                          final CasProtocolAttributesRenderer attributesRenderer,
+                                          final AttributeDefinitionStore attributeDefinitionStore) {
+        super(successResponse, protocolAttributeEncoder, servicesManager,
+            authenticationAttributeReleasePolicy, serviceSelectionStrategy, attributesRenderer, attributeDefinitionStore);
+    }
+
+    @Override
+    protected void renderMergedOutputModel(final Map<String, Object> model,
+                                           @Nonnull final HttpServletRequest request,
+                                           @Nonnull final HttpServletResponse response) {
+        FunctionUtils.doUnchecked(__ -> {
+            prepareMergedOutputModel(model, request, response);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            val output = response.getOutputStream();
+            JSON_WRITER.writeValue(output, model);
+            output.flush();
+        });
+    }
+}
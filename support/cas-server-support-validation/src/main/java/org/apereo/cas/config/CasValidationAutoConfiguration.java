@@ -11,11 +11,14 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.web.view.Cas20ViewProperties;
+import org.apereo.cas.configuration.model.core.web.view.Cas30ViewProperties;
 import org.apereo.cas.services.CasProtocolVersions;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.proxy.ProxyHandler;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -42,12 +45,15 @@ import org.apereo.cas.web.v3.V3ServiceValidateController;
 import org.apereo.cas.web.view.Cas10ResponseView;
 import org.apereo.cas.web.view.Cas20ResponseView;
 import org.apereo.cas.web.view.Cas30ResponseView;
+import org.apereo.cas.web.view.CasStreamingResponseView;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.NoOpProtocolAttributesRenderer;
 import org.apereo.cas.web.view.json.Cas30JsonResponseView;
+import org.apereo.cas.web.view.json.Cas30StreamingJsonResponseView;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -61,6 +67,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.ResourceUtils;
 import org.springframework.web.servlet.View;
 import java.util.List;
 import java.util.Set;
@@ -322,7 +330,15 @@ public class CasValidationAutoConfiguration {
             @Qualifier("cas3ProtocolAttributesRenderer")
             final CasProtocolAttributesRenderer cas3ProtocolAttributesRenderer,
             @Qualifier("cas3SuccessView")
-            final View cas3SuccessView) {
+            final View cas3SuccessView,
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties) {
+            if (isStreamingValidationResponse(applicationContext, casProperties,
+                casProperties.getView().getCas3().getSuccess(), new Cas30ViewProperties().getSuccess())) {
+                return new CasStreamingResponseView(protocolAttributeEncoder, servicesManager,
+                    cas3SuccessView, authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
+                    cas3ProtocolAttributesRenderer, attributeDefinitionStore, true);
+            }
             return new Cas30ResponseView(true, protocolAttributeEncoder, servicesManager,
                 cas3SuccessView, authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
                 cas3ProtocolAttributesRenderer, attributeDefinitionStore);
@@ -469,7 +485,15 @@ public class CasValidationAutoConfiguration {
             @Qualifier("cas2SuccessView")
             final View cas2SuccessView,
             @Qualifier(AttributeDefinitionStore.BEAN_NAME)
-            final AttributeDefinitionStore attributeDefinitionStore) {
+            final AttributeDefinitionStore attributeDefinitionStore,
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties) {
+            if (isStreamingValidationResponse(applicationContext, casProperties,
+                casProperties.getView().getCas2().getSuccess(), new Cas20ViewProperties().getSuccess())) {
+                return new CasStreamingResponseView(protocolAttributeEncoder, servicesManager,
+                    cas2SuccessView, authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
+                    NoOpProtocolAttributesRenderer.INSTANCE, attributeDefinitionStore, false);
+            }
             return new Cas20ResponseView(true, protocolAttributeEncoder, servicesManager,
                 cas2SuccessView, authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
                 NoOpProtocolAttributesRenderer.INSTANCE, attributeDefinitionStore);
@@ -490,12 +514,33 @@ public class CasValidationAutoConfiguration {
             @Qualifier("cas3ProtocolAttributesRenderer")
             final CasProtocolAttributesRenderer cas3ProtocolAttributesRenderer,
             @Qualifier(AttributeDefinitionStore.BEAN_NAME)
-            final AttributeDefinitionStore attributeDefinitionStore) {
+            final AttributeDefinitionStore attributeDefinitionStore,
+            final CasConfigurationProperties casProperties) {
+            if (casProperties.getView().isStreamValidationResponses()) {
+                return new Cas30StreamingJsonResponseView(true, protocolAttributeEncoder, servicesManager,
+                    authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
+                    cas3ProtocolAttributesRenderer, attributeDefinitionStore);
+            }
             return new Cas30JsonResponseView(true, protocolAttributeEncoder, servicesManager,
                 authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
                 cas3ProtocolAttributesRenderer, attributeDefinitionStore);
         }
 
+        private static boolean isStreamingValidationResponse(final ConfigurableApplicationContext applicationContext,
+                                                             final CasConfigurationProperties casProperties,
+                                                             final String viewName, final String defaultViewName) {
+            if (!casProperties.getView().isStreamValidationResponses() || !StringUtils.equals(viewName, defaultViewName)) {
+                return false;
+            }
+            val prefix = applicationContext.getEnvironment().getProperty("spring.mustache.prefix", "classpath:/templates/");
+            if (!prefix.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)) {
+                return false;
+            }
+            val location = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                + StringUtils.appendIfMissing(StringUtils.removeStart(prefix, ResourceUtils.CLASSPATH_URL_PREFIX), "/")
+                + viewName + applicationContext.getEnvironment().getProperty("spring.mustache.suffix", ".mustache");
+            return FunctionUtils.doUnchecked(() -> applicationContext.getResources(location)).length <= 1;
+        }
     }
 
     @Configuration(value = "CasValidationControllerConfiguration", proxyBeanMethods = false)
@@ -9,11 +9,13 @@ import org.apereo.cas.authentication.support.NoOpProtocolAttributeEncoder;
 import org.apereo.cas.services.web.view.AbstractCasView;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.json.Cas30JsonResponseView;
+import org.apereo.cas.web.view.json.Cas30StreamingJsonResponseView;
 import org.apereo.cas.web.view.json.CasJsonServiceResponse;
 
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.servlet.View;
@@ -69,4 +71,22 @@ class Cas30JsonResponseViewTests extends Cas30ResponseViewTests {
         assertNotNull(casResponse.getAuthenticationFailure().getCode());
         assertNotNull(casResponse.getAuthenticationFailure().getDescription());
     }
+
+    @Test
+    void verifyStreamingFailureView() throws Throwable {
+        val response = new MockHttpServletResponse();
+        val view = new Cas30StreamingJsonResponseView(false, new NoOpProtocolAttributeEncoder(), servicesManager,
+            new DefaultAuthenticationAttributeReleasePolicy("attribute"),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer(), getAttributeDefinitionStore());
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "code");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "description");
+        view.render(model, new MockHttpServletRequest(), response);
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType().split(";")[0]);
+        val content = response.getContentAsString();
+        assertTrue(content.contains(Cas30JsonResponseView.ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE));
+        assertTrue(content.contains("\"code\" : \"code\""));
+        assertTrue(content.contains("\"description\" : \"description\""));
+    }
 }
@@ -0,0 +1,73 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicy;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionStrategy;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.authentication.support.DefaultCasProtocolAttributeEncoder;
+import org.apereo.cas.services.RegisteredServicePublicKeyCipherExecutor;
+import org.apereo.cas.services.web.view.AbstractCasView;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.View;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasStreamingResponseViewTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("CAS")
+class CasStreamingResponseViewTests extends Cas30ResponseViewTests {
+    private static final Pattern PATTERN_ATTRIBUTE = Pattern.compile("<cas:(\\w+)>([^<]*)</cas:\\1>");
+
+    @Test
+    void verifyResponseStructure() throws Throwable {
+        val content = renderResponse();
+        assertTrue(content.startsWith("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>"));
+        assertTrue(content.contains("<cas:authenticationSuccess>"));
+        assertTrue(content.contains("<cas:user>"));
+        assertTrue(content.contains("<cas:attributes>"));
+        assertTrue(content.endsWith("</cas:serviceResponse>\n"));
+    }
+
+    @Override
+    protected Map<?, ?> renderView() throws Throwable {
+        val content = renderResponse();
+        val attributes = new HashMap<String, Object>();
+        val matcher = PATTERN_ATTRIBUTE.matcher(StringUtils.substringBetween(content, "<cas:attributes>", "</cas:attributes>"));
+        while (matcher.find()) {
+            attributes.put(matcher.group(1), StringEscapeUtils.unescapeXml(matcher.group(2)));
+        }
+        return attributes;
+    }
+
+    @Override
+    protected AbstractCasView getCasViewToRender(final ProtocolAttributeEncoder encoder, final View viewDelegated) {
+        return new CasStreamingResponseView(encoder, servicesManager,
+            viewDelegated, new DefaultAuthenticationAttributeReleasePolicy("attribute"),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer(), getAttributeDefinitionStore(), true);
+    }
+
+    private String renderResponse() throws Throwable {
+        val modelAndView = getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE);
+        val encoder = new DefaultCasProtocolAttributeEncoder(servicesManager,
+            RegisteredServicePublicKeyCipherExecutor.INSTANCE, CipherExecutor.noOpOfStringToString());
+        val view = getCasViewToRender(encoder, getDelegatedView());
+        val response = new MockHttpServletResponse();
+        view.render(modelAndView.getModel(), new MockHttpServletRequest(), response);
+        return response.getContentAsString();
+    }
+}
@@ -48,7 +48,7 @@ class CasWsSecurityTokenTicketComponentSerializationConfiguration {
         private static final long serialVersionUID = -3198623586274810263L;
 
         SecurityTokenTicketStringSerializer() {
-            super(MINIMAL_PRETTY_PRINTER);
+            super(MINIMAL_PRETTY_PRINTER, true);
         }
 
         @Override
@@ -6,17 +6,24 @@ import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationP
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.ThresholdExpiredCRLRevocationPolicy;
 import org.apereo.cas.util.crypto.CertUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import jakarta.annotation.Nonnull;
+import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Base class for all CRL-based revocation checkers.
@@ -45,6 +52,15 @@ public abstract class AbstractCRLRevocationChecker implements RevocationChecker
      */
     private final RevocationPolicy<X509CRL> expiredCRLPolicy;
 
+    /**
+     * Revoked entries of each CRL instance, indexed by serial number.
+     * Keys are held weakly and compared by identity, so the index
+     * is built once per parsed CRL and discarded along with it.
+     * Indirect CRLs are not indexed.
+     */
+    private final Cache<X509CRL, Optional<Map<BigInteger, X509CRLEntry>>> revokedCertificateIndex =
+        Caffeine.newBuilder().weakKeys().build();
+
     /**
      * Instantiates a new Abstract crl revocation checker.
      *
@@ -88,7 +104,7 @@ public abstract class AbstractCRLRevocationChecker implements RevocationChecker
             crls.removeAll(expiredCrls);
             LOGGER.debug("Valid CRLs [{}] found that are not expired yet", crls);
 
-            val revokedCrls = crls.stream().map(crl -> crl.getRevokedCertificate(cert)).filter(Objects::nonNull).toList();
+            val revokedCrls = crls.stream().map(crl -> getRevokedCertificate(crl, cert)).filter(Objects::nonNull).toList();
             if (revokedCrls.size() == crls.size()) {
                 val entry = revokedCrls.getFirst();
                 LOGGER.warn("All CRL entries have been revoked. Rejecting the first entry [{}]", entry);
@@ -97,6 +113,51 @@ public abstract class AbstractCRLRevocationChecker implements RevocationChecker
         }
     }
 
+    /**
+     * Gets the revoked entry for the certificate from the given CRL, if any,
+     * looking up the certificate serial number in the index of the CRL.
+     *
+     * @param crl  the crl
+     * @param cert the cert
+     * @return the revoked entry, or null
+     */
+    protected X509CRLEntry getRevokedCertificate(final X509CRL crl, final X509Certificate cert) {
+        val index = indexRevokedCertificates(crl);
+        if (index.isPresent()) {
+            return crl.getIssuerX500Principal().equals(cert.getIssuerX500Principal())
+                ? index.get().get(cert.getSerialNumber())
+                : null;
+        }
+        return crl.getRevokedCertificate(cert);
+    }
+
+    /**
+     * Build (or get) the serial number index of revoked entries in the given CRL.
+     * Implementations may call this ahead of time when a CRL is fetched,
+     * so that the index is not built during authentication.
+     *
+     * @param crl the crl
+     * @return the index, or empty if the crl is indirect and cannot be indexed by serial number alone
+     */
+    protected Optional<Map<BigInteger, X509CRLEntry>> indexRevokedCertificates(final X509CRL crl) {
+        return revokedCertificateIndex.get(crl, key -> {
+            val entries = key.getRevokedCertificates();
+            if (entries == null) {
+                return Optional.of(Map.of());
+            }
+            val index = new HashMap<BigInteger, X509CRLEntry>(entries.size());
+            for (val entry : entries) {
+                if (entry.getCertificateIssuer() != null) {
+                    LOGGER.debug("CRL issued by [{}] is an indirect CRL and will not be indexed", key.getIssuerX500Principal());
+                    return Optional.empty();
+                }
+                index.put(entry.getSerialNumber(), entry);
+            }
+            LOGGER.debug("Indexed [{}] revoked entries of CRL issued by [{}]", index.size(), key.getIssuerX500Principal());
+            return Optional.of(index);
+        });
+    }
+
     /**
      * Records the addition of a new CRL entry.
      *
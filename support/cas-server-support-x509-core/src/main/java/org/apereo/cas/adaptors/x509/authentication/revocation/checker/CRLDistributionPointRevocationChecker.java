@@ -6,7 +6,6 @@ import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationP
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CertUtils;
-import org.apereo.cas.util.function.FunctionUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +15,7 @@ import org.bouncycastle.asn1.ASN1Sequence;
 import org.bouncycastle.asn1.x509.DistributionPoint;
 import org.bouncycastle.asn1.x509.GeneralName;
 import org.cryptacular.x509.ExtensionReader;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -25,10 +24,20 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.IntStream;
 
 /**
@@ -38,27 +47,53 @@ import java.util.stream.IntStream;
  * expects the name to define an absolute URL, which is the most common
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
- * check.
+ * check. CRLs are cached in parsed form, and are fetched in the background:
+ * a cached CRL is refreshed ahead of its next update (or its cache expiration)
+ * while the cached copy continues to be used, and a revocation check waits
+ * at most the configured fetch timeout for a CRL that is not yet cached.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
  */
 @Slf4j
-public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker {
+public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker implements DisposableBean {
 
-    private final Cache<URI, byte[]> crlCache;
+    private static final Duration DEFAULT_FETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofMinutes(15);
+
+    private static final Duration MINIMUM_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final Cache<URI, X509CRL> crlCache;
 
     private final CRLFetcher fetcher;
 
     private final boolean throwOnFetchFailure;
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    private final Duration fetchTimeout;
+
+    private final Duration refreshAhead;
+
+    /**
+     * CRL fetches that are in progress, keyed by distribution point.
+     */
+    private final Map<URI, CompletableFuture<X509CRL>> pendingFetches = new ConcurrentHashMap<>();
+
+    /**
+     * When the last fetch of each distribution point was started,
+     * to avoid fetching continuously CRLs that are published close to their next update.
+     */
+    private final Map<URI, Instant> lastFetches = new ConcurrentHashMap<>();
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy) {
         this(crlCache, expiredCRLPolicy, unavailableCRLPolicy, false);
     }
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final boolean throwOnFetchFailure) {
@@ -67,12 +102,23 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
-                                                 final Cache<URI, byte[]> crlCache,
+                                                 final Cache<URI, X509CRL> crlCache,
                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
+        this(checkAll, unavailableCRLPolicy, expiredCRLPolicy, crlCache, fetcher,
+            throwOnFetchFailure, DEFAULT_FETCH_TIMEOUT, DEFAULT_REFRESH_AHEAD);
+    }
+
+    public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                 final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                 final Cache<URI, X509CRL> crlCache,
+                                                 final CRLFetcher fetcher, final boolean throwOnFetchFailure,
+                                                 final Duration fetchTimeout, final Duration refreshAhead) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.crlCache = crlCache;
         this.fetcher = fetcher;
         this.throwOnFetchFailure = throwOnFetchFailure;
+        this.fetchTimeout = fetchTimeout;
+        this.refreshAhead = refreshAhead;
     }
 
 
@@ -130,10 +176,6 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         }
     }
 
-    private boolean addCRLbyURI(final URI uri, final X509CRL crl) {
-        return addCRL(uri, crl);
-    }
-
     @Override
     protected List<X509CRL> getCRLs(final X509Certificate cert) {
         val urls = getDistributionPoints(cert);
@@ -143,31 +185,20 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.asMap().get(url);
+            val cachedCrl = this.crlCache.getIfPresent(url);
 
-            if (item != null) {
+            if (cachedCrl != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
-                val crlFetched = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(new ByteArrayResource(item)));
-
-                if (crlFetched != null) {
-                    listOfLocations.add(crlFetched);
-                } else {
-                    LOGGER.warn("Could fetch X509 CRL for [{}]. Returned value is null", url);
+                if (isRefreshDue(url, cachedCrl)) {
+                    LOGGER.debug("CRL cached for [{}] is due for a refresh. Fetching in the background...", url);
+                    fetchInBackground(url);
                 }
+                listOfLocations.add(cachedCrl);
             } else {
                 LOGGER.debug("CRL for [{}] is not cached. Fetching and caching...", CertUtils.toString(cert));
-                try {
-                    val crl = this.fetcher.fetch(url);
-                    if (crl != null) {
-                        LOGGER.info("Success. Caching fetched CRL at [{}].", url);
-                        addCRLbyURI(url, crl);
-                        listOfLocations.add(crl);
-                    }
-                } catch (final Exception e) {
-                    LoggingUtils.error(LOGGER, e);
-                    if (this.throwOnFetchFailure) {
-                        throw new RuntimeException(e.getMessage(), e);
-                    }
+                val crl = waitForFetch(url);
+                if (crl != null) {
+                    listOfLocations.add(crl);
                 }
             }
 
@@ -184,16 +215,77 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     @Override
     protected boolean addCRL(final Object id, final X509CRL crl) {
-        return FunctionUtils.doUnchecked(() -> {
-            var uri = (URI) id;
-            if (crl == null) {
-                LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
-                this.crlCache.invalidate(uri);
-                return false;
+        val uri = (URI) id;
+        if (crl == null) {
+            LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
+            this.crlCache.invalidate(uri);
+            return false;
+        }
+        indexRevokedCertificates(crl);
+        this.crlCache.put(uri, crl);
+        return this.crlCache.asMap().containsKey(uri);
+    }
+
+    @Override
+    public void destroy() {
+        this.executorService.shutdownNow();
+    }
+
+    private X509CRL waitForFetch(final URI url) {
+        try {
+            return fetchInBackground(url).get(this.fetchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.warn("CRL at [{}] could not be fetched within [{}]. Fetching continues in the background", url, this.fetchTimeout);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            LoggingUtils.error(LOGGER, e.getCause());
+            if (this.throwOnFetchFailure) {
+                throw new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
+        }
+        return null;
+    }
 
-            this.crlCache.put(uri, crl.getEncoded());
-            return this.crlCache.asMap().containsKey(uri);
+    private CompletableFuture<X509CRL> fetchInBackground(final URI url) {
+        val future = new CompletableFuture<X509CRL>();
+        val pending = this.pendingFetches.putIfAbsent(url, future);
+        if (pending != null) {
+            return pending;
+        }
+        this.lastFetches.put(url, Instant.now());
+        this.executorService.execute(() -> {
+            try {
+                val crl = this.fetcher.fetch(url);
+                if (crl != null) {
+                    LOGGER.info("Success. Caching fetched CRL at [{}].", url);
+                    addCRL(url, crl);
+                } else {
+                    LOGGER.warn("Could not fetch X509 CRL for [{}]. Returned value is null", url);
+                }
+                future.complete(crl);
+            } catch (final Throwable e) {
+                LOGGER.warn("Unable to fetch CRL at [{}]: [{}]", url, e.getMessage());
+                future.completeExceptionally(e);
+            } finally {
+                this.pendingFetches.remove(url, future);
+            }
         });
+        return future;
+    }
+
+    private boolean isRefreshDue(final URI url, final X509CRL crl) {
+        val lastFetch = this.lastFetches.get(url);
+        if (lastFetch != null && lastFetch.plus(MINIMUM_REFRESH_INTERVAL).isAfter(Instant.now())) {
+            return false;
+        }
+        val refreshAt = Instant.now().plus(this.refreshAhead);
+        if (crl.getNextUpdate() != null && !refreshAt.isBefore(crl.getNextUpdate().toInstant())) {
+            return true;
+        }
+        return this.crlCache.policy().expireAfterWrite()
+            .flatMap(expiration -> expiration.ageOf(url)
+                .map(age -> age.plus(this.refreshAhead).compareTo(expiration.getExpiresAfter()) >= 0))
+            .orElse(Boolean.FALSE);
     }
 }
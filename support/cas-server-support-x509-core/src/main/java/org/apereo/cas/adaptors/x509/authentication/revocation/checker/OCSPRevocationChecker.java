@@ -0,0 +1,372 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
+
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.bouncycastle.asn1.ASN1IA5String;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.ocsp.OCSPObjectIdentifiers;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReqBuilder;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.ocsp.SingleResp;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+
+import jakarta.annotation.Nonnull;
+import javax.security.auth.x500.X500Principal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Performs revocation checking by consulting the OCSP responder of the certificate issuer,
+ * as defined in the authority information access extension field on the certificate
+ * or as configured explicitly. Responses are verified against the issuer certificate
+ * (or a responder certificate delegated by the issuer) and cached until their next update,
+ * so that revocation checks for the same certificate do not contact the responder again.
+ * If a definitive answer cannot be obtained from the responder, revocation checking
+ * is handed over to the fallback checker if one is defined (i.e. a CRL-based checker), or
+ * else the unavailable policy is applied.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class OCSPRevocationChecker implements RevocationChecker {
+
+    private static final String OCSP_REQUEST_CONTENT_TYPE = "application/ocsp-request";
+
+    private static final String OCSP_RESPONSE_CONTENT_TYPE = "application/ocsp-response";
+
+    private static final int NONCE_LENGTH = 16;
+
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Map<X500Principal, X509Certificate> issuerCertificates;
+
+    private final String responderUrl;
+
+    private final NoncePolicy noncePolicy;
+
+    private final RevocationChecker fallbackRevocationChecker;
+
+    private final RevocationPolicy<Void> unavailableOCSPPolicy;
+
+    private final Duration timeout;
+
+    private final Duration defaultCacheDuration;
+
+    private final Cache<String, RevocationStatus> statusCache;
+
+    private final HttpClient httpClient;
+
+    public OCSPRevocationChecker(final Collection<X509Certificate> issuerCertificates,
+                                 final String responderUrl,
+                                 final NoncePolicy noncePolicy,
+                                 final RevocationChecker fallbackRevocationChecker,
+                                 final RevocationPolicy<Void> unavailableOCSPPolicy,
+                                 final Duration timeout,
+                                 final Duration defaultCacheDuration,
+                                 final long cacheMaxElementsInMemory) {
+        this.issuerCertificates = issuerCertificates.stream()
+            .collect(Collectors.toMap(X509Certificate::getSubjectX500Principal, Function.identity(), (first, second) -> first));
+        this.responderUrl = responderUrl;
+        this.noncePolicy = noncePolicy;
+        this.fallbackRevocationChecker = fallbackRevocationChecker;
+        this.unavailableOCSPPolicy = Objects.requireNonNullElseGet(unavailableOCSPPolicy, DenyRevocationPolicy::new);
+        this.timeout = timeout;
+        this.defaultCacheDuration = defaultCacheDuration;
+        this.statusCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxElementsInMemory)
+            .expireAfter(Expiry.<String, RevocationStatus>creating((key, status) -> {
+                val expiresAt = Optional.ofNullable(status.nextUpdate()).orElseGet(() -> Instant.now().plus(defaultCacheDuration));
+                val duration = Duration.between(Instant.now(), expiresAt);
+                return duration.isNegative() ? Duration.ZERO : duration;
+            }))
+            .build();
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void check(@Nonnull final X509Certificate certificate) throws GeneralSecurityException {
+        LOGGER.debug("Evaluating certificate revocation status for [{}] via OCSP", CertUtils.toString(certificate));
+        val issuer = issuerCertificates.get(certificate.getIssuerX500Principal());
+        if (issuer == null) {
+            LOGGER.warn("No issuer certificate is defined for [{}]", certificate.getIssuerX500Principal());
+            applyUnavailablePolicy(certificate);
+            return;
+        }
+
+        val cacheKey = issuer.getSubjectX500Principal().getName() + ':' + certificate.getSerialNumber().toString(16);
+        var status = statusCache.getIfPresent(cacheKey);
+        if (status == null) {
+            status = fetchCertificateStatus(certificate, issuer);
+            if (status != null && status.status() != Status.UNKNOWN) {
+                statusCache.put(cacheKey, status);
+            }
+        } else {
+            LOGGER.debug("Found cached OCSP status [{}] for [{}]", status.status(), CertUtils.toString(certificate));
+        }
+
+        if (status == null || status.status() == Status.UNKNOWN) {
+            LOGGER.warn("OCSP status is not available for [{}]", CertUtils.toString(certificate));
+            applyUnavailablePolicy(certificate);
+        } else if (status.status() == Status.REVOKED) {
+            throw new RevokedCertificateException(DateTimeUtils.zonedDateTimeOf(status.revocationTime()),
+                certificate.getSerialNumber(), status.reason());
+        }
+    }
+
+    private void applyUnavailablePolicy(final X509Certificate certificate) throws GeneralSecurityException {
+        if (fallbackRevocationChecker != null) {
+            LOGGER.debug("Falling back to [{}] for [{}]", fallbackRevocationChecker.getClass().getSimpleName(), CertUtils.toString(certificate));
+            fallbackRevocationChecker.check(certificate);
+        } else {
+            unavailableOCSPPolicy.apply(null);
+        }
+    }
+
+    private RevocationStatus fetchCertificateStatus(final X509Certificate certificate, final X509Certificate issuer) {
+        try {
+            val url = StringUtils.defaultIfBlank(responderUrl, getResponderUrl(certificate));
+            if (StringUtils.isBlank(url)) {
+                LOGGER.debug("No OCSP responder is defined for [{}]", CertUtils.toString(certificate));
+                return null;
+            }
+            val digestCalculator = new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1);
+            val certificateId = new CertificateID(digestCalculator, new JcaX509CertificateHolder(issuer), certificate.getSerialNumber());
+            val requestBuilder = new OCSPReqBuilder().addRequest(certificateId);
+            val nonce = noncePolicy == NoncePolicy.NONE ? null : new byte[NONCE_LENGTH];
+            if (nonce != null) {
+                RANDOM.nextBytes(nonce);
+                requestBuilder.setRequestExtensions(new Extensions(
+                    new Extension(OCSPObjectIdentifiers.id_pkix_ocsp_nonce, false, new DEROctetString(nonce))));
+            }
+            LOGGER.debug("Sending OCSP request for [{}] to [{}]", CertUtils.toString(certificate), url);
+            val request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", OCSP_REQUEST_CONTENT_TYPE)
+                .header("Accept", OCSP_RESPONSE_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBuilder.build().getEncoded()))
+                .build();
+            val response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                LOGGER.warn("OCSP responder [{}] returned status code [{}]", url, response.statusCode());
+                return null;
+            }
+            val ocspResponse = new OCSPResp(response.body());
+            if (ocspResponse.getStatus() != OCSPResp.SUCCESSFUL) {
+                LOGGER.warn("OCSP responder [{}] returned response status [{}]", url, ocspResponse.getStatus());
+                return null;
+            }
+            val basicResponse = (BasicOCSPResp) ocspResponse.getResponseObject();
+            if (!isSignatureValid(basicResponse, issuer) || !isNonceValid(basicResponse, nonce)) {
+                return null;
+            }
+            return Arrays.stream(basicResponse.getResponses())
+                .filter(single -> single.getCertID().equals(certificateId))
+                .findFirst()
+                .filter(this::isCurrent)
+                .map(OCSPRevocationChecker::toRevocationStatus)
+                .orElse(null);
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+            return null;
+        }
+    }
+
+    private boolean isCurrent(final SingleResp response) {
+        val now = Instant.now();
+        if (response.getThisUpdate().toInstant().isAfter(now.plus(CLOCK_SKEW))) {
+            LOGGER.warn("OCSP response is not yet valid; it was produced for [{}]", response.getThisUpdate());
+            return false;
+        }
+        if (response.getNextUpdate() != null && response.getNextUpdate().toInstant().isBefore(now)) {
+            LOGGER.warn("OCSP response has expired on [{}]", response.getNextUpdate());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isNonceValid(final BasicOCSPResp response, final byte[] nonce) {
+        if (nonce == null) {
+            return true;
+        }
+        val extension = response.getExtension(OCSPObjectIdentifiers.id_pkix_ocsp_nonce);
+        if (extension == null) {
+            if (noncePolicy == NoncePolicy.REQUIRED) {
+                LOGGER.warn("OCSP response does not contain a nonce, which is required");
+                return false;
+            }
+            return true;
+        }
+        val responseNonce = DEROctetString.getInstance(extension.getParsedValue()).getOctets();
+        if (!Arrays.equals(nonce, responseNonce)) {
+            LOGGER.warn("OCSP response nonce does not match the request nonce");
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isSignatureValid(final BasicOCSPResp response, final X509Certificate issuer) {
+        val verifierBuilder = new JcaContentVerifierProviderBuilder();
+        if (isSignatureValid(response, issuer, verifierBuilder)) {
+            return true;
+        }
+        val converter = new JcaX509CertificateConverter();
+        for (val holder : response.getCerts()) {
+            try {
+                val responder = converter.getCertificate(holder);
+                if (isDelegatedResponder(responder, issuer) && isSignatureValid(response, responder, verifierBuilder)) {
+                    return true;
+                }
+            } catch (final Exception e) {
+                LOGGER.debug("Unable to verify OCSP responder certificate [{}]: [{}]", holder.getSubject(), e.getMessage());
+            }
+        }
+        LOGGER.warn("OCSP response signature cannot be verified by [{}] or a responder delegated by it", issuer.getSubjectX500Principal());
+        return false;
+    }
+
+    private static boolean isDelegatedResponder(final X509Certificate responder, final X509Certificate issuer) throws Exception {
+        if (!responder.getIssuerX500Principal().equals(issuer.getSubjectX500Principal())) {
+            return false;
+        }
+        val extendedKeyUsage = responder.getExtendedKeyUsage();
+        if (extendedKeyUsage == null || !extendedKeyUsage.contains(KeyPurposeId.id_kp_OCSPSigning.getId())) {
+            return false;
+        }
+        responder.checkValidity();
+        responder.verify(issuer.getPublicKey());
+        return true;
+    }
+
+    private static boolean isSignatureValid(final BasicOCSPResp response, final X509Certificate signer,
+                                            final JcaContentVerifierProviderBuilder verifierBuilder) {
+        try {
+            return response.isSignatureValid(verifierBuilder.build(signer));
+        } catch (final Exception e) {
+            LOGGER.trace("OCSP response is not signed by [{}]: [{}]", signer.getSubjectX500Principal(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static String getResponderUrl(final X509Certificate certificate) throws Exception {
+        val extensionValue = certificate.getExtensionValue(Extension.authorityInfoAccess.getId());
+        if (extensionValue == null) {
+            return null;
+        }
+        val access = AuthorityInformationAccess.getInstance(JcaX509ExtensionUtils.parseExtensionValue(extensionValue));
+        return Arrays.stream(access.getAccessDescriptions())
+            .filter(description -> AccessDescription.id_ad_ocsp.equals(description.getAccessMethod()))
+            .map(AccessDescription::getAccessLocation)
+            .filter(name -> name.getTagNo() == GeneralName.uniformResourceIdentifier)
+            .map(name -> ASN1IA5String.getInstance(name.getName()).getString())
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static RevocationStatus toRevocationStatus(final SingleResp response) {
+        val nextUpdate = Optional.ofNullable(response.getNextUpdate()).map(Date::toInstant).orElse(null);
+        val status = response.getCertStatus();
+        if (status == CertificateStatus.GOOD) {
+            return new RevocationStatus(Status.GOOD, null, null, nextUpdate);
+        }
+        if (status instanceof final RevokedStatus revoked) {
+            val reason = revoked.hasRevocationReason() && revoked.getRevocationReason() < RevokedCertificateException.Reason.values().length
+                ? RevokedCertificateException.Reason.fromCode(revoked.getRevocationReason())
+                : null;
+            return new RevocationStatus(Status.REVOKED, revoked.getRevocationTime().toInstant(), reason, nextUpdate);
+        }
+        return new RevocationStatus(Status.UNKNOWN, null, null, nextUpdate);
+    }
+
+    /**
+     * Policies that control the use of nonces in OCSP requests.
+     */
+    public enum NoncePolicy {
+        /**
+         * Do not send a nonce.
+         */
+        NONE,
+        /**
+         * Send a nonce, and verify it if the response contains one.
+         */
+        OPTIONAL,
+        /**
+         * Send a nonce, and reject responses that do not contain it.
+         */
+        REQUIRED
+    }
+
+    /**
+     * Certificate status values.
+     */
+    public enum Status {
+        /**
+         * Certificate is not revoked.
+         */
+        GOOD,
+        /**
+         * Certificate is revoked.
+         */
+        REVOKED,
+        /**
+         * Responder does not know about the certificate.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * Certificate status as reported by the OCSP responder.
+     *
+     * @param status         the status
+     * @param revocationTime the revocation time
+     * @param reason         the revocation reason
+     * @param nextUpdate     the next update
+     */
+    public record RevocationStatus(Status status, Instant revocationTime,
+                                   RevokedCertificateException.Reason reason, Instant nextUpdate) {
+    }
+}
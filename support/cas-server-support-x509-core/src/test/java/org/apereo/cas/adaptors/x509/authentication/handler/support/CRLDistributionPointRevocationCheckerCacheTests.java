@@ -0,0 +1,75 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.ThresholdExpiredCRLRevocationPolicy;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CRLDistributionPointRevocationCheckerCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("X509")
+class CRLDistributionPointRevocationCheckerCacheTests {
+
+    private static X509CRL readCRL(final String name) throws Exception {
+        return new ResourceCRLFetcher().fetch(new ClassPathResource(name));
+    }
+
+    @Test
+    void verifyCachedCRLIsNotFetchedAgain() throws Throwable {
+        val fetcher = mock(CRLFetcher.class);
+        when(fetcher.fetch(any(URI.class))).thenReturn(readCRL("userCA-valid.crl"));
+        val cache = Caffeine.newBuilder().<URI, X509CRL>build();
+        val checker = new CRLDistributionPointRevocationChecker(false, new DenyRevocationPolicy(),
+            new ThresholdExpiredCRLRevocationPolicy(0), cache, fetcher, true, Duration.ofSeconds(5), Duration.ZERO);
+        val revoked = CertUtils.readCertificate(new ClassPathResource("user-revoked-distcrl.crt"));
+        val valid = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+        for (var i = 0; i < 3; i++) {
+            assertThrows(RevokedCertificateException.class, () -> checker.check(revoked));
+            assertDoesNotThrow(() -> checker.check(valid));
+        }
+        assertEquals(1, cache.estimatedSize());
+        verify(fetcher, times(1)).fetch(any(URI.class));
+        checker.destroy();
+    }
+
+    @Test
+    void verifySlowFetchDoesNotBlockCheck() throws Throwable {
+        val crl = readCRL("userCA-valid.crl");
+        val fetcher = mock(CRLFetcher.class);
+        when(fetcher.fetch(any(URI.class))).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return crl;
+        });
+        val cache = Caffeine.newBuilder().<URI, X509CRL>build();
+        val checker = new CRLDistributionPointRevocationChecker(false, new DenyRevocationPolicy(),
+            new ThresholdExpiredCRLRevocationPolicy(0), cache, fetcher, true, Duration.ofMillis(100), Duration.ZERO);
+        val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+        assertThrows(GeneralSecurityException.class, () -> checker.check(cert));
+        await().atMost(Duration.ofSeconds(5)).until(() -> cache.estimatedSize() == 1);
+        assertDoesNotThrow(() -> checker.check(cert));
+        verify(fetcher, times(1)).fetch(any(URI.class));
+        checker.destroy();
+    }
+}
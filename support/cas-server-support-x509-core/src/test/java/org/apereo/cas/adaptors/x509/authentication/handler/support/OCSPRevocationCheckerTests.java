@@ -0,0 +1,196 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.OCSPRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.RevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.val;
+import org.bouncycastle.asn1.ocsp.OCSPObjectIdentifiers;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.ocsp.UnknownStatus;
+import org.bouncycastle.cert.ocsp.jcajce.JcaBasicOCSPRespBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OCSPRevocationCheckerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("X509")
+class OCSPRevocationCheckerTests {
+    private static final BigInteger VALID_SERIAL = BigInteger.valueOf(100);
+
+    private static final BigInteger REVOKED_SERIAL = BigInteger.valueOf(200);
+
+    private static final BigInteger UNKNOWN_SERIAL = BigInteger.valueOf(300);
+
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+
+    private static final AtomicBoolean ECHO_NONCE = new AtomicBoolean(true);
+
+    private static HttpServer responder;
+
+    private static KeyPair caKeys;
+
+    private static X509Certificate caCertificate;
+
+    @BeforeAll
+    public static void startResponder() throws Exception {
+        val generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        caKeys = generator.generateKeyPair();
+
+        val caName = new X500Name("CN=CAS OCSP Test CA");
+        val builder = new JcaX509v3CertificateBuilder(caName, BigInteger.ONE, Date.from(Instant.now().minus(Duration.ofDays(1))),
+            Date.from(Instant.now().plus(Duration.ofDays(1))), caName, caKeys.getPublic());
+        builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+        caCertificate = sign(builder);
+
+        responder = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        responder.createContext("/ocsp", exchange -> {
+            try (exchange) {
+                REQUESTS.incrementAndGet();
+                val request = new OCSPReq(exchange.getRequestBody().readAllBytes());
+                val responseBuilder = new JcaBasicOCSPRespBuilder(caKeys.getPublic(),
+                    new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1));
+                val now = new Date();
+                val nextUpdate = Date.from(Instant.now().plus(Duration.ofHours(1)));
+                for (val single : request.getRequestList()) {
+                    val serial = single.getCertID().getSerialNumber();
+                    val status = VALID_SERIAL.equals(serial)
+                        ? CertificateStatus.GOOD
+                        : REVOKED_SERIAL.equals(serial) ? new RevokedStatus(now, CRLReason.keyCompromise) : new UnknownStatus();
+                    responseBuilder.addResponse(single.getCertID(), status, now, nextUpdate, null);
+                }
+                val nonce = request.getExtension(OCSPObjectIdentifiers.id_pkix_ocsp_nonce);
+                if (nonce != null && ECHO_NONCE.get()) {
+                    responseBuilder.setResponseExtensions(new Extensions(nonce));
+                }
+                val signer = new JcaContentSignerBuilder("SHA256withRSA").build(caKeys.getPrivate());
+                val response = new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, responseBuilder.build(signer, null, now));
+                val body = response.getEncoded();
+                exchange.getResponseHeaders().add("Content-Type", "application/ocsp-response");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        responder.start();
+    }
+
+    @AfterAll
+    public static void stopResponder() {
+        responder.stop(0);
+    }
+
+    private static X509Certificate sign(final X509v3CertificateBuilder builder) throws Exception {
+        val signer = new JcaContentSignerBuilder("SHA256withRSA").build(caKeys.getPrivate());
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+    }
+
+    private static X509Certificate newCertificate(final BigInteger serial) throws Exception {
+        val generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        val keys = generator.generateKeyPair();
+        val builder = new JcaX509v3CertificateBuilder(caCertificate, serial, Date.from(Instant.now().minus(Duration.ofDays(1))),
+            Date.from(Instant.now().plus(Duration.ofDays(1))), new X500Name("CN=casuser-" + serial), keys.getPublic());
+        val url = "http://localhost:" + responder.getAddress().getPort() + "/ocsp";
+        builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(
+            new AccessDescription(AccessDescription.id_ad_ocsp, new GeneralName(GeneralName.uniformResourceIdentifier, url))));
+        return sign(builder);
+    }
+
+    private static OCSPRevocationChecker getChecker(final OCSPRevocationChecker.NoncePolicy noncePolicy,
+                                                    final RevocationChecker fallback) {
+        return new OCSPRevocationChecker(List.of(caCertificate), null, noncePolicy, fallback,
+            new DenyRevocationPolicy(), Duration.ofSeconds(5), Duration.ofMinutes(5), 100);
+    }
+
+    @BeforeEach
+    public void setup() {
+        REQUESTS.set(0);
+        ECHO_NONCE.set(true);
+    }
+
+    @Test
+    void verifyGoodStatusIsCached() throws Throwable {
+        val checker = getChecker(OCSPRevocationChecker.NoncePolicy.REQUIRED, null);
+        val certificate = newCertificate(VALID_SERIAL);
+        for (var i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> checker.check(certificate));
+        }
+        assertEquals(1, REQUESTS.get());
+    }
+
+    @Test
+    void verifyRevokedStatus() throws Throwable {
+        val checker = getChecker(OCSPRevocationChecker.NoncePolicy.OPTIONAL, null);
+        val certificate = newCertificate(REVOKED_SERIAL);
+        val exception = assertThrows(RevokedCertificateException.class, () -> checker.check(certificate));
+        assertEquals(RevokedCertificateException.Reason.KeyCompromise, exception.getReason());
+        assertThrows(RevokedCertificateException.class, () -> checker.check(certificate));
+        assertEquals(1, REQUESTS.get());
+    }
+
+    @Test
+    void verifyNoncePolicy() throws Throwable {
+        ECHO_NONCE.set(false);
+        val certificate = newCertificate(VALID_SERIAL);
+        assertThrows(GeneralSecurityException.class,
+            () -> getChecker(OCSPRevocationChecker.NoncePolicy.REQUIRED, null).check(certificate));
+        assertDoesNotThrow(() -> getChecker(OCSPRevocationChecker.NoncePolicy.OPTIONAL, null).check(certificate));
+        assertDoesNotThrow(() -> getChecker(OCSPRevocationChecker.NoncePolicy.NONE, null).check(certificate));
+    }
+
+    @Test
+    void verifyFallbackForUnknownStatus() throws Throwable {
+        val fallback = mock(RevocationChecker.class);
+        val checker = getChecker(OCSPRevocationChecker.NoncePolicy.OPTIONAL, fallback);
+        val certificate = newCertificate(UNKNOWN_SERIAL);
+        checker.check(certificate);
+        verify(fallback).check(certificate);
+        assertThrows(GeneralSecurityException.class,
+            () -> getChecker(OCSPRevocationChecker.NoncePolicy.OPTIONAL, null).check(certificate));
+    }
+}
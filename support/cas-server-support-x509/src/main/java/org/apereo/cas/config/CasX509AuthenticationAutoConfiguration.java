@@ -17,6 +17,7 @@ import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectDNPrinci
 import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectPrincipalResolver;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.NoOpRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.OCSPRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.ResourceCRLRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.RevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevocationPolicy;
@@ -41,6 +42,7 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.RegexUtils;
+import org.apereo.cas.util.crypto.CertUtils;
 import org.apereo.cas.util.serialization.ComponentSerializationPlanConfigurer;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -55,6 +57,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import java.net.URI;
+import java.security.cert.X509CRL;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
@@ -109,6 +112,7 @@ public class CasX509AuthenticationAutoConfiguration {
     private static RevocationChecker getRevocationCheckerFrom(final X509Properties x509,
                                                               final RevocationChecker resourceCrlRevocationChecker,
                                                               final RevocationChecker crlDistributionPointRevocationChecker,
+                                                              final RevocationChecker ocspRevocationChecker,
                                                               final RevocationChecker noOpRevocationChecker) {
         val checker = x509.getRevocationChecker().trim();
         if ("resource".equalsIgnoreCase(checker)) {
@@ -117,6 +121,9 @@ public class CasX509AuthenticationAutoConfiguration {
         if ("crl".equalsIgnoreCase(checker)) {
             return crlDistributionPointRevocationChecker;
         }
+        if ("ocsp".equalsIgnoreCase(checker)) {
+            return ocspRevocationChecker;
+        }
         return noOpRevocationChecker;
     }
 
@@ -200,12 +207,41 @@ public class CasX509AuthenticationAutoConfiguration {
         val cache = Caffeine.newBuilder()
             .maximumSize(x509.getCacheMaxElementsInMemory())
             .expireAfterWrite(Beans.newDuration(x509.getCacheTimeToLiveSeconds()))
-            .<URI, byte[]>build();
+            .<URI, X509CRL>build();
 
         return new CRLDistributionPointRevocationChecker(x509.isCheckAll(),
             getRevocationPolicy(x509.getCrlUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
             getRevocationPolicy(x509.getCrlExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
-            cache, crlFetcher, x509.isThrowOnFetchFailure());
+            cache, crlFetcher, x509.isThrowOnFetchFailure(),
+            Beans.newDuration(x509.getCrlFetchTimeout()), Beans.newDuration(x509.getCrlRefreshAhead()));
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "ocspRevocationChecker")
+    public RevocationChecker ocspRevocationChecker(
+        final CasConfigurationProperties casProperties,
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier("crlDistributionPointRevocationChecker")
+        final RevocationChecker crlDistributionPointRevocationChecker,
+        @Qualifier("allowRevocationPolicy")
+        final RevocationPolicy allowRevocationPolicy,
+        @Qualifier("thresholdExpiredCRLRevocationPolicy")
+        final RevocationPolicy thresholdExpiredCRLRevocationPolicy,
+        @Qualifier("denyRevocationPolicy")
+        final RevocationPolicy denyRevocationPolicy) {
+        val ocsp = casProperties.getAuthn().getX509().getOcsp();
+        val issuerCertificates = ocsp.getIssuerCertificates()
+            .stream()
+            .map(applicationContext::getResource)
+            .map(CertUtils::readCertificate)
+            .toList();
+        return new OCSPRevocationChecker(issuerCertificates, ocsp.getResponderUrl(),
+            OCSPRevocationChecker.NoncePolicy.valueOf(ocsp.getNoncePolicy().trim().toUpperCase(Locale.ENGLISH)),
+            ocsp.isFallbackToCrl() ? crlDistributionPointRevocationChecker : null,
+            getRevocationPolicy(ocsp.getUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
+            Beans.newDuration(ocsp.getTimeout()), Beans.newDuration(ocsp.getCacheTimeToLive()),
+            ocsp.getCacheMaxElementsInMemory());
     }
 
     @Bean
@@ -259,12 +295,15 @@ public class CasX509AuthenticationAutoConfiguration {
                                                                       final PrincipalFactory x509PrincipalFactory,
                                                                       @Qualifier("crlDistributionPointRevocationChecker")
                                                                       final RevocationChecker crlDistributionPointRevocationChecker,
+                                                                      @Qualifier("ocspRevocationChecker")
+                                                                      final RevocationChecker ocspRevocationChecker,
                                                                       @Qualifier("noOpRevocationChecker")
                                                                       final RevocationChecker noOpRevocationChecker,
                                                                       @Qualifier(ServicesManager.BEAN_NAME)
                                                                       final ServicesManager servicesManager) {
         val x509 = casProperties.getAuthn().getX509();
-        val revChecker = getRevocationCheckerFrom(x509, resourceCrlRevocationChecker, crlDistributionPointRevocationChecker, noOpRevocationChecker);
+        val revChecker = getRevocationCheckerFrom(x509, resourceCrlRevocationChecker,
+            crlDistributionPointRevocationChecker, ocspRevocationChecker, noOpRevocationChecker);
         val subjectDnPattern = StringUtils.isNotBlank(x509.getRegExSubjectDnPattern()) ? RegexUtils.createPattern(x509.getRegExSubjectDnPattern()) : null;
         val trustedIssuerDnPattern = StringUtils.isNotBlank(x509.getRegExTrustedIssuerDnPattern()) ? RegexUtils.createPattern(x509.getRegExTrustedIssuerDnPattern()) : null;
 